@@ -0,0 +1,142 @@
+-- 뉴스 본문/제목 FULLTEXT 색인 (ngram 파서)
+-- 검색 백엔드 backend=fulltext 에서 MATCH(title, content) AGAINST(...) 로 사용
+-- ngram_token_size 기본값(2)을 그대로 사용: 한국어 2글자 검색어까지 색인으로 처리
+-- (서버 설정 확인: SHOW VARIABLES LIKE 'ngram_token_size';)
+-- 대용량 테이블은 색인 생성 중 쓰기 지연이 있으므로 크롤링 배치 시간(09:00, 19:00)을 피해서 실행
+-- 이미 있으면 건너뜀 (MySqlRepositoryTest.ensureFullTextIndex와 같은 확인)
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'news' AND index_name = 'ft_news_title_content') > 0,
+    'SELECT ''ft_news_title_content 있음 - 건너뜀'' AS message',
+    'ALTER TABLE news ADD FULLTEXT INDEX ft_news_title_content (title, content) WITH PARSER ngram');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 색인 생성 확인
+SELECT INDEX_NAME, INDEX_TYPE
+FROM information_schema.STATISTICS
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'news' AND INDEX_TYPE = 'FULLTEXT';
+
+-- 발행일 DATETIME 컬럼 이행
+-- 1) 컬럼 추가: 애플리케이션(News 엔티티 @PrePersist/@PreUpdate)이 published_at과 함께 이중 기록
+--    ddl-auto: update로 엔티티 기동 시 이미 추가됐을 수 있으므로 없을 때만 추가 (아래 채우기가 항상 실행되도록)
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'news' AND column_name = 'published_at_datetime') > 0,
+    'SELECT ''published_at_datetime 있음 - 건너뜀'' AS message',
+    'ALTER TABLE news ADD COLUMN published_at_datetime DATETIME NULL AFTER published_at');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2) 기존 행 채우기 ('T' 구분자, 소수점 이하 초 허용). 형식이 다른 행은 NULL로 남김
+--    이중 기록을 하지 않는 이전 버전 서비스가 모두 내려간 뒤 한 번 더 실행 (재실행 안전)
+UPDATE news
+SET published_at_datetime = STR_TO_DATE(LEFT(REPLACE(published_at, 'T', ' '), 19), '%Y-%m-%d %H:%i:%s')
+WHERE published_at_datetime IS NULL
+  AND published_at REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}[ T][0-9]{2}:[0-9]{2}:[0-9]{2}';
+
+-- 3) 카테고리별 최신순 / 전체 최신순·기간 조회 인덱스 (여러 번 실행해도 안전 - 없을 때만 추가)
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'news'
+                  AND index_name = 'idx_news_category_published') > 0,
+    'SELECT ''idx_news_category_published 있음 - 건너뜀'' AS message',
+    'ALTER TABLE news ADD INDEX idx_news_category_published (category_name, published_at_datetime)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'news' AND index_name = 'idx_news_published') > 0,
+    'SELECT ''idx_news_published 있음 - 건너뜀'' AS message',
+    'ALTER TABLE news ADD INDEX idx_news_published (published_at_datetime)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 문자열 컬럼 기준 인덱스는 더 이상 정렬에 쓰이지 않으므로 제거 (있을 때만)
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'news' AND index_name = 'idx_news_cat_pub') > 0,
+    'ALTER TABLE news DROP INDEX idx_news_cat_pub',
+    'SELECT ''idx_news_cat_pub 없음 - 건너뜀'' AS message');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 4) 인덱스 사용 확인: 리포지토리가 실제로 만드는 SQL의 실행 계획은 NewsQueryPlanTest(MySQL 컨테이너)에서 검증
+--    운영 DB에서 직접 확인할 때
+EXPLAIN SELECT * FROM news WHERE category_name = 'POLITICS' ORDER BY published_at_datetime DESC LIMIT 20;
+EXPLAIN SELECT * FROM news WHERE published_at_datetime BETWEEN NOW() - INTERVAL 1 DAY AND NOW() ORDER BY published_at_datetime DESC;
+
+-- 목록 카드용 본문 앞부분 (snippet)
+-- 목록/피드 조회는 content(MEDIUMTEXT) 대신 이 컬럼만 읽음. 저장 시 News 엔티티(@PrePersist/@PreUpdate)가 계산
+-- 1) 컬럼 추가 (ddl-auto: update로 이미 있으면 건너뜀)
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'news' AND column_name = 'snippet') > 0,
+    'SELECT ''snippet 있음 - 건너뜀'' AS message',
+    'ALTER TABLE news ADD COLUMN snippet VARCHAR(160) NULL AFTER content');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2) 기존 행 채우기: 공백 정리 후 150자, 넘으면 '...' (재실행 안전)
+--    NewsDerivedColumns.SNIPPET_LENGTH(news-service) / NewsDerivedColumns.SNIPPET_LENGTH(crawler-service)와 같은 규칙 - 바꿀 때 함께 수정
+UPDATE news
+SET snippet = CASE
+        WHEN CHAR_LENGTH(TRIM(REGEXP_REPLACE(content, '[[:space:]]+', ' '))) > 150
+            THEN CONCAT(LEFT(TRIM(REGEXP_REPLACE(content, '[[:space:]]+', ' ')), 150), '...')
+        ELSE TRIM(REGEXP_REPLACE(content, '[[:space:]]+', ' '))
+    END
+WHERE snippet IS NULL AND content IS NOT NULL;
+
+-- 3) 응답 크기/쿼리 시간 비교: GET /api/admin/list-payload?category=POLITICS&size=20
+
+-- 기사 신고 건수 (비정규화 카운터)
+-- 상세 조회는 COUNT(news_complaint) 대신 이 컬럼만 읽음. 신고 접수/철회 시 같은 트랜잭션에서 증감
+-- 1) 컬럼 추가 (ddl-auto: update로 이미 있으면 건너뜀 - 아래 채우기는 항상 실행)
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'news' AND column_name = 'complaint_count') > 0,
+    'SELECT ''complaint_count 있음 - 건너뜀'' AS message',
+    'ALTER TABLE news ADD COLUMN complaint_count INT NOT NULL DEFAULT 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2) 기존 신고 건수 채우기 (재실행 안전)
+UPDATE news n
+JOIN (SELECT news_id, COUNT(*) AS cnt FROM news_complaint GROUP BY news_id) c ON c.news_id = n.news_id
+SET n.complaint_count = c.cnt;
+
+-- 3) 어긋난 값 보정: 매일 ComplaintCounterService.reconcile, 즉시 실행은 POST /api/admin/complaint-counters/reconcile
+
+-- 기사 조회수
+-- 조회 요청마다 UPDATE하지 않고 ViewCountService가 인스턴스 내에 누적한 뒤 flush-interval-ms마다 일괄 반영
+-- 1) 컬럼 추가 (ddl-auto: update로 이미 있으면 건너뜀 - 아래 반영 기록 테이블은 Hibernate가 만들지 않음)
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'news' AND column_name = 'view_count') > 0,
+    'SELECT ''view_count 있음 - 건너뜀'' AS message',
+    'ALTER TABLE news ADD COLUMN view_count INT NOT NULL DEFAULT 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2) 반영 완료 배치 기록 (재시도된 배치를 두 번 더하지 않도록, 보관 기간이 지나면 서비스가 삭제)
+CREATE TABLE IF NOT EXISTS news_view_flush (
+    batch_id   VARCHAR(64) NOT NULL PRIMARY KEY,
+    flushed_at DATETIME    NOT NULL,
+    INDEX idx_news_view_flush_flushed_at (flushed_at)
+);
+
+-- 3) 집계 상태 확인: GET /api/admin/view-counts, 즉시 반영: POST /api/admin/view-counts/flush
+
+-- 기사 변경 피드 (NewsChangeFeed: updated_at 워터마크로 신규/수정 기사를 읽음)
+-- 1) updated_at, news_id 순 keyset 조회 인덱스 (InnoDB 보조 인덱스에 news_id가 포함됨), 없을 때만 추가
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'news' AND index_name = 'idx_news_updated') > 0,
+    'SELECT ''idx_news_updated 있음 - 건너뜀'' AS message',
+    'ALTER TABLE news ADD INDEX idx_news_updated (updated_at)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2) updated_at이 비어 있는 과거 행은 피드에 나타나지 않음 (각 집계의 기동/재구성 적재로 반영)
+-- 3) 소비자별 워터마크/겹침 구간 확인: GET /api/admin/ingest-feed
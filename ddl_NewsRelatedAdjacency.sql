@@ -0,0 +1,13 @@
+-- 기사별 연관뉴스 목록 테이블 (연관뉴스 조회는 dedup_state별 쿼리 대신 이 테이블의 한 행을 읽음)
+-- news-service가 신규 기사 수집 시 미리 계산하고, 대표 기사 그룹에 기사가 추가되면 그 그룹 기존 기사의 행을 지워 다시 계산
+-- 과거 기사는 첫 조회 때 채워지므로 별도 백필 불필요
+CREATE TABLE IF NOT EXISTS news_related_adjacency (
+    news_id BIGINT NOT NULL,
+    related_ids VARCHAR(255) NOT NULL,
+    complete BOOLEAN NOT NULL,
+    computed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (news_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 진행 상황 확인 (GET /api/admin/related-news 와 같은 값)
+SELECT complete, COUNT(*) FROM news_related_adjacency GROUP BY complete;
@@ -0,0 +1,15 @@
+-- 기사별 툴팁 마크업 본문 테이블 (기사 상세 조회는 툴팁 서비스 호출 대신 이 테이블을 읽음)
+-- news-service가 수집/첫 조회 시 백그라운드에서 채우고, 어려운 단어 목록 버전이 바뀌면 다시 마크업
+CREATE TABLE IF NOT EXISTS news_tooltip_markup (
+    news_id BIGINT NOT NULL,
+    processed_content MEDIUMTEXT NOT NULL,
+    vocabulary_version VARCHAR(64) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (news_id),
+    INDEX idx_tooltip_markup_version (vocabulary_version, news_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 진행 상황 확인 (GET /api/admin/tooltip-markup 과 같은 값)
+SELECT vocabulary_version, COUNT(*) FROM news_tooltip_markup GROUP BY vocabulary_version;
+-- 마크업 없는 기사 수 (전체 스캔 - 운영 중 자주 실행하지 않음, 과거 기사는 첫 조회 때 마크업)
+SELECT COUNT(*) FROM news n WHERE NOT EXISTS (SELECT 1 FROM news_tooltip_markup m WHERE m.news_id = n.news_id);
@@ -0,0 +1,54 @@
+-- 연관뉴스 테이블 생성 (대표/연관 쌍 기준 기본키)
+-- 크롤러 upsert는 행 별칭(INSERT ... AS new ON DUPLICATE KEY UPDATE)을 사용하므로 MySQL 8.0.19 이상 필요
+CREATE TABLE IF NOT EXISTS related_news (
+    rep_oid_aid VARCHAR(255) NOT NULL,
+    related_oid_aid VARCHAR(255) NOT NULL,
+    similarity FLOAT NULL,
+    created_at DATETIME(6) NULL,
+    updated_at DATETIME(6) NULL,
+    PRIMARY KEY (rep_oid_aid, related_oid_aid),
+    INDEX idx_related_oid_aid (related_oid_aid)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 테이블에 기본키가 없던 경우 (여러 번 실행해도 안전 - 없는 키/인덱스만 추가)
+-- 1) 중복 쌍/빈 키 행 정리는 이 스크립트에서 하지 않음
+--    POST /api/crawler/related-news/compact 를 먼저 실행 (한 트랜잭션에서 중복이 있는 쌍만 합침)
+-- 2) 키 추가를 막는 행이 남았는지 확인 (0이어야 함)
+SELECT COUNT(*) AS blocking_rows
+FROM (
+    SELECT rep_oid_aid
+    FROM related_news
+    GROUP BY rep_oid_aid, related_oid_aid
+    HAVING COUNT(*) > 1 OR rep_oid_aid IS NULL OR related_oid_aid IS NULL
+) blocking;
+
+-- 3) 기본키: 없고, 막는 행이 없을 때만 추가
+SET @related_news_has_pk := (
+    SELECT COUNT(*) FROM information_schema.table_constraints
+    WHERE table_schema = DATABASE() AND table_name = 'related_news' AND constraint_type = 'PRIMARY KEY');
+SET @related_news_blocking := (
+    SELECT COUNT(*) FROM (
+        SELECT rep_oid_aid
+        FROM related_news
+        GROUP BY rep_oid_aid, related_oid_aid
+        HAVING COUNT(*) > 1 OR rep_oid_aid IS NULL OR related_oid_aid IS NULL
+        LIMIT 1
+    ) blocking);
+SET @ddl := IF(@related_news_has_pk > 0,
+    'SELECT ''related_news 기본키 있음 - 건너뜀'' AS message',
+    IF(@related_news_blocking > 0,
+        'SELECT ''중복 쌍/빈 키 행 남음 - POST /api/crawler/related-news/compact 실행 후 다시 실행'' AS message',
+        'ALTER TABLE related_news ADD PRIMARY KEY (rep_oid_aid, related_oid_aid)'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 4) 연관 기사 기준 조회 인덱스: 없을 때만 추가
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'related_news'
+                  AND index_name = 'idx_related_oid_aid') > 0,
+    'SELECT ''idx_related_oid_aid 있음 - 건너뜀'' AS message',
+    'ALTER TABLE related_news ADD INDEX idx_related_oid_aid (related_oid_aid)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
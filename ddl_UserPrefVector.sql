@@ -0,0 +1,67 @@
+-- 선호 벡터 일괄 재계산 (PreferenceVectorBatchJob)
+-- 1) 모드별 체크포인트/점유 (청크 저장마다 last_user_id 갱신, 완료되지 않은 실행은 다음 실행이 그 뒤부터 이어서 처리)
+CREATE TABLE IF NOT EXISTS user_pref_vector_batch (
+    mode           VARCHAR(16) NOT NULL,  -- full | incremental
+    last_user_id   BIGINT      NOT NULL DEFAULT 0,
+    activity_since DATETIME(6) NULL,      -- incremental: 이 시각 이후 조회/스크랩한 사용자 대상
+    started_at     DATETIME(6) NOT NULL,
+    updated_at     DATETIME(6) NOT NULL,
+    completed_at   DATETIME(6) NULL,
+    owner          VARCHAR(64) NULL,      -- 실행 중인 인스턴스
+    lease_until    DATETIME(6) NULL,
+    PRIMARY KEY (mode)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 2) 증분 대상 조회용 인덱스 (created_at 범위 → user_id), 없을 때만 추가
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'user_read_history' AND index_name = 'idx_user_read_history_created_user') > 0,
+    'SELECT ''idx_user_read_history_created_user 있음 - 건너뜀'' AS message',
+    'ALTER TABLE user_read_history ADD INDEX idx_user_read_history_created_user (created_at, user_id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'news_scrap' AND index_name = 'idx_news_scrap_created_user') > 0,
+    'SELECT ''idx_news_scrap_created_user 있음 - 건너뜀'' AS message',
+    'ALTER TABLE news_scrap ADD INDEX idx_news_scrap_created_user (created_at, user_id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 3) 상태 확인: GET /api/admin/preference-vectors/batch, 즉시 실행: POST /api/admin/preference-vectors/batch?mode=full|incremental
+SELECT mode, last_user_id, started_at, completed_at, owner, lease_until FROM user_pref_vector_batch;
+
+-- 사용자 카테고리별 조회/스크랩 감쇠 누적 점수 (CategoryScoreAccumulator)
+-- R(c)/S(c) 계산 때 이력 전체 대신 사용자당 18행(활동 2 x 카테고리 9)을 읽음
+-- score는 updated_at 시점 값이고 이후 경과 시간만큼 반감기로 감쇠해서 사용
+-- 1) 테이블 (행이 없는 사용자는 첫 벡터 계산 때 이력 집계로 채워지므로 별도 백필 불필요)
+CREATE TABLE IF NOT EXISTS user_category_score (
+    user_id       BIGINT      NOT NULL,
+    activity      VARCHAR(8)  NOT NULL,  -- read | scrap
+    category      VARCHAR(32) NOT NULL,
+    score         DOUBLE      NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,  -- score 기준 시각
+    last_event_at DATETIME(6) NULL,      -- 마지막 조회/스크랩 (조회 7일, 스크랩 30일 지나면 0으로 봄)
+    PRIMARY KEY (user_id, activity, category)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 2) 이력 집계용 인덱스 (사용자별 기간 조회), 없을 때만 추가
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'user_read_history' AND index_name = 'idx_user_read_history_user_created') > 0,
+    'SELECT ''idx_user_read_history_user_created 있음 - 건너뜀'' AS message',
+    'ALTER TABLE user_read_history ADD INDEX idx_user_read_history_user_created (user_id, created_at)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'news_scrap' AND index_name = 'idx_news_scrap_user_created') > 0,
+    'SELECT ''idx_news_scrap_user_created 있음 - 건너뜀'' AS message',
+    'ALTER TABLE news_scrap ADD INDEX idx_news_scrap_user_created (user_id, created_at)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 3) 누적 점수와 이력 집계 비교: GET /api/admin/preference-vectors/{userId}/category-scores
+--    재구성: POST /api/admin/preference-vectors/{userId}/category-scores/rebuild (일괄 재계산도 청크마다 재구성)
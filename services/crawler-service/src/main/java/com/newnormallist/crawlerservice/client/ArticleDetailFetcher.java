@@ -0,0 +1,329 @@
+package com.newnormallist.crawlerservice.client;
+
+import com.newnormallist.crawlerservice.config.CrawlerFetchProperties;
+import com.newnormallist.crawlerservice.util.AdaptiveConcurrencyLimiter;
+import com.newnormallist.crawlerservice.util.HostCircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.jsoup.HttpStatusException;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 뉴스 상세 페이지 요청 클라이언트
+ *
+ * 역할:
+ * - 원본 서버(네이버 뉴스) 상세 페이지 요청의 단일 진입점
+ * - 적응형 동시성 제어 + 요청 간격 조절 + 호스트별 회로 차단
+ *
+ * 기능:
+ * - AIMD: 정상 응답 시 동시 요청 한도 증가, 429/5xx/타임아웃/지연 시 절반으로 감소
+ * - 요청 간격: 고정 1500ms 대신 응답 상태에 따라 minDelay ~ maxDelay 사이에서 조절
+ * - 회로 차단: 연속 실패 시 호스트 요청 일시 중단 → 프로브 1건 성공 후 재개
+ * - Retry-After 헤더 존중
+ * - 요청은 공용 HTTP 클라이언트(커넥션 풀, keep-alive, HTTP/2, 압축)로 전송
+ * - 메트릭: crawler.fetch.* (한도, 진행 중 요청, 오류율, 차단기 상태, 지연 시간)
+ */
+@Slf4j
+@Component
+public class ArticleDetailFetcher {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+
+    private final CrawlerFetchProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Map<String, HostCircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final AtomicLong delayMs;
+    private final Timer latencyTimer;
+    private final HttpClient httpClient;
+
+    public ArticleDetailFetcher(CrawlerFetchProperties properties, MeterRegistry meterRegistry,
+                                HttpClient crawlerHttpClient) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        // 공용 커넥션 풀(CrawlerHttpClientConfig)을 공유하고 상세 페이지용 타임아웃/헤더만 덧씌움
+        this.httpClient = crawlerHttpClient
+                .responseTimeout(Duration.ofMillis(properties.getTimeoutMs()))
+                .headers(headers -> headers.set(HttpHeaderNames.USER_AGENT, USER_AGENT));
+        this.limiter = new AdaptiveConcurrencyLimiter(
+                properties.getInitialConcurrency(),
+                properties.getMinConcurrency(),
+                properties.getMaxConcurrency(),
+                properties.getBackoffRatio(),
+                properties.getSlowResponseMs(),
+                properties.getErrorWindowSize());
+        this.delayMs = new AtomicLong(properties.getInitialDelayMs());
+
+        Gauge.builder("crawler.fetch.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("상세 크롤링 동시 요청 한도")
+                .register(meterRegistry);
+        Gauge.builder("crawler.fetch.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("진행 중인 상세 크롤링 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("crawler.fetch.error.rate", limiter, AdaptiveConcurrencyLimiter::getErrorRate)
+                .description("최근 요청 기준 과부하/실패 비율")
+                .register(meterRegistry);
+        Gauge.builder("crawler.fetch.delay", delayMs, AtomicLong::get)
+                .description("현재 요청 간격 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("crawler.fetch.latency")
+                .description("상세 페이지 응답 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상세 페이지 요청 및 본문 디코딩 (파싱은 ArticleExtractionService가 담당)
+     *
+     * @throws IOException 회로 차단, 슬롯 획득 실패, HTTP 오류, 네트워크 오류
+     */
+    public String fetchHtml(String url) throws IOException {
+        HostCircuitBreaker breaker = breakerFor(url);
+        awaitBreaker(breaker, url);
+        acquireSlot(breaker, url);
+
+        long start = System.nanoTime();
+        FetchResponse response;
+        try {
+            response = httpClient.get()
+                    .uri(url)
+                    .responseSingle((res, body) -> body.asByteArray()
+                            .defaultIfEmpty(new byte[0])
+                            .map(bytes -> new FetchResponse(
+                                    res.status().code(),
+                                    res.responseHeaders().get(HttpHeaderNames.RETRY_AFTER),
+                                    res.responseHeaders().get(HttpHeaderNames.CONTENT_TYPE),
+                                    bytes)))
+                    .block(Duration.ofMillis(properties.getTimeoutMs() * 2L));
+        } catch (RuntimeException e) {
+            // 타임아웃, 연결 거부 등 네트워크 오류
+            Throwable cause = Exceptions.unwrap(e);
+            onOverload(breaker, 0);
+            if (isTimeout(e, cause)) {
+                count("timeout");
+                SocketTimeoutException timeout = new SocketTimeoutException("상세 페이지 응답 시간 초과: " + url);
+                timeout.initCause(cause);
+                throw timeout;
+            }
+            count("io_error");
+            throw new IOException("상세 페이지 요청 실패: " + url, cause);
+        }
+
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        latencyTimer.record(latencyMs, TimeUnit.MILLISECONDS);
+
+        if (response == null) {
+            onOverload(breaker, 0);
+            count("io_error");
+            throw new IOException("상세 페이지 응답 없음: " + url);
+        }
+
+        int status = response.status();
+        if (status == 429 || status >= 500) {
+            onOverload(breaker, parseRetryAfter(response.retryAfter()));
+            count("overload");
+            throw new HttpStatusException("원본 서버 과부하 응답", status, url);
+        }
+
+        // 서버가 정상적으로 응답했으므로 차단기는 닫음
+        breaker.recordSuccess();
+        if (status >= 400) {
+            limiter.onIgnored();
+            count("client_error");
+            throw new HttpStatusException("HTTP 오류 응답", status, url);
+        }
+
+        String html = new String(response.body(), charsetOf(response.contentType(), response.body()));
+
+        limiter.onSuccess(latencyMs);
+        if (latencyMs >= properties.getSlowResponseMs()) {
+            increaseDelay();
+            count("slow");
+        } else {
+            decreaseDelay();
+            count("success");
+        }
+        return html;
+    }
+
+    /**
+     * 현재 제어 상태 요약 (설정 조회 API용)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> hostStates = new ConcurrentHashMap<>();
+        breakers.forEach((host, breaker) -> hostStates.put(host, breaker.getState().name()));
+        return Map.of(
+                "concurrencyLimit", limiter.getLimit(),
+                "inFlight", limiter.getInFlight(),
+                "errorRate", limiter.getErrorRate(),
+                "requestDelayMs", delayMs.get(),
+                "breakers", hostStates
+        );
+    }
+
+    private void awaitBreaker(HostCircuitBreaker breaker, String url) throws IOException {
+        long deadline = System.currentTimeMillis() + properties.getBreakerMaxWaitMs();
+        while (true) {
+            long now = System.currentTimeMillis();
+            long waitMs = breaker.tryAcquire(now);
+            if (waitMs == 0) {
+                return;
+            }
+            if (now + waitMs > deadline) {
+                count("circuit_open");
+                throw new IOException("회로 차단 중인 호스트: " + breaker.getHost() + " (" + url + ")");
+            }
+            try {
+                Thread.sleep(waitMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("회로 차단 대기 중 인터럽트: " + url, e);
+            }
+        }
+    }
+
+    private void acquireSlot(HostCircuitBreaker breaker, String url) throws IOException {
+        boolean acquired = false;
+        try {
+            acquired = limiter.acquire(properties.getAcquireTimeoutMs());
+            if (!acquired) {
+                breaker.releaseProbe();
+                count("rejected");
+                throw new IOException("동시성 슬롯 획득 시간 초과: " + url);
+            }
+            Thread.sleep(delayMs.get());
+        } catch (InterruptedException e) {
+            if (acquired) {
+                limiter.onIgnored();
+            }
+            breaker.releaseProbe();
+            Thread.currentThread().interrupt();
+            throw new IOException("상세 크롤링 대기 중 인터럽트: " + url, e);
+        }
+    }
+
+    private boolean isTimeout(RuntimeException e, Throwable cause) {
+        // block() 자체 시간 초과는 IllegalStateException으로 전달됨
+        return cause instanceof io.netty.handler.timeout.TimeoutException
+                || cause instanceof ConnectTimeoutException
+                || cause instanceof TimeoutException
+                || (e instanceof IllegalStateException && e.getMessage() != null && e.getMessage().startsWith("Timeout"));
+    }
+
+    /**
+     * 응답 charset 결정: Content-Type 헤더 → 문서 앞부분 meta charset → UTF-8
+     */
+    private Charset charsetOf(String contentType, byte[] body) {
+        Charset charset = parseCharset(contentType);
+        if (charset != null) {
+            return charset;
+        }
+        // meta 선언은 문서 앞부분에 위치하므로 ASCII 범위로 앞 1KB만 확인
+        String head = new String(body, 0, Math.min(body.length, 1024), StandardCharsets.ISO_8859_1);
+        charset = parseCharset(head);
+        return charset != null ? charset : StandardCharsets.UTF_8;
+    }
+
+    private Charset parseCharset(String text) {
+        if (text == null) {
+            return null;
+        }
+        int index = text.toLowerCase(Locale.ROOT).indexOf("charset=");
+        if (index < 0) {
+            return null;
+        }
+        // charset=utf-8, charset="utf-8" 형태 모두 허용
+        String charset = text.substring(index + "charset=".length()).replaceFirst("^[\"']", "")
+                .split("[;\"'\\s/>]", 2)[0];
+        try {
+            return !charset.isEmpty() && Charset.isSupported(charset) ? Charset.forName(charset) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void onOverload(HostCircuitBreaker breaker, long retryAfterMs) {
+        limiter.onDropped();
+        increaseDelay();
+        long now = System.currentTimeMillis();
+        breaker.recordFailure(now);
+        if (retryAfterMs > 0) {
+            breaker.pauseUntil(now, retryAfterMs);
+        }
+        if (breaker.getState() != HostCircuitBreaker.State.CLOSED) {
+            log.warn("⚠️ 원본 서버 과부하 감지 - host={}, 차단기={}, 동시성 한도={}, 요청 간격={}ms",
+                    breaker.getHost(), breaker.getState(), limiter.getLimit(), delayMs.get());
+        }
+    }
+
+    private void increaseDelay() {
+        delayMs.updateAndGet(current -> Math.min(properties.getMaxDelayMs(), Math.max(current * 2, properties.getMinDelayMs())));
+    }
+
+    private void decreaseDelay() {
+        delayMs.updateAndGet(current -> Math.max(properties.getMinDelayMs(), (long) (current * 0.9)));
+    }
+
+    private HostCircuitBreaker breakerFor(String url) {
+        String host;
+        try {
+            host = URI.create(url).getHost();
+        } catch (IllegalArgumentException e) {
+            host = null;
+        }
+        String key = host != null ? host : "unknown";
+        return breakers.computeIfAbsent(key, h -> {
+            HostCircuitBreaker breaker = new HostCircuitBreaker(h,
+                    properties.getBreakerFailureThreshold(),
+                    properties.getBreakerOpenMs(),
+                    properties.getBreakerMaxOpenMs());
+            Gauge.builder("crawler.fetch.breaker.state", breaker, b -> b.getState().ordinal())
+                    .description("회로 차단기 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                    .tag("host", h)
+                    .register(meterRegistry);
+            return breaker;
+        });
+    }
+
+    private long parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            // HTTP-date 형식은 기본 개방 시간으로 처리
+            return properties.getBreakerOpenMs();
+        }
+    }
+
+    private void count(String outcome) {
+        Counter.builder("crawler.fetch.requests")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record FetchResponse(int status, String retryAfter, String contentType, byte[] body) {
+    }
+}
@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
@@ -38,6 +39,8 @@ import java.util.Map;
 public class PythonDeduplicationClient {
 
     private final WebClient.Builder webClientBuilder;
+    // 크롤러 공용 커넥션 풀 (CrawlerHttpClientConfig)
+    private final ClientHttpConnector crawlerClientHttpConnector;
 
     @Value("${services.dedup.url:http://localhost:8084}")
     private String dedupServiceUrl;
@@ -51,6 +54,7 @@ public class PythonDeduplicationClient {
         if (webClient == null) {
             webClient = webClientBuilder
                 .baseUrl(dedupServiceUrl)
+                .clientConnector(crawlerClientHttpConnector)
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024)) // 10MB
                 .build();
         }
@@ -0,0 +1,97 @@
+package com.newnormallist.crawlerservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 뉴스 상세 크롤링 요청 제어 설정
+ *
+ * 역할:
+ * - 적응형 동시성 제어(AIMD)의 한도 및 요청 간격 범위 설정
+ * - 호스트별 회로 차단기(Circuit Breaker)의 임계치 및 차단 시간 설정
+ * - 고정 1500ms 대기 / 10초 타임아웃 하드코딩 제거
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "crawler.fetch")
+public class CrawlerFetchProperties {
+
+    /**
+     * 요청 타임아웃 (밀리초)
+     */
+    private int timeoutMs = 10000;
+
+    /**
+     * 초기 동시 요청 한도
+     */
+    private int initialConcurrency = 3;
+
+    /**
+     * 최소 동시 요청 한도
+     */
+    private int minConcurrency = 1;
+
+    /**
+     * 최대 동시 요청 한도 (상세 크롤링 스레드 풀 크기)
+     */
+    private int maxConcurrency = 8;
+
+    /**
+     * 과부하 신호 수신 시 한도 감소 비율 (multiplicative decrease)
+     */
+    private double backoffRatio = 0.5;
+
+    /**
+     * 이 시간보다 느린 응답은 과부하 신호로 간주 (밀리초)
+     */
+    private long slowResponseMs = 3000;
+
+    /**
+     * 초기 요청 간격 (밀리초)
+     */
+    private long initialDelayMs = 1500;
+
+    /**
+     * 최소 요청 간격 (밀리초)
+     */
+    private long minDelayMs = 200;
+
+    /**
+     * 최대 요청 간격 (밀리초)
+     */
+    private long maxDelayMs = 10000;
+
+    /**
+     * 오류율 계산에 사용하는 최근 요청 수
+     */
+    private int errorWindowSize = 50;
+
+    /**
+     * 동시성 슬롯 대기 최대 시간 (밀리초)
+     */
+    private long acquireTimeoutMs = 60000;
+
+    /**
+     * 회로 차단기를 여는 연속 실패 횟수
+     */
+    private int breakerFailureThreshold = 5;
+
+    /**
+     * 회로 차단기 개방 유지 시간 (밀리초)
+     */
+    private long breakerOpenMs = 30000;
+
+    /**
+     * 프로브 실패가 반복될 때 개방 시간 상한 (밀리초)
+     */
+    private long breakerMaxOpenMs = 300000;
+
+    /**
+     * 회로가 열린 호스트에 대해 요청이 기다릴 수 있는 최대 시간 (밀리초)
+     * 초과하면 해당 기사는 실패로 처리
+     */
+    private long breakerMaxWaitMs = 120000;
+}
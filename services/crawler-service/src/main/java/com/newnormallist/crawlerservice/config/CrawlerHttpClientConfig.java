@@ -0,0 +1,124 @@
+package com.newnormallist.crawlerservice.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 크롤러 공용 HTTP 클라이언트 설정
+ *
+ * 역할:
+ * - Reactor Netty 기반 단일 HTTP 클라이언트를 모든 외부 호출에 공유
+ *   (상세 페이지 요청, 파일서버 업로드/다운로드, Python 중복제거 WebClient)
+ *
+ * 기능:
+ * - 목적지별 커넥션 풀 + keep-alive 재사용
+ * - HTTP/2 협상 (지원하는 TLS 목적지), 응답 압축
+ * - 연결/응답 타임아웃 설정
+ * - 메트릭: reactor.netty.connection.provider.* (풀 사용량), reactor.netty.http.client.connect.time 등
+ */
+@Slf4j
+@Configuration
+public class CrawlerHttpClientConfig {
+
+    public static final String POOL_NAME = "crawler";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider crawlerConnectionProvider(CrawlerHttpProperties properties) {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(properties.getMaxConnectionsPerDestination())
+                .pendingAcquireTimeout(Duration.ofMillis(properties.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(properties.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(properties.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true);
+
+        for (Map.Entry<String, Integer> entry : properties.getDestinationMaxConnections().entrySet()) {
+            InetSocketAddress address = parseDestination(entry.getKey());
+            if (address == null) {
+                log.warn("잘못된 목적지 설정 무시: {}", entry.getKey());
+                continue;
+            }
+            int maxConnections = entry.getValue();
+            builder.forRemoteHost(address, spec -> spec.maxConnections(maxConnections));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public HttpClient crawlerHttpClient(ConnectionProvider crawlerConnectionProvider, CrawlerHttpProperties properties) {
+        HttpClient client = HttpClient.create(crawlerConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectTimeoutMs())
+                .keepAlive(true)
+                .compress(properties.isCompressionEnabled())
+                .followRedirect(true)
+                // uri 태그는 첫 경로 세그먼트로 축약 (기사/파일 URL마다 메트릭이 생성되지 않도록)
+                .metrics(true, CrawlerHttpClientConfig::uriTag);
+
+        if (properties.isHttp2Enabled()) {
+            client = client.protocol(HttpProtocol.HTTP11, HttpProtocol.H2);
+        }
+        return client;
+    }
+
+    /**
+     * 공용 WebClient 커넥터 (Spring Boot의 WebClient.Builder에도 자동 적용됨)
+     */
+    @Bean
+    public ClientHttpConnector crawlerClientHttpConnector(HttpClient crawlerHttpClient) {
+        return new ReactorClientHttpConnector(crawlerHttpClient);
+    }
+
+    /**
+     * 파일서버/내부 API 호출용 RestTemplate (공용 커넥션 풀 사용, UTF-8)
+     */
+    @Bean
+    public RestTemplate crawlerRestTemplate(HttpClient crawlerHttpClient, CrawlerHttpProperties properties) {
+        ReactorClientHttpRequestFactory requestFactory = new ReactorClientHttpRequestFactory(crawlerHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(properties.getReadTimeoutMs()));
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        // UTF-8 인코딩을 위한 메시지 컨버터 설정
+        restTemplate.getMessageConverters().forEach(converter -> {
+            if (converter instanceof StringHttpMessageConverter stringConverter) {
+                stringConverter.setDefaultCharset(StandardCharsets.UTF_8);
+            }
+        });
+        return restTemplate;
+    }
+
+    private static String uriTag(String uri) {
+        if (uri == null || uri.isEmpty()) {
+            return "/";
+        }
+        int next = uri.indexOf('/', 1);
+        return next > 0 ? uri.substring(0, next) : uri;
+    }
+
+    private static InetSocketAddress parseDestination(String destination) {
+        int colon = destination.lastIndexOf(':');
+        if (colon <= 0) {
+            return null;
+        }
+        try {
+            int port = Integer.parseInt(destination.substring(colon + 1));
+            return InetSocketAddress.createUnresolved(destination.substring(0, colon), port);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
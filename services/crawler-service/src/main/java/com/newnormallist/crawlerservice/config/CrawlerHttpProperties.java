@@ -0,0 +1,69 @@
+package com.newnormallist.crawlerservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 크롤러 공용 HTTP 클라이언트 설정
+ *
+ * 역할:
+ * - 모든 외부 호출(상세 페이지, 파일서버, FTP 업로드 API, Python 중복제거)이 공유하는
+ *   커넥션 풀 / 타임아웃 / 프로토콜 설정
+ * - 커넥션 풀은 목적지(host:port)별로 분리되어 관리됨
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "crawler.http")
+public class CrawlerHttpProperties {
+
+    /**
+     * 목적지별 최대 커넥션 수
+     */
+    private int maxConnectionsPerDestination = 16;
+
+    /**
+     * 목적지별 최대 커넥션 수 개별 지정 (키: host:port)
+     */
+    private Map<String, Integer> destinationMaxConnections = new HashMap<>();
+
+    /**
+     * 커넥션 획득 대기 최대 시간 (밀리초)
+     */
+    private long pendingAcquireTimeoutMs = 30000;
+
+    /**
+     * 유휴 커넥션 유지 시간 (밀리초) - keep-alive
+     */
+    private long maxIdleTimeMs = 30000;
+
+    /**
+     * 커넥션 최대 수명 (밀리초)
+     */
+    private long maxLifeTimeMs = 300000;
+
+    /**
+     * 연결 타임아웃 (밀리초)
+     */
+    private int connectTimeoutMs = 5000;
+
+    /**
+     * 파일서버/내부 API 응답 타임아웃 (밀리초)
+     */
+    private long readTimeoutMs = 30000;
+
+    /**
+     * HTTP/2 협상 사용 여부 (TLS + ALPN 지원 목적지에 한해 적용, 그 외는 HTTP/1.1)
+     */
+    private boolean http2Enabled = true;
+
+    /**
+     * gzip/deflate 응답 압축 사용 여부
+     */
+    private boolean compressionEnabled = true;
+}
@@ -0,0 +1,63 @@
+package com.newnormallist.crawlerservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 증분 폴링(속보 수집) 설정
+ *
+ * 역할:
+ * - 정기 배치(09:00, 19:00) 사이에 섹션 첫 페이지만 주기적으로 확인해 새 기사만 수집
+ * - 원본 서버 부담을 제한하는 요청 예산 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "crawler.polling")
+public class CrawlerPollingProperties {
+
+    /**
+     * 증분 폴링 활성화 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 폴링 주기 (밀리초)
+     */
+    private long intervalMs = 180000;
+
+    /**
+     * 한 번의 폴링에서 사용할 수 있는 최대 목록(섹션 첫 페이지) 요청 수
+     */
+    private int maxListRequestsPerCycle = 12;
+
+    /**
+     * 한 시간 동안 사용할 수 있는 최대 목록 요청 수
+     */
+    private int maxListRequestsPerHour = 240;
+
+    /**
+     * 한 번의 폴링에서 사용할 수 있는 최대 상세 요청 수 (카테고리별 균등 배분)
+     */
+    private int maxDetailRequestsPerCycle = 40;
+
+    /**
+     * 한 시간 동안 사용할 수 있는 최대 상세 요청 수
+     */
+    private int maxDetailRequestsPerHour = 400;
+
+    /**
+     * 카테고리별로 기억하는 최근 수집 기사 수 (목록 순서가 바뀌어도 재수집하지 않도록)
+     */
+    private int seenCapacity = 500;
+
+    /**
+     * 폴링 대상 카테고리 (비어 있으면 전체)
+     */
+    private List<String> categories = new ArrayList<>();
+}
@@ -1,6 +1,6 @@
 package com.newnormallist.crawlerservice.config;
 
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -15,10 +15,11 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * 설정:
  * - crawler.scheduling.enabled=true: 스케줄링 활성화
  * - crawler.scheduling.enabled=false: 스케줄링 비활성화 (기본값)
+ * - crawler.polling.enabled=true: 증분 폴링만 활성화 (정기 배치와 독립)
  */
 @Configuration
 @EnableScheduling
-@ConditionalOnProperty(name = "crawler.scheduling.enabled", havingValue = "true", matchIfMissing = false)
+@ConditionalOnExpression("${crawler.scheduling.enabled:false} or ${crawler.polling.enabled:false}")
 public class SchedulingConfig {
     // 스케줄링이 필요할 때만 활성화됨
     // matchIfMissing = false: 설정이 없으면 비활성화
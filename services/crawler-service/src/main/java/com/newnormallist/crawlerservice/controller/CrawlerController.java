@@ -1,7 +1,11 @@
 package com.newnormallist.crawlerservice.controller;
 
+import com.newnormallist.crawlerservice.client.ArticleDetailFetcher;
+import com.newnormallist.crawlerservice.service.ArticleExtractionService;
 import com.newnormallist.crawlerservice.service.DeploymentOptimizedCrawlerService;
 import com.newnormallist.crawlerservice.service.FileServerDatabaseService;
+import com.newnormallist.crawlerservice.service.IncrementalPollingService;
+import com.newnormallist.crawlerservice.service.RelatedNewsMergeService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -31,6 +35,10 @@ import org.springframework.http.HttpStatus;
  * - POST /api/crawler/save-fileserver: 파일서버 데이터 DB 저장
  * - GET /api/crawler/status: 크롤링 상태 확인
  * - GET /api/crawler/config: 크롤러 설정 조회
+ * - POST /api/crawler/extraction/benchmark: DOM/스트리밍 추출 성능 비교
+ * - GET /api/crawler/related-news/merge-report: 카테고리별 마지막 연관뉴스 병합 결과
+ * - POST /api/crawler/related-news/compact: 기존 연관뉴스 중복 행 정리 (일회성)
+ * - POST /api/crawler/polling/run: 증분 폴링 1회 실행
  * - GET /api/crawler/health: 헬스체크
  */
 @Tag(name = "Crawler", description = "뉴스 크롤링 및 데이터 수집 API")
@@ -42,6 +50,10 @@ public class CrawlerController {
 
     private final DeploymentOptimizedCrawlerService deploymentOptimizedCrawlerService;
     private final FileServerDatabaseService fileServerDatabaseService;
+    private final ArticleDetailFetcher articleDetailFetcher;
+    private final ArticleExtractionService articleExtractionService;
+    private final RelatedNewsMergeService relatedNewsMergeService;
+    private final IncrementalPollingService incrementalPollingService;
 
     @Operation(summary = "크롤링 시작", description = "배포 환경에 최적화된 뉴스 크롤링을 시작합니다.")
     @ApiResponses({
@@ -146,7 +158,8 @@ public class CrawlerController {
         response.put("maxConcurrentRequests", 5);
         response.put("retryAttempts", 3);
         response.put("retryDelay", 3000);
-        response.put("requestDelay", 1000);
+        response.put("fetch", articleDetailFetcher.snapshot()); // 적응형 동시성/요청 간격/회로 차단 현재 상태
+        response.put("polling", incrementalPollingService.snapshot()); // 증분 폴링 워터마크/요청 예산
         response.put("categories", new String[]{"POLITICS", "ECONOMY", "SOCIETY", "LIFE", "INTERNATIONAL", "IT_SCIENCE", "VEHICLE", "TRAVEL_FOOD", "ART"});
         response.put("deployment-optimized", true);
         response.put("fileserver-based-deduplication", true);
@@ -156,6 +169,84 @@ public class CrawlerController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "추출 성능 비교", description = "설정된 픽스처 디렉토리(crawler.extraction.fixture-dir)의 상세 페이지 HTML로 DOM/스트리밍 추출의 시간, 할당량, 결과 일치 여부를 비교합니다. 반복 횟수는 crawler.extraction.max-benchmark-iterations로 제한됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "비교 성공"),
+            @ApiResponse(responseCode = "400", description = "픽스처 디렉토리 미설정 또는 없음"),
+            @ApiResponse(responseCode = "500", description = "비교 실패")
+    })
+    @PostMapping("/extraction/benchmark")
+    public ResponseEntity<Map<String, Object>> benchmarkExtraction(@RequestParam(defaultValue = "20") int iterations) {
+        Map<String, Object> response = new HashMap<>();
+        if (articleExtractionService.benchmarkFixtureDir() == null) {
+            response.put("status", "error");
+            response.put("message", "crawler.extraction.fixture-dir 가 설정되지 않았거나 디렉토리가 없습니다");
+            return ResponseEntity.badRequest().body(response);
+        }
+        try {
+            response.put("status", "success");
+            response.put("result", articleExtractionService.benchmark(iterations));
+            response.put("timestamp", LocalDateTime.now().toString());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("추출 성능 비교 실패: {}", e.getMessage(), e);
+            response.put("status", "error");
+            response.put("message", "추출 성능 비교 실패: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    @Operation(summary = "연관뉴스 병합 결과 조회", description = "카테고리별 마지막 연관뉴스 병합 결과(신규/기존 쌍 수)를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/related-news/merge-report")
+    public ResponseEntity<Map<String, Object>> getRelatedNewsMergeReport() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("reports", relatedNewsMergeService.getLastReports());
+        response.put("timestamp", LocalDateTime.now().toString());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "연관뉴스 중복 정리", description = "related_news 테이블의 중복 쌍과 자기 참조 쌍을 정리합니다. (일회성 작업)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "정리 성공"),
+            @ApiResponse(responseCode = "500", description = "정리 실패")
+    })
+    @PostMapping("/related-news/compact")
+    public ResponseEntity<Map<String, Object>> compactRelatedNews() {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("status", "success");
+            response.put("result", relatedNewsMergeService.compactDuplicates());
+            response.put("timestamp", LocalDateTime.now().toString());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("연관뉴스 중복 정리 실패: {}", e.getMessage(), e);
+            response.put("status", "error");
+            response.put("message", "연관뉴스 중복 정리 실패: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    @Operation(summary = "증분 폴링 실행", description = "섹션 첫 페이지를 확인해 마지막 수집 이후의 새 기사만 수집합니다. (요청 예산 적용)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "폴링 성공"),
+            @ApiResponse(responseCode = "500", description = "폴링 실패")
+    })
+    @PostMapping("/polling/run")
+    public ResponseEntity<Map<String, Object>> runPolling() {
+        try {
+            Map<String, Object> response = new HashMap<>(incrementalPollingService.pollOnce());
+            response.put("timestamp", LocalDateTime.now().toString());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("증분 폴링 실패: {}", e.getMessage(), e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "error");
+            response.put("message", "증분 폴링 실패: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     @Operation(summary = "헬스 체크", description = "크롤러 서비스의 헬스 상태를 확인합니다.")
     @ApiResponse(responseCode = "200", description = "헬스 체크 성공")
     @GetMapping("/health")
@@ -0,0 +1,36 @@
+package com.newnormallist.crawlerservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기사 상세 페이지 추출 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleContent {
+
+    /**
+     * 본문 (#dic_area), VOD/짧은 본문이면 null
+     */
+    private String content;
+
+    /**
+     * 기자명 (쉼표 구분)
+     */
+    private String reporter;
+
+    /**
+     * 기사 입력 시각 (data-date-time), 찾지 못하면 null
+     */
+    private String date;
+
+    /**
+     * 대표 이미지 URL
+     */
+    private String imageUrl;
+}
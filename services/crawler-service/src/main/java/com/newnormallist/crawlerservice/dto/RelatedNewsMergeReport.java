@@ -0,0 +1,58 @@
+package com.newnormallist.crawlerservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 연관뉴스 병합 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedNewsMergeReport {
+
+    /**
+     * 카테고리
+     */
+    private String category;
+
+    /**
+     * 파일에서 읽은 연관뉴스 쌍 수
+     */
+    private int received;
+
+    /**
+     * 키가 비었거나 자기 자신을 가리켜 제외된 쌍 수
+     */
+    private int invalid;
+
+    /**
+     * 같은 파일 안에서 중복되어 합쳐진 쌍 수
+     */
+    private int duplicatesInBatch;
+
+    /**
+     * 새로 저장된 쌍 수
+     */
+    private int inserted;
+
+    /**
+     * 이미 존재하던 쌍 수 (유사도만 갱신)
+     */
+    private int alreadyPresent;
+
+    /**
+     * 드라이버가 행별 영향 행 수를 주지 않아 신규/기존을 구분하지 못한 쌍 수
+     */
+    private int unreported;
+
+    /**
+     * 병합 시각
+     */
+    private LocalDateTime mergedAt;
+}
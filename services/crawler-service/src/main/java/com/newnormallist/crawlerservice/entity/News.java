@@ -7,6 +7,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import com.newnormallist.crawlerservice.enums.Category;
 import com.newnormallist.crawlerservice.enums.DedupState;
+import com.newnormallist.crawlerservice.util.NewsDerivedColumns;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -31,12 +32,20 @@ public class News {
     @Column(name = "content", columnDefinition = "TEXT")
     private String content;
 
+    // 목록 카드용 본문 앞부분 (저장 시 content에서 계산, news-service 목록 조회는 content 대신 이 컬럼만 읽음)
+    @Column(name = "snippet", length = 160)
+    private String snippet;
+
     @Column(name = "press", length = 100)
     private String press;
 
     @Column(name = "published_at")
     private String publishedAt;
 
+    // published_at(문자열)의 DATETIME 사본 - news-service 정렬/기간 조회용 (이행 기간 동안 이중 기록)
+    @Column(name = "published_at_datetime")
+    private LocalDateTime publishedAtDateTime;
+
     @Column(name = "reporter", length = 100)
     private String reporter;
 
@@ -82,4 +91,16 @@ public class News {
         }
         return null;
     }
+
+    // 저장/수정 시 문자열 발행일을 DATETIME 컬럼에, 본문 앞부분을 snippet에 함께 기록 (규칙: NewsDerivedColumns)
+    @PrePersist
+    @PreUpdate
+    void syncDerivedColumns() {
+        if (content != null) {
+            snippet = NewsDerivedColumns.toSnippet(content);
+        }
+        if (publishedAt != null) {
+            publishedAtDateTime = NewsDerivedColumns.toPublishedAtDateTime(publishedAt);
+        }
+    }
 }
@@ -2,8 +2,12 @@ package com.newnormallist.crawlerservice.repository;
 
 import com.newnormallist.crawlerservice.entity.News;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,7 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     Optional<News> findByOidAid(String oidAid);
     
     boolean existsByOidAid(String oidAid);
+
+    @Query("SELECT n.oidAid FROM News n WHERE n.oidAid IN :oidAids")
+    List<String> findExistingOidAids(@Param("oidAids") Collection<String> oidAids);
 }
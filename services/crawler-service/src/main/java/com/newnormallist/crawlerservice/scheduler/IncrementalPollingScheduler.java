@@ -0,0 +1,32 @@
+package com.newnormallist.crawlerservice.scheduler;
+
+import com.newnormallist.crawlerservice.service.IncrementalPollingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "crawler.polling.enabled", havingValue = "true", matchIfMissing = false)
+public class IncrementalPollingScheduler {
+
+    private final IncrementalPollingService incrementalPollingService;
+
+    /**
+     * 섹션 첫 페이지 증분 폴링 (이전 폴링 종료 후 crawler.polling.interval-ms 간격)
+     */
+    @Scheduled(fixedDelayString = "${crawler.polling.interval-ms:180000}", initialDelayString = "${crawler.polling.interval-ms:180000}")
+    public void scheduledPolling() {
+        try {
+            Map<String, Object> result = incrementalPollingService.pollOnce();
+            log.debug("증분 폴링 결과: {}", result);
+        } catch (Exception e) {
+            log.error("증분 폴링 실패: {}", e.getMessage(), e);
+        }
+    }
+}
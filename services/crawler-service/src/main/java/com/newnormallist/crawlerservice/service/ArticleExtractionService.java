@@ -0,0 +1,207 @@
+package com.newnormallist.crawlerservice.service;
+
+import com.newnormallist.crawlerservice.dto.ArticleContent;
+import com.newnormallist.crawlerservice.util.DomArticleExtractor;
+import com.newnormallist.crawlerservice.util.StreamingArticleExtractor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 기사 본문 추출 서비스
+ *
+ * 역할:
+ * - 상세 페이지 HTML → 본문/기자/날짜/이미지 추출 방식 선택
+ *
+ * 모드 (crawler.extraction.mode):
+ * - dom: Jsoup Document 전체 파싱 (기존 방식)
+ * - streaming: 단일 패스 스트리밍 추출
+ * - shadow: 두 방식 모두 실행 후 결과 비교, 불일치 기록, DOM 결과 반환 (전환 전 검증용)
+ *
+ * 벤치마크:
+ * - crawler.extraction.fixture-dir 에 둔 HTML만 읽음 (요청으로 경로를 받지 않음)
+ * - 반복 횟수는 crawler.extraction.max-benchmark-iterations 로 제한
+ *
+ * 메트릭:
+ * - crawler.extraction.duration{path=dom|streaming}
+ * - crawler.extraction.mismatch{field}
+ */
+@Slf4j
+@Service
+public class ArticleExtractionService {
+
+    private final DomArticleExtractor domArticleExtractor;
+    private final StreamingArticleExtractor streamingArticleExtractor;
+    private final MeterRegistry meterRegistry;
+    private final String mode;
+    private final Path fixtureDir;
+    private final int maxBenchmarkIterations;
+    private final Timer domTimer;
+    private final Timer streamingTimer;
+
+    public ArticleExtractionService(DomArticleExtractor domArticleExtractor,
+                                    StreamingArticleExtractor streamingArticleExtractor,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${crawler.extraction.mode:dom}") String mode,
+                                    @Value("${crawler.extraction.fixture-dir:}") String fixtureDir,
+                                    @Value("${crawler.extraction.max-benchmark-iterations:200}") int maxBenchmarkIterations) {
+        this.domArticleExtractor = domArticleExtractor;
+        this.streamingArticleExtractor = streamingArticleExtractor;
+        this.meterRegistry = meterRegistry;
+        this.mode = mode.trim().toLowerCase(Locale.ROOT);
+        this.fixtureDir = fixtureDir == null || fixtureDir.isBlank() ? null : Path.of(fixtureDir.trim());
+        this.maxBenchmarkIterations = Math.max(1, maxBenchmarkIterations);
+        this.domTimer = Timer.builder("crawler.extraction.duration")
+                .description("상세 페이지 추출 시간")
+                .tag("path", "dom")
+                .register(meterRegistry);
+        this.streamingTimer = Timer.builder("crawler.extraction.duration")
+                .description("상세 페이지 추출 시간")
+                .tag("path", "streaming")
+                .register(meterRegistry);
+        log.info("기사 추출 모드: {}", this.mode);
+    }
+
+    /**
+     * 설정된 모드로 본문 추출
+     */
+    public ArticleContent extract(String html, String url) {
+        switch (mode) {
+            case "streaming":
+                return streamingTimer.record(() -> streamingArticleExtractor.extract(html, url));
+            case "shadow":
+                ArticleContent dom = domTimer.record(() -> domArticleExtractor.extract(html, url));
+                try {
+                    ArticleContent streaming = streamingTimer.record(() -> streamingArticleExtractor.extract(html, url));
+                    List<String> mismatched = compare(dom, streaming);
+                    if (!mismatched.isEmpty()) {
+                        mismatched.forEach(field -> Counter.builder("crawler.extraction.mismatch")
+                                .tag("field", field)
+                                .register(meterRegistry)
+                                .increment());
+                        log.warn("⚠️ 추출 결과 불일치 - url={}, 필드={}", url, mismatched);
+                    }
+                } catch (Exception e) {
+                    // 스트리밍 경로 오류가 크롤링을 중단시키지 않도록 격리
+                    Counter.builder("crawler.extraction.mismatch")
+                            .tag("field", "error")
+                            .register(meterRegistry)
+                            .increment();
+                    log.warn("⚠️ 스트리밍 추출 오류 - url={}, 오류={}", url, e.getMessage());
+                }
+                return dom;
+            case "dom":
+            default:
+                return domTimer.record(() -> domArticleExtractor.extract(html, url));
+        }
+    }
+
+    /**
+     * 벤치마크에 사용할 수 있는 설정된 픽스처 디렉토리 (미설정이거나 없으면 null)
+     */
+    public Path benchmarkFixtureDir() {
+        return fixtureDir != null && Files.isDirectory(fixtureDir) ? fixtureDir : null;
+    }
+
+    /**
+     * 설정된 픽스처 디렉토리의 상세 페이지 HTML(*.html)로 두 추출 방식의 시간/할당량 비교
+     *
+     * @param iterations 파일당 반복 횟수 (1 ~ max-benchmark-iterations로 제한)
+     */
+    public Map<String, Object> benchmark(int iterations) throws IOException {
+        Path dir = benchmarkFixtureDir();
+        if (dir == null) {
+            throw new IllegalStateException("crawler.extraction.fixture-dir 디렉토리가 없습니다: " + fixtureDir);
+        }
+        List<Path> files;
+        try (Stream<Path> paths = Files.list(dir)) {
+            files = paths.filter(p -> p.getFileName().toString().endsWith(".html")).sorted().toList();
+        }
+        List<String> pages = new ArrayList<>();
+        for (Path file : files) {
+            pages.add(Files.readString(file, StandardCharsets.UTF_8));
+        }
+
+        // 결과 동일성 확인
+        Map<String, List<String>> mismatches = new LinkedHashMap<>();
+        for (int i = 0; i < pages.size(); i++) {
+            String url = files.get(i).getFileName().toString();
+            List<String> mismatched = compare(domArticleExtractor.extract(pages.get(i), url),
+                    streamingArticleExtractor.extract(pages.get(i), url));
+            if (!mismatched.isEmpty()) {
+                mismatches.put(url, mismatched);
+            }
+        }
+
+        int rounds = Math.min(maxBenchmarkIterations, Math.max(1, iterations));
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("files", pages.size());
+        result.put("iterations", rounds);
+        result.put("dom", measure(pages, rounds, html -> domArticleExtractor.extract(html, "")));
+        result.put("streaming", measure(pages, rounds, html -> streamingArticleExtractor.extract(html, "")));
+        result.put("mismatches", mismatches);
+        result.put("streamingFallbacks", streamingArticleExtractor.fallbackCount());
+        return result;
+    }
+
+    private Map<String, Object> measure(List<String> pages, int rounds, Function<String, ArticleContent> extractor) {
+        // JIT 워밍업
+        pages.forEach(extractor::apply);
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            pages.forEach(extractor::apply);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        long operations = Math.max(1, (long) pages.size() * rounds);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("avgMicros", elapsedNanos / operations / 1000.0);
+        stats.put("avgAllocatedBytes", allocatedBefore < 0 ? -1 : allocated / operations);
+        return stats;
+    }
+
+    private long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemorySupported()) {
+            return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private List<String> compare(ArticleContent expected, ArticleContent actual) {
+        List<String> mismatched = new ArrayList<>();
+        if (!Objects.equals(expected.getContent(), actual.getContent())) {
+            mismatched.add("content");
+        }
+        if (!Objects.equals(expected.getReporter(), actual.getReporter())) {
+            mismatched.add("reporter");
+        }
+        if (!Objects.equals(expected.getDate(), actual.getDate())) {
+            mismatched.add("date");
+        }
+        if (!Objects.equals(expected.getImageUrl(), actual.getImageUrl())) {
+            mismatched.add("imageUrl");
+        }
+        return mismatched;
+    }
+}
@@ -1,16 +1,16 @@
 package com.newnormallist.crawlerservice.service;
 
+import com.newnormallist.crawlerservice.client.ArticleDetailFetcher;
+import com.newnormallist.crawlerservice.config.CrawlerFetchProperties;
+import com.newnormallist.crawlerservice.dto.ArticleContent;
 import com.newnormallist.crawlerservice.dto.NewsDetail;
 import com.newnormallist.crawlerservice.util.NaverNewsCrawler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -41,13 +41,13 @@ public class DeploymentOptimizedCrawlerService {
     private final FileServerService fileServerService;
     private final PythonDeduplicationIntegrationService pythonDeduplicationIntegrationService;
     private final FileServerDatabaseService fileServerDatabaseService;
+    private final ArticleDetailFetcher articleDetailFetcher;
+    private final CrawlerFetchProperties fetchProperties;
+    private final ArticleExtractionService articleExtractionService;
 
     // 기본 카테고리용 고정값 (코드에서 각 카테고리별 개수는 하드코딩됨)
     private final int targetCount = 100;
 
-    // 요청 간격 (밀리초) - 서버 부하 방지
-    private final int requestDelay = 1500;
-    
     // 크롤링 세션 타임스탬프 (1단계와 2단계에서 동일한 타임스탬프 사용)
     private String sessionTimestamp;
 
@@ -161,7 +161,8 @@ public class DeploymentOptimizedCrawlerService {
         log.info("{} 카테고리 상세 크롤링 시작: {}개", category, newsList.size());
         
         List<NewsDetail> detailedNews = new ArrayList<>();
-        ExecutorService executor = Executors.newFixedThreadPool(3);
+        // 실제 동시 요청 수는 ArticleDetailFetcher의 적응형 한도가 제어 (풀 크기는 상한)
+        ExecutorService executor = Executors.newFixedThreadPool(fetchProperties.getMaxConcurrency());
         List<Future<NewsDetail>> futures = new ArrayList<>();
 
         for (NewsDetail news : newsList) {
@@ -189,42 +190,7 @@ public class DeploymentOptimizedCrawlerService {
      */
     private NewsDetail crawlSingleNewsDetail(NewsDetail news) {
         try {
-            // 요청 간격 조절
-            Thread.sleep(requestDelay);
-            
-            Document doc = Jsoup.connect(news.getLink())
-                .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                .timeout(10000)
-                .get();
-
-            // 제목은 이미 크롤링할 때 받아온 것을 사용 (원래 로직)
-            
-            // 내용 추출
-            String content = extractContent(doc);
-            
-            // 기자명 추출
-            String reporter = extractReporter(doc);
-            
-            // 날짜 추출
-            String date = extractDate(doc);
-            
-            // 이미지 URL 추출
-            String imageUrl = extractImageUrl(doc);
-
-            return NewsDetail.builder()
-                .link(news.getLink())
-                .title(news.getTitle())  // 원래 로직: 이미 크롤링할 때 받아온 제목 사용
-                .press(news.getPress())
-                .content(content)
-                .reporter(reporter)
-                .date(date != null ? date : news.getDate())
-                .categoryName(news.getCategoryName())
-                .imageUrl(imageUrl)
-                .trusted(1)  // trusted 필드 추가
-                .oidAid(extractOidAidFromUrl(news.getLink()))  // oid_aid 추가
-                .createdAt(LocalDateTime.now())
-                .build();
-
+            return fetchNewsDetail(news);
         } catch (Exception e) {
             log.warn("뉴스 상세 크롤링 실패: {} - {}", news.getLink(), e.getMessage());
             // 실패 시 기본 정보만 반환
@@ -247,213 +213,42 @@ public class DeploymentOptimizedCrawlerService {
 
 
     /**
-     * 내용 추출
+     * 상세 페이지 요청 + 본문 추출 (증분 폴링에서도 사용)
+     *
+     * @throws IOException 상세 페이지 요청 실패
      */
-    private String extractContent(Document doc) {
-        try {
-            // VOD 기사 체크 (스킵 대상)
-            if (doc.select("#contents > div._VOD_PLAYER_WRAP").size() > 0) {
-                log.debug("VOD 기사로 스킵");
-                return null;
-            }
+    NewsDetail fetchNewsDetail(NewsDetail news) throws IOException {
+        // 요청 간격/동시성/회로 차단은 ArticleDetailFetcher에서 적응형으로 조절
+        String html = articleDetailFetcher.fetchHtml(news.getLink());
 
-            // 네이버 뉴스 본문 추출 (정확한 선택자)
-            Element contentElement = doc.selectFirst("#dic_area");
-            if (contentElement != null) {
-                String content = contentElement.text().trim();
-                
-                // 본문이 너무 짧으면 제외
-                if (content.length() < 120) {
-                    log.debug("본문이 너무 짧아서 제외: {}자", content.length());
-                    return null;
-                }
-                
-                return content;
-            }
-            
-            return "내용을 추출할 수 없습니다.";
-            
-        } catch (Exception e) {
-            return "내용 추출 중 오류가 발생했습니다.";
-        }
-    }
-
-    /**
-     * 기자명 추출
-     */
-    private String extractReporter(Document doc) {
-        try {
-            // 우선순위 1: 일반적인 기자 정보 필드
-            Elements reporterElements = doc.select("#ct > div.media_end_head.go_trans > div.media_end_head_info.nv_notrans > div.media_end_head_journalist > a > em");
-            if (!reporterElements.isEmpty()) {
-                List<String> reporterNames = new ArrayList<>();
-                for (Element element : reporterElements) {
-                    String reporterName = element.text().trim();
-                    if (!reporterName.isEmpty()) {
-                        reporterNames.add(cleanReporterName(reporterName));
-                    }
-                }
-                if (!reporterNames.isEmpty()) {
-                    return String.join(", ", reporterNames);
-                }
-            }
-            
-            // 우선순위 2: 여러 기자인 경우의 선택자
-            Elements multiReporterElements = doc.select("#_JOURNALIST_BUTTON > em");
-            if (!multiReporterElements.isEmpty()) {
-                List<String> reporterNames = new ArrayList<>();
-                for (Element element : multiReporterElements) {
-                    String reporterName = element.text().trim();
-                    if (!reporterName.isEmpty()) {
-                        reporterNames.add(cleanReporterName(reporterName));
-                    }
-                }
-                if (!reporterNames.isEmpty()) {
-                    return String.join(", ", reporterNames);
-                }
-            }
-            
-            // 우선순위 3: 대체 선택자에서 기자 정보 추출
-            Elements bylineSpans = doc.select("#contents > div.byline > p > span");
-            if (!bylineSpans.isEmpty()) {
-                List<String> reporterParts = new ArrayList<>();
-                for (Element span : bylineSpans) {
-                    String spanText = span.text().trim();
-                    if (!spanText.isEmpty()) {
-                        // 첫 번째 띄어쓰기 또는 괄호까지의 글자만 추출
-                        int spaceIndex = spanText.indexOf(' ');
-                        int parenthesisIndex = spanText.indexOf('(');
-                        
-                        int endIndex = -1;
-                        if (spaceIndex > 0 && parenthesisIndex > 0) {
-                            endIndex = Math.min(spaceIndex, parenthesisIndex);
-                        } else if (spaceIndex > 0) {
-                            endIndex = spaceIndex;
-                        } else if (parenthesisIndex > 0) {
-                            endIndex = parenthesisIndex;
-                        }
-                        
-                        if (endIndex > 0) {
-                            reporterParts.add(cleanReporterName(spanText.substring(0, endIndex)));
-                        } else {
-                            reporterParts.add(cleanReporterName(spanText));
-                        }
-                    }
-                }
-                if (!reporterParts.isEmpty()) {
-                    return String.join(", ", reporterParts);
-                }
-            }
-            
-            return "";
-            
-        } catch (Exception e) {
-            return "";
-        }
-    }
-
-    /**
-     * 날짜 추출
-     */
-    private String extractDate(Document doc) {
-        try {
-            // 네이버 뉴스 날짜 정보 추출 (정확한 선택자)
-            Element dateElement = doc.selectFirst("span.media_end_head_info_datestamp_time._ARTICLE_DATE_TIME");
-            if (dateElement != null) {
-                String date = dateElement.attr("data-date-time");
-                if (!date.isEmpty()) {
-                    return date;
-                }
-            }
-            
-            return LocalDateTime.now().toString();
-            
-        } catch (Exception e) {
-            return LocalDateTime.now().toString();
-        }
-    }
-
-    /**
-     * 이미지 URL 추출
-     */
-    private String extractImageUrl(Document doc) {
-        try {
-            // 우선순위 1: 메인 이미지
-            Element imageElement = doc.selectFirst("#img1");
-            if (imageElement != null) {
-                String imageUrl = imageElement.attr("src");
-                if (!imageUrl.isEmpty()) {
-                    return imageUrl;
-                }
-            }
-            
-            // 우선순위 2: 대체 이미지 선택자들
-            Element altImageElement = doc.selectFirst("div.end_body_wrp img");
-            if (altImageElement != null) {
-                String imageUrl = altImageElement.attr("src");
-                if (!imageUrl.isEmpty()) {
-                    return imageUrl;
-                }
-            }
-            
-            // 우선순위 3: og:image 메타 태그
-            Element ogImageElement = doc.selectFirst("meta[property=og:image]");
-            if (ogImageElement != null) {
-                String imageUrl = ogImageElement.attr("content");
-                if (!imageUrl.isEmpty()) {
-                    return imageUrl;
-                }
-            }
-            
-            // 우선순위 4: twitter:image 메타 태그
-            Element twitterImageElement = doc.selectFirst("meta[name=twitter:image]");
-            if (twitterImageElement != null) {
-                String imageUrl = twitterImageElement.attr("content");
-                if (!imageUrl.isEmpty()) {
-                    return imageUrl;
-                }
-            }
-            
-            return "";
-            
-        } catch (Exception e) {
-            return "";
-        }
-    }
-
-    /**
-     * 기자 이름에서 "기자" 텍스트를 안전하게 제거
-     */
-    private String cleanReporterName(String reporterName) {
-        if (reporterName == null || reporterName.trim().isEmpty()) {
-            return "";
-        }
-        
-        String cleaned = reporterName.trim();
+        // 제목은 이미 크롤링할 때 받아온 것을 사용 (원래 로직)
         
-        // "기자"로 끝나는 경우만 제거 (이름에 "기자"가 포함된 경우는 보존)
-        if (cleaned.endsWith(" 기자")) {
-            cleaned = cleaned.substring(0, cleaned.length() - 3).trim();
-        } else if (cleaned.endsWith("기자")) {
-            cleaned = cleaned.substring(0, cleaned.length() - 2).trim();
-        }
-        
-        // 다른 직책들도 제거
-        String[] titles = {" 특파원", "특파원", " 객원기자", "객원기자", " 통신원", "통신원"};
-        for (String title : titles) {
-            if (cleaned.endsWith(title)) {
-                cleaned = cleaned.substring(0, cleaned.length() - title.length()).trim();
-                break;
-            }
-        }
-        
-        return cleaned;
+        // 내용/기자명/날짜/이미지 추출 (crawler.extraction.mode에 따라 DOM 또는 스트리밍)
+        ArticleContent article = articleExtractionService.extract(html, news.getLink());
+        String content = article.getContent();
+        String reporter = article.getReporter();
+        String date = article.getDate() != null ? article.getDate() : LocalDateTime.now().toString();
+        String imageUrl = article.getImageUrl();
+
+        return NewsDetail.builder()
+            .link(news.getLink())
+            .title(news.getTitle())  // 원래 로직: 이미 크롤링할 때 받아온 제목 사용
+            .press(news.getPress())
+            .content(content)
+            .reporter(reporter)
+            .date(date != null ? date : news.getDate())
+            .categoryName(news.getCategoryName())
+            .imageUrl(imageUrl)
+            .trusted(1)  // trusted 필드 추가
+            .oidAid(extractOidAidFromUrl(news.getLink()))  // oid_aid 추가
+            .createdAt(LocalDateTime.now())
+            .build();
     }
 
     /**
      * URL에서 oid_aid 추출
      */
-    private String extractOidAidFromUrl(String url) {
+    String extractOidAidFromUrl(String url) {
         try {
             // 새로운 URL 패턴: https://n.news.naver.com/mnews/article/{oid}/{aid}
             if (url.contains("/mnews/article/")) {
@@ -3,9 +3,7 @@ package com.newnormallist.crawlerservice.service;
 import com.newnormallist.crawlerservice.dto.NewsDetail;
 import com.newnormallist.crawlerservice.dto.RelatedNewsDetail;
 import com.newnormallist.crawlerservice.entity.News;
-import com.newnormallist.crawlerservice.entity.RelatedNews;
 import com.newnormallist.crawlerservice.repository.NewsRepository;
-import com.newnormallist.crawlerservice.repository.RelatedNewsRepository;
 import com.newnormallist.crawlerservice.enums.DedupState;
 import com.newnormallist.crawlerservice.enums.Category;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +15,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -31,7 +31,7 @@ import java.util.List;
  * 기능:
  * - CSV 파싱: 파일서버의 CSV 데이터를 JPA 엔티티로 변환
  * - 뉴스 저장: 중복제거된 뉴스를 news 테이블에 저장
- * - 연관뉴스 저장: 유사도 기반 연관뉴스를 related_news 테이블에 저장
+ * - 연관뉴스 저장: 유사도 기반 연관뉴스를 related_news 테이블에 멱등 병합 (RelatedNewsMergeService)
  * - 배치 처리: 대량 데이터를 효율적으로 일괄 저장
  * - 통계 제공: 저장된 데이터의 현황 요약
  */
@@ -41,7 +41,7 @@ import java.util.List;
 public class FileServerDatabaseService {
 
     private final NewsRepository newsRepository;
-    private final RelatedNewsRepository relatedNewsRepository;
+    private final RelatedNewsMergeService relatedNewsMergeService;
     private final FileServerService fileServerService;
 
     /**
@@ -127,6 +127,35 @@ public class FileServerDatabaseService {
         }
     }
     
+    /**
+     * 증분 폴링으로 수집한 뉴스 저장 (이미 저장된 oid_aid는 한 번의 조회로 제외)
+     *
+     * @return 저장된 뉴스 수
+     */
+    @Transactional
+    public int saveIncrementalNews(String category, List<NewsDetail> newsDetailList) {
+        if (newsDetailList.isEmpty()) {
+            return 0;
+        }
+        
+        Set<String> existing = new HashSet<>(newsRepository.findExistingOidAids(
+                newsDetailList.stream().map(NewsDetail::getOidAid).toList()));
+        
+        List<News> newsEntities = new ArrayList<>();
+        for (NewsDetail newsDetail : newsDetailList) {
+            if (existing.add(newsDetail.getOidAid())) {
+                newsEntities.add(convertToNewsEntity(newsDetail));
+            }
+        }
+        
+        if (!newsEntities.isEmpty()) {
+            newsRepository.saveAll(newsEntities);
+        }
+        log.info("📁 {} 카테고리 증분 뉴스 DB 저장 완료: {}개 저장, {}개 건너뜀",
+                category, newsEntities.size(), newsDetailList.size() - newsEntities.size());
+        return newsEntities.size();
+    }
+    
     /**
      * 연관뉴스를 파일에서 읽어서 DB에 저장
      */
@@ -142,19 +171,8 @@ public class FileServerDatabaseService {
                 return;
             }
             
-            List<RelatedNews> relatedEntities = new ArrayList<>();
-            
-            for (RelatedNewsDetail relatedDetail : relatedNewsDetailList) {
-                if (relatedDetail != null) {
-                    RelatedNews relatedNews = convertToRelatedNewsEntity(relatedDetail);
-                    relatedEntities.add(relatedNews);
-                }
-            }
-            
-            if (!relatedEntities.isEmpty()) {
-                relatedNewsRepository.saveAll(relatedEntities);
-                log.info("📁 {} 카테고리 연관뉴스 DB 저장 완료: {}개", category, relatedEntities.size());
-            }
+            // 쌍 정규화 후 (rep_oid_aid, related_oid_aid) 키 기준 배치 upsert
+            relatedNewsMergeService.merge(category, relatedNewsDetailList);
             
         } catch (Exception e) {
             log.error("📁 {} 카테고리 연관뉴스 DB 저장 실패: {}", category, e.getMessage());
@@ -164,19 +182,6 @@ public class FileServerDatabaseService {
     
 
     
-    /**
-     * RelatedNewsDetail을 RelatedNews 엔티티로 변환
-     */
-    private RelatedNews convertToRelatedNewsEntity(RelatedNewsDetail relatedDetail) {
-        return RelatedNews.builder()
-            .repOidAid(relatedDetail.getRepOidAid())
-            .relatedOidAid(relatedDetail.getRelatedOidAid())
-            .similarity(relatedDetail.getSimilarity())
-            .createdAt(relatedDetail.getCreatedAt() != null ? relatedDetail.getCreatedAt() : LocalDateTime.now())
-            .updatedAt(null) // 명시적으로 null 설정
-            .build();
-    }
-    
     /**
      * NewsDetail을 News Entity로 변환
      */
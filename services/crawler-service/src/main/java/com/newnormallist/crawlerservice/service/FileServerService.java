@@ -47,18 +47,12 @@ import java.util.Map;
 public class FileServerService {
 
     private final ObjectMapper objectMapper;
-    // HTTP 클라이언트 (UTF-8 인코딩 설정)
+    // HTTP 클라이언트 (공용 커넥션 풀, UTF-8 인코딩 설정 - CrawlerHttpClientConfig)
     private final RestTemplate restTemplate;
     
-    public FileServerService(ObjectMapper objectMapper) {
+    public FileServerService(ObjectMapper objectMapper, RestTemplate crawlerRestTemplate) {
         this.objectMapper = objectMapper;
-        this.restTemplate = new RestTemplate();
-        // UTF-8 인코딩을 위한 메시지 컨버터 설정
-        this.restTemplate.getMessageConverters().forEach(converter -> {
-            if (converter instanceof org.springframework.http.converter.StringHttpMessageConverter) {
-                ((org.springframework.http.converter.StringHttpMessageConverter) converter).setDefaultCharset(java.nio.charset.StandardCharsets.UTF_8);
-            }
-        });
+        this.restTemplate = crawlerRestTemplate;
     }
     
     @Value("${fileserver.base-path:/tmp/news-data}")
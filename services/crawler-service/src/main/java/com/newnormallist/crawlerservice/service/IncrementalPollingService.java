@@ -0,0 +1,396 @@
+package com.newnormallist.crawlerservice.service;
+
+import com.newnormallist.crawlerservice.client.ArticleDetailFetcher;
+import com.newnormallist.crawlerservice.config.CrawlerPollingProperties;
+import com.newnormallist.crawlerservice.dto.NewsDetail;
+import com.newnormallist.crawlerservice.repository.NewsRepository;
+import com.newnormallist.crawlerservice.util.ArticleExtractor;
+import com.newnormallist.crawlerservice.util.NaverNewsCrawler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 증분 폴링 서비스 (속보 수집)
+ *
+ * 역할:
+ * - 정기 배치 사이에 카테고리별 섹션 첫 페이지만 확인해 새 기사(델타)만 상세 크롤링 후 DB 저장
+ * - Chrome(Selenium) 없이 공용 HTTP 클라이언트로 서버 렌더링된 첫 페이지만 요청
+ *
+ * 기능:
+ * - 카테고리별 하이워터마크: 가장 최근 수집 기사(oid_aid, 입력 시각) + 최근 수집 oid_aid 집합
+ * - 중복 제거: 워터마크 → DB oid_aid 일괄 조회 → 정규화 제목 비교 순으로 제외
+ * - 요청 예산: 목록(섹션 첫 페이지)과 상세 요청을 따로 제한 (폴링 1회당 / 시간당)
+ *   → 상세 요청이 많은 카테고리가 다른 카테고리의 목록 확인을 막지 않음
+ * - 공정성: 폴링마다 시작 카테고리를 돌아가며 바꾸고, 상세 예산은 남은 카테고리에 균등 배분
+ *   (앞 카테고리가 덜 쓰면 뒤 카테고리 몫이 늘어남). 몫을 넘는 델타는 다음 폴링으로 미룸
+ *
+ * 전체 배치 크롤링(CrawlingScheduler)은 그대로 유지되며, 중복제거/연관뉴스를 포함한 정합성 보정 역할을 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IncrementalPollingService {
+
+    private static final List<String> ALL_CATEGORIES = List.of(
+            "POLITICS", "ECONOMY", "SOCIETY", "LIFE", "INTERNATIONAL", "IT_SCIENCE", "VEHICLE", "TRAVEL_FOOD", "ART");
+
+    private static final long HOUR_MS = 60 * 60 * 1000L;
+
+    private final CrawlerPollingProperties properties;
+    private final NaverNewsCrawler naverNewsCrawler;
+    private final ArticleDetailFetcher articleDetailFetcher;
+    private final DeploymentOptimizedCrawlerService deploymentOptimizedCrawlerService;
+    private final FileServerDatabaseService fileServerDatabaseService;
+    private final NewsRepository newsRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CategoryWatermark> watermarks = new ConcurrentHashMap<>();
+    private final Deque<Long> hourlyListRequests = new ArrayDeque<>();
+    private final Deque<Long> hourlyDetailRequests = new ArrayDeque<>();
+    private final ReentrantLock cycleLock = new ReentrantLock();
+
+    // 다음 폴링의 시작 카테고리 위치 (cycleLock 안에서만 변경)
+    private int nextStart;
+
+    /**
+     * 증분 폴링 1회 실행 (이미 실행 중이면 건너뜀)
+     */
+    public Map<String, Object> pollOnce() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (!cycleLock.tryLock()) {
+            result.put("status", "skipped");
+            result.put("message", "이전 폴링이 아직 실행 중입니다.");
+            return result;
+        }
+        try {
+            CycleBudget budget = new CycleBudget(properties.getMaxListRequestsPerCycle(),
+                    properties.getMaxDetailRequestsPerCycle());
+            Map<String, Integer> ingested = new LinkedHashMap<>();
+
+            List<String> categories = rotatedCategories();
+            for (int i = 0; i < categories.size(); i++) {
+                if (budget.list.exhausted || budget.detail.exhausted || budget.detail.remaining() == 0) {
+                    break;
+                }
+                // 남은 상세 예산을 남은 카테고리 수로 나눈 몫 (올림)
+                int remainingCategories = categories.size() - i;
+                int detailShare = (budget.detail.remaining() + remainingCategories - 1) / remainingCategories;
+                ingested.put(categories.get(i), pollCategory(categories.get(i), budget, detailShare));
+            }
+
+            recordExhausted("list", budget.list);
+            recordExhausted("detail", budget.detail);
+            result.put("status", "success");
+            result.put("listRequests", budget.list.used);
+            result.put("detailRequests", budget.detail.used);
+            result.put("listBudgetExhausted", budget.list.exhausted);
+            result.put("detailBudgetExhausted", budget.detail.exhausted);
+            result.put("ingested", ingested);
+            return result;
+        } finally {
+            cycleLock.unlock();
+        }
+    }
+
+    /**
+     * 카테고리별 워터마크 현황 (설정 조회 API용)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> categories = new LinkedHashMap<>();
+        watermarks.forEach((category, watermark) -> categories.put(category, watermark.toMap()));
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", properties.isEnabled());
+        snapshot.put("intervalMs", properties.getIntervalMs());
+        snapshot.put("maxListRequestsPerCycle", properties.getMaxListRequestsPerCycle());
+        snapshot.put("maxListRequestsPerHour", properties.getMaxListRequestsPerHour());
+        snapshot.put("maxDetailRequestsPerCycle", properties.getMaxDetailRequestsPerCycle());
+        snapshot.put("maxDetailRequestsPerHour", properties.getMaxDetailRequestsPerHour());
+        synchronized (hourlyListRequests) {
+            snapshot.put("listRequestsLastHour", hourlyListRequests.size());
+        }
+        synchronized (hourlyDetailRequests) {
+            snapshot.put("detailRequestsLastHour", hourlyDetailRequests.size());
+        }
+        snapshot.put("watermarks", categories);
+        return snapshot;
+    }
+
+    private int pollCategory(String category, CycleBudget budget, int detailShare) {
+        CategoryWatermark watermark = watermarks.computeIfAbsent(category,
+                c -> new CategoryWatermark(properties.getSeenCapacity()));
+
+        // 1. 섹션 첫 페이지 목록 (최신순)
+        List<NewsDetail> candidates = new ArrayList<>();
+        for (String url : naverNewsCrawler.firstPageUrls(category)) {
+            if (!tryConsume(budget.list, hourlyListRequests, properties.getMaxListRequestsPerHour(), "list")) {
+                return 0;
+            }
+            try {
+                candidates.addAll(naverNewsCrawler.parseLatestArticles(articleDetailFetcher.fetchHtml(url), category));
+            } catch (IOException e) {
+                log.warn("⚠️ {} 카테고리 첫 페이지 요청 실패: {} - {}", category, url, e.getMessage());
+            }
+        }
+
+        // 2. 워터마크 기준 델타 계산
+        Map<String, NewsDetail> delta = new LinkedHashMap<>();
+        for (NewsDetail candidate : candidates) {
+            String oidAid = deploymentOptimizedCrawlerService.extractOidAidFromUrl(candidate.getLink());
+            if (!watermark.hasSeen(oidAid)) {
+                candidate.setOidAid(oidAid);
+                delta.putIfAbsent(oidAid, candidate);
+            }
+        }
+        if (delta.isEmpty()) {
+            watermark.markPolled();
+            return 0;
+        }
+
+        // 3. 이미 DB에 있는 기사 제외 (배치 크롤링으로 저장된 기사 포함)
+        for (String existing : newsRepository.findExistingOidAids(delta.keySet())) {
+            watermark.markSeen(existing, null);
+            delta.remove(existing);
+        }
+
+        // 4. 상세 크롤링 (예산 내에서 최신 기사부터)
+        // 저장할 기사는 저장이 끝난 뒤에 워터마크에 기록 (oidAid → 제목 키, 같은 폴링 안의 중복 제목도 제외)
+        List<NewsDetail> ingest = new ArrayList<>();
+        Map<String, String> pendingTitles = new LinkedHashMap<>();
+        int details = 0;
+        for (NewsDetail item : delta.values()) {
+            String titleKey = normalizeTitle(item.getTitle());
+            if (watermark.hasTitle(titleKey) || (!titleKey.isEmpty() && pendingTitles.containsValue(titleKey))) {
+                log.debug("중복 제목 기사 제외: {}", item.getTitle());
+                watermark.markSeen(item.getOidAid(), null);
+                continue;
+            }
+            if (details >= detailShare) {
+                // 이 카테고리 몫 소진 - 남은 델타는 워터마크에 기록하지 않아 다음 폴링에서 수집
+                break;
+            }
+            if (!tryConsume(budget.detail, hourlyDetailRequests, properties.getMaxDetailRequestsPerHour(), "detail")) {
+                break;
+            }
+            details++;
+            NewsDetail detail;
+            try {
+                detail = deploymentOptimizedCrawlerService.fetchNewsDetail(item);
+            } catch (IOException e) {
+                // 워터마크에 기록하지 않아 다음 폴링에서 다시 시도
+                log.warn("⚠️ 증분 상세 크롤링 실패: {} - {}", item.getLink(), e.getMessage());
+                continue;
+            }
+            if (isValidContent(detail.getContent())) {
+                ingest.add(detail);
+                pendingTitles.put(item.getOidAid(), titleKey);
+            } else {
+                watermark.markSeen(item.getOidAid(), titleKey);
+            }
+        }
+
+        // 5. DB 저장 + 워터마크 갱신 (저장 실패 시 기록하지 않아 다음 폴링에서 다시 수집)
+        int saved = 0;
+        if (!ingest.isEmpty()) {
+            try {
+                saved = fileServerDatabaseService.saveIncrementalNews(category, ingest);
+            } catch (DataAccessException e) {
+                log.error("❌ {} 카테고리 증분 뉴스 저장 실패 - 다음 폴링에서 다시 수집: {}", category, e.getMessage());
+                watermark.markPolled();
+                return 0;
+            }
+            pendingTitles.forEach(watermark::markSeen);
+            NewsDetail newest = ingest.get(0);
+            watermark.advance(newest.getOidAid(), newest.getDate(), saved);
+            Counter.builder("crawler.polling.ingested")
+                    .tag("category", category)
+                    .register(meterRegistry)
+                    .increment(saved);
+            log.info("⚡ {} 카테고리 증분 수집: 후보 {}개, 신규 {}개 저장", category, delta.size(), saved);
+        }
+        watermark.markPolled();
+        return saved;
+    }
+
+    private boolean tryConsume(RequestBudget budget, Deque<Long> hourly, int maxPerHour, String type) {
+        if (budget.used >= budget.limit) {
+            budget.exhausted = true;
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (hourly) {
+            while (!hourly.isEmpty() && hourly.peekFirst() <= now - HOUR_MS) {
+                hourly.pollFirst();
+            }
+            if (hourly.size() >= maxPerHour) {
+                budget.exhausted = true;
+                return false;
+            }
+            hourly.addLast(now);
+        }
+        budget.used++;
+        Counter.builder("crawler.polling.requests")
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment();
+        return true;
+    }
+
+    private void recordExhausted(String type, RequestBudget budget) {
+        if (budget.exhausted) {
+            Counter.builder("crawler.polling.budget.exhausted")
+                    .tag("type", type)
+                    .register(meterRegistry)
+                    .increment();
+            log.info("⏱️ 증분 폴링 {} 요청 예산 소진 - 남은 기사는 다음 폴링에서 수집", type);
+        }
+    }
+
+    private List<String> targetCategories() {
+        return properties.getCategories().isEmpty() ? ALL_CATEGORIES : properties.getCategories();
+    }
+
+    /**
+     * 이번 폴링의 카테고리 순서 (시작 위치를 폴링마다 하나씩 옮겨 예산 소진 시 같은 카테고리만 밀리지 않도록)
+     */
+    private List<String> rotatedCategories() {
+        List<String> categories = targetCategories();
+        if (categories.isEmpty()) {
+            return categories;
+        }
+        int start = Math.floorMod(nextStart, categories.size());
+        nextStart = start + 1;
+        List<String> rotated = new ArrayList<>(categories.size());
+        rotated.addAll(categories.subList(start, categories.size()));
+        rotated.addAll(categories.subList(0, start));
+        return rotated;
+    }
+
+    private boolean isValidContent(String content) {
+        // VOD/짧은 본문(null) 및 추출 실패 문구는 저장하지 않음
+        return content != null
+                && !ArticleExtractor.CONTENT_NOT_FOUND.equals(content)
+                && !ArticleExtractor.CONTENT_ERROR.equals(content);
+    }
+
+    /**
+     * 제목 정규화 (말머리/공백/문장부호 제거) - 통신사 동일 기사 재전송 제외용
+     */
+    private String normalizeTitle(String title) {
+        if (title == null) {
+            return "";
+        }
+        return title.replaceAll("\\[[^\\]]*\\]", "")
+                .replaceAll("[\\s\\p{Punct}'‘’“”…·]", "")
+                .toLowerCase();
+    }
+
+    /**
+     * 폴링 1회 요청 예산 (목록/상세 별도)
+     */
+    private static final class CycleBudget {
+        private final RequestBudget list;
+        private final RequestBudget detail;
+
+        private CycleBudget(int listLimit, int detailLimit) {
+            this.list = new RequestBudget(listLimit);
+            this.detail = new RequestBudget(detailLimit);
+        }
+    }
+
+    /**
+     * 요청 종류 하나의 폴링 1회 예산
+     */
+    private static final class RequestBudget {
+        private final int limit;
+        private int used;
+        private boolean exhausted;
+
+        private RequestBudget(int limit) {
+            this.limit = limit;
+        }
+
+        private int remaining() {
+            return Math.max(0, limit - used);
+        }
+    }
+
+    /**
+     * 카테고리 하이워터마크
+     */
+    private static final class CategoryWatermark {
+        private final Set<String> seenOidAids;
+        private final Set<String> recentTitles;
+        private String newestOidAid;
+        private String newestPublishedAt;
+        private LocalDateTime lastPolledAt;
+        private long ingestedTotal;
+
+        private CategoryWatermark(int capacity) {
+            this.seenOidAids = boundedSet(capacity);
+            this.recentTitles = boundedSet(capacity);
+        }
+
+        synchronized boolean hasSeen(String oidAid) {
+            return seenOidAids.contains(oidAid);
+        }
+
+        synchronized boolean hasTitle(String titleKey) {
+            return !titleKey.isEmpty() && recentTitles.contains(titleKey);
+        }
+
+        synchronized void markSeen(String oidAid, String titleKey) {
+            seenOidAids.add(oidAid);
+            if (titleKey != null && !titleKey.isEmpty()) {
+                recentTitles.add(titleKey);
+            }
+        }
+
+        synchronized void advance(String oidAid, String publishedAt, int saved) {
+            newestOidAid = oidAid;
+            newestPublishedAt = publishedAt;
+            ingestedTotal += saved;
+        }
+
+        synchronized void markPolled() {
+            lastPolledAt = LocalDateTime.now();
+        }
+
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("newestOidAid", newestOidAid);
+            map.put("newestPublishedAt", newestPublishedAt);
+            map.put("lastPolledAt", lastPolledAt != null ? lastPolledAt.toString() : null);
+            map.put("seen", seenOidAids.size());
+            map.put("ingestedTotal", ingestedTotal);
+            return map;
+        }
+
+        private static Set<String> boundedSet(int capacity) {
+            int max = Math.max(1, capacity);
+            return Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > max;
+                }
+            });
+        }
+    }
+}
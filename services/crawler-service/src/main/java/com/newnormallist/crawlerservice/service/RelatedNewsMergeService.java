@@ -0,0 +1,222 @@
+package com.newnormallist.crawlerservice.service;
+
+import com.newnormallist.crawlerservice.dto.RelatedNewsDetail;
+import com.newnormallist.crawlerservice.dto.RelatedNewsMergeReport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 연관뉴스 병합 서비스
+ *
+ * 역할:
+ * - 파일서버 연관뉴스 쌍을 related_news 테이블에 멱등적으로 병합
+ * - 기존 중복 행 정리 (일회성 컴팩션)
+ *
+ * 기능:
+ * - 정규화: 공백 제거, 빈 키/자기 자신 쌍 제외, 같은 파일 내 중복 쌍은 최고 유사도로 합침
+ * - 배치 upsert: (rep_oid_aid, related_oid_aid) 키 기준 INSERT ... AS new ON DUPLICATE KEY UPDATE (MySQL 8.0.19+ 행 별칭)
+ * - 보고: upsert 행별 영향 행 수로 신규 저장 / 기존 존재 건수 집계 (1 = 신규, 2 = 유사도 변경, 0 = 변경 없음)
+ *   변경 없는 기존 행이 0으로 오도록 데이터소스에 useAffectedRows=true 필요 (기본값 CLIENT_FOUND_ROWS면 1로 와 신규와 구분 불가)
+ *
+ * 세션 재실행이나 세션이 겹쳐도 같은 쌍은 한 행으로 유지됨
+ */
+@Slf4j
+@Service
+public class RelatedNewsMergeService {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO related_news (rep_oid_aid, related_oid_aid, similarity, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, NULL) AS new " +
+            "ON DUPLICATE KEY UPDATE " +
+            // updated_at을 먼저 평가해야 기존 similarity와 비교 가능
+            "updated_at = IF(similarity <=> new.similarity, updated_at, NOW()), " +
+            "similarity = new.similarity";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Map<String, RelatedNewsMergeReport> lastReports = new ConcurrentHashMap<>();
+
+    public RelatedNewsMergeService(JdbcTemplate jdbcTemplate,
+                                   @Value("${crawler.related-merge.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 카테고리 연관뉴스 쌍 병합 (호출 측 트랜잭션에 참여)
+     */
+    @Transactional
+    public RelatedNewsMergeReport merge(String category, List<RelatedNewsDetail> relatedNewsDetails) {
+        int received = relatedNewsDetails.size();
+        int invalid = 0;
+
+        // 1. 정규화 + 파일 내 중복 제거 (최고 유사도 유지)
+        Map<PairKey, RelatedNewsDetail> pairs = new LinkedHashMap<>();
+        for (RelatedNewsDetail detail : relatedNewsDetails) {
+            PairKey key = detail != null ? PairKey.of(detail.getRepOidAid(), detail.getRelatedOidAid()) : null;
+            if (key == null) {
+                invalid++;
+                continue;
+            }
+            pairs.merge(key, detail, (current, candidate) ->
+                    similarityOf(candidate) > similarityOf(current) ? candidate : current);
+        }
+        int duplicatesInBatch = received - invalid - pairs.size();
+
+        // 2. 배치 단위 upsert, 행별 영향 행 수로 신규/기존 집계
+        int inserted = 0;
+        int alreadyPresent = 0;
+        int unreported = 0;
+        List<PairKey> keys = new ArrayList<>(pairs.keySet());
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            List<PairKey> chunk = keys.subList(from, Math.min(keys.size(), from + batchSize));
+            for (int[] counts : upsert(chunk, pairs)) {
+                for (int count : counts) {
+                    if (count == 1) {
+                        inserted++;
+                    } else if (count == 0 || count == 2) {
+                        alreadyPresent++;
+                    } else {
+                        // SUCCESS_NO_INFO (rewriteBatchedStatements로 여러 행을 한 문장으로 보낸 경우)
+                        unreported++;
+                    }
+                }
+            }
+        }
+        if (unreported > 0) {
+            log.warn("⚠️ {} 카테고리 연관뉴스 {}개는 드라이버가 행별 결과를 주지 않아 신규/기존 구분 불가", category, unreported);
+        }
+
+        RelatedNewsMergeReport report = RelatedNewsMergeReport.builder()
+                .category(category)
+                .received(received)
+                .invalid(invalid)
+                .duplicatesInBatch(duplicatesInBatch)
+                .inserted(inserted)
+                .alreadyPresent(alreadyPresent)
+                .unreported(unreported)
+                .mergedAt(LocalDateTime.now())
+                .build();
+        lastReports.put(category, report);
+
+        log.info("📁 {} 카테고리 연관뉴스 병합 완료: 신규 {}개, 기존 {}개, 파일 내 중복 {}개, 제외 {}개",
+                category, inserted, alreadyPresent, duplicatesInBatch, invalid);
+        return report;
+    }
+
+    /**
+     * 카테고리별 마지막 병합 결과
+     */
+    public Map<String, RelatedNewsMergeReport> getLastReports() {
+        return Collections.unmodifiableMap(lastReports);
+    }
+
+    /**
+     * 기존 중복 행 정리 (일회성)
+     *
+     * - 같은 (rep_oid_aid, related_oid_aid) 쌍이 여러 행이면 최고 유사도, 최초 생성 시각으로 한 행만 남김
+     * - 자기 자신을 가리키는 쌍, 대표/연관 키가 비어 있는 행 삭제
+     * - 중복이 없으면 아무 행도 바꾸지 않으므로 여러 번 실행해도 안전
+     * - 정리 후 ddl_RelatedNews.sql을 실행하면 기본키가 없을 때만 추가되고 이후 upsert가 키 기준으로 동작
+     */
+    @Transactional
+    public Map<String, Object> compactDuplicates() {
+        log.info("📁 연관뉴스 중복 정리 시작");
+
+        List<Object[]> groups = jdbcTemplate.query(
+                "SELECT rep_oid_aid, related_oid_aid, MAX(similarity), MIN(created_at), MAX(updated_at), COUNT(*) " +
+                "FROM related_news WHERE rep_oid_aid IS NOT NULL AND related_oid_aid IS NOT NULL AND rep_oid_aid <> related_oid_aid " +
+                "GROUP BY rep_oid_aid, related_oid_aid HAVING COUNT(*) > 1",
+                (rs, rowNum) -> new Object[]{
+                        rs.getString(1), rs.getString(2), rs.getObject(3), rs.getTimestamp(4), rs.getTimestamp(5), rs.getLong(6)
+                });
+
+        long rowsRemoved = 0;
+        for (int from = 0; from < groups.size(); from += batchSize) {
+            List<Object[]> chunk = groups.subList(from, Math.min(groups.size(), from + batchSize));
+            // 키 없이 중복된 행은 개별 삭제가 불가능하므로 쌍 전체를 지우고 합친 한 행을 다시 넣음
+            jdbcTemplate.batchUpdate(
+                    "DELETE FROM related_news WHERE rep_oid_aid = ? AND related_oid_aid = ?",
+                    chunk, chunk.size(), (ps, group) -> {
+                        ps.setString(1, (String) group[0]);
+                        ps.setString(2, (String) group[1]);
+                    });
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO related_news (rep_oid_aid, related_oid_aid, similarity, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?)",
+                    chunk, chunk.size(), (ps, group) -> {
+                        ps.setString(1, (String) group[0]);
+                        ps.setString(2, (String) group[1]);
+                        ps.setObject(3, group[2]);
+                        ps.setTimestamp(4, (Timestamp) group[3]);
+                        ps.setTimestamp(5, (Timestamp) group[4]);
+                    });
+            for (Object[] group : chunk) {
+                rowsRemoved += (Long) group[5] - 1;
+            }
+        }
+
+        int selfPairsRemoved = jdbcTemplate.update("DELETE FROM related_news WHERE rep_oid_aid = related_oid_aid");
+        int nullKeysRemoved = jdbcTemplate.update(
+                "DELETE FROM related_news WHERE rep_oid_aid IS NULL OR related_oid_aid IS NULL");
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("duplicatePairs", groups.size());
+        result.put("duplicateRowsRemoved", rowsRemoved);
+        result.put("selfPairsRemoved", selfPairsRemoved);
+        result.put("nullKeysRemoved", nullKeysRemoved);
+        log.info("📁 연관뉴스 중복 정리 완료: 중복 쌍 {}개, 삭제된 중복 행 {}개, 자기 참조 {}개, 빈 키 {}개",
+                groups.size(), rowsRemoved, selfPairsRemoved, nullKeysRemoved);
+        return result;
+    }
+
+    private int[][] upsert(List<PairKey> chunk, Map<PairKey, RelatedNewsDetail> pairs) {
+        return jdbcTemplate.batchUpdate(UPSERT_SQL, chunk, chunk.size(), (ps, key) -> {
+            RelatedNewsDetail detail = pairs.get(key);
+            ps.setString(1, key.rep());
+            ps.setString(2, key.related());
+            if (detail.getSimilarity() != null) {
+                ps.setFloat(3, detail.getSimilarity());
+            } else {
+                ps.setNull(3, Types.FLOAT);
+            }
+            LocalDateTime createdAt = detail.getCreatedAt() != null ? detail.getCreatedAt() : LocalDateTime.now();
+            ps.setTimestamp(4, Timestamp.valueOf(createdAt));
+        });
+    }
+
+    private static float similarityOf(RelatedNewsDetail detail) {
+        return detail.getSimilarity() != null ? detail.getSimilarity() : Float.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * 정규화된 (대표, 연관) 쌍 키
+     */
+    private record PairKey(String rep, String related) {
+
+        static PairKey of(String rep, String related) {
+            if (rep == null || related == null) {
+                return null;
+            }
+            String normalizedRep = rep.trim();
+            String normalizedRelated = related.trim();
+            if (normalizedRep.isEmpty() || normalizedRelated.isEmpty() || normalizedRep.equals(normalizedRelated)) {
+                return null;
+            }
+            return new PairKey(normalizedRep, normalizedRelated);
+        }
+    }
+}
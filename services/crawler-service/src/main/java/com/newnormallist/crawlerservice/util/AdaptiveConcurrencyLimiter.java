@@ -0,0 +1,168 @@
+package com.newnormallist.crawlerservice.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD 기반 적응형 동시성 제한기
+ *
+ * 역할:
+ * - 원본 서버의 응답 상태에 따라 동시 요청 한도를 자동 조절
+ * - 정상 응답이 이어지면 한도를 천천히 증가 (additive increase)
+ * - 429/5xx/타임아웃/지연 응답이 오면 한도를 즉시 감소 (multiplicative decrease)
+ *
+ * 사용법:
+ * - acquire()로 슬롯을 얻은 뒤 반드시 onSuccess/onDropped/onIgnored 중 하나로 반환
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long slowResponseMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    // 한도는 소수로 누적해 1/limit 씩 증가시킴 (한 라운드당 +1)
+    private double limit;
+    private int inFlight;
+
+    // 최근 요청 결과 (true = 오류) 원형 버퍼
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int outcomeCount;
+    private int errorCount;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, long slowResponseMs, int errorWindowSize) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.slowResponseMs = slowResponseMs;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.outcomes = new boolean[Math.max(1, errorWindowSize)];
+    }
+
+    /**
+     * 동시성 슬롯 획득 (한도 초과 시 대기)
+     *
+     * @return 제한 시간 내 획득 여부
+     */
+    public boolean acquire(long timeoutMs) throws InterruptedException {
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = permitReleased.awaitNanos(remainingNanos);
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 정상 응답: 느린 응답이면 감소, 아니면 증가
+     */
+    public void onSuccess(long latencyMs) {
+        lock.lock();
+        try {
+            release();
+            recordOutcome(false);
+            if (latencyMs >= slowResponseMs) {
+                decrease();
+            } else if (inFlight + 1 >= (int) limit) {
+                // 한도를 실제로 채워 사용 중일 때만 증가 (유휴 상태에서 한도가 부풀지 않도록)
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 과부하 신호 (429, 5xx, 타임아웃, 연결 실패): 한도 감소
+     */
+    public void onDropped() {
+        lock.lock();
+        try {
+            release();
+            recordOutcome(true);
+            decrease();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 서버 부하와 무관한 결과 (404 등): 한도 유지
+     */
+    public void onIgnored() {
+        lock.lock();
+        try {
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최근 요청 기준 오류율 (0.0 ~ 1.0)
+     */
+    public double getErrorRate() {
+        lock.lock();
+        try {
+            return outcomeCount == 0 ? 0.0 : (double) errorCount / outcomeCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        inFlight = Math.max(0, inFlight - 1);
+        permitReleased.signalAll();
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, Math.floor(limit * backoffRatio));
+    }
+
+    private void recordOutcome(boolean error) {
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[outcomeIndex]) {
+                errorCount--;
+            }
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeIndex] = error;
+        if (error) {
+            errorCount++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+    }
+}
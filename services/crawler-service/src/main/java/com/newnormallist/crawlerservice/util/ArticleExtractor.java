@@ -0,0 +1,77 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.newnormallist.crawlerservice.dto.ArticleContent;
+
+/**
+ * 기사 상세 페이지 추출기
+ *
+ * 구현체:
+ * - DomArticleExtractor: Jsoup Document 전체를 만든 뒤 선택자로 추출 (기존 방식)
+ * - StreamingArticleExtractor: HTML을 한 번만 훑으며 필요한 영역만 수집
+ *
+ * 두 구현체는 같은 HTML에 대해 같은 결과를 반환해야 함
+ */
+public interface ArticleExtractor {
+
+    /** 본문 최소 길이 (미만이면 제외) */
+    int MIN_CONTENT_LENGTH = 120;
+
+    /** 본문 영역이 없을 때 반환하는 문구 */
+    String CONTENT_NOT_FOUND = "내용을 추출할 수 없습니다.";
+
+    /** 본문 추출 중 오류 시 반환하는 문구 */
+    String CONTENT_ERROR = "내용 추출 중 오류가 발생했습니다.";
+
+    ArticleContent extract(String html, String url);
+
+    /**
+     * 기자 이름에서 "기자" 텍스트를 안전하게 제거
+     */
+    static String cleanReporterName(String reporterName) {
+        if (reporterName == null || reporterName.trim().isEmpty()) {
+            return "";
+        }
+        
+        String cleaned = reporterName.trim();
+        
+        // "기자"로 끝나는 경우만 제거 (이름에 "기자"가 포함된 경우는 보존)
+        if (cleaned.endsWith(" 기자")) {
+            cleaned = cleaned.substring(0, cleaned.length() - 3).trim();
+        } else if (cleaned.endsWith("기자")) {
+            cleaned = cleaned.substring(0, cleaned.length() - 2).trim();
+        }
+        
+        // 다른 직책들도 제거
+        String[] titles = {" 특파원", "특파원", " 객원기자", "객원기자", " 통신원", "통신원"};
+        for (String title : titles) {
+            if (cleaned.endsWith(title)) {
+                cleaned = cleaned.substring(0, cleaned.length() - title.length()).trim();
+                break;
+            }
+        }
+        
+        return cleaned;
+    }
+
+    /**
+     * 바이라인 span 텍스트에서 첫 번째 띄어쓰기 또는 괄호까지의 글자만 추출
+     */
+    static String bylineReporterName(String spanText) {
+        int spaceIndex = spanText.indexOf(' ');
+        int parenthesisIndex = spanText.indexOf('(');
+        
+        int endIndex = -1;
+        if (spaceIndex > 0 && parenthesisIndex > 0) {
+            endIndex = Math.min(spaceIndex, parenthesisIndex);
+        } else if (spaceIndex > 0) {
+            endIndex = spaceIndex;
+        } else if (parenthesisIndex > 0) {
+            endIndex = parenthesisIndex;
+        }
+        
+        if (endIndex > 0) {
+            return cleanReporterName(spanText.substring(0, endIndex));
+        }
+        return cleanReporterName(spanText);
+    }
+}
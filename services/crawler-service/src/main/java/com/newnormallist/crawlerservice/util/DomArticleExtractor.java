@@ -0,0 +1,192 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.newnormallist.crawlerservice.dto.ArticleContent;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DOM 기반 기사 추출기 (기존 방식)
+ *
+ * - 페이지 전체를 Jsoup Document로 파싱한 뒤 본문/기자/날짜/이미지 선택자를 각각 실행
+ * - 스트리밍 추출기의 결과 검증 기준으로도 사용
+ */
+@Slf4j
+@Component
+public class DomArticleExtractor implements ArticleExtractor {
+
+    @Override
+    public ArticleContent extract(String html, String url) {
+        Document doc = Jsoup.parse(html, url);
+        return ArticleContent.builder()
+                .content(extractContent(doc))
+                .reporter(extractReporter(doc))
+                .date(extractDate(doc))
+                .imageUrl(extractImageUrl(doc))
+                .build();
+    }
+
+    /**
+     * 내용 추출
+     */
+    private String extractContent(Document doc) {
+        try {
+            // VOD 기사 체크 (스킵 대상)
+            if (doc.select("#contents > div._VOD_PLAYER_WRAP").size() > 0) {
+                log.debug("VOD 기사로 스킵");
+                return null;
+            }
+
+            // 네이버 뉴스 본문 추출 (정확한 선택자)
+            Element contentElement = doc.selectFirst("#dic_area");
+            if (contentElement != null) {
+                String content = contentElement.text().trim();
+                
+                // 본문이 너무 짧으면 제외
+                if (content.length() < MIN_CONTENT_LENGTH) {
+                    log.debug("본문이 너무 짧아서 제외: {}자", content.length());
+                    return null;
+                }
+                
+                return content;
+            }
+            
+            return CONTENT_NOT_FOUND;
+            
+        } catch (Exception e) {
+            return CONTENT_ERROR;
+        }
+    }
+
+    /**
+     * 기자명 추출
+     */
+    private String extractReporter(Document doc) {
+        try {
+            // 우선순위 1: 일반적인 기자 정보 필드
+            Elements reporterElements = doc.select("#ct > div.media_end_head.go_trans > div.media_end_head_info.nv_notrans > div.media_end_head_journalist > a > em");
+            if (!reporterElements.isEmpty()) {
+                List<String> reporterNames = new ArrayList<>();
+                for (Element element : reporterElements) {
+                    String reporterName = element.text().trim();
+                    if (!reporterName.isEmpty()) {
+                        reporterNames.add(ArticleExtractor.cleanReporterName(reporterName));
+                    }
+                }
+                if (!reporterNames.isEmpty()) {
+                    return String.join(", ", reporterNames);
+                }
+            }
+            
+            // 우선순위 2: 여러 기자인 경우의 선택자
+            Elements multiReporterElements = doc.select("#_JOURNALIST_BUTTON > em");
+            if (!multiReporterElements.isEmpty()) {
+                List<String> reporterNames = new ArrayList<>();
+                for (Element element : multiReporterElements) {
+                    String reporterName = element.text().trim();
+                    if (!reporterName.isEmpty()) {
+                        reporterNames.add(ArticleExtractor.cleanReporterName(reporterName));
+                    }
+                }
+                if (!reporterNames.isEmpty()) {
+                    return String.join(", ", reporterNames);
+                }
+            }
+            
+            // 우선순위 3: 대체 선택자에서 기자 정보 추출
+            Elements bylineSpans = doc.select("#contents > div.byline > p > span");
+            if (!bylineSpans.isEmpty()) {
+                List<String> reporterParts = new ArrayList<>();
+                for (Element span : bylineSpans) {
+                    String spanText = span.text().trim();
+                    if (!spanText.isEmpty()) {
+                        reporterParts.add(ArticleExtractor.bylineReporterName(spanText));
+                    }
+                }
+                if (!reporterParts.isEmpty()) {
+                    return String.join(", ", reporterParts);
+                }
+            }
+            
+            return "";
+            
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    /**
+     * 날짜 추출 (찾지 못하면 null)
+     */
+    private String extractDate(Document doc) {
+        try {
+            // 네이버 뉴스 날짜 정보 추출 (정확한 선택자)
+            Element dateElement = doc.selectFirst("span.media_end_head_info_datestamp_time._ARTICLE_DATE_TIME");
+            if (dateElement != null) {
+                String date = dateElement.attr("data-date-time");
+                if (!date.isEmpty()) {
+                    return date;
+                }
+            }
+            
+            return null;
+            
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 이미지 URL 추출
+     */
+    private String extractImageUrl(Document doc) {
+        try {
+            // 우선순위 1: 메인 이미지
+            Element imageElement = doc.selectFirst("#img1");
+            if (imageElement != null) {
+                String imageUrl = imageElement.attr("src");
+                if (!imageUrl.isEmpty()) {
+                    return imageUrl;
+                }
+            }
+            
+            // 우선순위 2: 대체 이미지 선택자들
+            Element altImageElement = doc.selectFirst("div.end_body_wrp img");
+            if (altImageElement != null) {
+                String imageUrl = altImageElement.attr("src");
+                if (!imageUrl.isEmpty()) {
+                    return imageUrl;
+                }
+            }
+            
+            // 우선순위 3: og:image 메타 태그
+            Element ogImageElement = doc.selectFirst("meta[property=og:image]");
+            if (ogImageElement != null) {
+                String imageUrl = ogImageElement.attr("content");
+                if (!imageUrl.isEmpty()) {
+                    return imageUrl;
+                }
+            }
+            
+            // 우선순위 4: twitter:image 메타 태그
+            Element twitterImageElement = doc.selectFirst("meta[name=twitter:image]");
+            if (twitterImageElement != null) {
+                String imageUrl = twitterImageElement.attr("content");
+                if (!imageUrl.isEmpty()) {
+                    return imageUrl;
+                }
+            }
+            
+            return "";
+            
+        } catch (Exception e) {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.newnormallist.crawlerservice.util;
+
+/**
+ * 호스트 단위 회로 차단기
+ *
+ * 상태 전이:
+ * - CLOSED: 정상. 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN: 차단. 개방 시간이 지나면 HALF_OPEN으로 전환하며 프로브 요청 1건만 허용
+ * - HALF_OPEN: 프로브 성공 시 CLOSED, 실패 시 개방 시간을 늘려 다시 OPEN
+ */
+public class HostCircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final String host;
+    private final int failureThreshold;
+    private final long baseOpenMs;
+    private final long maxOpenMs;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openMs;
+    private long openUntil;
+    private boolean probeInFlight;
+
+    public HostCircuitBreaker(String host, int failureThreshold, long baseOpenMs, long maxOpenMs) {
+        this.host = host;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.baseOpenMs = baseOpenMs;
+        this.maxOpenMs = Math.max(baseOpenMs, maxOpenMs);
+        this.openMs = baseOpenMs;
+    }
+
+    /**
+     * 요청 허용 여부 확인
+     *
+     * @return 0이면 즉시 요청 가능, 양수면 다시 확인하기까지 기다릴 시간 (밀리초)
+     */
+    public synchronized long tryAcquire(long now) {
+        switch (state) {
+            case CLOSED:
+                return 0;
+            case OPEN:
+                if (now < openUntil) {
+                    return openUntil - now;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return 0;
+            case HALF_OPEN:
+            default:
+                if (!probeInFlight) {
+                    probeInFlight = true;
+                    return 0;
+                }
+                // 프로브 결과를 기다리는 동안 다른 요청은 짧게 대기
+                return Math.min(1000, baseOpenMs);
+        }
+    }
+
+    /**
+     * 응답 수신 (서버가 정상적으로 응답함)
+     */
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        openMs = baseOpenMs;
+        state = State.CLOSED;
+    }
+
+    /**
+     * 과부하/연결 실패 기록
+     */
+    public synchronized void recordFailure(long now) {
+        if (state == State.HALF_OPEN) {
+            // 프로브 실패: 개방 시간을 두 배로 늘려 재차단
+            openMs = Math.min(maxOpenMs, openMs * 2);
+            open(now, openMs);
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            open(now, openMs);
+        }
+    }
+
+    /**
+     * 서버가 Retry-After 등으로 명시한 시간 동안 차단
+     */
+    public synchronized void pauseUntil(long now, long pauseMs) {
+        long until = now + Math.min(pauseMs, maxOpenMs);
+        if (state != State.OPEN || until > openUntil) {
+            state = State.OPEN;
+            openUntil = until;
+            probeInFlight = false;
+        }
+    }
+
+    /**
+     * 요청을 보내지 못한 경우 프로브 권한 반환
+     */
+    public synchronized void releaseProbe() {
+        probeInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    private void open(long now, long durationMs) {
+        state = State.OPEN;
+        openUntil = now + durationMs;
+        probeInFlight = false;
+        consecutiveFailures = 0;
+    }
+}
@@ -32,6 +32,7 @@ import java.util.concurrent.*;
  * - 뉴스 상세 크롤링: 개별 뉴스의 본문, 이미지, 메타데이터 추출
  * - 더보기 버튼 자동 클릭: 목표 개수(100개)까지 뉴스 수집
  * - 언론사 필터링: 신뢰할 수 있는 언론사만 선별
+ * - 첫 페이지 파싱: 증분 폴링용으로 브라우저 없이 받은 섹션 첫 페이지 HTML에서 기사 목록 추출
  * - 오류 처리: 네트워크 오류, 페이지 로딩 실패 등 예외 상황 대응
  */
 @Slf4j
@@ -356,6 +357,78 @@ public class NaverNewsCrawler {
         return newsList;
     }
 
+    /**
+     * 카테고리별 섹션 첫 페이지 URL (증분 폴링용, 더보기 없이 서버 렌더링된 최신 기사만 사용)
+     */
+    public List<String> firstPageUrls(String categoryName) {
+        for (Map.Entry<Integer, String> category : CATEGORIES.entrySet()) {
+            if (category.getValue().equals(categoryName)) {
+                return List.of("https://news.naver.com/section/" + category.getKey());
+            }
+        }
+        CategoryCrawlConfig config = getCategoryCrawlConfig(categoryName);
+        if (config == null) {
+            return List.of();
+        }
+        return config.getUrls().stream().map(UrlConfig::getUrl).toList();
+    }
+
+    /**
+     * 섹션 첫 페이지 HTML에서 기사 목록 추출 (최신순, 목록 크롤링과 같은 필터 적용)
+     */
+    public List<NewsDetail> parseLatestArticles(String html, String categoryName) {
+        Document doc = Jsoup.parse(html, "https://news.naver.com/");
+        Elements articles = doc.select("#newsct div.section_latest_article ul li");
+        if (articles.isEmpty()) {
+            articles = doc.select(".sa_item");
+        }
+
+        Set<String> collectedLinks = new HashSet<>();
+        List<NewsDetail> newsList = new ArrayList<>();
+        for (Element article : articles) {
+            Element linkElement = article.selectFirst("a");
+            if (linkElement == null) continue;
+
+            String link = linkElement.attr("abs:href");
+            if (link.isEmpty() || !collectedLinks.add(link)) continue;
+
+            Element titleElement = article.selectFirst("strong");
+            if (titleElement == null) continue;
+
+            String title = titleElement.text().trim();
+            if (title.isEmpty() || containsFilteredKeywords(title)) continue;
+
+            String press = pressOf(article);
+            if (!ALLOWED_PRESSES.contains(press)) continue;
+
+            newsList.add(NewsDetail.builder()
+                    .link(link)
+                    .title(title)
+                    .press(press)
+                    .categoryName(categoryName)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return newsList;
+    }
+
+    /**
+     * 다양한 언론사 선택자 시도
+     */
+    private String pressOf(Element article) {
+        Element pressElement = article.selectFirst("span.press");
+        if (pressElement == null) {
+            pressElement = article.selectFirst(".press");
+        }
+        if (pressElement == null) {
+            pressElement = article.selectFirst("em");
+        }
+        if (pressElement == null) {
+            pressElement = article.selectFirst(".sa_text_press");
+        }
+        return pressElement != null ? pressElement.text().trim() : "알 수 없음";
+    }
+
     /**
      * 카테고리별 크롤링 설정 반환
      */
@@ -0,0 +1,73 @@
+package com.newnormallist.crawlerservice.util;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.regex.Pattern;
+
+/**
+ * news 테이블 파생 컬럼 계산 규칙 (snippet, published_at_datetime)
+ *
+ * 역할:
+ * - 저장/수정 시 entity.News가 news-service(news.util.NewsDerivedColumns)와 같은 규칙으로 파생 컬럼을 채우도록 한 곳에 모음
+ * - ddl_News.sql 백필 UPDATE와 결과가 같아야 함 (규칙을 바꾸면 백필 SQL도 함께 바꿀 것)
+ *
+ * snippet 규칙 (MySQL TRIM(REGEXP_REPLACE(content, '[[:space:]]+', ' ')), CHAR_LENGTH, LEFT 와 같게):
+ * - 유니코드 공백 연속을 공백 하나로 바꾸고 앞뒤 공백 제거
+ * - 문자(코드 포인트) 기준 SNIPPET_LENGTH자를 넘으면 잘라서 "..." 추가
+ */
+public final class NewsDerivedColumns {
+
+    public static final int SNIPPET_LENGTH = 150;
+    public static final String SNIPPET_ELLIPSIS = "...";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+", Pattern.UNICODE_CHARACTER_CLASS);
+    private static final DateTimeFormatter PUBLISHED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private NewsDerivedColumns() {
+    }
+
+    /**
+     * 본문 앞부분. content가 null이면 null
+     */
+    public static String toSnippet(String content) {
+        if (content == null) {
+            return null;
+        }
+        String normalized = trimSpaces(WHITESPACE.matcher(content).replaceAll(" "));
+        if (normalized.codePointCount(0, normalized.length()) <= SNIPPET_LENGTH) {
+            return normalized;
+        }
+        return normalized.substring(0, normalized.offsetByCodePoints(0, SNIPPET_LENGTH)) + SNIPPET_ELLIPSIS;
+    }
+
+    /**
+     * 발행일 문자열 변환 (yyyy-MM-dd HH:mm:ss, 'T' 구분자, 소수점 이하 초 허용). 비었거나 형식이 다르면 null
+     */
+    public static LocalDateTime toPublishedAtDateTime(String publishedAt) {
+        if (publishedAt == null) {
+            return null;
+        }
+        String value = publishedAt.trim().replace('T', ' ');
+        if (value.length() < 19) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.substring(0, 19), PUBLISHED_AT_FORMAT);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // MySQL TRIM()처럼 앞뒤 ' '만 제거 (String.trim()은 제어 문자까지 지움)
+    private static String trimSpaces(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return value.substring(start, end);
+    }
+}
@@ -0,0 +1,689 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.newnormallist.crawlerservice.dto.ArticleContent;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.parser.Parser;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스트리밍(토큰 단위) 기사 추출기
+ *
+ * 역할:
+ * - 상세 페이지 HTML을 처음부터 끝까지 한 번만 훑으며 태그 토큰만 해석
+ * - 댓글 위젯, 스크립트, 내비게이션 등 나머지 영역은 DOM 노드를 만들지 않음
+ *
+ * 수집 영역:
+ * - #dic_area 본문 (첫 번째 요소, 해당 구간만 조각 파싱해 DOM 방식과 같은 텍스트 정규화 적용)
+ * - 기자 바이라인 (DomArticleExtractor와 같은 세 가지 선택자)
+ * - 입력 시각 span, #img1 / div.end_body_wrp img / og:image / twitter:image
+ *
+ * 제약:
+ * - 열린 요소 스택은 HTML5 트리 구성 규칙 중 기사 페이지에 필요한 부분(빈 요소, 원시 텍스트 요소,
+ *   p/li/dt/dd/표 관련 암묵적 닫힘)만 따름
+ * - adoption agency(잘못 중첩된 서식 요소 재구성)와 foster parenting(표 안에 직접 놓인 내용을 표 앞으로 이동)은
+ *   구현하지 않음. 해당 구조(서식 요소가 닫히지 않은 채 다른 요소에 의해 닫힘, 특수 요소를 넘는 종료 태그,
+ *   표/행 바로 아래의 텍스트/요소)를 만나면 DOM 추출기 결과를 반환 (crawler.extraction.fallback)
+ * - 결과 동일성은 테스트 픽스처(src/test/resources/extraction), SHADOW 모드, 벤치마크로 검증
+ */
+@Slf4j
+@Component
+public class StreamingArticleExtractor implements ArticleExtractor {
+
+    private static final Set<String> VOID_ELEMENTS = Set.of(
+            "area", "base", "br", "col", "embed", "hr", "img", "input", "keygen",
+            "link", "meta", "param", "source", "track", "wbr");
+
+    private static final Set<String> RAW_TEXT_ELEMENTS = Set.of(
+            "script", "style", "textarea", "title", "xmp", "iframe", "noembed", "noframes");
+
+    // 열린 p 요소를 암묵적으로 닫는 시작 태그
+    private static final Set<String> CLOSES_P = Set.of(
+            "address", "article", "aside", "blockquote", "center", "details", "dialog", "dir", "div", "dl",
+            "fieldset", "figcaption", "figure", "footer", "header", "hgroup", "main", "menu", "nav", "ol",
+            "p", "section", "summary", "ul", "h1", "h2", "h3", "h4", "h5", "h6", "pre", "listing", "form",
+            "hr", "table", "plaintext");
+
+    // p 탐색 범위 경계 (button scope)
+    private static final Set<String> SCOPE_BOUNDARY = Set.of(
+            "applet", "caption", "html", "table", "td", "th", "marquee", "object", "template", "button");
+
+    // 문서 끝이 아닌 위치에서 닫지 않는 요소
+    private static final Set<String> IGNORED_END_TAGS = Set.of("html", "body");
+
+    // 서식 요소: 중첩이 어긋나면 HTML5 파서가 adoption agency로 다시 구성
+    private static final Set<String> FORMATTING_ELEMENTS = Set.of(
+            "a", "b", "big", "code", "em", "font", "i", "nobr", "s", "small", "strike", "strong", "tt", "u");
+
+    // 특수 요소: 일반 요소의 종료 태그가 이 요소를 넘어 닫지 못함
+    private static final Set<String> SPECIAL_ELEMENTS = Set.of(
+            "address", "applet", "area", "article", "aside", "base", "basefont", "bgsound", "blockquote", "body",
+            "br", "button", "caption", "center", "col", "colgroup", "dd", "details", "dir", "div", "dl", "dt",
+            "embed", "fieldset", "figcaption", "figure", "footer", "form", "frame", "frameset", "h1", "h2", "h3",
+            "h4", "h5", "h6", "head", "header", "hgroup", "hr", "html", "iframe", "img", "input", "keygen", "li",
+            "link", "listing", "main", "marquee", "menu", "meta", "nav", "noembed", "noframes", "noscript",
+            "object", "ol", "p", "param", "plaintext", "pre", "script", "section", "select", "source", "style",
+            "summary", "table", "tbody", "td", "template", "textarea", "tfoot", "th", "thead", "title", "tr",
+            "track", "ul", "wbr", "xmp");
+
+    // 종료 태그가 넘지 못하는 범위 경계 (default scope)
+    private static final Set<String> DEFAULT_SCOPE = Set.of(
+            "applet", "caption", "html", "table", "td", "th", "marquee", "object", "template");
+
+    // 바로 아래 텍스트/다른 요소가 오면 foster parenting이 일어나는 요소
+    private static final Set<String> TABLE_CONTEXT = Set.of("table", "tbody", "thead", "tfoot", "tr");
+
+    // 표 구조 안에 그대로 들어가는 시작 태그
+    private static final Set<String> TABLE_CONTENT = Set.of(
+            "caption", "colgroup", "col", "tbody", "thead", "tfoot", "tr", "td", "th",
+            "script", "style", "template", "input", "form", "table");
+
+    private final DomArticleExtractor domArticleExtractor;
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    public StreamingArticleExtractor(DomArticleExtractor domArticleExtractor) {
+        this.domArticleExtractor = domArticleExtractor;
+    }
+
+    @Override
+    public ArticleContent extract(String html, String url) {
+        Scan scan = new Scan(html);
+        scan.run();
+        if (scan.treeRepairNeeded) {
+            // 트리 재구성이 필요한 구조는 DOM 추출기로 처리 (스트리밍 스택으로는 같은 트리를 보장하지 못함)
+            fallbacks.incrementAndGet();
+            log.debug("스트리밍 추출 불가 구조로 DOM 추출 - url={}", url);
+            return domArticleExtractor.extract(html, url);
+        }
+
+        return ArticleContent.builder()
+                .content(resolveContent(scan))
+                .reporter(resolveReporter(scan))
+                .date(scan.dateSeen && !scan.date.isEmpty() ? scan.date : null)
+                .imageUrl(resolveImageUrl(scan))
+                .build();
+    }
+
+    /**
+     * 트리 재구성이 필요해 DOM 추출기로 넘긴 횟수
+     */
+    public long fallbackCount() {
+        return fallbacks.get();
+    }
+
+    private String resolveContent(Scan scan) {
+        try {
+            if (scan.vodPlayer) {
+                log.debug("VOD 기사로 스킵");
+                return null;
+            }
+            if (scan.contentHtml == null) {
+                return CONTENT_NOT_FOUND;
+            }
+            String content = textOf(scan.contentHtml).trim();
+            if (content.length() < MIN_CONTENT_LENGTH) {
+                log.debug("본문이 너무 짧아서 제외: {}자", content.length());
+                return null;
+            }
+            return content;
+        } catch (Exception e) {
+            return CONTENT_ERROR;
+        }
+    }
+
+    private String resolveReporter(Scan scan) {
+        try {
+            List<String> names = new ArrayList<>();
+            for (String fragment : scan.journalistEms) {
+                String name = textOf(fragment).trim();
+                if (!name.isEmpty()) {
+                    names.add(ArticleExtractor.cleanReporterName(name));
+                }
+            }
+            if (!names.isEmpty()) {
+                return String.join(", ", names);
+            }
+
+            for (String fragment : scan.journalistButtonEms) {
+                String name = textOf(fragment).trim();
+                if (!name.isEmpty()) {
+                    names.add(ArticleExtractor.cleanReporterName(name));
+                }
+            }
+            if (!names.isEmpty()) {
+                return String.join(", ", names);
+            }
+
+            for (String fragment : scan.bylineSpans) {
+                String spanText = textOf(fragment).trim();
+                if (!spanText.isEmpty()) {
+                    names.add(ArticleExtractor.bylineReporterName(spanText));
+                }
+            }
+            return String.join(", ", names);
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    private String resolveImageUrl(Scan scan) {
+        if (scan.img1Seen && !scan.img1Src.isEmpty()) {
+            return scan.img1Src;
+        }
+        if (scan.bodyImgSeen && !scan.bodyImgSrc.isEmpty()) {
+            return scan.bodyImgSrc;
+        }
+        if (scan.ogImageSeen && !scan.ogImage.isEmpty()) {
+            return scan.ogImage;
+        }
+        if (scan.twitterImageSeen && !scan.twitterImage.isEmpty()) {
+            return scan.twitterImage;
+        }
+        return "";
+    }
+
+    /**
+     * 수집한 영역 조각만 파싱해 Jsoup Element.text()와 같은 공백 정규화 적용
+     */
+    private static String textOf(String fragmentHtml) {
+        return Jsoup.parseBodyFragment(fragmentHtml).body().text();
+    }
+
+    /** 수집 대상 종류 */
+    private enum Capture {
+        CONTENT, JOURNALIST_EM, JOURNALIST_BUTTON_EM, BYLINE_SPAN
+    }
+
+    /** 열린 요소 */
+    private static final class OpenElement {
+        final String name;
+        final String id;
+        final String classAttr;
+        final int start;
+        Capture capture;
+
+        OpenElement(String name, String id, String classAttr, int start) {
+            this.name = name;
+            this.id = id;
+            this.classAttr = classAttr;
+            this.start = start;
+        }
+
+        // 공백 구분 클래스 목록을 제자리에서 비교 (Jsoup Element.hasClass와 같은 규칙, 할당 없음)
+        boolean hasClass(String className) {
+            if (classAttr == null) {
+                return false;
+            }
+            int length = classAttr.length();
+            int wanted = className.length();
+            int i = 0;
+            while (i < length) {
+                while (i < length && Character.isWhitespace(classAttr.charAt(i))) {
+                    i++;
+                }
+                int start = i;
+                while (i < length && !Character.isWhitespace(classAttr.charAt(i))) {
+                    i++;
+                }
+                if (i - start == wanted && classAttr.regionMatches(true, start, className, 0, wanted)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean is(String tag, String... classes) {
+            if (!name.equals(tag)) {
+                return false;
+            }
+            for (String c : classes) {
+                if (!hasClass(c)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean hasId(String value) {
+            return value.equals(id);
+        }
+    }
+
+    /**
+     * 한 문서에 대한 단일 패스 스캔 상태
+     */
+    private static final class Scan {
+        private final String html;
+        private final int length;
+        private final List<OpenElement> stack = new ArrayList<>();
+
+        // 추출 결과
+        boolean vodPlayer;
+        String contentHtml;
+        final List<String> journalistEms = new ArrayList<>();
+        final List<String> journalistButtonEms = new ArrayList<>();
+        final List<String> bylineSpans = new ArrayList<>();
+        boolean dateSeen;
+        String date = "";
+        boolean img1Seen;
+        String img1Src = "";
+        boolean bodyImgSeen;
+        String bodyImgSrc = "";
+        boolean ogImageSeen;
+        String ogImage = "";
+        boolean twitterImageSeen;
+        String twitterImage = "";
+        // adoption agency / foster parenting이 필요한 구조를 만났는지
+        boolean treeRepairNeeded;
+
+        private boolean contentCaptureStarted;
+        private int pos;
+
+        Scan(String html) {
+            this.html = html;
+            this.length = html.length();
+        }
+
+        void run() {
+            while (pos < length && !treeRepairNeeded) {
+                int lt = html.indexOf('<', pos);
+                if (lt < 0 || lt + 1 >= length) {
+                    break;
+                }
+                if (inTableContext() && hasText(pos, lt)) {
+                    treeRepairNeeded = true;
+                    break;
+                }
+                char next = html.charAt(lt + 1);
+                if (next == '!' || next == '?') {
+                    pos = skipMarkup(lt);
+                } else if (next == '/' && lt + 2 < length && isAsciiLetter(html.charAt(lt + 2))) {
+                    pos = readEndTag(lt);
+                } else if (isAsciiLetter(next)) {
+                    pos = readStartTag(lt);
+                } else {
+                    pos = lt + 1;
+                }
+            }
+            // 문서 끝: 남은 요소 모두 닫기
+            while (!stack.isEmpty()) {
+                pop(length);
+            }
+        }
+
+        private int skipMarkup(int lt) {
+            if (html.startsWith("<!--", lt)) {
+                int end = html.indexOf("-->", lt + 4);
+                return end < 0 ? length : end + 3;
+            }
+            int end = html.indexOf('>', lt);
+            return end < 0 ? length : end + 1;
+        }
+
+        private int readEndTag(int lt) {
+            int i = lt + 2;
+            int nameStart = i;
+            while (i < length && !isTagNameEnd(html.charAt(i))) {
+                i++;
+            }
+            String name = html.substring(nameStart, i).toLowerCase(Locale.ROOT);
+            int gt = html.indexOf('>', i);
+            int end = gt < 0 ? length : gt + 1;
+
+            if (IGNORED_END_TAGS.contains(name)) {
+                return end;
+            }
+            for (int s = stack.size() - 1; s >= 0; s--) {
+                if (stack.get(s).name.equals(name)) {
+                    if (s < stack.size() - 1 && misnested(name, s)) {
+                        treeRepairNeeded = true;
+                    }
+                    // 위에 열린 요소들은 이 종료 태그 위치에서 암묵적으로 닫힘
+                    while (stack.size() - 1 > s) {
+                        pop(lt);
+                    }
+                    pop(end);
+                    break;
+                }
+            }
+            return end;
+        }
+
+        private int readStartTag(int lt) {
+            int i = lt + 1;
+            int nameStart = i;
+            while (i < length && !isTagNameEnd(html.charAt(i))) {
+                i++;
+            }
+            String name = html.substring(nameStart, i).toLowerCase(Locale.ROOT);
+
+            // 속성 파싱 (필요한 속성만 보관, 중복 시 첫 번째 값 우선)
+            String id = null;
+            String classAttr = null;
+            String src = null;
+            String content = null;
+            String property = null;
+            String metaName = null;
+            String dateTime = null;
+            boolean selfClosing = false;
+
+            while (i < length) {
+                char c = html.charAt(i);
+                if (c == '>') {
+                    i++;
+                    break;
+                }
+                if (c == '/') {
+                    if (i + 1 < length && html.charAt(i + 1) == '>') {
+                        selfClosing = true;
+                    }
+                    i++;
+                    continue;
+                }
+                if (Character.isWhitespace(c)) {
+                    i++;
+                    continue;
+                }
+                int attrStart = i;
+                while (i < length) {
+                    char a = html.charAt(i);
+                    if (a == '=' || a == '>' || a == '/' || Character.isWhitespace(a)) {
+                        break;
+                    }
+                    i++;
+                }
+                String attrName = html.substring(attrStart, i).toLowerCase(Locale.ROOT);
+                while (i < length && Character.isWhitespace(html.charAt(i))) {
+                    i++;
+                }
+                String value = "";
+                if (i < length && html.charAt(i) == '=') {
+                    i++;
+                    while (i < length && Character.isWhitespace(html.charAt(i))) {
+                        i++;
+                    }
+                    if (i < length && (html.charAt(i) == '"' || html.charAt(i) == '\'')) {
+                        char quote = html.charAt(i);
+                        int close = html.indexOf(quote, i + 1);
+                        if (close < 0) {
+                            close = length;
+                        }
+                        value = html.substring(i + 1, close);
+                        i = Math.min(length, close + 1);
+                    } else {
+                        int valueStart = i;
+                        while (i < length && html.charAt(i) != '>' && !Character.isWhitespace(html.charAt(i))) {
+                            i++;
+                        }
+                        value = html.substring(valueStart, i);
+                    }
+                }
+                switch (attrName) {
+                    case "id" -> id = id == null ? decode(value) : id;
+                    case "class" -> classAttr = classAttr == null ? decode(value) : classAttr;
+                    case "src" -> src = src == null ? decode(value) : src;
+                    case "content" -> content = content == null ? decode(value) : content;
+                    case "property" -> property = property == null ? decode(value) : property;
+                    case "name" -> metaName = metaName == null ? decode(value) : metaName;
+                    case "data-date-time" -> dateTime = dateTime == null ? decode(value) : dateTime;
+                    default -> {
+                    }
+                }
+            }
+            int end = i;
+
+            if ((inTableContext() && !TABLE_CONTENT.contains(name))
+                    || ((name.equals("a") || name.equals("nobr")) && isOpen(name))) {
+                // 표 바로 아래 요소(foster parenting), 열린 a/nobr 안의 같은 요소(adoption agency)
+                treeRepairNeeded = true;
+            }
+            applyImplicitCloses(name, lt);
+            inspectStartTag(name, id, classAttr, src, content, property, metaName, dateTime);
+
+            if (RAW_TEXT_ELEMENTS.contains(name)) {
+                // 원시 텍스트 요소는 내부를 태그로 해석하지 않고 종료 태그까지 건너뜀
+                int close = indexOfIgnoreCase("</" + name, end);
+                if (close < 0) {
+                    return length;
+                }
+                int gt = html.indexOf('>', close);
+                return gt < 0 ? length : gt + 1;
+            }
+            if (VOID_ELEMENTS.contains(name) || selfClosing) {
+                return end;
+            }
+
+            OpenElement element = new OpenElement(name, id, classAttr, lt);
+            element.capture = captureFor(element);
+            stack.add(element);
+            return end;
+        }
+
+        /**
+         * 시작 태그 시점에 판별 가능한 항목 처리 (VOD, 날짜, 이미지, 메타)
+         */
+        private void inspectStartTag(String name, String id, String classAttr, String src, String content,
+                                     String property, String metaName, String dateTime) {
+            OpenElement current = new OpenElement(name, id, classAttr, -1);
+            OpenElement parent = parent(0);
+
+            if (!vodPlayer && parent != null && parent.hasId("contents") && current.is("div", "_VOD_PLAYER_WRAP")) {
+                vodPlayer = true;
+            }
+            if (!dateSeen && current.is("span", "media_end_head_info_datestamp_time", "_ARTICLE_DATE_TIME")) {
+                dateSeen = true;
+                date = dateTime != null ? dateTime : "";
+            }
+            if (!img1Seen && "img1".equals(id)) {
+                img1Seen = true;
+                img1Src = src != null ? src : "";
+            }
+            if (!bodyImgSeen && name.equals("img") && hasAncestor("div", "end_body_wrp")) {
+                bodyImgSeen = true;
+                bodyImgSrc = src != null ? src : "";
+            }
+            if (name.equals("meta")) {
+                if (!ogImageSeen && property != null && property.trim().equalsIgnoreCase("og:image")) {
+                    ogImageSeen = true;
+                    ogImage = content != null ? content : "";
+                }
+                if (!twitterImageSeen && metaName != null && metaName.trim().equalsIgnoreCase("twitter:image")) {
+                    twitterImageSeen = true;
+                    twitterImage = content != null ? content : "";
+                }
+            }
+        }
+
+        /**
+         * 새로 열린 요소가 수집 대상인지 판별 (부모 체인은 자식 결합자 기준)
+         */
+        private Capture captureFor(OpenElement element) {
+            if (!contentCaptureStarted && element.hasId("dic_area")) {
+                contentCaptureStarted = true;
+                return Capture.CONTENT;
+            }
+            if (element.name.equals("em")) {
+                // #ct > div.media_end_head.go_trans > div.media_end_head_info.nv_notrans > div.media_end_head_journalist > a > em
+                OpenElement a = parent(0);
+                OpenElement journalist = parent(1);
+                OpenElement info = parent(2);
+                OpenElement head = parent(3);
+                OpenElement ct = parent(4);
+                if (a != null && a.name.equals("a")
+                        && journalist != null && journalist.is("div", "media_end_head_journalist")
+                        && info != null && info.is("div", "media_end_head_info", "nv_notrans")
+                        && head != null && head.is("div", "media_end_head", "go_trans")
+                        && ct != null && ct.hasId("ct")) {
+                    return Capture.JOURNALIST_EM;
+                }
+                // #_JOURNALIST_BUTTON > em
+                if (a != null && a.hasId("_JOURNALIST_BUTTON")) {
+                    return Capture.JOURNALIST_BUTTON_EM;
+                }
+            }
+            if (element.name.equals("span")) {
+                // #contents > div.byline > p > span
+                OpenElement p = parent(0);
+                OpenElement byline = parent(1);
+                OpenElement contents = parent(2);
+                if (p != null && p.name.equals("p")
+                        && byline != null && byline.is("div", "byline")
+                        && contents != null && contents.hasId("contents")) {
+                    return Capture.BYLINE_SPAN;
+                }
+            }
+            return null;
+        }
+
+        private void applyImplicitCloses(String name, int at) {
+            if (CLOSES_P.contains(name)) {
+                closeInScope("p", at);
+            }
+            switch (name) {
+                case "li" -> closeUntilBoundary("li", Set.of("ol", "ul", "table", "html", "body"), at);
+                case "dt", "dd" -> {
+                    closeUntilBoundary("dt", Set.of("dl", "table", "html", "body"), at);
+                    closeUntilBoundary("dd", Set.of("dl", "table", "html", "body"), at);
+                }
+                case "option" -> closeUntilBoundary("option", Set.of("select", "datalist", "html", "body"), at);
+                case "tr" -> {
+                    closeUntilBoundary("td", Set.of("tr", "table"), at);
+                    closeUntilBoundary("th", Set.of("tr", "table"), at);
+                    closeUntilBoundary("tr", Set.of("table", "thead", "tbody", "tfoot"), at);
+                }
+                case "td", "th" -> {
+                    closeUntilBoundary("td", Set.of("tr", "table"), at);
+                    closeUntilBoundary("th", Set.of("tr", "table"), at);
+                }
+                default -> {
+                }
+            }
+        }
+
+        private void closeInScope(String target, int at) {
+            closeUntilBoundary(target, SCOPE_BOUNDARY, at);
+        }
+
+        private void closeUntilBoundary(String target, Set<String> boundary, int at) {
+            for (int s = stack.size() - 1; s >= 0; s--) {
+                String name = stack.get(s).name;
+                if (name.equals(target)) {
+                    for (int k = s + 1; k < stack.size(); k++) {
+                        if (FORMATTING_ELEMENTS.contains(stack.get(k).name)) {
+                            // 암묵적으로 닫힌 서식 요소는 이후 텍스트에서 다시 열림 (active formatting 재구성)
+                            treeRepairNeeded = true;
+                        }
+                    }
+                    while (stack.size() > s) {
+                        pop(at);
+                    }
+                    return;
+                }
+                if (boundary.contains(name)) {
+                    return;
+                }
+            }
+        }
+
+        private void pop(int end) {
+            OpenElement element = stack.remove(stack.size() - 1);
+            if (element.capture == null) {
+                return;
+            }
+            String fragment = html.substring(element.start, Math.max(element.start, end));
+            switch (element.capture) {
+                case CONTENT -> contentHtml = fragment;
+                case JOURNALIST_EM -> journalistEms.add(fragment);
+                case JOURNALIST_BUTTON_EM -> journalistButtonEms.add(fragment);
+                case BYLINE_SPAN -> bylineSpans.add(fragment);
+            }
+        }
+
+        /**
+         * stack[s]를 닫는 종료 태그가 그 위 요소들을 단순히 닫는 것으로 끝나지 않는지
+         * - 서식 요소의 종료 태그(adoption agency), 위에 열린 서식 요소(이후 재구성)
+         * - 일반 요소 종료 태그가 특수 요소를 넘음(무시됨), 범위 경계를 넘음(무시됨)
+         */
+        private boolean misnested(String name, int s) {
+            if (FORMATTING_ELEMENTS.contains(name)) {
+                return true;
+            }
+            boolean special = SPECIAL_ELEMENTS.contains(name);
+            for (int k = s + 1; k < stack.size(); k++) {
+                String above = stack.get(k).name;
+                if (FORMATTING_ELEMENTS.contains(above) || DEFAULT_SCOPE.contains(above)
+                        || (!special && SPECIAL_ELEMENTS.contains(above))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean inTableContext() {
+            return !stack.isEmpty() && TABLE_CONTEXT.contains(stack.get(stack.size() - 1).name);
+        }
+
+        private boolean isOpen(String name) {
+            for (int s = stack.size() - 1; s >= 0; s--) {
+                if (stack.get(s).name.equals(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // [from, to) 구간에 공백이 아닌 문자가 있는지
+        private boolean hasText(int from, int to) {
+            for (int i = from; i < to; i++) {
+                char c = html.charAt(i);
+                if (c != ' ' && c != '\t' && c != '\n' && c != '\r' && c != '\f') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** depth=0 이면 현재 스택 최상단(새 요소의 부모) */
+        private OpenElement parent(int depth) {
+            int index = stack.size() - 1 - depth;
+            return index >= 0 ? stack.get(index) : null;
+        }
+
+        private boolean hasAncestor(String tag, String className) {
+            for (int s = stack.size() - 1; s >= 0; s--) {
+                if (stack.get(s).is(tag, className)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int indexOfIgnoreCase(String needle, int from) {
+            int max = length - needle.length();
+            for (int i = from; i <= max; i++) {
+                if (html.regionMatches(true, i, needle, 0, needle.length())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static String decode(String value) {
+            return value.indexOf('&') >= 0 ? Parser.unescapeEntities(value, true) : value;
+        }
+
+        private static boolean isAsciiLetter(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        }
+
+        private static boolean isTagNameEnd(char c) {
+            return c == '>' || c == '/' || Character.isWhitespace(c);
+        }
+    }
+}
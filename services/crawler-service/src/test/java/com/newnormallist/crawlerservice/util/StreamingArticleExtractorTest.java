@@ -0,0 +1,133 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.newnormallist.crawlerservice.dto.ArticleContent;
+import com.newnormallist.crawlerservice.service.ArticleExtractionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 추출기와 DOM 추출기의 결과 동일성 검증 (src/test/resources/extraction 픽스처)
+ *
+ * - 일반 픽스처: 스트리밍 경로가 DOM 대체 없이 같은 결과를 내야 함
+ * - fallback-*.html: adoption agency / foster parenting 이 필요한 구조 → DOM 결과로 대체
+ */
+class StreamingArticleExtractorTest {
+
+    private final DomArticleExtractor domArticleExtractor = new DomArticleExtractor();
+    private final StreamingArticleExtractor streamingArticleExtractor = new StreamingArticleExtractor(domArticleExtractor);
+
+    static Stream<Path> fixtures() throws IOException {
+        try (Stream<Path> paths = Files.list(fixtureDir())) {
+            return paths.filter(p -> p.getFileName().toString().endsWith(".html")).sorted().toList().stream();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("fixtures")
+    void streamingMatchesDom(Path fixture) throws IOException {
+        String html = Files.readString(fixture, StandardCharsets.UTF_8);
+        String url = fixture.getFileName().toString();
+        boolean expectFallback = url.startsWith("fallback-");
+
+        long fallbacksBefore = streamingArticleExtractor.fallbackCount();
+        ArticleContent dom = domArticleExtractor.extract(html, url);
+        ArticleContent streaming = streamingArticleExtractor.extract(html, url);
+
+        assertThat(streaming.getContent()).as("content").isEqualTo(dom.getContent());
+        assertThat(streaming.getReporter()).as("reporter").isEqualTo(dom.getReporter());
+        assertThat(streaming.getDate()).as("date").isEqualTo(dom.getDate());
+        assertThat(streaming.getImageUrl()).as("imageUrl").isEqualTo(dom.getImageUrl());
+        assertThat(streamingArticleExtractor.fallbackCount() - fallbacksBefore)
+                .as("DOM 대체 횟수")
+                .isEqualTo(expectFallback ? 1 : 0);
+    }
+
+    @Test
+    void fixturesCoverEachSelectorPath() throws IOException {
+        assertThat(extract("basic.html").getReporter()).isEqualTo("홍길동");
+        assertThat(extract("basic.html").getDate()).isEqualTo("2026-10-01 09:30:00");
+        assertThat(extract("basic.html").getImageUrl()).isEqualTo("https://imgnews.example.com/photo/basic-1.jpg");
+        assertThat(extract("basic.html").getContent()).doesNotContain("스크립트", "광고", "가짜");
+        assertThat(extract("multi-reporter.html").getImageUrl()).isEqualTo("https://imgnews.example.com/photo/multi-body.jpg");
+        assertThat(extract("byline.html").getImageUrl()).isEqualTo("https://imgnews.example.com/tw/byline.jpg");
+        assertThat(extract("vod.html").getContent()).isNull();
+        assertThat(extract("short-content.html").getContent()).isNull();
+        assertThat(extract("no-content.html").getContent()).isEqualTo(ArticleExtractor.CONTENT_NOT_FOUND);
+    }
+
+    @Test
+    void shadowModeRecordsNoMismatch() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ArticleExtractionService service = new ArticleExtractionService(domArticleExtractor, streamingArticleExtractor,
+                registry, "shadow", "", 1);
+
+        for (Path fixture : fixtures().toList()) {
+            service.extract(Files.readString(fixture, StandardCharsets.UTF_8), fixture.getFileName().toString());
+        }
+
+        double mismatches = registry.find("crawler.extraction.mismatch").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+        assertThat(mismatches).isZero();
+    }
+
+    @Test
+    void benchmarkReadsConfiguredDirectoryAndCapsIterations() throws IOException {
+        ArticleExtractionService service = new ArticleExtractionService(domArticleExtractor, streamingArticleExtractor,
+                new SimpleMeterRegistry(), "dom", fixtureDir().toString(), 2);
+
+        Map<String, Object> result = service.benchmark(1_000_000);
+
+        assertThat(result.get("files")).isEqualTo((int) fixtures().count());
+        assertThat(result.get("iterations")).isEqualTo(2);
+        assertThat((Map<?, ?>) result.get("mismatches")).isEmpty();
+    }
+
+    @Test
+    void benchmarkUnavailableWithoutConfiguredDirectory() {
+        ArticleExtractionService service = new ArticleExtractionService(domArticleExtractor, streamingArticleExtractor,
+                new SimpleMeterRegistry(), "dom", "", 200);
+
+        assertThat(service.benchmarkFixtureDir()).isNull();
+    }
+
+    @Test
+    void classMatchingIgnoresCaseAndWhitespace() throws IOException {
+        String html = "<html><body><div id=\"ct\"><span class=\"\tMEDIA_END_HEAD_INFO_DATESTAMP_TIME\n  _article_date_time \" "
+                + "data-date-time=\"2026-10-03 08:00:00\"></span>"
+                + "<span class=\"media_end_head_info_datestamp_time_x _ARTICLE_DATE_TIME\" data-date-time=\"wrong\"></span>"
+                + "</div></body></html>";
+
+        assertThat(streamingArticleExtractor.extract(html, "").getDate())
+                .isEqualTo(domArticleExtractor.extract(html, "").getDate())
+                .isEqualTo("2026-10-03 08:00:00");
+    }
+
+    private ArticleContent extract(String name) throws IOException {
+        return streamingArticleExtractor.extract(
+                Files.readString(fixtureDir().resolve(name), StandardCharsets.UTF_8), name);
+    }
+
+    private static Path fixtureDir() {
+        try {
+            return Path.of(Objects.requireNonNull(
+                    StreamingArticleExtractorTest.class.getResource("/extraction")).toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
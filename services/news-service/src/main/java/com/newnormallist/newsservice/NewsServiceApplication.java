@@ -1,11 +1,13 @@
 package com.newnormallist.newsservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan // 모듈별 *Properties(@ConfigurationProperties) 바인딩
 @EnableJpaAuditing
 @EnableScheduling
 @EnableFeignClients
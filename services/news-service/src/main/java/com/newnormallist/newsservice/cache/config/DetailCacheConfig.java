@@ -0,0 +1,25 @@
+package com.newnormallist.newsservice.cache.config;
+
+import com.newnormallist.newsservice.cache.service.NewsDetailCacheService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 다른 인스턴스의 기사 상세 캐시 무효화 메시지 구독 (Redis 사용 시)
+@Configuration
+public class DetailCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "detail-cache", name = "redis-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer detailCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     NewsDetailCacheService newsDetailCacheService,
+                                                                     DetailCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(newsDetailCacheService, new ChannelTopic(properties.getInvalidationChannel()));
+        return container;
+    }
+}
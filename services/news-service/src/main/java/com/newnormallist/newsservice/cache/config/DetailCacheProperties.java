@@ -0,0 +1,53 @@
+package com.newnormallist.newsservice.cache.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/*
+    기사 상세 캐시(인스턴스 내 Caffeine + Redis 2단계) 설정을 YAML로 바인딩.
+*/
+@Data
+@ConfigurationProperties(prefix = "detail-cache")
+public class DetailCacheProperties {
+
+    /**
+     * 상세 캐시 사용 여부 (false면 요청마다 DB/툴팁 서비스 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 1단계(인스턴스 내) 최대 기사 수
+     */
+    private long localMaxSize = 10000;
+
+    /**
+     * 1단계 보관 시간 (초). 다른 서비스가 직접 바꾼 데이터는 이 시간 안에 반영
+     */
+    private long localTtlSeconds = 60;
+
+    /**
+     * 미완성 응답(툴팁 마크업 전이거나 보강 조회가 기한을 넘김)의 보관 시간 (초). Redis에는 저장하지 않음
+     */
+    private long unmarkedTtlSeconds = 10;
+
+    /**
+     * 2단계(Redis) 사용 여부
+     */
+    private boolean redisEnabled = true;
+
+    /**
+     * 2단계 보관 시간 (분)
+     */
+    private long redisTtlMinutes = 30;
+
+    /**
+     * Redis 키 접두사 (응답 형식이 바뀌면 버전을 올려 이전 값을 무시)
+     */
+    private String keyPrefix = "news:detail:v2:";
+
+    /**
+     * 무효화 메시지 채널 (메시지: 기사 ID, 전체 무효화는 "*")
+     */
+    private String invalidationChannel = "news:detail:invalidate";
+}
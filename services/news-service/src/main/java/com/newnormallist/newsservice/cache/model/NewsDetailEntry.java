@@ -0,0 +1,17 @@
+package com.newnormallist.newsservice.cache.model;
+
+import com.newnormallist.newsservice.news.dto.NewsResponse;
+
+/**
+ * 기사 상세 캐시 항목
+ *
+ * @param news          조립된 상세 응답 (차단된 기사는 null)
+ * @param blocked       신고 누적으로 접근이 제한된 기사
+ * @param complete 툴팁 마크업 적용 + 모든 보강 성공 여부 (false면 짧게만 보관하고 Redis에는 저장하지 않음)
+ */
+public record NewsDetailEntry(NewsResponse news, boolean blocked, boolean complete) {
+
+    public static NewsDetailEntry blockedEntry() {
+        return new NewsDetailEntry(null, true, true);
+    }
+}
@@ -0,0 +1,283 @@
+package com.newnormallist.newsservice.cache.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.newnormallist.newsservice.cache.config.DetailCacheProperties;
+import com.newnormallist.newsservice.cache.model.NewsDetailEntry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 기사 상세 응답 2단계 캐시
+ *
+ * 역할:
+ * - 1단계: 인스턴스 내 Caffeine (크기/TTL 상한, 같은 기사 동시 미스는 한 요청만 로드 - 캐시 쇄도 방지)
+ * - 2단계: Redis (인스턴스 간 공유, JSON 저장)
+ * - 둘 다 미스일 때만 DB 조회(신고 건수 컬럼 포함) + 저장된 툴팁 마크업으로 응답 조립 (NewsServiceImpl.getNewsById)
+ *
+ * 무효화:
+ * - evict / evictAfterCommit: 기사 수정, 신고 접수 시 해당 기사 삭제 후 채널로 다른 인스턴스에 알림
+ * - evictAll: 툴팁 마크업 규칙 변경 등 전체 삭제 (툴팁 서비스도 같은 채널에 "*"를 발행)
+ *
+ * 관측: 1단계는 cache.gets{cache=newsDetail}, 2단계는 news.detail.cache.redis{result} 메트릭과 stats()
+ *
+ * Redis 장애 시 2단계를 건너뛰고 1단계 + DB로 동작
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsDetailCacheService implements MessageListener {
+
+    private static final String ALL = "*";
+
+    private final DetailCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong redisMisses = new AtomicLong();
+    private final AtomicLong redisErrors = new AtomicLong();
+    private final AtomicLong sourceLoads = new AtomicLong();
+
+    private Cache<Long, NewsDetailEntry> localCache;
+
+    @PostConstruct
+    void init() {
+        long ttlNanos = TimeUnit.SECONDS.toNanos(properties.getLocalTtlSeconds());
+        long unmarkedTtlNanos = TimeUnit.SECONDS.toNanos(properties.getUnmarkedTtlSeconds());
+        localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfter(new Expiry<Long, NewsDetailEntry>() {
+                    @Override
+                    public long expireAfterCreate(Long key, NewsDetailEntry value, long currentTime) {
+                        return value.complete() ? ttlNanos : unmarkedTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long key, NewsDetailEntry value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long key, NewsDetailEntry value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "newsDetail");
+    }
+
+    /**
+     * 상세 응답 조회 (1단계 → 2단계 → loader 순)
+     */
+    public NewsDetailEntry get(Long newsId, Function<Long, NewsDetailEntry> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(newsId);
+        }
+        return localCache.get(newsId, id -> loadFromRedis(id, loader));
+    }
+
+    /**
+     * 해당 기사 캐시 삭제 (모든 인스턴스)
+     */
+    public void evict(Long newsId) {
+        // 1단계 삭제는 진행 중인 같은 기사 로드가 끝날 때까지 기다리므로, 로드가 쓴 2단계 값도 아래에서 지워짐
+        localCache.invalidate(newsId);
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(properties.getKeyPrefix() + newsId);
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), String.valueOf(newsId));
+        } catch (Exception e) {
+            redisErrors.incrementAndGet();
+            log.warn("⚠️ 기사 상세 캐시 Redis 삭제 실패: newsId={}, {}", newsId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 삭제 (커밋 전 데이터를 다른 요청이 다시 캐시하지 않도록)
+     */
+    public void evictAfterCommit(Long newsId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(newsId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(newsId);
+            }
+        });
+    }
+
+    /**
+     * 전체 삭제 (모든 인스턴스, 2단계 키는 구독 처리에서 삭제)
+     */
+    public void evictAll() {
+        localCache.invalidateAll();
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), ALL);
+        } catch (Exception e) {
+            redisErrors.incrementAndGet();
+            log.warn("⚠️ 기사 상세 캐시 전체 무효화 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화 메시지 수신 (다른 인스턴스/툴팁 서비스 포함, 자기 메시지도 수신 - 삭제는 멱등)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+        if (ALL.equals(body)) {
+            localCache.invalidateAll();
+            int deleted = deleteRedisEntries();
+            log.info("🔎 기사 상세 캐시 전체 무효화: Redis 키 {}개 삭제", deleted);
+            return;
+        }
+        try {
+            localCache.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 알 수 없는 기사 상세 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats local = localCache.stats();
+        long hits = redisHits.get();
+        long misses = redisMisses.get();
+        Map<String, Object> localStats = new LinkedHashMap<>();
+        localStats.put("size", localCache.estimatedSize());
+        localStats.put("hits", local.hitCount());
+        localStats.put("misses", local.missCount());
+        localStats.put("hitRatio", ratio(local.hitCount(), local.missCount()));
+        localStats.put("evictions", local.evictionCount());
+        localStats.put("averageLoadMs", local.averageLoadPenalty() / 1_000_000.0);
+
+        Map<String, Object> redisStats = new LinkedHashMap<>();
+        redisStats.put("enabled", properties.isRedisEnabled());
+        redisStats.put("hits", hits);
+        redisStats.put("misses", misses);
+        redisStats.put("hitRatio", ratio(hits, misses));
+        redisStats.put("errors", redisErrors.get());
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", properties.isEnabled());
+        stats.put("local", localStats);
+        stats.put("redis", redisStats);
+        stats.put("sourceLoads", sourceLoads.get());
+        return stats;
+    }
+
+    private NewsDetailEntry loadFromRedis(Long newsId, Function<Long, NewsDetailEntry> loader) {
+        if (!properties.isRedisEnabled()) {
+            return loadFromSource(newsId, loader);
+        }
+        String key = properties.getKeyPrefix() + newsId;
+        String cached = null;
+        try {
+            cached = redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            redisErrors.incrementAndGet();
+            meterRegistry.counter("news.detail.cache.redis", "result", "error").increment();
+            log.warn("⚠️ 기사 상세 캐시 Redis 조회 실패, DB 조회로 대체: newsId={}, {}", newsId, e.getMessage());
+        }
+        if (cached != null) {
+            try {
+                NewsDetailEntry entry = objectMapper.readValue(cached, NewsDetailEntry.class);
+                redisHits.incrementAndGet();
+                meterRegistry.counter("news.detail.cache.redis", "result", "hit").increment();
+                return entry;
+            } catch (Exception e) {
+                log.warn("⚠️ 기사 상세 캐시 Redis 값 해석 실패, 다시 조립: newsId={}, {}", newsId, e.getMessage());
+            }
+        }
+        redisMisses.incrementAndGet();
+        meterRegistry.counter("news.detail.cache.redis", "result", "miss").increment();
+
+        NewsDetailEntry entry = loadFromSource(newsId, loader);
+        if (entry.complete()) {
+            try {
+                redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(entry),
+                        Duration.ofMinutes(properties.getRedisTtlMinutes()));
+            } catch (Exception e) {
+                redisErrors.incrementAndGet();
+                log.warn("⚠️ 기사 상세 캐시 Redis 저장 실패: newsId={}, {}", newsId, e.getMessage());
+            }
+        }
+        return entry;
+    }
+
+    private NewsDetailEntry loadFromSource(Long newsId, Function<Long, NewsDetailEntry> loader) {
+        sourceLoads.incrementAndGet();
+        return loader.apply(newsId);
+    }
+
+    private int deleteRedisEntries() {
+        if (!properties.isRedisEnabled()) {
+            return 0;
+        }
+        ScanOptions options = ScanOptions.scanOptions().match(properties.getKeyPrefix() + "*").count(500).build();
+        int deleted = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>();
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == 500) {
+                    deleted += delete(batch);
+                }
+            }
+            deleted += delete(batch);
+        } catch (Exception e) {
+            redisErrors.incrementAndGet();
+            log.warn("⚠️ 기사 상세 캐시 Redis 전체 삭제 실패: {}", e.getMessage());
+        }
+        return deleted;
+    }
+
+    private int delete(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long deleted = redisTemplate.delete(keys);
+        keys.clear();
+        return deleted != null ? deleted.intValue() : 0;
+    }
+
+    private double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : Math.round(hits * 10_000.0 / total) / 10_000.0;
+    }
+}
@@ -61,10 +61,15 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST,
                                 "/api/news/summary",
                                 "/api/news/summary/**",
-                                "/api/news/*/summary"
+                                "/api/news/*/summary",
+                                "/api/news/*/view"          // 조회수 집계 (비로그인 조회 포함)
                         ).permitAll()
                         .requestMatchers("/api/summarizer/**").permitAll()
 
+                        // 3-1. 관리자 API (색인 재구성, 캐시 전체 삭제 등)는 ADMIN 권한만 허용
+                        // 게이트웨이가 JWT role 값을 X-User-Role 헤더로 그대로 넘기므로 "ADMIN"(접두사 없음)도 함께 허용
+                        .requestMatchers("/api/admin/**").hasAnyAuthority("ADMIN", "ROLE_ADMIN")
+
                         // 3-2. 특정 리소스 (컬렉션, 마이페이지 뉴스) 관련 경로는 반드시 인증이 필요
                         // "/api/collections/**": 모든 컬렉션 관련 API
                         // "/api/news/mypage/**": 마이페이지 뉴스 관련 API (예: 내가 스크랩한 뉴스)
@@ -0,0 +1,35 @@
+package com.newnormallist.newsservice.ingest.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/*
+    기사 변경 피드(updated_at 워터마크 + 겹침 구간 재조회 + 삭제 확인) 설정을 YAML로 바인딩.
+    트렌딩/키워드/검색 색인/인기도/연관뉴스/유사 기사/피드 버퍼가 같은 피드로 신규·수정·삭제 기사를 반영함.
+*/
+@Data
+@ConfigurationProperties(prefix = "ingest")
+public class IngestProperties {
+
+    /**
+     * 겹침 구간 (밀리초). 매 조회마다 워터마크보다 이만큼 이전부터 다시 읽음
+     * - updated_at을 정한 뒤 늦게 커밋된 트랜잭션, 서비스 간 시계 차이를 이 범위까지 흡수 (이미 받은 변경은 커서에서 제거)
+     */
+    private long lookbackMs = 300000;
+
+    /**
+     * DB에서 한 번에 읽을 변경 행 수 (news_id, updated_at만 읽음)
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 한 번의 조회에서 돌려주는 최대 변경 수 (나머지는 다음 주기)
+     */
+    private int maxChangesPerPoll = 10000;
+
+    /**
+     * 삭제 확인 주기 (밀리초). 각 소비자가 들고 있는 news_id 중 DB에서 사라진 기사를 찾아 제거
+     */
+    private long tombstoneIntervalMs = 3600000;
+}
@@ -0,0 +1,9 @@
+package com.newnormallist.newsservice.ingest.engine;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 피드 행 (NewsRepository.findChangesAfter)
+ */
+public record NewsChange(Long newsId, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,116 @@
+package com.newnormallist.newsservice.ingest.engine;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 소비자 하나의 변경 피드 위치
+ *
+ * 역할:
+ * - 워터마크: 지금까지 받은 변경의 최대 updated_at
+ * - 다음 조회는 워터마크 - lookback부터 다시 읽음 (늦게 커밋된 행도 겹침 구간 안이면 보임)
+ * - 겹침 구간에서 이미 받은 (news_id, updated_at)은 다시 돌려주지 않음 (같은 기사가 더 늦게 수정됐으면 다시 돌려줌)
+ *
+ * 동시성: 소비자의 쓰기 락 안에서만 accept/trim을 호출. 상태 값은 관리자 조회용으로 volatile
+ */
+public class NewsChangeCursor {
+
+    private final String consumer;
+    private final Duration lookback;
+    // 겹침 구간 안에서 이미 돌려준 기사의 updated_at
+    private final Map<Long, LocalDateTime> recent = new HashMap<>();
+
+    private volatile LocalDateTime watermark;
+    private volatile LocalDateTime lastPolledAt;
+    private volatile LocalDateTime lastTombstoneAt;
+    private volatile long delivered;
+    private volatile long duplicates;
+    private volatile long tombstones;
+    private volatile int recentSize;
+
+    public NewsChangeCursor(String consumer, LocalDateTime watermark, Duration lookback) {
+        this.consumer = consumer;
+        this.watermark = watermark;
+        this.lookback = lookback;
+        this.lastTombstoneAt = LocalDateTime.now();
+    }
+
+    public String consumer() {
+        return consumer;
+    }
+
+    public LocalDateTime watermark() {
+        return watermark;
+    }
+
+    /**
+     * 다음 조회 시작 시각 (워터마크 - lookback)
+     */
+    public LocalDateTime readFrom() {
+        return watermark.minus(lookback);
+    }
+
+    /**
+     * 읽은 변경 중 처음 보는 것만 돌려주고 워터마크 전진 (updated_at 없는 행은 무시)
+     */
+    public List<Long> accept(List<NewsChange> rows) {
+        List<Long> fresh = new ArrayList<>();
+        LocalDateTime max = watermark;
+        for (NewsChange row : rows) {
+            if (row.updatedAt() == null) {
+                continue;
+            }
+            LocalDateTime seen = recent.get(row.newsId());
+            if (seen != null && !row.updatedAt().isAfter(seen)) {
+                duplicates++;
+                continue;
+            }
+            recent.put(row.newsId(), row.updatedAt());
+            fresh.add(row.newsId());
+            if (row.updatedAt().isAfter(max)) {
+                max = row.updatedAt();
+            }
+        }
+        watermark = max;
+        delivered += fresh.size();
+        recentSize = recent.size();
+        return fresh;
+    }
+
+    /**
+     * 겹침 구간 밖으로 나간 기록 제거 (다시 읽히지 않음)
+     */
+    public void trim() {
+        LocalDateTime floor = readFrom();
+        recent.values().removeIf(updatedAt -> updatedAt.isBefore(floor));
+        recentSize = recent.size();
+        lastPolledAt = LocalDateTime.now();
+    }
+
+    public boolean tombstoneDue(Duration interval) {
+        return lastTombstoneAt.plus(interval).isBefore(LocalDateTime.now());
+    }
+
+    public void markTombstoned(int removed) {
+        tombstones += removed;
+        lastTombstoneAt = LocalDateTime.now();
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("watermark", watermark.toString());
+        status.put("lookbackMs", lookback.toMillis());
+        status.put("lastPolledAt", lastPolledAt != null ? lastPolledAt.toString() : null);
+        status.put("delivered", delivered);
+        status.put("duplicatesSkipped", duplicates);
+        status.put("overlapTracked", recentSize);
+        status.put("lastTombstoneAt", lastTombstoneAt.toString());
+        status.put("tombstones", tombstones);
+        return status;
+    }
+}
@@ -0,0 +1,80 @@
+package com.newnormallist.newsservice.ingest.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 변경 피드(NewsChangeFeed)로 메모리 상태를 유지하는 집계/색인의 공통 골격
+ *
+ * 역할:
+ * - 기동: 기동 완료 후 애플리케이션 작업 실행기(applicationTaskExecutor)에서 초기 적재 (요청 처리를 막지 않음)
+ * - 증분: 하위 클래스의 @Scheduled 메서드가 refreshIfIdle() 호출 → 쓰기 락을 바로 얻을 때만 applyFeed() 실행
+ *   (재구성/이전 주기가 아직 진행 중이면 이번 주기는 건너뜀, 실패는 로그만 남기고 다음 주기에 다시 시도)
+ * - 재구성: 하위 클래스의 rebuild()가 writeLock을 잡고 새 상태를 만든 뒤 교체
+ *
+ * 하위 클래스는 적재/반영/삭제 처리(poll, tombstones)와 상태 교체만 구현
+ */
+@Slf4j
+public abstract class ChangeFeedConsumer {
+
+    protected final ReentrantLock writeLock = new ReentrantLock();
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private TaskExecutor taskExecutor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (bootstrapEnabled()) {
+            taskExecutor.execute(this::bootstrapLoad);
+        }
+    }
+
+    /**
+     * 증분 반영 (준비 전이거나 다른 반영/재구성 중이면 건너뜀)
+     */
+    protected void refreshIfIdle() {
+        if (!refreshable() || !writeLock.tryLock()) {
+            return;
+        }
+        try {
+            applyFeed();
+        } catch (Exception e) {
+            log.warn("⚠️ {} 변경 피드 반영 실패: {}", getClass().getSimpleName(), e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 기동 시 초기 적재 (기본: 전체 재구성)
+     */
+    protected void bootstrapLoad() {
+        rebuild();
+    }
+
+    /**
+     * DB에서 전체 재구성 후 상태 반환
+     */
+    public abstract Map<String, Object> rebuild();
+
+    protected abstract boolean bootstrapEnabled();
+
+    /**
+     * 증분 반영할 상태가 있는지 (재구성 전이면 false)
+     */
+    protected abstract boolean refreshable();
+
+    /**
+     * 쓰기 락 안에서 변경 피드 반영 (poll, tombstones, 만료 처리)
+     */
+    protected abstract void applyFeed();
+}
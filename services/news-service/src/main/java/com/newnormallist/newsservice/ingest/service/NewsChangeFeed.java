@@ -0,0 +1,165 @@
+package com.newnormallist.newsservice.ingest.service;
+
+import com.newnormallist.newsservice.ingest.config.IngestProperties;
+import com.newnormallist.newsservice.ingest.engine.NewsChange;
+import com.newnormallist.newsservice.ingest.engine.NewsChangeCursor;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 기사 변경 피드 (신규/수정/삭제)
+ *
+ * 역할:
+ * - 메모리 집계/색인(트렌딩, 카테고리 키워드, 검색 색인, 인기도, 연관뉴스, 유사 기사, 피드 버퍼)과 툴팁 마크업이 공통으로 쓰는 증분 입력
+ * - news_id 최대값 대신 updated_at 워터마크로 읽어 수정된 기사도 다시 전달
+ *   (IDENTITY 최대값 기준은 늦게 커밋된 작은 news_id를 건너뛰고 수정/삭제를 보지 못함)
+ *
+ * 기능:
+ * - open: 소비자별 커서 생성 (재구성 직전에 열어 적재 중 바뀐 기사를 다음 poll에서 다시 받음)
+ * - openAt: 스냅샷에 저장한 워터마크에서 커서 생성 (검색 색인 복원)
+ * - poll: 워터마크 - lookback 이후 (updated_at, news_id) 순으로 읽어 처음 보는 변경의 news_id만 반환
+ *   → 소비자는 받은 news_id를 자기 조회로 다시 읽고, 조회되지 않는 기사(삭제/집계 기간 밖)는 제거 (같은 기사를 여러 번 받아도 결과 동일)
+ * - tombstones: tombstone-interval-ms마다 소비자가 들고 있는 news_id 중 DB에서 사라진 것 반환 (삭제는 updated_at으로 보이지 않음)
+ *
+ * updated_at은 엔티티 저장 시 기록됨 (news-service @UpdateTimestamp, crawler-service @LastModifiedDate).
+ * 조회수/신고 건수 일괄 UPDATE는 updated_at을 바꾸지 않으므로 피드에 나타나지 않음
+ *
+ * 관측: news.ingest.poll{consumer} 타이머, news.ingest.changes{consumer}, news.ingest.tombstones{consumer}, status()
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsChangeFeed {
+
+    private static final int EXISTS_CHUNK = 1000;
+
+    private final NewsRepository newsRepository;
+    private final IngestProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 관리자 조회용 - 소비자별 마지막으로 연 커서
+    private final Map<String, NewsChangeCursor> cursors = new ConcurrentHashMap<>();
+
+    /**
+     * 소비자 커서 생성 (현재 최대 updated_at에서 시작)
+     */
+    public NewsChangeCursor open(String consumer) {
+        LocalDateTime latest = newsRepository.findMaxUpdatedAt();
+        return openAt(consumer, latest != null ? latest : LocalDateTime.now());
+    }
+
+    /**
+     * 저장해 둔 워터마크에서 소비자 커서 생성 (스냅샷 복원 후 이어 읽기)
+     */
+    public NewsChangeCursor openAt(String consumer, LocalDateTime watermark) {
+        NewsChangeCursor cursor = new NewsChangeCursor(consumer, watermark,
+                Duration.ofMillis(Math.max(0L, properties.getLookbackMs())));
+        cursors.put(consumer, cursor);
+        return cursor;
+    }
+
+    /**
+     * 커서 이후 추가/수정된 기사 news_id (처음 보는 변경만, 최대 max-changes-per-poll개)
+     */
+    public List<Long> poll(NewsChangeCursor cursor) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int limit = Math.max(1, properties.getMaxChangesPerPoll());
+        LocalDateTime afterUpdatedAt = cursor.readFrom();
+        long afterNewsId = 0L;
+        List<Long> changed = new ArrayList<>();
+        while (changed.size() < limit) {
+            List<NewsChange> rows = newsRepository.findChangesAfter(afterUpdatedAt, afterNewsId,
+                    PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            changed.addAll(cursor.accept(rows));
+            NewsChange last = rows.get(rows.size() - 1);
+            afterUpdatedAt = last.updatedAt();
+            afterNewsId = last.newsId();
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+        cursor.trim();
+        sample.stop(meterRegistry.timer("news.ingest.poll", "consumer", cursor.consumer()));
+        meterRegistry.counter("news.ingest.changes", "consumer", cursor.consumer()).increment(changed.size());
+        return changed;
+    }
+
+    /**
+     * 삭제 확인 주기가 됐으면 tracked 중 DB에 없는 news_id (아니면 빈 집합)
+     */
+    public Set<Long> tombstones(NewsChangeCursor cursor, Supplier<Collection<Long>> tracked) {
+        if (!cursor.tombstoneDue(Duration.ofMillis(Math.max(0L, properties.getTombstoneIntervalMs())))) {
+            return Set.of();
+        }
+        Set<Long> missing = missing(tracked.get());
+        cursor.markTombstoned(missing.size());
+        meterRegistry.counter("news.ingest.tombstones", "consumer", cursor.consumer()).increment(missing.size());
+        if (!missing.isEmpty()) {
+            log.info("🔎 {} 삭제된 기사 {}개 제거", cursor.consumer(), missing.size());
+        }
+        return missing;
+    }
+
+    /**
+     * ids 중 DB에 없는 news_id
+     */
+    public Set<Long> missing(Collection<Long> ids) {
+        List<Long> sorted = ids.stream().distinct().sorted().toList();
+        Set<Long> missing = new HashSet<>();
+        for (int from = 0; from < sorted.size(); from += EXISTS_CHUNK) {
+            List<Long> chunk = sorted.subList(from, Math.min(sorted.size(), from + EXISTS_CHUNK));
+            Set<Long> existing = new HashSet<>(newsRepository.findExistingIds(chunk));
+            for (Long id : chunk) {
+                if (!existing.contains(id)) {
+                    missing.add(id);
+                }
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * news_id 목록을 size개씩 나눔 (소비자가 자기 조회를 IN 절로 나눠 실행)
+     */
+    public static List<List<Long>> chunks(List<Long> ids, int size) {
+        int chunkSize = Math.max(1, size);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(ids.size(), from + chunkSize)));
+        }
+        return chunks;
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("lookbackMs", properties.getLookbackMs());
+        status.put("batchSize", properties.getBatchSize());
+        status.put("maxChangesPerPoll", properties.getMaxChangesPerPoll());
+        status.put("tombstoneIntervalMs", properties.getTombstoneIntervalMs());
+        Map<String, Object> consumers = new LinkedHashMap<>();
+        cursors.forEach((consumer, cursor) -> consumers.put(consumer, cursor.status()));
+        status.put("consumers", consumers);
+        return status;
+    }
+}
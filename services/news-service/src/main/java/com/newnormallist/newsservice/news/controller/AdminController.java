@@ -1,13 +1,34 @@
 package com.newnormallist.newsservice.news.controller;
 
+import com.newnormallist.newsservice.cache.service.NewsDetailCacheService;
+import com.newnormallist.newsservice.ingest.service.NewsChangeFeed;
+import com.newnormallist.newsservice.news.entity.Category;
 import com.newnormallist.newsservice.news.entity.NewsCrawl;
+import com.newnormallist.newsservice.news.entity.NewsRelatedAdjacency;
+import com.newnormallist.newsservice.news.service.ComplaintCounterService;
+import com.newnormallist.newsservice.news.service.ListPayloadBenchmarkService;
 import com.newnormallist.newsservice.news.service.NewsService;
+import com.newnormallist.newsservice.news.service.RelatedNewsAdjacencyService;
+import com.newnormallist.newsservice.popularity.service.PopularityService;
+import com.newnormallist.newsservice.recommendation.service.CategoryScoreAccumulator;
+import com.newnormallist.newsservice.recommendation.service.LatestNewsBuffer;
+import com.newnormallist.newsservice.recommendation.service.PreferenceVectorBatchJob;
+import com.newnormallist.newsservice.recommendation.service.PreferenceVectorRefresher;
+import com.newnormallist.newsservice.search.service.NewsSearchIndexService;
+import com.newnormallist.newsservice.similarity.service.SimilarArticleService;
+import com.newnormallist.newsservice.tooltip.service.TooltipMarkupService;
+import com.newnormallist.newsservice.trending.service.CategoryKeywordService;
+import com.newnormallist.newsservice.trending.service.TrendingTermService;
+import com.newnormallist.newsservice.view.service.ViewCountService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/admin")
 @CrossOrigin(origins = "*")
@@ -16,6 +37,54 @@ public class AdminController {
     @Autowired
     private NewsService newsService;
 
+    @Autowired
+    private NewsSearchIndexService newsSearchIndexService;
+
+    @Autowired
+    private ListPayloadBenchmarkService listPayloadBenchmarkService;
+
+    @Autowired
+    private TrendingTermService trendingTermService;
+
+    @Autowired
+    private CategoryKeywordService categoryKeywordService;
+
+    @Autowired
+    private NewsDetailCacheService newsDetailCacheService;
+
+    @Autowired
+    private TooltipMarkupService tooltipMarkupService;
+
+    @Autowired
+    private ComplaintCounterService complaintCounterService;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private PopularityService popularityService;
+
+    @Autowired
+    private RelatedNewsAdjacencyService relatedNewsAdjacencyService;
+
+    @Autowired
+    private SimilarArticleService similarArticleService;
+
+    @Autowired
+    private PreferenceVectorRefresher preferenceVectorRefresher;
+
+    @Autowired
+    private PreferenceVectorBatchJob preferenceVectorBatchJob;
+
+    @Autowired
+    private CategoryScoreAccumulator categoryScoreAccumulator;
+
+    @Autowired
+    private LatestNewsBuffer latestNewsBuffer;
+
+    @Autowired
+    private NewsChangeFeed newsChangeFeed;
+
     /**
      * 관리자용: 크롤링된 뉴스 목록 조회
      */
@@ -37,4 +106,250 @@ public class AdminController {
             return ResponseEntity.badRequest().body("승격 실패: " + e.getMessage());
         }
     }
+
+    /**
+     * 관리자용: 검색 색인 현황 (문서 수, 용어 수, 마지막 반영/스냅샷 시각)
+     */
+    @GetMapping("/search-index")
+    public ResponseEntity<Map<String, Object>> getSearchIndexStatus() {
+        return ResponseEntity.ok(newsSearchIndexService.status());
+    }
+
+    /**
+     * 관리자용: 검색 색인 전체 재색인 (기존 기사 본문 수정 반영)
+     */
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSearchIndex() {
+        return ResponseEntity.ok(newsSearchIndexService.rebuild());
+    }
+
+    /**
+     * 관리자용: 목록 조회 엔티티 vs 카드 프로젝션 응답 크기/쿼리 시간 비교
+     */
+    @GetMapping("/list-payload")
+    public ResponseEntity<Map<String, Object>> compareListPayload(
+            @RequestParam(defaultValue = "POLITICS") Category category,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "20") int iterations) {
+        return ResponseEntity.ok(listPayloadBenchmarkService.run(category, size, iterations));
+    }
+
+    /**
+     * 관리자용: 트렌딩 키워드 집계 상태 (버킷 수, 반영된 최대 news_id, 마지막 반영 시각)
+     */
+    @GetMapping("/trending-engine")
+    public ResponseEntity<Map<String, Object>> getTrendingEngineStatus() {
+        return ResponseEntity.ok(trendingTermService.status());
+    }
+
+    /**
+     * 관리자용: 트렌딩 키워드 집계 DB에서 재구성
+     */
+    @PostMapping("/trending-engine/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildTrendingEngine() {
+        return ResponseEntity.ok(trendingTermService.rebuild());
+    }
+
+    /**
+     * 관리자용: 카테고리별 키워드 빈도표 상태 (마지막 반영 후 경과 시간, 반영 소요 시간/기사 수, 카테고리별 기사/키워드 수)
+     */
+    @GetMapping("/category-keywords")
+    public ResponseEntity<Map<String, Object>> getCategoryKeywordStatus() {
+        return ResponseEntity.ok(categoryKeywordService.status());
+    }
+
+    /**
+     * 관리자용: 카테고리별 키워드 빈도표 DB에서 재구성
+     */
+    @PostMapping("/category-keywords/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildCategoryKeywords() {
+        return ResponseEntity.ok(categoryKeywordService.rebuild());
+    }
+
+    /**
+     * 관리자용: 기사 상세 캐시 단계별 적중률 (인스턴스 내 / Redis / DB 조립 횟수)
+     */
+    @GetMapping("/news-detail-cache")
+    public ResponseEntity<Map<String, Object>> getNewsDetailCacheStats() {
+        return ResponseEntity.ok(newsDetailCacheService.stats());
+    }
+
+    /**
+     * 관리자용: 기사 상세 캐시에서 한 기사 삭제 (모든 인스턴스)
+     */
+    @DeleteMapping("/news-detail-cache/{newsId}")
+    public ResponseEntity<Void> evictNewsDetail(@PathVariable Long newsId) {
+        newsDetailCacheService.evict(newsId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 관리자용: 기사 상세 캐시 전체 삭제 (모든 인스턴스)
+     */
+    @DeleteMapping("/news-detail-cache")
+    public ResponseEntity<Void> evictAllNewsDetails() {
+        newsDetailCacheService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 관리자용: 툴팁 마크업 사전 계산 상태 (어려운 단어 목록 버전, 재마크업 대상/대기열/실패 수)
+     */
+    @GetMapping("/tooltip-markup")
+    public ResponseEntity<Map<String, Object>> getTooltipMarkupStatus() {
+        return ResponseEntity.ok(tooltipMarkupService.status());
+    }
+
+    /**
+     * 관리자용: 어려운 단어 목록 버전 확인 후 재마크업 즉시 실행
+     */
+    @PostMapping("/tooltip-markup/reprocess")
+    public ResponseEntity<Map<String, Object>> reprocessTooltipMarkup() {
+        tooltipMarkupService.reprocessStale();
+        return ResponseEntity.ok(tooltipMarkupService.status());
+    }
+
+    /**
+     * 관리자용: 신고 건수 컬럼 보정 즉시 실행 (실제 신고 행 수와 다른 기사만 다시 계산)
+     */
+    @PostMapping("/complaint-counters/reconcile")
+    public ResponseEntity<Map<String, Object>> reconcileComplaintCounters() {
+        return ResponseEntity.ok(complaintCounterService.reconcile());
+    }
+
+    /**
+     * 관리자용: 조회수 집계 상태 (미반영 조회수, 중복 제외 수, 마지막 반영 결과)
+     */
+    @GetMapping("/view-counts")
+    public ResponseEntity<Map<String, Object>> getViewCountStatus() {
+        return ResponseEntity.ok(viewCountService.status());
+    }
+
+    /**
+     * 관리자용: 누적된 조회수 즉시 반영
+     */
+    @PostMapping("/view-counts/flush")
+    public ResponseEntity<Map<String, Object>> flushViewCounts() {
+        viewCountService.flush();
+        return ResponseEntity.ok(viewCountService.status());
+    }
+
+    /**
+     * 관리자용: 인기도 순위표 상태 (갱신 지연, 순위표 계산 비용, 상위 기사 점수)
+     */
+    @GetMapping("/popularity")
+    public ResponseEntity<Map<String, Object>> getPopularityStatus() {
+        return ResponseEntity.ok(popularityService.status());
+    }
+
+    /**
+     * 관리자용: 인기도 순위표 DB 재구성
+     */
+    @PostMapping("/popularity/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildPopularity() {
+        return ResponseEntity.ok(popularityService.rebuild());
+    }
+
+    /**
+     * 관리자용: 연관뉴스 목록 사전 계산 상태 (저장된 목록 수, 캐시 적중, 마지막 수집 반영 결과)
+     */
+    @GetMapping("/related-news")
+    public ResponseEntity<Map<String, Object>> getRelatedNewsStatus() {
+        return ResponseEntity.ok(relatedNewsAdjacencyService.status());
+    }
+
+    /**
+     * 관리자용: 기사 하나의 연관뉴스 목록 다시 계산
+     */
+    @PostMapping("/related-news/{newsId}/recompute")
+    public ResponseEntity<Map<String, Object>> recomputeRelatedNews(@PathVariable Long newsId) {
+        NewsRelatedAdjacency adjacency = relatedNewsAdjacencyService.recompute(newsId);
+        return ResponseEntity.ok(Map.of(
+                "newsId", adjacency.getNewsId(),
+                "relatedIds", adjacency.relatedIdList(),
+                "complete", adjacency.isComplete()));
+    }
+
+    /**
+     * 관리자용: 유사 기사 색인 상태 (기사 수, 어휘 수, 버킷 분포)
+     */
+    @GetMapping("/similarity")
+    public ResponseEntity<Map<String, Object>> getSimilarityStatus() {
+        return ResponseEntity.ok(similarArticleService.status());
+    }
+
+    /**
+     * 관리자용: 유사 기사 색인 DB 재구성
+     */
+    @PostMapping("/similarity/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSimilarity() {
+        return ResponseEntity.ok(similarArticleService.rebuild());
+    }
+
+    /**
+     * 관리자용: 선호 벡터 백그라운드 재계산 상태 (대기 사용자 수, 합쳐진/버려진 요청, 이벤트 → 저장 지연)
+     */
+    @GetMapping("/preference-vectors/refresh")
+    public ResponseEntity<Map<String, Object>> getPreferenceVectorRefreshStatus() {
+        return ResponseEntity.ok(preferenceVectorRefresher.status());
+    }
+
+    /**
+     * 관리자용: 선호 벡터 일괄 재계산 상태 (모드별 체크포인트, 마지막 실행 처리 사용자 수/초당 사용자 수)
+     */
+    @GetMapping("/preference-vectors/batch")
+    public ResponseEntity<Map<String, Object>> getPreferenceVectorBatchStatus() {
+        return ResponseEntity.ok(preferenceVectorBatchJob.status());
+    }
+
+    /**
+     * 관리자용: 선호 벡터 일괄 재계산 즉시 실행 (full: 활성 사용자 전부, incremental: 직전 실행 이후 활동한 사용자).
+     * 끝나지 않은 이전 실행이 있으면 체크포인트부터 이어서 처리
+     */
+    @PostMapping("/preference-vectors/batch")
+    public ResponseEntity<Map<String, Object>> runPreferenceVectorBatch(
+            @RequestParam(defaultValue = "incremental") String mode) {
+        return ResponseEntity.ok(preferenceVectorBatchJob.run(mode));
+    }
+
+    /**
+     * 관리자용: 사용자 카테고리 누적 점수와 이력 집계 비교 (감쇠 적용, 차이가 크면 재구성 필요)
+     */
+    @GetMapping("/preference-vectors/{userId}/category-scores")
+    public ResponseEntity<Map<String, Object>> compareCategoryScores(@PathVariable Long userId) {
+        return ResponseEntity.ok(categoryScoreAccumulator.compare(userId));
+    }
+
+    /**
+     * 관리자용: 사용자 카테고리 누적 점수를 이력 집계로 재구성
+     */
+    @PostMapping("/preference-vectors/{userId}/category-scores/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildCategoryScores(@PathVariable Long userId) {
+        categoryScoreAccumulator.rebuild(List.of(userId));
+        return ResponseEntity.ok(categoryScoreAccumulator.compare(userId));
+    }
+
+    /**
+     * 관리자용: 피드 최신 기사 메모리 버퍼 상태 (카테고리별 보관 수, 메모리 처리/DB 조회 횟수)
+     */
+    @GetMapping("/feed-buffer")
+    public ResponseEntity<Map<String, Object>> getFeedBufferStatus() {
+        return ResponseEntity.ok(latestNewsBuffer.status());
+    }
+
+    /**
+     * 관리자용: 피드 최신 기사 메모리 버퍼를 DB에서 다시 채움
+     */
+    @PostMapping("/feed-buffer/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildFeedBuffer() {
+        return ResponseEntity.ok(latestNewsBuffer.rebuild());
+    }
+
+    /**
+     * 관리자용: 기사 변경 피드 상태 (소비자별 워터마크, 전달/중복 제외/삭제 확인 건수)
+     */
+    @GetMapping("/ingest-feed")
+    public ResponseEntity<Map<String, Object>> getIngestFeedStatus() {
+        return ResponseEntity.ok(newsChangeFeed.status());
+    }
 }
@@ -46,6 +46,24 @@ public class CategoryController {
         }
     }
 
+    /**
+     * 카테고리별 뉴스 조회 (커서 기반, 최신순)
+     */
+    @GetMapping("/{categoryName}/news/cursor")
+    public ResponseEntity<?> getNewsByCategoryCursor(
+            @PathVariable String categoryName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Category category;
+        try {
+            category = Category.valueOf(categoryName.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("지원하지 않는 카테고리입니다: " + categoryName + 
+                ". 사용 가능한 카테고리: POLITICS, ECONOMY, SOCIETY, LIFE, INTERNATIONAL, IT_SCIENCE, VEHICLE, TRAVEL_FOOD, ART");
+        }
+        return ResponseEntity.ok(newsService.getNewsByCursor(category, null, cursor, size));
+    }
+
     /**
      * 카테고리별 뉴스 개수 조회
      */
@@ -62,7 +62,7 @@ public class LegacyNewsController {
 
     @GetMapping("/popular")
     public ResponseEntity<?> getPopularNews(Pageable pageable) {
-        return trendingController.getPopularNews(pageable);
+        return trendingController.getPopularNews(null, pageable);
     }
 
     @GetMapping("/latest")
@@ -82,7 +82,7 @@ public class LegacyNewsController {
 
     @GetMapping("/search")
     public ResponseEntity<?> searchNews(@RequestParam String query, Pageable pageable) {
-        return searchController.searchNews(query, null, null, null, null, null, null, pageable);
+        return searchController.searchNews(query, null, null, null, null, null, null, null, pageable);
     }
 
     @GetMapping("/press/{press}")
@@ -2,12 +2,16 @@ package com.newnormallist.newsservice.news.controller;
 
 import com.newnormallist.newsservice.news.dto.AddNewsToCollectionRequest;
 import com.newnormallist.newsservice.news.dto.CollectionCreateRequest;
+import com.newnormallist.newsservice.news.dto.CursorPageResponse;
+import com.newnormallist.newsservice.news.dto.NewsListResponse;
 import com.newnormallist.newsservice.news.dto.NewsResponse;
 import com.newnormallist.newsservice.news.dto.ScrappedNewsResponse;
 import com.newnormallist.newsservice.news.dto.ScrapStorageResponse;
 import com.newnormallist.newsservice.news.entity.Category;
 import com.newnormallist.newsservice.news.exception.UnauthenticatedUserException;
 import com.newnormallist.newsservice.news.service.NewsService;
+import com.newnormallist.newsservice.view.service.ViewCountService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -37,11 +41,15 @@ public class NewsController {
     }
 
     /**
-     * 뉴스 조회수 증가
+     * 뉴스 조회수 증가 (같은 사용자의 재조회는 일정 시간 동안 한 번만 집계)
      */
     @PostMapping("/{newsId}/view")
-    public ResponseEntity<Void> incrementViewCount(@PathVariable Long newsId) {
-        newsService.incrementViewCount(newsId);
+    public ResponseEntity<Void> incrementViewCount(@PathVariable Long newsId,
+                                                   @AuthenticationPrincipal String userIdString,
+                                                   HttpServletRequest request) {
+        Long userId = userIdString == null || "anonymousUser".equals(userIdString) ? null : Long.parseLong(userIdString);
+        newsService.incrementViewCount(newsId, userId, ViewCountService.viewerKey(
+                userIdString, request.getRemoteAddr(), request.getHeader("User-Agent")));
         return ResponseEntity.ok().build();
     }
 
@@ -67,6 +75,29 @@ public class NewsController {
         return ResponseEntity.ok(newsList);
     }
 
+    /**
+     * 뉴스 목록 조회(커서 기반, 최신순)
+     * 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<NewsListResponse>> getNewsByCursor(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Category categoryEntity = null;
+        if (category != null && !category.equalsIgnoreCase("전체") && !category.isEmpty()) {
+            try {
+                categoryEntity = Category.valueOf(category.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 카테고리입니다: " + category);
+            }
+        }
+
+        return ResponseEntity.ok(newsService.getNewsByCursor(categoryEntity, keyword, cursor, size));
+    }
+
     /**
      * 특정(단건) 뉴스 상세 조회
      */
@@ -84,6 +115,15 @@ public class NewsController {
         return ResponseEntity.ok().build();
     }
 
+    @DeleteMapping("/{newsId}/report")
+    public ResponseEntity<Void> withdrawReport(@PathVariable Long newsId, @AuthenticationPrincipal String userIdString) {
+        if (userIdString == null || "anonymousUser".equals(userIdString)) {
+            throw new UnauthenticatedUserException("사용자 인증 정보가 없습니다. 로그인이 필요합니다.");
+        }
+        newsService.withdrawReport(newsId, Long.parseLong(userIdString));
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/{newsId}/scrap")
     public ResponseEntity<Void> scrapNews(@PathVariable Long newsId, @AuthenticationPrincipal String userIdString) {
         if (userIdString == null || "anonymousUser".equals(userIdString)) {
@@ -22,6 +22,7 @@ public class SearchController {
 
     /**
      * 키워드 검색 (정렬 및 필터링 지원)
+     * backend: like | index | fulltext (생략 시 search.backend 설정값, sortBy 생략 시 관련도순)
      */
     @GetMapping
     public ResponseEntity<Page<NewsListResponse>> searchNews(
@@ -32,9 +33,10 @@ public class SearchController {
             @RequestParam(required = false) String press,
             @RequestParam(required = false) String startDate,
             @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String backend,
             Pageable pageable) {
         Page<NewsListResponse> news = newsService.searchNewsWithFilters(
-                query, sortBy, sortOrder, category, press, startDate, endDate, pageable);
+                query, sortBy, sortOrder, category, press, startDate, endDate, backend, pageable);
         return ResponseEntity.ok(news);
     }
 
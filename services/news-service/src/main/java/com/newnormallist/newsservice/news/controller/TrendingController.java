@@ -105,11 +105,21 @@ public class TrendingController {
 
 
     /**
-     * 인기 뉴스 (조회수 기반)
+     * 인기 뉴스 (조회수/스크랩/최신성 시간 감쇠 점수, category 지정 시 카테고리 내 순위)
      */
     @GetMapping("/popular")
-    public ResponseEntity<Page<NewsListResponse>> getPopularNews(Pageable pageable) {
-        Page<NewsListResponse> news = newsService.getPopularNews(pageable);
+    public ResponseEntity<Page<NewsListResponse>> getPopularNews(
+            @RequestParam(required = false) String category,
+            Pageable pageable) {
+        Category categoryEntity = null;
+        if (category != null && !category.isBlank() && !category.equalsIgnoreCase("전체")) {
+            try {
+                categoryEntity = Category.valueOf(category.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 카테고리입니다: " + category);
+            }
+        }
+        Page<NewsListResponse> news = newsService.getPopularNews(categoryEntity, pageable);
         return ResponseEntity.ok(news);
     }
 
@@ -0,0 +1,23 @@
+package com.newnormallist.newsservice.news.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답
+ * nextCursor를 다음 요청의 cursor 파라미터로 넘기면 이어지는 페이지를 조회 (마지막 페이지면 null)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
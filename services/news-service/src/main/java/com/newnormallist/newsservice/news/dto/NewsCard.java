@@ -0,0 +1,29 @@
+package com.newnormallist.newsservice.news.dto;
+
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.entity.DedupState;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 목록 카드 프로젝션
+ *
+ * 목록 조회에서 News 엔티티 전체(본문 MEDIUMTEXT 포함) 대신 카드에 필요한 컬럼만 읽기 위한 DTO.
+ * 본문은 저장 시 계산된 snippet으로 대신함 (NewsRepository.CARD_SELECT, NewsCardRepository)
+ */
+public record NewsCard(
+        Long newsId,
+        String title,
+        String snippet,
+        String press,
+        Boolean trusted,
+        String publishedAt,
+        LocalDateTime publishedAtDateTime,
+        LocalDateTime createdAt,
+        String reporter,
+        Category categoryName,
+        DedupState dedupState,
+        String imageUrl,
+        String oidAid,
+        Integer viewCount) {
+}
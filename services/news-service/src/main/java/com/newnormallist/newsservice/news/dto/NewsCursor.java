@@ -0,0 +1,45 @@
+package com.newnormallist.newsservice.news.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 뉴스 목록 커서 (키셋 페이지네이션)
+ *
+ * 역할:
+ * - 마지막으로 내려준 기사의 (published_at_datetime, news_id)를 불투명 토큰으로 인코딩/디코딩
+ * - 다음 페이지는 이 키보다 뒤(최신순 기준)인 기사부터 조회하므로 건너뛴 행을 읽지 않고,
+ *   그 사이 새 기사가 들어와도 중복/누락이 생기지 않음
+ *
+ * 발행일이 없는 기사는 최신순 정렬에서 맨 뒤에 오며 publishedAt=null 커서로 표현
+ */
+public record NewsCursor(LocalDateTime publishedAt, Long newsId) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = (publishedAt != null ? publishedAt.toString() : "") + SEPARATOR + newsId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 토큰이 비어 있으면 null (첫 페이지)
+     * @throws IllegalArgumentException 형식이 잘못된 토큰
+     */
+    public static NewsCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            String publishedAt = raw.substring(0, separator);
+            return new NewsCursor(
+                    publishedAt.isEmpty() ? null : LocalDateTime.parse(publishedAt),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 public class NewsListResponse {
     private Long newsId;
     private String title;
+    // 목록 응답: 본문 앞부분(snippet, NewsDerivedColumns 규칙). 전체 본문은 상세 조회(NewsResponse)
     private String content;
     private String summary;
     private String press;
@@ -1,5 +1,6 @@
 package com.newnormallist.newsservice.news.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.newnormallist.newsservice.news.entity.NewsStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,9 +8,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class NewsResponse {
@@ -29,6 +31,10 @@ public class NewsResponse {
     private String dedupStateDescription;
     private String imageUrl;
     private String oidAid;
+    private Integer viewCount;
     private NewsStatus status;
     private LocalDateTime updatedAt;
+    // 상세 조회에서 기한 안에 얻지 못한 보강 (tooltip) - 모두 성공하면 생략
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<String> degraded;
 }
\ No newline at end of file
@@ -35,4 +35,18 @@ public class RelatedNewsResponseDto {
                 .categoryName(news.getCategoryName())
                 .build();
     }
+
+    // 미리 계산된 연관뉴스 목록 응답 (본문 없이 카드 컬럼만 조회)
+    public static RelatedNewsResponseDto from(NewsCard card) {
+        return RelatedNewsResponseDto.builder()
+                .newsId(card.newsId())
+                .title(card.title())
+                .press(card.press())
+                .publishedAt(card.publishedAt())
+                .reporter(card.reporter())
+                .createdAt(card.createdAt())
+                .imageUrl(card.imageUrl())
+                .categoryName(card.categoryName())
+                .build();
+    }
 }
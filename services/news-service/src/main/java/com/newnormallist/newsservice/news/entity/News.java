@@ -1,5 +1,6 @@
 package com.newnormallist.newsservice.news.entity;
 
+import com.newnormallist.newsservice.news.util.NewsDerivedColumns;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -9,7 +10,11 @@ import java.util.List;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table(name = "news")
+@Table(name = "news", indexes = {
+        @Index(name = "idx_news_category_published", columnList = "category_name, published_at_datetime"),
+        @Index(name = "idx_news_published", columnList = "published_at_datetime"),
+        @Index(name = "idx_news_updated", columnList = "updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,12 +37,20 @@ public class News {
     @Column(name = "content", nullable = false, columnDefinition = "MEDIUMTEXT")
     private String content;
 
+    // 목록 카드용 본문 앞부분 (저장 시 content에서 계산, 목록 조회는 content 대신 이 컬럼만 읽음)
+    @Column(name = "snippet", length = 160)
+    private String snippet;
+
     @Column(name = "press", nullable = false, columnDefinition = "TEXT")
     private String press;
 
     @Column(name = "published_at", length = 100)
     private String publishedAt;
 
+    // published_at(문자열)의 DATETIME 사본 - 정렬/기간 조회는 이 컬럼 사용 (이행 기간 동안 이중 기록)
+    @Column(name = "published_at_datetime")
+    private LocalDateTime publishedAtDateTime;
+
     @Column(name = "reporter", nullable = false, columnDefinition = "TEXT")
     private String reporter;
 
@@ -70,7 +83,30 @@ public class News {
     @Builder.Default
     private NewsStatus status = NewsStatus.PUBLISHED;
 
+    // 신고 건수 (news_complaint 행 수의 비정규화 사본)
+    // 신고 접수/철회 시 NewsRepository.addComplaintCount의 원자적 UPDATE로만 바뀌고, 엔티티 저장으로는 쓰지 않음
+    @Column(name = "complaint_count", insertable = false, updatable = false,
+            columnDefinition = "INT NOT NULL DEFAULT 0")
+    private Integer complaintCount;
+
+    // 조회수 - ViewCountService가 인스턴스 내에 누적한 뒤 주기적으로 일괄 UPDATE, 엔티티 저장으로는 쓰지 않음
+    @Column(name = "view_count", insertable = false, updatable = false,
+            columnDefinition = "INT NOT NULL DEFAULT 0")
+    private Integer viewCount;
+
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+
+    // 저장/수정 시 문자열 발행일을 DATETIME 컬럼에, 본문 앞부분을 snippet에 함께 기록 (규칙: NewsDerivedColumns)
+    @PrePersist
+    @PreUpdate
+    void syncDerivedColumns() {
+        if (content != null) {
+            snippet = NewsDerivedColumns.toSnippet(content);
+        }
+        if (publishedAt != null) {
+            publishedAtDateTime = NewsDerivedColumns.toPublishedAtDateTime(publishedAt);
+        }
+    }
+}
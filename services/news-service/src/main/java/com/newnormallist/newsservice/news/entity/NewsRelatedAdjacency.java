@@ -0,0 +1,62 @@
+package com.newnormallist.newsservice.news.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 기사별 연관뉴스 목록 (수집/중복제거 결과 반영 시 미리 계산, 연관뉴스 조회는 이 행 하나만 읽음)
+// related_ids: 연관뉴스 news_id를 응답 순서대로 쉼표로 이은 값 (대표/연관 쌍 → 같은 시간대 → 최근 3일 대체까지 반영)
+// complete: MAX_RELATED_NEWS개를 채웠는지 여부 - 못 채운 목록은 일정 시간 후 다시 계산
+@Entity
+@Table(name = "news_related_adjacency")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsRelatedAdjacency {
+
+    @Id
+    @Column(name = "news_id")
+    private Long newsId;
+
+    @Column(name = "related_ids", nullable = false, length = 255)
+    private String relatedIds;
+
+    @Column(name = "complete", nullable = false)
+    private boolean complete;
+
+    @Column(name = "computed_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime computedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        computedAt = LocalDateTime.now();
+    }
+
+    public List<Long> relatedIdList() {
+        List<Long> ids = new ArrayList<>();
+        if (relatedIds == null || relatedIds.isEmpty()) {
+            return ids;
+        }
+        for (String id : relatedIds.split(",")) {
+            ids.add(Long.parseLong(id));
+        }
+        return ids;
+    }
+
+    public static String joinIds(List<Long> ids) {
+        StringBuilder joined = new StringBuilder();
+        for (Long id : ids) {
+            if (joined.length() > 0) {
+                joined.append(',');
+            }
+            joined.append(id);
+        }
+        return joined.toString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.newnormallist.newsservice.news.repository;
+
+import com.newnormallist.newsservice.news.dto.NewsCard;
+import com.newnormallist.newsservice.news.entity.News;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Specification 조건으로 목록 카드(NewsCard)만 조회 (NewsRepository 확장)
+ * JpaSpecificationExecutor는 엔티티 전체를 읽으므로 카드 컬럼만 select 하는 Criteria 쿼리로 대신함
+ */
+public interface NewsCardRepository {
+
+    // 조건 + 정렬 + 페이징 (COUNT 쿼리 포함)
+    Page<NewsCard> findCards(Specification<News> spec, Pageable pageable);
+
+    // 조건 + 정렬 + 최대 limit건 (커서 목록용, COUNT 쿼리 없음)
+    List<NewsCard> findCards(Specification<News> spec, Sort sort, int limit);
+}
@@ -0,0 +1,75 @@
+package com.newnormallist.newsservice.news.repository;
+
+import com.newnormallist.newsservice.news.dto.NewsCard;
+import com.newnormallist.newsservice.news.entity.News;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+/**
+ * NewsCardRepository 구현 - 선택 컬럼은 NewsRepository.CARD_SELECT와 같음
+ */
+public class NewsCardRepositoryImpl implements NewsCardRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<NewsCard> findCards(Specification<News> spec, Pageable pageable) {
+        List<NewsCard> content = entityManager.createQuery(cardQuery(spec, pageable.getSort()))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<NewsCard> findCards(Specification<News> spec, Sort sort, int limit) {
+        return entityManager.createQuery(cardQuery(spec, sort))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private CriteriaQuery<NewsCard> cardQuery(Specification<News> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<NewsCard> query = cb.createQuery(NewsCard.class);
+        Root<News> root = query.from(News.class);
+        query.select(cb.construct(NewsCard.class,
+                root.get("newsId"), root.get("title"), root.get("snippet"), root.get("press"),
+                root.get("trusted"), root.get("publishedAt"), root.get("publishedAtDateTime"), root.get("createdAt"),
+                root.get("reporter"),
+                root.get("categoryName"), root.get("dedupState"), root.get("imageUrl"), root.get("oidAid"),
+                root.get("viewCount")));
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return query;
+    }
+
+    private long count(Specification<News> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<News> root = query.from(News.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
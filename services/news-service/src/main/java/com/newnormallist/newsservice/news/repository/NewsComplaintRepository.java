@@ -2,7 +2,33 @@ package com.newnormallist.newsservice.news.repository;
 
 import com.newnormallist.newsservice.news.entity.NewsComplaint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+// 신고 건수 조회는 news.complaint_count 컬럼 사용 (NewsRepository.findComplaintCount)
+// 아래 집계 쿼리는 컬럼 보정(ComplaintCounterService.reconcile)에서만 사용
 public interface NewsComplaintRepository extends JpaRepository<NewsComplaint, Long> {
-    long countByNewsNewsId(Long newsId);
-}
\ No newline at end of file
+
+    long deleteByUserIdAndNewsNewsId(Long userId, Long newsId);
+
+    // news_id 구간에서 complaint_count가 실제 신고 행 수와 다른 기사
+    @Query(value = "SELECT n.news_id FROM news n " +
+                   "LEFT JOIN (SELECT c.news_id, COUNT(*) AS cnt FROM news_complaint c " +
+                   "           WHERE c.news_id BETWEEN :fromId AND :toId GROUP BY c.news_id) x " +
+                   "ON x.news_id = n.news_id " +
+                   "WHERE n.news_id BETWEEN :fromId AND :toId AND n.complaint_count <> COALESCE(x.cnt, 0)",
+           nativeQuery = true)
+    List<Long> findDriftedNewsIds(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 한 기사의 complaint_count를 실제 행 수로 다시 계산 (읽고 쓰는 사이 들어온 신고도 반영되도록 한 문장으로)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE news SET complaint_count = " +
+                   "(SELECT COUNT(*) FROM news_complaint c WHERE c.news_id = :newsId) WHERE news_id = :newsId",
+           nativeQuery = true)
+    int recountComplaints(@Param("newsId") Long newsId);
+}
@@ -0,0 +1,32 @@
+package com.newnormallist.newsservice.news.repository;
+
+import com.newnormallist.newsservice.news.entity.NewsRelatedAdjacency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NewsRelatedAdjacencyRepository extends JpaRepository<NewsRelatedAdjacency, Long> {
+
+    // 저장된 목록의 news_id (삭제된 기사 목록 정리용)
+    @Query("SELECT a.newsId FROM NewsRelatedAdjacency a")
+    List<Long> findAllNewsIds();
+
+    // 목록 저장 - 여러 인스턴스가 같은 기사를 동시에 계산해도 중복 키 오류 없이 나중 계산으로 덮어씀
+    // (news_id가 직접 지정된 엔티티의 save는 SELECT 후 INSERT라 동시 INSERT가 충돌)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO news_related_adjacency (news_id, related_ids, complete, computed_at) " +
+                   "VALUES (:newsId, :relatedIds, :complete, :computedAt) AS new " +
+                   "ON DUPLICATE KEY UPDATE related_ids = new.related_ids, complete = new.complete, " +
+                   "computed_at = new.computed_at",
+           nativeQuery = true)
+    int upsert(@Param("newsId") Long newsId,
+               @Param("relatedIds") String relatedIds,
+               @Param("complete") boolean complete,
+               @Param("computedAt") LocalDateTime computedAt);
+}
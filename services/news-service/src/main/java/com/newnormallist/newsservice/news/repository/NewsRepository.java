@@ -1,34 +1,47 @@
 package com.newnormallist.newsservice.news.repository;
+import com.newnormallist.newsservice.ingest.engine.NewsChange;
+import com.newnormallist.newsservice.news.dto.NewsCard;
 import com.newnormallist.newsservice.news.entity.Category;
 import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.popularity.engine.PopularitySource;
+import com.newnormallist.newsservice.trending.engine.KeywordSource;
+import com.newnormallist.newsservice.trending.engine.TrendingSource;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface NewsRepository extends JpaRepository<News, Long> {
+public interface NewsRepository extends JpaRepository<News, Long>, JpaSpecificationExecutor<News>, NewsCardRepository {
 
-    @Query("SELECT n FROM News n WHERE STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') > :since")
+    // 목록 카드 프로젝션 (본문 대신 snippet, 카드에 쓰는 컬럼만 조회)
+    String CARD_SELECT = "SELECT new com.newnormallist.newsservice.news.dto.NewsCard(" +
+            "n.newsId, n.title, n.snippet, n.press, n.trusted, n.publishedAt, n.publishedAtDateTime, n.createdAt, n.reporter, " +
+            "n.categoryName, n.dedupState, n.imageUrl, n.oidAid, n.viewCount) FROM News n ";
+
+    @Query("SELECT n FROM News n WHERE n.publishedAtDateTime > :since")
     List<News> findByPublishedAtAfter(@Param("since") LocalDateTime since);
 
     // 카테고리별 뉴스 조회 (최신순)
-    @Query("SELECT n FROM News n WHERE n.categoryName = :category ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n WHERE n.categoryName = :category ORDER BY n.publishedAtDateTime DESC")
     Page<News> findByCategory(@Param("category") Category category, Pageable pageable);
 
     // 키워드 검색 (제목, 내용에서 검색, 최신순)
     @Query("SELECT n FROM News n WHERE " +
-           "n.title LIKE %:keyword% OR n.content LIKE %:keyword% ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+           "n.title LIKE %:keyword% OR n.content LIKE %:keyword% ORDER BY n.publishedAtDateTime DESC")
     Page<News> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     // 최신 뉴스 조회 (발행일 기준 내림차순)
-    @Query("SELECT n FROM News n ORDER BY n.publishedAt DESC")
+    @Query("SELECT n FROM News n ORDER BY n.publishedAtDateTime DESC")
     Page<News> findLatestNews(Pageable pageable);
 
     // 인기 뉴스 조회 (신뢰도 기준 내림차순)
@@ -36,26 +49,26 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     Page<News> findPopularNews(Pageable pageable);
 
     // 트렌딩 뉴스 조회 (신뢰도 + 발행일 기준)
-    @Query("SELECT n FROM News n ORDER BY n.trusted DESC, STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n ORDER BY n.trusted DESC, n.publishedAtDateTime DESC")
     Page<News> findTrendingNews(Pageable pageable);
 
-    // 특정 기간 내 뉴스 조회 (페이징) - String 비교로 변경
-    @Query("SELECT n FROM News n WHERE n.publishedAt BETWEEN :startDate AND :endDate ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
-    Page<News> findByPublishedAtBetween(@Param("startDate") String startDate,
-                                       @Param("endDate") String endDate,
+    // 특정 기간 내 뉴스 조회 (페이징)
+    @Query("SELECT n FROM News n WHERE n.publishedAtDateTime BETWEEN :startDate AND :endDate ORDER BY n.publishedAtDateTime DESC")
+    Page<News> findByPublishedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                       @Param("endDate") LocalDateTime endDate,
                                        Pageable pageable);
 
-    // 특정 기간 내 뉴스 조회 (List 반환) - String 비교로 변경
-    @Query("SELECT n FROM News n WHERE n.publishedAt BETWEEN :startDate AND :endDate ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
-    List<News> findByPublishedAtBetween(@Param("startDate") String startDate,
-                                       @Param("endDate") String endDate);
+    // 특정 기간 내 뉴스 조회 (List 반환)
+    @Query("SELECT n FROM News n WHERE n.publishedAtDateTime BETWEEN :startDate AND :endDate ORDER BY n.publishedAtDateTime DESC")
+    List<News> findByPublishedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                       @Param("endDate") LocalDateTime endDate);
 
     // 신뢰도가 높은 뉴스 조회 (최신순)
-    @Query("SELECT n FROM News n WHERE n.trusted = true ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n WHERE n.trusted = true ORDER BY n.publishedAtDateTime DESC")
     Page<News> findByTrustedTrue(Pageable pageable);
 
     // 특정 언론사 뉴스 조회 (최신순)
-    @Query("SELECT n FROM News n WHERE n.press = :press ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n WHERE n.press = :press ORDER BY n.publishedAtDateTime DESC")
     Page<News> findByPress(@Param("press") String press, Pageable pageable);
 
     // 카테고리별 뉴스 개수 조회
@@ -66,7 +79,7 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     Page<News> findAll(Pageable pageable);
 
     // 전체 뉴스 조회 (최신순 정렬)
-    @Query("SELECT n FROM News n ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n ORDER BY n.publishedAtDateTime DESC")
     Page<News> findAllByOrderByPublishedAtDesc(Pageable pageable);
 
     // 연관뉴스 조회를 위한 메서드들
@@ -76,22 +89,196 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     List<News> findByOidAidIn(@Param("oidAids") List<String> oidAids);
 
     // 같은 발행일, 같은 카테고리, 특정 뉴스 제외
-    @Query("SELECT n FROM News n WHERE n.publishedAt = :publishedAt AND n.categoryName = :categoryName AND n.newsId != :excludeNewsId")
-    List<News> findByPublishedAtAndCategoryNameAndNewsIdNot(@Param("publishedAt") String publishedAt,
+    @Query("SELECT n FROM News n WHERE n.publishedAtDateTime = :publishedAt AND n.categoryName = :categoryName AND n.newsId != :excludeNewsId")
+    List<News> findByPublishedAtAndCategoryNameAndNewsIdNot(@Param("publishedAt") LocalDateTime publishedAt,
                                                            @Param("categoryName") Category categoryName,
                                                            @Param("excludeNewsId") Long excludeNewsId);
 
+    // oid_aid 리스트로 news_id만 조회 (연관뉴스 목록 재계산 대상)
+    @Query("SELECT n.newsId FROM News n WHERE n.oidAid IN :oidAids")
+    List<Long> findIdsByOidAidIn(@Param("oidAids") Collection<String> oidAids);
+
     // oid_aid 리스트로 뉴스 조회 (특정 뉴스 제외)
     @Query("SELECT n FROM News n WHERE n.oidAid IN :oidAids AND n.newsId != :excludeNewsId")
     List<News> findByOidAidInAndNewsIdNot(@Param("oidAids") List<String> oidAids,
                                           @Param("excludeNewsId") Long excludeNewsId);
 
     // 특정 기간, 같은 카테고리, 특정 뉴스들 제외
-    @Query("SELECT n FROM News n WHERE n.publishedAt BETWEEN :startDate AND :endDate AND n.categoryName = :categoryName AND n.newsId NOT IN :excludeNewsIds")
-    List<News> findByPublishedAtBetweenAndCategoryNameAndNewsIdNotIn(@Param("startDate") String startDate,
-                                                                     @Param("endDate") String endDate,
+    @Query("SELECT n FROM News n WHERE n.publishedAtDateTime BETWEEN :startDate AND :endDate AND n.categoryName = :categoryName AND n.newsId NOT IN :excludeNewsIds")
+    List<News> findByPublishedAtBetweenAndCategoryNameAndNewsIdNotIn(@Param("startDate") LocalDateTime startDate,
+                                                                     @Param("endDate") LocalDateTime endDate,
                                                                      @Param("categoryName") Category categoryName,
                                                                      @Param("excludeNewsIds") List<Long> excludeNewsIds);
 
     Optional<News> findByOidAid(String oidAid);
-}
\ No newline at end of file
+
+    // 검색 색인 증분 반영용 (news_id 오름차순)
+    List<News> findByNewsIdGreaterThanOrderByNewsIdAsc(Long newsId, Pageable pageable);
+
+    // FULLTEXT 검색 공통 필터 (카테고리, 언론사 부분 일치, 발행일 기간)
+    String FULLTEXT_FILTERS =
+            "AND (:category IS NULL OR n.category_name = :category) " +
+            "AND (:press IS NULL OR LOWER(n.press) LIKE CONCAT('%', LOWER(:press), '%')) " +
+            "AND (:dateFiltered = FALSE OR n.published_at_datetime BETWEEN :from AND :to) ";
+
+    // FULLTEXT(ngram) 검색 - 관련도순 news_id (ddl_News.sql의 ft_news_title_content 색인 필요, MySQL 전용)
+    @Query(value = "SELECT n.news_id FROM news n " +
+           "WHERE MATCH(n.title, n.content) AGAINST (:query IN NATURAL LANGUAGE MODE) " + FULLTEXT_FILTERS +
+           "ORDER BY MATCH(n.title, n.content) AGAINST (:query IN NATURAL LANGUAGE MODE) DESC, n.news_id DESC",
+           countQuery = "SELECT COUNT(*) FROM news n " +
+           "WHERE MATCH(n.title, n.content) AGAINST (:query IN NATURAL LANGUAGE MODE) " + FULLTEXT_FILTERS,
+           nativeQuery = true)
+    Page<Long> searchIdsByFullTextNatural(@Param("query") String query,
+                                          @Param("category") String category,
+                                          @Param("press") String press,
+                                          @Param("dateFiltered") boolean dateFiltered,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          Pageable pageable);
+
+    // FULLTEXT(ngram) 불리언 모드 검색 - +"단어" 조합으로 모든 단어 포함(부분 문자열) 문서만, 관련도순 news_id
+    @Query(value = "SELECT n.news_id FROM news n " +
+           "WHERE MATCH(n.title, n.content) AGAINST (:query IN BOOLEAN MODE) " + FULLTEXT_FILTERS +
+           "ORDER BY MATCH(n.title, n.content) AGAINST (:query IN BOOLEAN MODE) DESC, n.news_id DESC",
+           countQuery = "SELECT COUNT(*) FROM news n " +
+           "WHERE MATCH(n.title, n.content) AGAINST (:query IN BOOLEAN MODE) " + FULLTEXT_FILTERS,
+           nativeQuery = true)
+    Page<Long> searchIdsByFullTextBoolean(@Param("query") String query,
+                                          @Param("category") String category,
+                                          @Param("press") String press,
+                                          @Param("dateFiltered") boolean dateFiltered,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          Pageable pageable);
+
+    // 목록 카드 조회 (아래는 위 엔티티 조회와 같은 조건/정렬의 프로젝션 버전)
+
+    @Query(value = CARD_SELECT + "WHERE n.categoryName = :category ORDER BY n.publishedAtDateTime DESC",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE n.categoryName = :category")
+    Page<NewsCard> findCardsByCategory(@Param("category") Category category, Pageable pageable);
+
+    @Query(value = CARD_SELECT + "WHERE n.title LIKE %:keyword% OR n.content LIKE %:keyword% " +
+           "ORDER BY n.publishedAtDateTime DESC",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE n.title LIKE %:keyword% OR n.content LIKE %:keyword%")
+    Page<NewsCard> searchCardsByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = CARD_SELECT + "ORDER BY n.publishedAtDateTime DESC",
+           countQuery = "SELECT COUNT(n) FROM News n")
+    Page<NewsCard> findLatestCards(Pageable pageable);
+
+    @Query(value = CARD_SELECT + "ORDER BY n.trusted DESC",
+           countQuery = "SELECT COUNT(n) FROM News n")
+    Page<NewsCard> findPopularCards(Pageable pageable);
+
+    @Query(value = CARD_SELECT + "ORDER BY n.trusted DESC, n.publishedAtDateTime DESC",
+           countQuery = "SELECT COUNT(n) FROM News n")
+    Page<NewsCard> findTrendingCards(Pageable pageable);
+
+    @Query(value = CARD_SELECT + "WHERE n.trusted = true ORDER BY n.publishedAtDateTime DESC",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE n.trusted = true")
+    Page<NewsCard> findTrustedCards(Pageable pageable);
+
+    @Query(value = CARD_SELECT + "WHERE n.press = :press ORDER BY n.publishedAtDateTime DESC",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE n.press = :press")
+    Page<NewsCard> findCardsByPress(@Param("press") String press, Pageable pageable);
+
+    @Query(CARD_SELECT + "WHERE n.publishedAtDateTime BETWEEN :startDate AND :endDate ORDER BY n.publishedAtDateTime DESC")
+    List<NewsCard> findCardsByPublishedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                                 @Param("endDate") LocalDateTime endDate);
+
+    // 검색 색인/FULLTEXT 결과 news_id로 카드 조회 (순서는 호출 측에서 맞춤)
+    @Query(CARD_SELECT + "WHERE n.newsId IN :ids")
+    List<NewsCard> findCardsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 트렌딩 집계용 제목/발행일 (news_id 오름차순, 기동 시 재구성 및 증분 반영)
+    @Query("SELECT new com.newnormallist.newsservice.trending.engine.TrendingSource(" +
+           "n.newsId, n.title, n.categoryName, n.publishedAtDateTime) FROM News n " +
+           "WHERE n.newsId > :afterNewsId AND n.publishedAtDateTime >= :since ORDER BY n.newsId ASC")
+    List<TrendingSource> findTrendingSources(@Param("afterNewsId") Long afterNewsId,
+                                             @Param("since") LocalDateTime since,
+                                             Pageable pageable);
+
+    // 카테고리별 키워드 집계용 제목/본문 앞부분: 카테고리 최신 기사 (기동 시 재구성, 준비 전 요청 시 집계)
+    @Query("SELECT new com.newnormallist.newsservice.trending.engine.KeywordSource(" +
+           "n.newsId, n.title, SUBSTRING(n.content, 1, :contentChars), n.categoryName, n.publishedAtDateTime) " +
+           "FROM News n WHERE n.categoryName = :category AND n.publishedAtDateTime >= :since " +
+           "ORDER BY n.publishedAtDateTime DESC, n.newsId DESC")
+    List<KeywordSource> findKeywordSourcesByCategory(@Param("category") Category category,
+                                                     @Param("since") LocalDateTime since,
+                                                     @Param("contentChars") int contentChars,
+                                                     Pageable pageable);
+
+    // 카테고리별 키워드 집계 증분 반영 (news_id 오름차순)
+    @Query("SELECT new com.newnormallist.newsservice.trending.engine.KeywordSource(" +
+           "n.newsId, n.title, SUBSTRING(n.content, 1, :contentChars), n.categoryName, n.publishedAtDateTime) " +
+           "FROM News n WHERE n.newsId > :afterNewsId AND n.publishedAtDateTime >= :since ORDER BY n.newsId ASC")
+    List<KeywordSource> findKeywordSources(@Param("afterNewsId") Long afterNewsId,
+                                           @Param("since") LocalDateTime since,
+                                           @Param("contentChars") int contentChars,
+                                           Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(n.newsId), 0) FROM News n")
+    Long findMaxNewsId();
+
+    // 변경 피드: (updated_at, news_id) 이후 추가/수정된 기사 (updated_at, news_id 오름차순 keyset, idx_news_updated)
+    @Query("SELECT new com.newnormallist.newsservice.ingest.engine.NewsChange(n.newsId, n.updatedAt) FROM News n " +
+           "WHERE n.updatedAt > :afterUpdatedAt OR (n.updatedAt = :afterUpdatedAt AND n.newsId > :afterNewsId) " +
+           "ORDER BY n.updatedAt ASC, n.newsId ASC")
+    List<NewsChange> findChangesAfter(@Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+                                      @Param("afterNewsId") Long afterNewsId,
+                                      Pageable pageable);
+
+    @Query("SELECT MAX(n.updatedAt) FROM News n")
+    LocalDateTime findMaxUpdatedAt();
+
+    // 변경 피드 삭제 확인 (ids 중 남아 있는 news_id)
+    @Query("SELECT n.newsId FROM News n WHERE n.newsId IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 변경 피드로 받은 기사 다시 읽기 - 트렌딩 집계 (집계 기간 밖이거나 삭제된 기사는 빠짐)
+    @Query("SELECT new com.newnormallist.newsservice.trending.engine.TrendingSource(" +
+           "n.newsId, n.title, n.categoryName, n.publishedAtDateTime) FROM News n " +
+           "WHERE n.newsId IN :ids AND n.publishedAtDateTime >= :since")
+    List<TrendingSource> findTrendingSourcesByIdIn(@Param("ids") Collection<Long> ids,
+                                                   @Param("since") LocalDateTime since);
+
+    // 변경 피드로 받은 기사 다시 읽기 - 카테고리 키워드/유사 기사
+    @Query("SELECT new com.newnormallist.newsservice.trending.engine.KeywordSource(" +
+           "n.newsId, n.title, SUBSTRING(n.content, 1, :contentChars), n.categoryName, n.publishedAtDateTime) " +
+           "FROM News n WHERE n.newsId IN :ids AND n.publishedAtDateTime >= :since")
+    List<KeywordSource> findKeywordSourcesByIdIn(@Param("ids") Collection<Long> ids,
+                                                 @Param("since") LocalDateTime since,
+                                                 @Param("contentChars") int contentChars);
+
+    // 변경 피드로 받은 기사 다시 읽기 - 인기도 순위
+    @Query("SELECT new com.newnormallist.newsservice.popularity.engine.PopularitySource(" +
+           "n.newsId, n.categoryName, n.publishedAtDateTime, n.viewCount) " +
+           "FROM News n WHERE n.newsId IN :ids AND n.publishedAtDateTime >= :since")
+    List<PopularitySource> findPopularitySourcesByIdIn(@Param("ids") Collection<Long> ids,
+                                                       @Param("since") LocalDateTime since);
+
+    // 변경 피드로 받은 기사 다시 읽기 - 연관뉴스 목록 (news_id, oid_aid, updated_at)
+    @Query("SELECT n.newsId, n.oidAid, n.updatedAt FROM News n WHERE n.newsId IN :ids")
+    List<Object[]> findOidAidsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 인기도 순위 집계 대상 기사 (재구성/증분 공통, news_id 오름차순)
+    @Query("SELECT new com.newnormallist.newsservice.popularity.engine.PopularitySource(" +
+           "n.newsId, n.categoryName, n.publishedAtDateTime, n.viewCount) " +
+           "FROM News n WHERE n.newsId > :afterNewsId AND n.publishedAtDateTime >= :since ORDER BY n.newsId ASC")
+    List<PopularitySource> findPopularitySources(@Param("afterNewsId") Long afterNewsId,
+                                                 @Param("since") LocalDateTime since,
+                                                 Pageable pageable);
+
+    // 툴팁 마크업 사전 계산용 본문 (엔티티 전체 대신 본문만)
+    @Query("SELECT n.content FROM News n WHERE n.newsId = :newsId")
+    Optional<String> findContentById(@Param("newsId") Long newsId);
+
+    // 신고 건수 원자적 증감 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE News n SET n.complaintCount = CASE WHEN n.complaintCount + :delta < 0 THEN 0 " +
+           "ELSE n.complaintCount + :delta END WHERE n.newsId = :newsId")
+    int addComplaintCount(@Param("newsId") Long newsId, @Param("delta") int delta);
+
+    @Query("SELECT n.complaintCount FROM News n WHERE n.newsId = :newsId")
+    Integer findComplaintCount(@Param("newsId") Long newsId);
+}
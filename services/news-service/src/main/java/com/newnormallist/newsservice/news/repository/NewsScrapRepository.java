@@ -1,6 +1,7 @@
 package com.newnormallist.newsservice.news.repository;
 
 import com.newnormallist.newsservice.news.entity.NewsScrap;
+import com.newnormallist.newsservice.popularity.engine.ScrapEvent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface NewsScrapRepository extends JpaRepository<NewsScrap, Integer> {
@@ -32,4 +35,14 @@ public interface NewsScrapRepository extends JpaRepository<NewsScrap, Integer> {
     Page<NewsScrap> findByUserId(Long userId, Pageable pageable);
 
     Optional<NewsScrap> findByUserIdAndNewsNewsId(Long userId, Long newsId);
+
+    // 인기도 순위 집계용 스크랩 (scrap_id 오름차순, 증분 반영)
+    @Query("SELECT new com.newnormallist.newsservice.popularity.engine.ScrapEvent(ns.scrapId, ns.news.newsId, ns.createdAt) " +
+           "FROM NewsScrap ns WHERE ns.scrapId > :afterScrapId AND ns.createdAt >= :since ORDER BY ns.scrapId ASC")
+    List<ScrapEvent> findScrapEvents(@Param("afterScrapId") Integer afterScrapId,
+                                     @Param("since") LocalDateTime since,
+                                     Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(ns.scrapId), 0) FROM NewsScrap ns")
+    Integer findMaxScrapId();
 }
@@ -0,0 +1,104 @@
+package com.newnormallist.newsservice.news.repository;
+
+import com.newnormallist.newsservice.news.dto.NewsCursor;
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.entity.News;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 뉴스 검색 조건 (JPA Specification)
+ *
+ * 검색 필터/정렬/페이징을 모두 SQL로 처리하기 위한 조건 조각.
+ * 값이 비어 있는 조건은 null을 반환해 Specification.allOf에서 제외됨
+ * - 카테고리 + 발행일: idx_news_category_published
+ * - 발행일 기간: idx_news_published
+ */
+public final class NewsSpecifications {
+
+    private NewsSpecifications() {
+    }
+
+    /**
+     * 검색 필터 조합 (키워드 AND 카테고리 AND 언론사 AND 발행일 기간)
+     */
+    public static Specification<News> searchFilters(String keyword, Category category, String press,
+                                                    LocalDateTime from, LocalDateTime to) {
+        return Specification.allOf(
+                keywordContains(keyword),
+                categoryEquals(category),
+                pressContains(press),
+                publishedFrom(from),
+                publishedTo(to));
+    }
+
+    // 제목 또는 본문 부분 일치 (기존 searchByKeyword와 같은 조건)
+    public static Specification<News> keywordContains(String keyword) {
+        if (keyword == null || keyword.isEmpty()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(keyword) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(root.get("title"), pattern, '\\'),
+                cb.like(root.get("content"), pattern, '\\'));
+    }
+
+    public static Specification<News> categoryEquals(Category category) {
+        if (category == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("categoryName"), category);
+    }
+
+    // 언론사 부분 일치 (대소문자 무시)
+    public static Specification<News> pressContains(String press) {
+        if (press == null || press.isEmpty()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(press.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("press")), pattern, '\\');
+    }
+
+    public static Specification<News> publishedFrom(LocalDateTime from) {
+        if (from == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("publishedAtDateTime"), from);
+    }
+
+    public static Specification<News> publishedTo(LocalDateTime to) {
+        if (to == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("publishedAtDateTime"), to);
+    }
+
+    /**
+     * 키셋 조건: 최신순(published_at_datetime DESC, news_id DESC)에서 커서 다음에 오는 기사
+     * - 발행일이 없는 기사는 DESC 정렬에서 맨 뒤이므로 발행일 있는 커서 뒤에는 항상 포함
+     * - (category_name, published_at_datetime) 인덱스는 InnoDB에서 news_id가 뒤에 붙어 정렬/범위 모두 인덱스로 처리
+     */
+    public static Specification<News> after(NewsCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        LocalDateTime publishedAt = cursor.publishedAt();
+        Long newsId = cursor.newsId();
+        if (publishedAt == null) {
+            return (root, query, cb) -> cb.and(
+                    cb.isNull(root.get("publishedAtDateTime")),
+                    cb.lessThan(root.get("newsId"), newsId));
+        }
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("publishedAtDateTime"), publishedAt),
+                cb.and(cb.equal(root.get("publishedAtDateTime"), publishedAt),
+                        cb.lessThan(root.get("newsId"), newsId)),
+                cb.isNull(root.get("publishedAtDateTime")));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
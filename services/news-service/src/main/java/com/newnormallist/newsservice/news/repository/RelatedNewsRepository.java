@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -26,4 +27,9 @@ public interface RelatedNewsRepository extends JpaRepository<RelatedNews, Relate
     // related_oid_aid로 관련 뉴스들 조회
     @Query("SELECT rn FROM RelatedNews rn WHERE rn.id.relatedOidAid = :relatedOidAid")
     List<RelatedNews> findByIdRelatedOidAid(@Param("relatedOidAid") String relatedOidAid);
+
+    // 기사들이 속한 대표 기사 그룹 (대표 기사 자신이거나 연관 기사인 쌍의 rep_oid_aid)
+    @Query("SELECT DISTINCT rn.id.repOidAid FROM RelatedNews rn " +
+           "WHERE rn.id.repOidAid IN :oidAids OR rn.id.relatedOidAid IN :oidAids")
+    List<String> findRepOidAidsByMemberOidAidIn(@Param("oidAids") Collection<String> oidAids);
 }
@@ -0,0 +1,95 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.cache.service.NewsDetailCacheService;
+import com.newnormallist.newsservice.news.repository.NewsComplaintRepository;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 기사 신고 건수 컬럼(news.complaint_count) 보정
+ *
+ * 역할:
+ * - 신고 접수/철회 시 컬럼을 원자적으로 증감하고, 조회는 컬럼만 읽음 (COUNT 없음)
+ * - 증감이 빠진 경우(직접 DB 수정, 실패한 트랜잭션 등)를 대비해 주기적으로 실제 신고 행 수와 비교해 보정
+ *
+ * 기능:
+ * - news_id 구간(range-size) 단위로 어긋난 기사만 찾아 다시 계산하고 기사 상세 캐시 삭제
+ * - 보정 건수는 news.complaint.counter.repaired 카운터와 반환값으로 노출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ComplaintCounterService {
+
+    private final NewsRepository newsRepository;
+    private final NewsComplaintRepository newsComplaintRepository;
+    private final NewsDetailCacheService newsDetailCacheService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${complaint-counter.range-size:10000}")
+    private long rangeSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile LocalDateTime lastReconciledAt;
+    private volatile int lastRepaired;
+
+    @Scheduled(cron = "${complaint-counter.reconcile-cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 전체 기사 신고 건수 보정 (이미 실행 중이면 건너뜀)
+     */
+    public Map<String, Object> reconcile() {
+        if (!lock.tryLock()) {
+            return status(false);
+        }
+        try {
+            long started = System.currentTimeMillis();
+            long maxNewsId = newsRepository.findMaxNewsId();
+            long step = Math.max(1L, rangeSize);
+            int repaired = 0;
+            for (long fromId = 1; fromId <= maxNewsId; fromId += step) {
+                List<Long> drifted = newsComplaintRepository.findDriftedNewsIds(fromId, fromId + step - 1);
+                for (Long newsId : drifted) {
+                    newsComplaintRepository.recountComplaints(newsId);
+                    newsDetailCacheService.evict(newsId);
+                    repaired++;
+                }
+            }
+            meterRegistry.counter("news.complaint.counter.repaired").increment(repaired);
+            lastRepaired = repaired;
+            lastReconciledAt = LocalDateTime.now();
+            if (repaired > 0) {
+                log.warn("⚠️ 신고 건수 컬럼 보정: {}개 기사, {}ms", repaired, System.currentTimeMillis() - started);
+            } else {
+                log.info("🔎 신고 건수 컬럼 보정 대상 없음 ({}ms)", System.currentTimeMillis() - started);
+            }
+        } catch (Exception e) {
+            log.error("❌ 신고 건수 컬럼 보정 실패: {}", e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+        return status(true);
+    }
+
+    private Map<String, Object> status(boolean ran) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("ran", ran);
+        status.put("lastReconciledAt", lastReconciledAt != null ? lastReconciledAt.toString() : null);
+        status.put("lastRepaired", lastRepaired);
+        return status;
+    }
+}
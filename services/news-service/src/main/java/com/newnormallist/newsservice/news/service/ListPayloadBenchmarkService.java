@@ -0,0 +1,122 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newnormallist.newsservice.news.dto.NewsCard;
+import com.newnormallist.newsservice.news.dto.NewsListResponse;
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 조회 응답 크기/쿼리 시간 비교 (관리자용)
+ *
+ * 역할:
+ * - 같은 카테고리 최신순 한 페이지를 엔티티 전체 조회(본문 포함, 변경 전) / 카드 프로젝션 조회(snippet, 변경 후)로 읽어
+ *   쿼리 시간(p50/p95)과 JSON 응답 크기(bytes)를 비교
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ListPayloadBenchmarkService {
+
+    private final NewsRepository newsRepository;
+    private final ObjectMapper objectMapper;
+
+    public Map<String, Object> run(Category category, int size, int iterations) {
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(size, 100)));
+        int runs = Math.max(1, Math.min(iterations, 200));
+
+        Map<String, Object> entity = measure(runs,
+                () -> newsRepository.findByCategory(category, pageable).getContent().stream()
+                        .map(this::toEntityPayload)
+                        .collect(Collectors.toList()));
+        Map<String, Object> projection = measure(runs,
+                () -> newsRepository.findCardsByCategory(category, pageable).getContent().stream()
+                        .map(this::toCardPayload)
+                        .collect(Collectors.toList()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("category", category.name());
+        result.put("pageSize", pageable.getPageSize());
+        result.put("iterations", runs);
+        result.put("entity", entity);
+        result.put("projection", projection);
+        log.info("🔎 목록 응답 크기 비교 완료: {}", result);
+        return result;
+    }
+
+    private Map<String, Object> measure(int runs, Supplier<List<NewsListResponse>> query) {
+        List<NewsListResponse> sample = query.get(); // 예열
+        long[] samples = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long started = System.nanoTime();
+            query.get();
+            samples[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(samples);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("rows", sample.size());
+        stats.put("payloadBytes", payloadBytes(sample));
+        stats.put("p50Ms", toMillis(samples[(int) Math.ceil(0.50 * runs) - 1]));
+        stats.put("p95Ms", toMillis(samples[(int) Math.ceil(0.95 * runs) - 1]));
+        return stats;
+    }
+
+    // 변경 전 목록 응답 형태 (본문 포함)
+    private NewsListResponse toEntityPayload(News news) {
+        return NewsListResponse.builder()
+                .newsId(news.getNewsId())
+                .title(news.getTitle())
+                .content(news.getContent())
+                .press(news.getPress())
+                .publishedAt(news.getPublishedAtDateTime())
+                .createdAt(news.getCreatedAt())
+                .reporterName(news.getReporter())
+                .categoryName(news.getCategoryName().name())
+                .imageUrl(news.getImageUrl())
+                .oidAid(news.getOidAid())
+                .build();
+    }
+
+    private NewsListResponse toCardPayload(NewsCard card) {
+        return NewsListResponse.builder()
+                .newsId(card.newsId())
+                .title(card.title())
+                .content(card.snippet())
+                .summary(card.snippet())
+                .press(card.press())
+                .publishedAt(card.publishedAtDateTime())
+                .createdAt(card.createdAt())
+                .reporterName(card.reporter())
+                .categoryName(card.categoryName().name())
+                .imageUrl(card.imageUrl())
+                .oidAid(card.oidAid())
+                .build();
+    }
+
+    private long payloadBytes(List<NewsListResponse> payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload).length;
+        } catch (JsonProcessingException e) {
+            return -1;
+        }
+    }
+
+    private double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,138 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.news.exception.NewsNotFoundException;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import com.newnormallist.newsservice.tooltip.service.TooltipMarkupService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 기사 상세 응답 조립 (캐시 미스 시)
+ *
+ * 역할:
+ * - 기사 본문 조회(필수, 신고 건수는 기사 행의 complaint_count)와 보강 조회(저장된 툴팁 마크업)를 동시에 실행
+ * - 보강 조회는 요청별 기한(deadline-ms) 안에 끝난 결과만 사용하고, 넘기면 빼고 응답 (degraded에 기록)
+ *
+ * 보강 누락 시:
+ * - tooltip: 원본 본문으로 응답 (캐시에는 짧게만 보관해 다음 조회에서 다시 시도)
+ *
+ * 관측: news.detail.enrichment{enrichment, result} 타이머 (보강별 지연 시간), news.detail.enrichment.timeouts{enrichment}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsDetailAssembler {
+
+    public static final String TOOLTIP = "tooltip";
+
+    private final NewsRepository newsRepository;
+    private final TooltipMarkupService tooltipMarkupService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${news-detail.deadline-ms:300}")
+    private long deadlineMs;
+
+    @Value("${news-detail.enrichment-threads:8}")
+    private int enrichmentThreads;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        // 대기열이 가득 차면 요청 스레드에서 직접 실행 (순차 조회로 후퇴)
+        executor = new ThreadPoolExecutor(enrichmentThreads, enrichmentThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(enrichmentThreads * 32),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "news-detail-enrichment-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 기사와 보강 결과 조회
+     *
+     * @throws NewsNotFoundException 기사가 없을 때
+     */
+    public NewsDetailParts assemble(Long newsId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        Future<String> tooltip = executor.submit(() -> timed(TOOLTIP,
+                () -> tooltipMarkupService.findProcessedContent(newsId)));
+
+        News news;
+        try {
+            news = timed("article", () -> newsRepository.findById(newsId))
+                    .orElseThrow(() -> new NewsNotFoundException("존재하지 않는 뉴스입니다: " + newsId));
+        } catch (RuntimeException e) {
+            tooltip.cancel(true);
+            throw e;
+        }
+
+        List<String> degraded = new ArrayList<>();
+        String processedContent = await(TOOLTIP, tooltip, deadline, degraded, newsId);
+        return new NewsDetailParts(news, processedContent, List.copyOf(degraded));
+    }
+
+    private <T> T await(String enrichment, Future<T> future, long deadline, List<String> degraded, Long newsId) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            meterRegistry.counter("news.detail.enrichment.timeouts", "enrichment", enrichment).increment();
+            log.warn("⚠️ 뉴스 ID {} 상세 보강 기한 초과, 제외하고 응답: {}", newsId, enrichment);
+        } catch (ExecutionException e) {
+            log.warn("⚠️ 뉴스 ID {} 상세 보강 실패, 제외하고 응답: {} - {}", newsId, enrichment,
+                    e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        degraded.add(enrichment);
+        return null;
+    }
+
+    private <T> T timed(String enrichment, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            result = "error";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("news.detail.enrichment", "enrichment", enrichment, "result", result));
+        }
+    }
+
+    /**
+     * @param processedContent 저장된 툴팁 마크업 본문 (아직 없거나 기한 초과/실패 시 null)
+     * @param degraded         기한 안에 결과를 얻지 못한 보강 (TOOLTIP)
+     */
+    public record NewsDetailParts(News news, String processedContent, List<String> degraded) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.newnormallist.newsservice.news.service;
 
 import com.newnormallist.newsservice.news.dto.CategoryDto;
+import com.newnormallist.newsservice.news.dto.CursorPageResponse;
 import com.newnormallist.newsservice.news.dto.KeywordSubscriptionDto;
 import com.newnormallist.newsservice.news.dto.NewsCrawlDto;
 import com.newnormallist.newsservice.news.dto.NewsListResponse;
@@ -29,17 +30,24 @@ public interface NewsService {
     NewsResponse getNewsById(Long newsId);
     List<NewsResponse> getPersonalizedNews(Long userId);
     List<NewsResponse> getTrendingNews();
-    void incrementViewCount(Long newsId);
+    void incrementViewCount(Long newsId, Long userId, String viewerKey);
 
     // 새로운 API 엔드포인트들을 위한 메서드들
     Page<NewsListResponse> getTrendingNews(Pageable pageable);
     Page<NewsListResponse> getRecommendedNews(Long userId, Pageable pageable);
     Page<NewsListResponse> getNewsByCategory(Category category, Pageable pageable);
+
+    // 커서 기반 최신순 목록 (카테고리/키워드 선택, 깊은 페이지도 일정한 지연 시간)
+    CursorPageResponse<NewsListResponse> getNewsByCursor(Category category, String keyword, String cursor, int size);
     Page<NewsListResponse> searchNews(String query, Pageable pageable);
     Page<NewsListResponse> searchNewsWithFilters(String query, String sortBy, String sortOrder,
                                                 String category, String press, String startDate,
                                                 String endDate, Pageable pageable);
-    Page<NewsListResponse> getPopularNews(Pageable pageable);
+    // backend: like | index | fulltext (null이면 search.backend 설정값)
+    Page<NewsListResponse> searchNewsWithFilters(String query, String sortBy, String sortOrder,
+                                                String category, String press, String startDate,
+                                                String endDate, String backend, Pageable pageable);
+    Page<NewsListResponse> getPopularNews(Category category, Pageable pageable);
     Page<NewsListResponse> getLatestNews(Pageable pageable);
     List<CategoryDto> getAllCategories();
 
@@ -67,6 +75,7 @@ public interface NewsService {
 
     // 신고 및 스크랩
     void reportNews(Long newsId, Long userId);
+    void withdrawReport(Long newsId, Long userId);
     void scrapNews(Long newsId, Long userId); // 기본 스크랩
 
     // 컬렉션 (스크랩 보관함)
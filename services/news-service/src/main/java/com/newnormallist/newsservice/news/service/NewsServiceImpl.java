@@ -1,5 +1,7 @@
 package com.newnormallist.newsservice.news.service;
 
+import com.newnormallist.newsservice.cache.model.NewsDetailEntry;
+import com.newnormallist.newsservice.cache.service.NewsDetailCacheService;
 import com.newnormallist.newsservice.news.dto.*;
 import com.newnormallist.newsservice.news.entity.*;
 import com.newnormallist.newsservice.news.exception.NewsNotFoundException;
@@ -8,35 +10,55 @@ import com.newnormallist.newsservice.news.exception.NewsForbiddenException;
 import com.newnormallist.newsservice.news.repository.KeywordSubscriptionRepository;
 import com.newnormallist.newsservice.news.repository.NewsCrawlRepository;
 import com.newnormallist.newsservice.news.repository.NewsRepository;
-import com.newnormallist.newsservice.tooltip.client.TooltipServiceClient;
-import com.newnormallist.newsservice.tooltip.dto.ProcessContentRequest;
-import com.newnormallist.newsservice.tooltip.dto.ProcessContentResponse;
+import com.newnormallist.newsservice.news.repository.NewsSpecifications;
+import com.newnormallist.newsservice.popularity.service.PopularityService;
+import com.newnormallist.newsservice.recommendation.event.UserActivityEvent;
+import com.newnormallist.newsservice.tooltip.service.TooltipMarkupService;
+import com.newnormallist.newsservice.view.service.ViewCountService;
 import com.newnormallist.newsservice.news.repository.NewsScrapRepository;
 import com.newnormallist.newsservice.news.repository.ScrapStorageRepository;
 import com.newnormallist.newsservice.news.entity.NewsComplaint;
 import com.newnormallist.newsservice.news.entity.NewsStatus;
 import com.newnormallist.newsservice.news.repository.NewsComplaintRepository;
 import com.newnormallist.newsservice.news.dto.ScrappedNewsResponse;
+import com.newnormallist.newsservice.search.config.SearchProperties;
+import com.newnormallist.newsservice.search.index.SearchBackend;
+import com.newnormallist.newsservice.search.index.SearchFilter;
+import com.newnormallist.newsservice.search.index.SearchHits;
+import com.newnormallist.newsservice.search.index.SearchSort;
+import com.newnormallist.newsservice.search.service.FullTextSearchService;
+import com.newnormallist.newsservice.search.service.NewsSearchIndexService;
+import com.newnormallist.newsservice.trending.service.CategoryKeywordService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Set;
 import java.util.Map;
+import java.util.Objects;
 
 @Service
 @Transactional
 @Slf4j
 public class NewsServiceImpl implements NewsService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     @Autowired
     private NewsCrawlRepository newsCrawlRepository;
 
@@ -44,7 +66,10 @@ public class NewsServiceImpl implements NewsService {
     private NewsRepository newsRepository;
 
     @Autowired
-    private TooltipServiceClient tooltipServiceClient;
+    private TooltipMarkupService tooltipMarkupService;
+
+    @Autowired
+    private NewsDetailAssembler newsDetailAssembler;
 
     @Autowired
     private KeywordSubscriptionRepository keywordSubscriptionRepository;
@@ -58,6 +83,30 @@ public class NewsServiceImpl implements NewsService {
     @Autowired
     private NewsComplaintRepository newsComplaintRepository;
 
+    @Autowired
+    private NewsSearchIndexService newsSearchIndexService;
+
+    @Autowired
+    private FullTextSearchService fullTextSearchService;
+
+    @Autowired
+    private SearchProperties searchProperties;
+
+    @Autowired
+    private CategoryKeywordService categoryKeywordService;
+
+    @Autowired
+    private NewsDetailCacheService newsDetailCacheService;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private PopularityService popularityService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
 
 
     // 크롤링 관련 메서드들
@@ -112,43 +161,48 @@ public class NewsServiceImpl implements NewsService {
 
     @Override
     public NewsResponse getNewsById(Long newsId) {
-        News news = newsRepository.findById(newsId)
-                .orElseThrow(() -> new NewsNotFoundException("존재하지 않는 뉴스입니다: " + newsId));
-
-        // 신고 건수 확인
-        long complaintCount = newsComplaintRepository.countByNewsNewsId(newsId);
-        if (complaintCount >= 10) {
+        // 조립된 상세 응답은 2단계 캐시(인스턴스 내 + Redis)에서 조회, 미스일 때만 DB 조회
+        NewsDetailEntry detail = newsDetailCacheService.get(newsId, this::loadNewsDetail);
+        if (detail.blocked()) {
             throw new NewsForbiddenException("많은 신고가 접수되어 접근이 제한된 뉴스입니다.");
         }
-
-        // ----- 툴팁 기능을 위한 코드 시작 -----
-        // 툴팁 서비스를 호출하여 마크업된 본문 가져오기
-        String processedContent = getProcessedContent(newsId, news.getContent());
-
-        return convertToNewsResponseWithTooltip(news, processedContent);
+        // 캐시된 응답의 조회수는 조립 시점 값이므로 최신 반영값 + 미반영 조회수로 보정
+        NewsResponse news = detail.news();
+        return news.toBuilder()
+                .viewCount(viewCountService.currentCount(newsId, news.getViewCount()))
+                .build();
     }
 
     /**
-     * 툴팁 서비스를 호출하여 마크업된 본문을 가져옵니다.
-     * 실패 시 원본 본문을 반환합니다.
+     * 상세 응답 조립 (캐시 미스 시) - 기사 조회와 보강 조회를 동시에 실행하고 기한을 넘긴 보강은 제외
      */
-    private String getProcessedContent(Long newsId, String originalContent) {
-        try {
-            log.info("🟡 뉴스 ID {}에 대해 툴팁 서비스 호출을 시작합니다.", newsId);
-            ProcessContentRequest request = new ProcessContentRequest(newsId, originalContent);
-            ProcessContentResponse response = tooltipServiceClient.processContent(request);
-            log.info("🟢 뉴스 ID {} 툴팁 마크업 완료!", newsId);
-            return response.processedContent();
-        } catch (Exception e) {
-            log.warn("⚠️ 뉴스 ID {} 툴팁 서비스 호출 실패, 원본 텍스트 사용: {}", newsId, e.getMessage());
-            return originalContent;
+    private NewsDetailEntry loadNewsDetail(Long newsId) {
+        NewsDetailAssembler.NewsDetailParts parts = newsDetailAssembler.assemble(newsId);
+        News news = parts.news();
+
+        // 신고 건수 확인 (기사 행의 complaint_count 컬럼)
+        if (news.getComplaintCount() != null && news.getComplaintCount() >= 10) {
+            return NewsDetailEntry.blockedEntry();
+        }
+
+        // ----- 툴팁 기능을 위한 코드 시작 -----
+        // 미리 저장된 마크업 본문 사용 (조회 중 툴팁 서비스 호출 없음)
+        // 아직 없으면 원본 본문으로 응답하고 백그라운드 마크업 요청 (캐시에는 짧게만 보관)
+        String processedContent = parts.processedContent();
+        boolean markupApplied = processedContent != null;
+        if (!markupApplied && !parts.degraded().contains(NewsDetailAssembler.TOOLTIP)) {
+            tooltipMarkupService.requestMarkup(newsId);
         }
+
+        NewsResponse response = convertToNewsResponseWithTooltip(news, markupApplied ? processedContent : news.getContent(),
+                parts.degraded());
+        return new NewsDetailEntry(response, false, markupApplied && parts.degraded().isEmpty());
     }
 
     /**
      * 툴팁이 적용된 NewsResponse 생성
      */
-    private NewsResponse convertToNewsResponseWithTooltip(News news, String processedContent) {
+    private NewsResponse convertToNewsResponseWithTooltip(News news, String processedContent, List<String> degraded) {
         return NewsResponse.builder()
                 .newsId(news.getNewsId())
                 .title(news.getTitle())
@@ -161,7 +215,9 @@ public class NewsServiceImpl implements NewsService {
                 .trusted(news.getTrusted() ? 1 : 0)
                 .imageUrl(news.getImageUrl())
                 .oidAid(news.getOidAid())
+                .viewCount(news.getViewCount())
                 .categoryName(news.getCategoryName().name())
+                .degraded(degraded)
                 .build();
                 // ----- 툴팁 기능을 위한 코드 끝 -----
     }
@@ -188,15 +244,19 @@ public class NewsServiceImpl implements NewsService {
     }
 
     @Override
-    public void incrementViewCount(Long newsId) {
-        // TODO: 조회수 증가 로직 구현
-        // 현재는 view count 필드가 없으므로 나중에 구현
+    public void incrementViewCount(Long newsId, Long userId, String viewerKey) {
+        // 인스턴스 내 카운터에 누적 (DB 반영은 ViewCountService.flush에서 일괄 처리)
+        boolean counted = viewCountService.record(newsId, viewerKey);
+        // 로그인 사용자의 첫 조회는 선호 벡터 재계산 요청 (중복 조회는 조회 기록을 바꾸지 않음)
+        if (counted && userId != null) {
+            eventPublisher.publishEvent(new UserActivityEvent(userId, newsId, UserActivityEvent.READ));
+        }
     }
 
 
     @Override
     public Page<NewsListResponse> getTrendingNews(Pageable pageable) {
-        return newsRepository.findTrendingNews(pageable)
+        return newsRepository.findTrendingCards(pageable)
                 .map(this::convertToNewsListResponse);
     }
 
@@ -204,19 +264,48 @@ public class NewsServiceImpl implements NewsService {
     public Page<NewsListResponse> getRecommendedNews(Long userId, Pageable pageable) {
         // TODO: 사용자 기반 추천 로직 구현
         // 현재는 신뢰도가 높은 뉴스 반환
-        return newsRepository.findByTrustedTrue(pageable)
+        return newsRepository.findTrustedCards(pageable)
                 .map(this::convertToNewsListResponse);
     }
 
     @Override
     public Page<NewsListResponse> getNewsByCategory(Category category, Pageable pageable) {
-        return newsRepository.findByCategory(category, pageable)
+        return newsRepository.findCardsByCategory(category, pageable)
                 .map(this::convertToNewsListResponse);
     }
 
+    @Override
+    public CursorPageResponse<NewsListResponse> getNewsByCursor(Category category, String keyword,
+                                                                String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Specification<News> spec = Specification.allOf(
+                NewsSpecifications.searchFilters(keyword, category, null, null, null),
+                NewsSpecifications.after(NewsCursor.decode(cursor)));
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+        List<NewsCard> rows = newsRepository.findCards(spec,
+                Sort.by(Sort.Direction.DESC, "publishedAtDateTime", "newsId"), limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<NewsCard> page = hasNext ? rows.subList(0, limit) : rows;
+        NewsCard last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return CursorPageResponse.<NewsListResponse>builder()
+                .content(page.stream().map(this::convertToNewsListResponse).collect(Collectors.toList()))
+                .size(page.size())
+                .hasNext(hasNext)
+                // 정렬에 쓴 published_at_datetime 그대로 (null이면 발행일 없는 구간)
+                .nextCursor(hasNext ? new NewsCursor(last.publishedAtDateTime(), last.newsId()).encode() : null)
+                .build();
+    }
+
     @Override
     public Page<NewsListResponse> searchNews(String query, Pageable pageable) {
-        return newsRepository.searchByKeyword(query, pageable)
+        Page<NewsListResponse> result = searchWithBackend(resolveSearchBackend(null), query,
+                SearchFilter.NONE, SearchSort.RELEVANCE, pageable);
+        if (result != null) {
+            return result;
+        }
+        return newsRepository.searchCardsByKeyword(query, pageable)
                 .map(this::convertToNewsListResponse);
     }
 
@@ -224,117 +313,183 @@ public class NewsServiceImpl implements NewsService {
     public Page<NewsListResponse> searchNewsWithFilters(String query, String sortBy, String sortOrder,
             String category, String press, String startDate,
             String endDate, Pageable pageable) {
-        // 기본 검색 결과 가져오기
-        Page<News> newsPage = newsRepository.searchByKeyword(query, pageable);
-
-        // 필터링 적용
-        List<News> filteredNews = newsPage.getContent().stream()
-                .filter(news -> {
-                    // 카테고리 필터
-                    if (category != null && !category.isEmpty()) {
-                        try {
-                            Category categoryEnum = Category.valueOf(category.toUpperCase());
-                            if (!news.getCategoryName().equals(categoryEnum)) {
-                                return false;
-                            }
-                        } catch (IllegalArgumentException e) {
-                            return false;
-                        }
-                    }
-
-                    // 언론사 필터
-                    if (press != null && !press.isEmpty()) {
-                        if (!news.getPress().toLowerCase().contains(press.toLowerCase())) {
-                            return false;
-                        }
-                    }
-
-                    // 날짜 필터
-                    if (startDate != null && !startDate.isEmpty()) {
-                        LocalDateTime start = parsePublishedAt(startDate);
-                        if (news.getCreatedAt().isBefore(start)) {
-                            return false;
-                        }
-                    }
-
-                    if (endDate != null && !endDate.isEmpty()) {
-                        LocalDateTime end = parsePublishedAt(endDate);
-                        if (news.getCreatedAt().isAfter(end)) {
-                            return false;
-                        }
-                    }
-
-                    return true;
-                })
-                .collect(Collectors.toList());
+        return searchNewsWithFilters(query, sortBy, sortOrder, category, press, startDate, endDate, null, pageable);
+    }
 
-        // 정렬 적용
-        if (sortBy != null && !sortBy.isEmpty()) {
-            String order = (sortOrder != null && sortOrder.equalsIgnoreCase("desc")) ? "desc" : "asc";
-
-            switch (sortBy.toLowerCase()) {
-                case "date":
-                case "publishedat":
-                    if (order.equals("desc")) {
-                        filteredNews.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
-                    } else {
-                        filteredNews.sort((a, b) -> a.getCreatedAt().compareTo(b.getCreatedAt()));
-                    }
-                    break;
-//                case "viewcount":
-//                    if (order.equals("desc")) {
-//                        filteredNews.sort((a, b) -> Integer.compare(b.getViewCount() != null ? b.getViewCount() : 0,
-//                                                                   a.getViewCount() != null ? a.getViewCount() : 0));
-//                    } else {
-//                        filteredNews.sort((a, b) -> Integer.compare(a.getViewCount() != null ? a.getViewCount() : 0,
-//                                                                   b.getViewCount() != null ? b.getViewCount() : 0));
-//                    }
-//                    break;
-                case "title":
-                    if (order.equals("desc")) {
-                        filteredNews.sort((a, b) -> b.getTitle().compareTo(a.getTitle()));
-                    } else {
-                        filteredNews.sort((a, b) -> a.getTitle().compareTo(b.getTitle()));
-                    }
-                    break;
-                case "press":
-                    if (order.equals("desc")) {
-                        filteredNews.sort((a, b) -> b.getPress().compareTo(a.getPress()));
-                    } else {
-                        filteredNews.sort((a, b) -> a.getPress().compareTo(b.getPress()));
-                    }
-                    break;
-                default:
-                    // 기본 정렬: 최신순
-                    filteredNews.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
+    @Override
+    public Page<NewsListResponse> searchNewsWithFilters(String query, String sortBy, String sortOrder,
+            String category, String press, String startDate,
+            String endDate, String backend, Pageable pageable) {
+        // 색인/FULLTEXT 검색 (지원하지 않는 정렬이면 기존 경로로 처리)
+        SearchSort sort = toSearchSort(sortBy, sortOrder);
+        SearchBackend resolved = resolveSearchBackend(backend);
+        if (sort != null && resolved != SearchBackend.LIKE) {
+            SearchFilter filter = toSearchFilter(category, press, startDate, endDate);
+            if (filter == null) {
+                return Page.empty(pageable);
+            }
+            Page<NewsListResponse> result = searchWithBackend(resolved, query, filter, sort, pageable);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        // 필터/정렬/페이징을 모두 DB에서 처리
+        Category categoryEnum = null;
+        if (category != null && !category.isEmpty()) {
+            try {
+                categoryEnum = Category.valueOf(category.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return Page.empty(pageable);
             }
         }
+        LocalDateTime from = startDate != null && !startDate.isEmpty() ? parsePublishedAt(startDate) : null;
+        LocalDateTime to = endDate != null && !endDate.isEmpty() ? parsePublishedAt(endDate) : null;
+
+        Specification<News> spec = NewsSpecifications.searchFilters(query, categoryEnum, press, from, to);
+        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                toSearchOrder(sortBy, sortOrder));
+        return newsRepository.findCards(spec, pageRequest)
+                .map(this::convertToNewsListResponse);
+    }
+
+    /**
+     * LIKE 검색 정렬 (정렬 미지정/알 수 없는 값은 최신순, 동점은 news_id 역순으로 페이지 경계 고정)
+     */
+    private Sort toSearchOrder(String sortBy, String sortOrder) {
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortOrder) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort;
+        switch (sortBy != null ? sortBy.toLowerCase() : "") {
+            case "date":
+            case "publishedat":
+                sort = Sort.by(direction, "publishedAtDateTime");
+                break;
+            case "title":
+                sort = Sort.by(direction, "title");
+                break;
+            case "press":
+                sort = Sort.by(direction, "press");
+                break;
+            default:
+                sort = Sort.by(Sort.Direction.DESC, "publishedAtDateTime");
+        }
+        return sort.and(Sort.by(Sort.Direction.DESC, "newsId"));
+    }
 
-        // 페이징 적용
-        int pageSize = pageable.getPageSize();
-        int pageNumber = pageable.getPageNumber();
-        int start = pageNumber * pageSize;
-        int end = Math.min(start + pageSize, filteredNews.size());
+    /**
+     * 검색 백엔드 결정 (요청 값 → 설정 기본값). 선택한 백엔드를 쓸 수 없으면 LIKE 검색
+     */
+    private SearchBackend resolveSearchBackend(String backend) {
+        SearchBackend defaultBackend = SearchBackend.from(searchProperties.getBackend(), SearchBackend.LIKE);
+        SearchBackend requested = SearchBackend.from(backend, defaultBackend);
+        if (requested == SearchBackend.INDEX && newsSearchIndexService.isReady()) {
+            return SearchBackend.INDEX;
+        }
+        if (requested == SearchBackend.FULLTEXT && fullTextSearchService.isSupported()) {
+            return SearchBackend.FULLTEXT;
+        }
+        return SearchBackend.LIKE;
+    }
+
+    /**
+     * 색인/FULLTEXT 검색 (null이면 호출 측에서 LIKE 검색으로 처리)
+     * FULLTEXT는 관련도순만 지원
+     */
+    private Page<NewsListResponse> searchWithBackend(SearchBackend backend, String query, SearchFilter filter,
+                                                     SearchSort sort, Pageable pageable) {
+        if (backend == SearchBackend.INDEX) {
+            SearchHits hits = newsSearchIndexService.search(query, filter, sort,
+                    pageable.getOffset(), pageable.getPageSize());
+            return hits != null
+                    ? toSearchPage(hits.newsIds(), hits.total(), pageable, newsSearchIndexService::removeDeleted)
+                    : null;
+        }
+        if (backend == SearchBackend.FULLTEXT && sort == SearchSort.RELEVANCE) {
+            Page<Long> page = fullTextSearchService.search(query, filter, pageable);
+            return page != null ? toSearchPage(page.getContent(), page.getTotalElements(), pageable, null) : null;
+        }
+        return null;
+    }
 
-        List<News> pagedNews = filteredNews.subList(start, end);
-        List<NewsListResponse> responseList = pagedNews.stream()
+    private SearchSort toSearchSort(String sortBy, String sortOrder) {
+        if (sortBy == null || sortBy.isEmpty() || sortBy.equalsIgnoreCase("relevance")) {
+            return SearchSort.RELEVANCE;
+        }
+        switch (sortBy.toLowerCase()) {
+            case "title":
+            case "press":
+                return null;
+            case "date":
+            case "publishedat":
+                return "desc".equalsIgnoreCase(sortOrder) ? SearchSort.DATE_DESC : SearchSort.DATE_ASC;
+            default:
+                // 기존 경로와 같이 알 수 없는 정렬은 최신순
+                return SearchSort.DATE_DESC;
+        }
+    }
+
+    /**
+     * 기존 필터와 같은 의미의 색인 필터 (알 수 없는 카테고리면 null → 결과 없음)
+     */
+    private SearchFilter toSearchFilter(String category, String press, String startDate, String endDate) {
+        String categoryName = null;
+        if (category != null && !category.isEmpty()) {
+            try {
+                categoryName = Category.valueOf(category.toUpperCase()).name();
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        Long from = startDate != null && !startDate.isEmpty() ? toEpochMillis(parsePublishedAt(startDate)) : null;
+        Long to = endDate != null && !endDate.isEmpty() ? toEpochMillis(parsePublishedAt(endDate)) : null;
+        return new SearchFilter(categoryName, press != null && !press.isEmpty() ? press : null, from, to);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 색인/FULLTEXT/인기 순위 결과 news_id 순서대로 카드 조회
+     * (그 사이 삭제된 기사는 제외하고 전체 건수에서도 뺌, onMissing이 있으면 빠진 news_id 전달)
+     */
+    private Page<NewsListResponse> toSearchPage(List<Long> newsIds, long total, Pageable pageable,
+                                                Consumer<List<Long>> onMissing) {
+        Map<Long, NewsCard> cardById = newsRepository.findCardsByIdIn(newsIds).stream()
+                .collect(Collectors.toMap(NewsCard::newsId, Function.identity()));
+        List<NewsListResponse> content = newsIds.stream()
+                .map(cardById::get)
+                .filter(Objects::nonNull)
                 .map(this::convertToNewsListResponse)
                 .collect(Collectors.toList());
-
-        // Page 객체 생성
-        return new org.springframework.data.domain.PageImpl<>(
-                responseList, pageable, filteredNews.size());
+        // 빠진 기사만큼 전체 건수도 줄임 (다른 페이지의 삭제 기사는 결과 쪽에서 제거되면 다음 요청부터 반영)
+        List<Long> missing = newsIds.stream().filter(newsId -> !cardById.containsKey(newsId)).toList();
+        if (!missing.isEmpty() && onMissing != null) {
+            onMissing.accept(missing);
+        }
+        long adjustedTotal = Math.max(pageable.getOffset() + content.size(), total - missing.size());
+        return new PageImpl<>(content, pageable, adjustedTotal);
     }
 
     @Override
-    public Page<NewsListResponse> getPopularNews(Pageable pageable) {
-        return newsRepository.findPopularNews(pageable)
-                .map(this::convertToNewsListResponse);
+    public Page<NewsListResponse> getPopularNews(Category category, Pageable pageable) {
+        // 메모리 순위표(시간 감쇠 인기도)에서 news_id만 잘라 카드 조회
+        List<Long> ranked = popularityService.topNewsIds(category);
+        if (ranked == null) {
+            // 순위표 준비 전 - DB 정렬
+            Page<NewsCard> cards = category == null
+                    ? newsRepository.findPopularCards(pageable)
+                    : newsRepository.findCardsByCategory(category, pageable);
+            return cards.map(this::convertToNewsListResponse);
+        }
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(ranked.size(), from + pageable.getPageSize());
+        return toSearchPage(ranked.subList(from, to), ranked.size(), pageable, null);
     }
 
     @Override
     public Page<NewsListResponse> getLatestNews(Pageable pageable) {
-        return newsRepository.findLatestNews(pageable)
+        return newsRepository.findLatestCards(pageable)
                 .map(this::convertToNewsListResponse);
     }
 
@@ -349,16 +504,13 @@ public class NewsServiceImpl implements NewsService {
     // 새로 추가된 메서드들의 구현
     @Override
     public Page<NewsListResponse> getNewsByPress(String press, Pageable pageable) {
-        return newsRepository.findByPress(press, pageable)
+        return newsRepository.findCardsByPress(press, pageable)
                 .map(this::convertToNewsListResponse);
     }
 
     @Override
     public List<NewsListResponse> getNewsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        // LocalDateTime을 String으로 변환하여 전달
-        String startDateStr = startDate.toString();
-        String endDateStr = endDate.toString();
-        return newsRepository.findByPublishedAtBetween(startDateStr, endDateStr)
+        return newsRepository.findCardsByPublishedAtBetween(startDate, endDate)
                 .stream()
                 .map(this::convertToNewsListResponse)
                 .collect(Collectors.toList());
@@ -423,26 +575,29 @@ public class NewsServiceImpl implements NewsService {
                 .dedupStateDescription(news.getDedupState().getDescription())
                 .imageUrl(news.getImageUrl())
                 .oidAid(news.getOidAid())
+                .viewCount(news.getViewCount())
                 .build();
     }
 
-    private NewsListResponse convertToNewsListResponse(News news) {
+    // 목록 카드 변환 - 본문 전체 대신 저장 시 계산된 snippet을 content/summary로 내려줌 (전체 본문은 상세 조회)
+    private NewsListResponse convertToNewsListResponse(NewsCard card) {
         return NewsListResponse.builder()
-                .newsId(news.getNewsId())
-                .title(news.getTitle())
-                .content(news.getContent())
-                .press(news.getPress())
+                .newsId(card.newsId())
+                .title(card.title())
+                .content(card.snippet())
+                .summary(card.snippet())
+                .press(card.press())
                 .link(null) // TODO: link 필드 추가 필요
-                .trusted(news.getTrusted() ? 1 : 0)
-                .publishedAt(parsePublishedAt(news.getPublishedAt()))
-                .createdAt(news.getCreatedAt())
-                .reporterName(news.getReporter())
-                .viewCount(0) // TODO: view count 필드 추가 필요
-                .categoryName(news.getCategoryName().name())
-                .dedupState(news.getDedupState().name())
-                .dedupStateDescription(news.getDedupState().getDescription())
-                .imageUrl(news.getImageUrl())
-                .oidAid(news.getOidAid())
+                .trusted(Boolean.TRUE.equals(card.trusted()) ? 1 : 0)
+                .publishedAt(parsePublishedAt(card.publishedAt()))
+                .createdAt(card.createdAt())
+                .reporterName(card.reporter())
+                .viewCount(viewCountService.currentCount(card.newsId(), card.viewCount()))
+                .categoryName(card.categoryName().name())
+                .dedupState(card.dedupState().name())
+                .dedupStateDescription(card.dedupState().getDescription())
+                .imageUrl(card.imageUrl())
+                .oidAid(card.oidAid())
                 .build();
     }
 
@@ -578,64 +733,23 @@ public class NewsServiceImpl implements NewsService {
 
     @Override
     public List<TrendingKeywordDto> getTrendingKeywordsByCategory(Category category, int limit) {
-        log.info("카테고리별 트렌딩 키워드 조회 시작: category={}, limit={}", category, limit);
-        
-        // 해당 카테고리의 최근 뉴스에서 키워드 추출 (기간을 30일로 확장)
-        LocalDateTime monthAgo = LocalDateTime.now().minusDays(30);
-        log.info("조회 기간: {} ~ {}", monthAgo, LocalDateTime.now());
-        
         try {
-            // 해당 카테고리의 최근 뉴스 조회 (개수를 500개로 증가)
-            Page<News> categoryNews = newsRepository.findByCategory(category, Pageable.ofSize(500));
-            log.info("카테고리 {} 전체 뉴스 수: {}", category, categoryNews.getTotalElements());
-            
-            List<News> recentNews = categoryNews.getContent().stream()
-                    .filter(news -> {
-                        try {
-                            LocalDateTime publishedAt = LocalDateTime.parse(news.getPublishedAt());
-                            return publishedAt.isAfter(monthAgo);
-                        } catch (Exception e) {
-                            log.debug("날짜 파싱 실패: newsId={}, publishedAt={}", news.getNewsId(), news.getPublishedAt());
-                            return false;
-                        }
-                    })
-                    .collect(Collectors.toList());
-
-            log.info("카테고리 {}의 최근 뉴스 수: {}", category, recentNews.size());
-            
-            if (recentNews.isEmpty()) {
-                log.warn("최근 뉴스가 없어 기본 키워드를 반환합니다: category={}", category);
-                return getDefaultKeywordsByCategory(category, limit);
-            }
-
-            // 키워드 추출 및 빈도 계산
-            Map<String, Long> keywordCounts = recentNews.stream()
-                    .flatMap(news -> extractKeywordsFromNews(news).stream())
-                    .collect(Collectors.groupingBy(keyword -> keyword, Collectors.counting()));
-
-            log.info("추출된 키워드 수: {}", keywordCounts.size());
-            log.debug("키워드 빈도: {}", keywordCounts);
-            
-            List<TrendingKeywordDto> result = keywordCounts.entrySet().stream()
-                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                    .limit(limit)
-                    .map(entry -> TrendingKeywordDto.builder()
-                            .keyword(entry.getKey())
-                            .count(entry.getValue())
-                            .trendScore(entry.getValue().doubleValue())
+            // 카테고리별 키워드 빈도표 조회 (최신 500개 기사, 30일 이내 - 백그라운드에서 증분 갱신)
+            List<TrendingKeywordDto> result = categoryKeywordService.top(category, limit).stream()
+                    .map(term -> TrendingKeywordDto.builder()
+                            .keyword(term.term())
+                            .count(term.count())
+                            .trendScore((double) term.count())
                             .build())
                     .collect(Collectors.toList());
 
-            log.info("카테고리별 트렌드 키워드 결과: category={}, resultSize={}", category, result.size());
-            
             // 결과가 비어있으면 기본 키워드 반환
             if (result.isEmpty()) {
                 log.info("추출된 키워드가 없어 기본 키워드를 반환합니다: category={}", category);
                 return getDefaultKeywordsByCategory(category, limit);
             }
-            
             return result;
-                    
+
         } catch (Exception e) {
             log.error("카테고리별 트렌딩 키워드 조회 실패: category={}, error={}", category, e.getMessage(), e);
             return getDefaultKeywordsByCategory(category, limit);
@@ -655,19 +769,35 @@ public class NewsServiceImpl implements NewsService {
                 .build();
 
         newsComplaintRepository.save(complaint);
+        // 신고 건수 컬럼을 같은 트랜잭션에서 원자적으로 증가 (조회 시 COUNT 없음)
+        newsRepository.addComplaintCount(newsId, 1);
         log.info("사용자 {}가 뉴스 {}를 신고했습니다. DB 저장 완료.", userId, newsId);
 
+        // 신고 건수가 상세 응답 차단 여부를 바꾸므로 상세 캐시 삭제
+        newsDetailCacheService.evictAfterCommit(newsId);
+
         // 신고 건수 확인
-        long complaintCount = newsComplaintRepository.countByNewsNewsId(newsId);
+        Integer complaintCount = newsRepository.findComplaintCount(newsId);
         log.info("뉴스 {}의 총 신고 건수: {}", newsId, complaintCount);
 
-        if (complaintCount >= 20) {
+        if (complaintCount != null && complaintCount >= 20) {
             log.warn("뉴스 {}의 신고 건수가 {}건에 도달하여 상태를 HIDDEN으로 변경합니다.", newsId, complaintCount);
             news.setStatus(NewsStatus.HIDDEN);
             newsRepository.save(news);
         }
     }
 
+    @Override
+    public void withdrawReport(Long newsId, Long userId) {
+        long deleted = newsComplaintRepository.deleteByUserIdAndNewsNewsId(userId, newsId);
+        if (deleted == 0) {
+            return;
+        }
+        newsRepository.addComplaintCount(newsId, (int) -deleted);
+        log.info("사용자 {}가 뉴스 {} 신고를 철회했습니다. ({}건)", userId, newsId, deleted);
+        newsDetailCacheService.evictAfterCommit(newsId);
+    }
+
     @Override
     public void scrapNews(Long newsId, Long userId) {
         News news = newsRepository.findById(newsId)
@@ -690,6 +820,7 @@ public class NewsServiceImpl implements NewsService {
 
         newsScrapRepository.save(newsScrap);
         log.info("뉴스 스크랩 완료 (임시 저장): userId={}, newsId={}", userId, newsId);
+        eventPublisher.publishEvent(new UserActivityEvent(userId, newsId, UserActivityEvent.SCRAP));
     }
 
     @Override
@@ -815,102 +946,6 @@ public class NewsServiceImpl implements NewsService {
         log.info("컬렉션 삭제 완료: userId={}, storageId={}", userId, collectionId);
     }
 
-    /**
-     * 뉴스에서 키워드 추출
-     */
-    private List<String> extractKeywordsFromNews(News news) {
-        List<String> keywords = new ArrayList<>();
-        
-        // 제목에서 키워드 추출
-        if (news.getTitle() != null) {
-            List<String> titleKeywords = extractKeywordsFromText(news.getTitle());
-            log.debug("제목에서 추출된 키워드: {}", titleKeywords);
-            keywords.addAll(titleKeywords);
-        }
-        
-        // 내용에서 키워드 추출 (내용이 너무 길면 앞부분만 사용, 길이를 1000자로 증가)
-        if (news.getContent() != null) {
-            String content = news.getContent();
-            if (content.length() > 1000) {
-                content = content.substring(0, 1000);
-            }
-            List<String> contentKeywords = extractKeywordsFromText(content);
-            log.debug("내용에서 추출된 키워드 수: {}", contentKeywords.size());
-            keywords.addAll(contentKeywords);
-        }
-        
-        log.debug("전체 추출된 키워드: {}", keywords);
-        return keywords;
-    }
-    
-    /**
-     * 텍스트에서 키워드 추출
-     */
-    private List<String> extractKeywordsFromText(String text) {
-        if (text == null || text.trim().isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        List<String> keywords = new ArrayList<>();
-        
-        // 1. 공백으로 분할
-        String[] words = text.split("\\s+");
-        
-        for (String word : words) {
-            if (word == null || word.trim().isEmpty()) {
-                continue;
-            }
-            
-            // 2. 특수문자 제거 (한글, 영문, 숫자만 남김)
-            String cleanedWord = word.replaceAll("[^가-힣0-9A-Za-z]", "");
-            
-            // 3. 더 관대한 키워드 필터링 조건
-            if (cleanedWord.length() >= 2 && 
-                !STOPWORDS.contains(cleanedWord) &&
-                !cleanedWord.equals("있다") && 
-                !cleanedWord.equals("없다") && 
-                !cleanedWord.equals("하다") && 
-                !cleanedWord.equals("되다") && 
-                !cleanedWord.equals("이다") &&
-                !cleanedWord.equals("것") &&
-                !cleanedWord.equals("수") &&
-                !cleanedWord.equals("등") &&
-                !cleanedWord.equals("및") &&
-                !cleanedWord.equals("또는") &&
-                !cleanedWord.equals("그리고") &&
-                !cleanedWord.equals("이번") &&
-                !cleanedWord.equals("지난") &&
-                !cleanedWord.equals("현재") &&
-                !cleanedWord.equals("최대") &&
-                !cleanedWord.equals("최소") &&
-                !cleanedWord.equals("현장") &&
-                !cleanedWord.equals("관련") &&
-                !cleanedWord.equals("기자") &&
-                !cleanedWord.equals("사진") &&
-                !cleanedWord.equals("영상") &&
-                !cleanedWord.equals("단독") &&
-                !cleanedWord.equals("인터뷰") &&
-                !cleanedWord.equals("종합") &&
-                !cleanedWord.equals("오늘") &&
-                !cleanedWord.equals("내일") &&
-                !cleanedWord.equals("정부") &&
-                !cleanedWord.equals("대통령") &&
-                !cleanedWord.equals("국회") &&
-                !cleanedWord.equals("한국") &&
-                !cleanedWord.equals("대한민국") &&
-                !cleanedWord.equals("뉴스") &&
-                !cleanedWord.equals("기사") &&
-                !cleanedWord.equals("외신")) {
-                
-                keywords.add(cleanedWord);
-                log.debug("추출된 키워드: '{}' (원본: '{}')", cleanedWord, word);
-            }
-        }
-        
-        log.debug("텍스트에서 추출된 키워드 수: {}", keywords.size());
-        return keywords;
-    }
-    
     /**
      * 기본 키워드 반환
      */
@@ -976,14 +1011,6 @@ public class NewsServiceImpl implements NewsService {
                 .collect(Collectors.toList());
     }
     
-    // 너무 일반적인 단어는 제외
-    private static final Set<String> STOPWORDS = Set.of(
-        "속보", "영상", "단독", "인터뷰", "기자", "사진", "종합", "오늘", "내일",
-        "정부", "대통령", "국회", "한국", "대한민국", "뉴스", "기사", "외신",
-        "관련", "이번", "지난", "현재", "최대", "최소", "현장", "및", "또는", "그리고",
-        "있다", "없다", "하다", "되다", "이다"
-    );
-    
     private KeywordSubscriptionDto convertToKeywordSubscriptionDto(KeywordSubscription subscription) {
         return KeywordSubscriptionDto.builder()
                 .subscriptionId(subscription.getSubscriptionId())
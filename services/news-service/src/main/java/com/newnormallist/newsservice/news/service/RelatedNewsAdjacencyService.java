@@ -0,0 +1,345 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.newnormallist.newsservice.ingest.engine.NewsChangeCursor;
+import com.newnormallist.newsservice.ingest.service.NewsChangeFeed;
+import com.newnormallist.newsservice.news.dto.NewsCard;
+import com.newnormallist.newsservice.news.dto.RelatedNewsResponseDto;
+import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.news.entity.NewsRelatedAdjacency;
+import com.newnormallist.newsservice.news.exception.NewsNotFoundException;
+import com.newnormallist.newsservice.news.repository.NewsRelatedAdjacencyRepository;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import com.newnormallist.newsservice.news.repository.RelatedNewsRepository;
+import com.newnormallist.newsservice.similarity.service.SimilarArticleService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기사별 연관뉴스 목록 사전 계산 + 캐시
+ *
+ * 역할:
+ * - 연관뉴스 목록(대체 규칙까지 반영된 news_id 최대 4개)을 기사마다 한 번 계산해 news_related_adjacency에 저장
+ * - 조회는 인스턴스 내 캐시 → 저장된 목록 한 행 + 카드 조회 순 (요청마다 dedup_state별 쿼리를 돌리지 않음)
+ *
+ * 기능:
+ * - 수집: 주기적으로 변경 피드(NewsChangeFeed)로 받은 신규/수정 기사 목록을 계산
+ *   (크롤러가 기사와 연관 쌍을 한 트랜잭션으로 저장하므로 쌍이 이미 보임, 기사 수정 이후 계산된 목록은 그대로 둠)
+ * - 무효화: 신규/수정 기사가 기존 대표 기사 그룹에 들어오면 그 그룹 기존 기사의 목록을 지우고 캐시 삭제 (다음 조회 때 재계산)
+ * - 삭제된 기사의 목록은 삭제 확인 주기에 지움 (다른 기사 목록에 남은 삭제 기사는 조회 시 제외)
+ * - 못 채운 목록(4개 미만)과 유사 기사 색인 준비 전에 만든 목록은 incomplete-recompute-minutes 후 조회 시 다시 계산
+ * - 아직 목록이 없는 과거 기사는 첫 조회 때 계산
+ *
+ * 캐시 무효화: 목록을 저장/삭제한 인스턴스가 Redis 채널(invalidation-channel)로 기사 ID를 알려 모든 인스턴스의 캐시를 지움
+ * (Redis 장애로 알림이 빠지면 다른 인스턴스는 cache-ttl-minutes 동안 이전 목록을 응답)
+ *
+ * 관측: cache.gets{cache=relatedNews}, news.related.compute 타이머, status()
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RelatedNewsAdjacencyService implements MessageListener {
+
+    private static final String CONSUMER = "related-news";
+
+    private final NewsRepository newsRepository;
+    private final NewsChangeFeed changeFeed;
+    private final RelatedNewsRepository relatedNewsRepository;
+    private final NewsRelatedAdjacencyRepository adjacencyRepository;
+    private final RelatedNewsResolver relatedNewsResolver;
+    private final SimilarArticleService similarArticleService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${related-news.cache-size:20000}")
+    private long cacheSize;
+
+    @Value("${related-news.cache-ttl-minutes:10}")
+    private long cacheTtlMinutes;
+
+    @Value("${related-news.incomplete-recompute-minutes:60}")
+    private long incompleteRecomputeMinutes;
+
+    @Value("${related-news.batch-size:200}")
+    private int batchSize;
+
+    @Value("${related-news.invalidation-channel:news:related:invalidate}")
+    private String invalidationChannel;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicLong computed = new AtomicLong();
+    private final AtomicLong invalidated = new AtomicLong();
+
+    private Cache<Long, List<RelatedNewsResponseDto>> cache;
+    // 변경 피드 위치 (null이면 첫 주기에 현재 시점부터 시작)
+    private volatile NewsChangeCursor cursor;
+    private volatile LocalDateTime lastRefreshedAt;
+    private volatile int lastRefreshComputed;
+    private volatile int lastRefreshInvalidated;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMinutes(cacheTtlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "relatedNews");
+        RedisMessageListenerContainer container = listenerContainer.getIfAvailable();
+        if (container != null) {
+            container.addMessageListener(this, new ChannelTopic(invalidationChannel));
+        }
+    }
+
+    /**
+     * 연관뉴스 목록 조회
+     *
+     * @throws NewsNotFoundException 기사가 없을 때
+     */
+    public List<RelatedNewsResponseDto> get(Long newsId) {
+        return cache.get(newsId, this::load);
+    }
+
+    /**
+     * 목록 다시 계산 후 저장 (캐시 삭제)
+     *
+     * @throws NewsNotFoundException 기사가 없을 때
+     */
+    public NewsRelatedAdjacency recompute(Long newsId) {
+        NewsRelatedAdjacency adjacency = compute(newsId);
+        evict(List.of(newsId));
+        return adjacency;
+    }
+
+    /**
+     * 신규 기사 목록 계산 + 그룹이 바뀐 기존 기사 목록 무효화
+     */
+    @Scheduled(fixedDelayString = "${related-news.refresh-interval-ms:60000}",
+            initialDelayString = "${related-news.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            if (cursor == null) {
+                // 과거 기사는 첫 조회 때 계산
+                cursor = changeFeed.open(CONSUMER);
+                lastRefreshedAt = LocalDateTime.now();
+                return;
+            }
+            int computedCount = 0;
+            int invalidatedCount = 0;
+            List<Long> changed = changeFeed.poll(cursor);
+            for (List<Long> chunk : NewsChangeFeed.chunks(changed, batchSize)) {
+                Map<Long, String> batch = new LinkedHashMap<>();
+                Map<Long, LocalDateTime> updatedAt = new LinkedHashMap<>();
+                for (Object[] row : newsRepository.findOidAidsByIdIn(chunk)) {
+                    batch.put((Long) row[0], (String) row[1]);
+                    updatedAt.put((Long) row[0], (LocalDateTime) row[2]);
+                }
+                List<Long> deleted = chunk.stream().filter(newsId -> !batch.containsKey(newsId)).toList();
+                removeLists(deleted);
+                invalidatedCount += invalidateGroupsOf(batch);
+                for (Long newsId : batch.keySet()) {
+                    // 다른 인스턴스가 기사 저장/수정 이후에 먼저 계산했으면 건너뜀
+                    LocalDateTime changedAt = updatedAt.get(newsId);
+                    boolean upToDate = adjacencyRepository.findById(newsId)
+                            .map(adjacency -> changedAt != null && !adjacency.getComputedAt().isBefore(changedAt))
+                            .orElse(false);
+                    if (!upToDate) {
+                        try {
+                            compute(newsId);
+                            computedCount++;
+                        } catch (Exception e) {
+                            log.warn("⚠️ 뉴스 ID {} 연관뉴스 목록 계산 실패 (첫 조회 때 다시 계산): {}", newsId, e.getMessage());
+                        }
+                    }
+                }
+                // 계산 결과 저장 후 알림 (먼저 지우면 다른 인스턴스가 이전 목록을 다시 캐시할 수 있음)
+                evict(batch.keySet());
+            }
+            Set<Long> deleted = changeFeed.tombstones(cursor, adjacencyRepository::findAllNewsIds);
+            removeLists(deleted);
+            lastRefreshComputed = computedCount;
+            lastRefreshInvalidated = invalidatedCount;
+            lastRefreshedAt = LocalDateTime.now();
+            if (computedCount > 0 || invalidatedCount > 0) {
+                log.info("🔎 연관뉴스 목록 사전 계산: 신규/수정 {}개, 그룹 변경으로 무효화 {}개", computedCount, invalidatedCount);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 연관뉴스 목록 사전 계산 실패: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 무효화 메시지 수신 (자기 메시지도 수신 - 삭제는 멱등)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+        List<Long> ids = new ArrayList<>();
+        try {
+            for (String id : body.split(",")) {
+                if (!id.isEmpty()) {
+                    ids.add(Long.parseLong(id));
+                }
+            }
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 알 수 없는 연관뉴스 캐시 무효화 메시지: {}", body);
+            return;
+        }
+        cache.invalidateAll(ids);
+    }
+
+    public Map<String, Object> status() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("storedLists", adjacencyRepository.count());
+        status.put("cacheSize", cache.estimatedSize());
+        status.put("cacheHits", stats.hitCount());
+        status.put("cacheMisses", stats.missCount());
+        status.put("computed", computed.get());
+        status.put("invalidated", invalidated.get());
+        NewsChangeCursor currentCursor = cursor;
+        status.put("changeFeed", currentCursor != null ? currentCursor.status() : null);
+        status.put("lastRefreshedAt", lastRefreshedAt != null ? lastRefreshedAt.toString() : null);
+        status.put("lastRefreshComputed", lastRefreshComputed);
+        status.put("lastRefreshInvalidated", lastRefreshInvalidated);
+        return status;
+    }
+
+    private List<RelatedNewsResponseDto> load(Long newsId) {
+        NewsRelatedAdjacency adjacency = adjacencyRepository.findById(newsId)
+                .filter(this::isUsable)
+                .orElseGet(() -> compute(newsId));
+        List<Long> ids = adjacency.relatedIdList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, NewsCard> cardById = newsRepository.findCardsByIdIn(ids).stream()
+                .collect(Collectors.toMap(NewsCard::newsId, Function.identity()));
+        // 저장 후 삭제된 기사는 제외
+        return ids.stream()
+                .map(cardById::get)
+                .filter(card -> card != null)
+                .map(RelatedNewsResponseDto::from)
+                .toList();
+    }
+
+    private boolean isUsable(NewsRelatedAdjacency adjacency) {
+        return adjacency.isComplete()
+                || adjacency.getComputedAt().isAfter(LocalDateTime.now().minusMinutes(incompleteRecomputeMinutes));
+    }
+
+    private NewsRelatedAdjacency compute(Long newsId) {
+        News news = newsRepository.findById(newsId)
+                .orElseThrow(() -> new NewsNotFoundException("뉴스를 찾을 수 없습니다: " + newsId));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<Long> ids = relatedNewsResolver.resolve(news).stream()
+                .map(News::getNewsId)
+                .distinct()
+                .limit(RelatedNewsResolver.MAX_RELATED_NEWS)
+                .toList();
+        // 유사 기사 색인 준비 전에는 무작위 대체 기사로 채워졌을 수 있으므로 미완성으로 저장
+        boolean complete = ids.size() >= RelatedNewsResolver.MAX_RELATED_NEWS && similarArticleService.isReady();
+        NewsRelatedAdjacency adjacency = NewsRelatedAdjacency.builder()
+                .newsId(newsId)
+                .relatedIds(NewsRelatedAdjacency.joinIds(ids))
+                .complete(complete)
+                .computedAt(LocalDateTime.now())
+                .build();
+        adjacencyRepository.upsert(adjacency.getNewsId(), adjacency.getRelatedIds(), adjacency.isComplete(),
+                adjacency.getComputedAt());
+        sample.stop(meterRegistry.timer("news.related.compute"));
+        computed.incrementAndGet();
+        return adjacency;
+    }
+
+    // 삭제된 기사의 저장 목록/캐시 제거
+    private void removeLists(Collection<Long> deleted) {
+        if (deleted.isEmpty()) {
+            return;
+        }
+        adjacencyRepository.deleteAllByIdInBatch(deleted);
+        evict(deleted);
+    }
+
+    // 이 인스턴스 캐시 삭제 + 다른 인스턴스에 알림
+    private void evict(Collection<Long> newsIds) {
+        if (newsIds.isEmpty()) {
+            return;
+        }
+        cache.invalidateAll(newsIds);
+        String body = newsIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, body);
+        } catch (Exception e) {
+            log.warn("⚠️ 연관뉴스 캐시 무효화 발행 실패 (다른 인스턴스는 TTL 만료까지 이전 목록): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 신규 기사가 들어간 대표 기사 그룹의 기존 기사 목록 삭제 (다음 조회 때 새 그룹 기준으로 재계산)
+     *
+     * @return 무효화한 기존 기사 수
+     */
+    private int invalidateGroupsOf(Map<Long, String> newArticles) {
+        Set<String> oidAids = newArticles.values().stream()
+                .filter(oidAid -> oidAid != null && !oidAid.isEmpty())
+                .collect(Collectors.toSet());
+        if (oidAids.isEmpty()) {
+            return 0;
+        }
+        Set<String> members = new HashSet<>();
+        for (String repOidAid : relatedNewsRepository.findRepOidAidsByMemberOidAidIn(oidAids)) {
+            members.add(repOidAid);
+            members.addAll(relatedNewsRepository.findRelatedOidAidsByRepOidAid(repOidAid));
+        }
+        members.removeAll(oidAids);
+        if (members.isEmpty()) {
+            return 0;
+        }
+        List<Long> existing = new ArrayList<>(newsRepository.findIdsByOidAidIn(members));
+        existing.removeAll(newArticles.keySet());
+        if (existing.isEmpty()) {
+            return 0;
+        }
+        adjacencyRepository.deleteAllByIdInBatch(existing);
+        evict(existing);
+        invalidated.addAndGet(existing.size());
+        return existing.size();
+    }
+}
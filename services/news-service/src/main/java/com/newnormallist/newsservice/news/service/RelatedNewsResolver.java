@@ -0,0 +1,321 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import com.newnormallist.newsservice.news.repository.RelatedNewsRepository;
+import com.newnormallist.newsservice.similarity.service.SimilarArticleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 연관뉴스 목록 계산 (dedup_state별 조회 + 대체 규칙)
+ *
+ * 역할:
+ * - REPRESENTATIVE/RELATED: 같은 대표 기사 그룹의 기사 → 내용이 비슷한 기사 → 같은 날 같은 시간대(오전/오후) → 최근 3일 같은 카테고리 순으로 채움
+ * - KEPT: 내용이 비슷한 기사 → 같은 발행 시각 같은 카테고리 → 최근 3일 같은 카테고리 순으로 채움
+ * - 내용이 비슷한 기사: SimilarArticleService (TF-IDF 근사 최근접 이웃, 색인 준비 전이면 건너뜀)
+ * - 각 단계에서 넘치면 무작위로 골라 MAX_RELATED_NEWS개까지
+ *
+ * 조회 요청마다 실행하지 않고 RelatedNewsAdjacencyService가 기사별로 한 번 계산해 저장할 때만 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedNewsResolver {
+
+    public static final int MAX_RELATED_NEWS = 4;
+
+    private final NewsRepository newsRepository;
+    private final RelatedNewsRepository relatedNewsRepository;
+    private final SimilarArticleService similarArticleService;
+
+    /**
+     * 기사의 연관뉴스 (최대 MAX_RELATED_NEWS개, 대체 규칙까지 반영된 순서)
+     */
+    public List<News> resolve(News news) {
+        List<News> relatedNewsList = new ArrayList<>();
+
+        // dedup_state에 따른 연관뉴스 조회 로직
+        switch (news.getDedupState()) {
+            case REPRESENTATIVE:
+                relatedNewsList = getRelatedNewsForRepresentative(news);
+                break;
+            case KEPT:
+                relatedNewsList = getRelatedNewsForKept(news);
+                break;
+            case RELATED:
+                relatedNewsList = getRelatedNewsForRelated(news);
+                break;
+        }
+        return relatedNewsList;
+    }
+
+    /**
+     * REPRESENTATIVE 상태의 뉴스에 대한 연관뉴스 조회
+     */
+    private List<News> getRelatedNewsForRepresentative(News news) {
+        List<News> relatedNewsList = new ArrayList<>();
+
+        // 1. related_news 테이블에서 rep_oid_aid가 해당 뉴스의 oid_aid인 related_oid_aid들 조회
+        List<String> relatedOidAids = relatedNewsRepository.findRelatedOidAidsByRepOidAid(news.getOidAid());
+        
+        if (!relatedOidAids.isEmpty()) {
+            // 2. 해당 related_oid_aid를 가진 뉴스들 조회
+            List<News> relatedNews = newsRepository.findByOidAidIn(relatedOidAids);
+            
+            // 3. 4개 이상이면 랜덤으로 4개 선택
+            if (relatedNews.size() >= MAX_RELATED_NEWS) {
+                Collections.shuffle(relatedNews);
+                relatedNewsList = relatedNews.subList(0, MAX_RELATED_NEWS);
+            } else {
+                relatedNewsList.addAll(relatedNews);
+            }
+        }
+
+        // 4. 4개 미만이면 내용이 비슷한 뉴스로 채우기
+        if (relatedNewsList.size() < MAX_RELATED_NEWS) {
+            int remainingCount = MAX_RELATED_NEWS - relatedNewsList.size();
+            relatedNewsList.addAll(getSimilarNews(news, relatedNewsList, remainingCount));
+        }
+
+        // 5. 4개 미만이면 같은 시간대, 같은 카테고리 뉴스로 채우기
+        if (relatedNewsList.size() < MAX_RELATED_NEWS) {
+            int remainingCount = MAX_RELATED_NEWS - relatedNewsList.size();
+            List<News> additionalNews = getNewsBySameTimeAndCategory(news, relatedNewsList, remainingCount);
+            relatedNewsList.addAll(additionalNews);
+        }
+        
+        // 6. 여전히 4개 미만이면 최근 3일간 같은 카테고리 뉴스로 채우기
+        if (relatedNewsList.size() < MAX_RELATED_NEWS) {
+            int remainingCount = MAX_RELATED_NEWS - relatedNewsList.size();
+            List<News> recentNews = getRecentNewsByCategory(news, relatedNewsList, remainingCount);
+            relatedNewsList.addAll(recentNews);
+        }
+
+        return relatedNewsList;
+    }
+
+    /**
+     * KEPT 상태의 뉴스에 대한 연관뉴스 조회
+     */
+    private List<News> getRelatedNewsForKept(News news) {
+        // 내용이 비슷한 뉴스 먼저 조회
+        List<News> relatedNewsList = new ArrayList<>(getSimilarNews(news, List.of(), MAX_RELATED_NEWS));
+
+        // 4개 미만이면 같은 published_at, 같은 category_name인 뉴스를 랜덤으로 채우기 (해당 뉴스 제외)
+        if (relatedNewsList.size() < MAX_RELATED_NEWS) {
+            int remainingCount = MAX_RELATED_NEWS - relatedNewsList.size();
+            List<Long> selectedIds = relatedNewsList.stream().map(News::getNewsId).toList();
+            List<News> sameTimeCategoryNews = newsRepository.findByPublishedAtAndCategoryNameAndNewsIdNot(
+                    news.getPublishedAtDateTime(), news.getCategoryName(), news.getNewsId()).stream()
+                    .filter(n -> !selectedIds.contains(n.getNewsId()))
+                    .collect(Collectors.toList());
+
+            if (sameTimeCategoryNews.size() >= remainingCount) {
+                Collections.shuffle(sameTimeCategoryNews);
+                relatedNewsList.addAll(sameTimeCategoryNews.subList(0, remainingCount));
+            } else {
+                relatedNewsList.addAll(sameTimeCategoryNews);
+            }
+        }
+        
+        // 4개 미만이면 최근 3일간 같은 카테고리 뉴스로 채우기
+        if (relatedNewsList.size() < MAX_RELATED_NEWS) {
+            int remainingCount = MAX_RELATED_NEWS - relatedNewsList.size();
+            List<News> recentNews = getRecentNewsByCategory(news, relatedNewsList, remainingCount);
+            relatedNewsList.addAll(recentNews);
+        }
+        
+        return relatedNewsList;
+    }
+
+    /**
+     * RELATED 상태의 뉴스에 대한 연관뉴스 조회
+     */
+    private List<News> getRelatedNewsForRelated(News news) {
+        List<News> relatedNewsList = new ArrayList<>();
+
+        // 1. 해당 뉴스의 oid_aid가 related_oid_aid인 행의 rep_oid_aid 조회
+        String repOidAid = relatedNewsRepository.findRepOidAidByRelatedOidAid(news.getOidAid());
+        
+        if (repOidAid != null) {
+            // 2. rep_oid_aid를 oid_aid로 가지는 뉴스와 연관관계인 뉴스들 조회
+            List<String> relatedOidAids = relatedNewsRepository.findRelatedOidAidsByRepOidAid(repOidAid);
+            
+            if (!relatedOidAids.isEmpty()) {
+                // 3. 해당 related_oid_aid를 가진 뉴스들 조회 (현재 뉴스 제외)
+                List<News> relatedNews = newsRepository.findByOidAidInAndNewsIdNot(relatedOidAids, news.getNewsId());
+                
+                if (relatedNews.size() >= MAX_RELATED_NEWS) {
+                    Collections.shuffle(relatedNews);
+                    relatedNewsList = relatedNews.subList(0, MAX_RELATED_NEWS);
+                } else {
+                    relatedNewsList.addAll(relatedNews);
+                }
+            }
+        }
+
+        // 4. 4개 미만이면 내용이 비슷한 뉴스로 채우기
+        if (relatedNewsList.size() < MAX_RELATED_NEWS) {
+            int remainingCount = MAX_RELATED_NEWS - relatedNewsList.size();
+            relatedNewsList.addAll(getSimilarNews(news, relatedNewsList, remainingCount));
+        }
+
+        // 5. 4개 미만이면 같은 시간대, 같은 카테고리 뉴스로 채우기
+        if (relatedNewsList.size() < MAX_RELATED_NEWS) {
+            int remainingCount = MAX_RELATED_NEWS - relatedNewsList.size();
+            List<News> additionalNews = getNewsBySameTimeAndCategory(news, relatedNewsList, remainingCount);
+            relatedNewsList.addAll(additionalNews);
+        }
+        
+        // 6. 여전히 4개 미만이면 최근 3일간 같은 카테고리 뉴스로 채우기
+        if (relatedNewsList.size() < MAX_RELATED_NEWS) {
+            int remainingCount = MAX_RELATED_NEWS - relatedNewsList.size();
+            List<News> recentNews = getRecentNewsByCategory(news, relatedNewsList, remainingCount);
+            relatedNewsList.addAll(recentNews);
+        }
+
+        return relatedNewsList;
+    }
+
+    /**
+     * 내용이 비슷한 뉴스를 유사도 순으로 조회하여 추가 (이미 선택된 뉴스 제외)
+     */
+    private List<News> getSimilarNews(News news, List<News> excludeNews, int count) {
+        List<Long> excludeNewsIds = excludeNews.stream()
+                .map(News::getNewsId)
+                .collect(Collectors.toList());
+        try {
+            List<Long> similarIds = similarArticleService.similarNewsIds(news, count + excludeNewsIds.size()).stream()
+                    .filter(id -> !excludeNewsIds.contains(id) && !id.equals(news.getNewsId()))
+                    .limit(count)
+                    .toList();
+            if (similarIds.isEmpty()) {
+                return new ArrayList<>();
+            }
+            Map<Long, News> newsById = newsRepository.findAllById(similarIds).stream()
+                    .collect(Collectors.toMap(News::getNewsId, Function.identity()));
+            return similarIds.stream()
+                    .map(newsById::get)
+                    .filter(n -> n != null)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.warn("유사 기사 조회 중 오류 발생, 대체 규칙으로 채웁니다: {}", e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 같은 시간대와 카테고리의 뉴스를 조회하여 추가
+     */
+    private List<News> getNewsBySameTimeAndCategory(News news, List<News> excludeNews, int count) {
+        // 이미 선택된 뉴스들의 ID 목록
+        List<Long> excludeNewsIds = excludeNews.stream()
+                .map(News::getNewsId)
+                .collect(Collectors.toList());
+        excludeNewsIds.add(news.getNewsId()); // 현재 뉴스도 제외
+
+        try {
+            // 같은 날짜, 같은 카테고리, 같은 시간대(오전/오후)인 뉴스 조회
+            LocalDateTime newsDateTime = parsePublishedAt(news.getPublishedAt());
+            LocalDateTime startOfDay = newsDateTime.toLocalDate().atStartOfDay();
+            LocalDateTime endOfDay = startOfDay.plusDays(1);
+            
+            List<News> sameDayCategoryNews = newsRepository.findByPublishedAtBetweenAndCategoryNameAndNewsIdNotIn(
+                    startOfDay, endOfDay, news.getCategoryName(), excludeNewsIds);
+
+            // 오전/오후 시간대 필터링
+            LocalTime newsTime = newsDateTime.toLocalTime();
+            boolean isMorning = newsTime.isBefore(LocalTime.NOON);
+            
+            List<News> filteredNews = sameDayCategoryNews.stream()
+                    .filter(n -> {
+                        try {
+                            LocalTime time = parsePublishedAt(n.getPublishedAt()).toLocalTime();
+                            boolean newsIsMorning = time.isBefore(LocalTime.NOON);
+                            return isMorning == newsIsMorning;
+                        } catch (Exception e) {
+                            // 날짜 파싱 실패 시 제외
+                            return false;
+                        }
+                    })
+                    .collect(Collectors.toList());
+
+            if (filteredNews.size() >= count) {
+                Collections.shuffle(filteredNews);
+                return filteredNews.subList(0, count);
+            } else {
+                return filteredNews;
+            }
+        } catch (Exception e) {
+            // 날짜 파싱 실패 시 빈 리스트 반환
+            log.warn("날짜 파싱 실패로 인해 연관뉴스 조회를 건너뜁니다: {}", e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * 안전한 날짜 파싱 메서드
+     */
+    private LocalDateTime parsePublishedAt(String publishedAt) {
+        if (publishedAt == null || publishedAt.trim().isEmpty()) {
+            return LocalDateTime.now();
+        }
+
+        try {
+            // MySQL의 DATETIME 형식 (2025-08-07 11:50:01.000000) 처리
+            if (publishedAt.contains(".")) {
+                // 마이크로초 부분 제거
+                String withoutMicroseconds = publishedAt.substring(0, publishedAt.lastIndexOf("."));
+                return LocalDateTime.parse(withoutMicroseconds, java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+            } else {
+                // 일반적인 형식
+                return LocalDateTime.parse(publishedAt, java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+            }
+        } catch (Exception e) {
+            log.warn("날짜 파싱 실패: {}, 기본값 사용", publishedAt);
+            return LocalDateTime.now();
+        }
+    }
+    
+    /**
+     * 최근 3일간 같은 카테고리의 뉴스를 조회하여 추가
+     */
+    private List<News> getRecentNewsByCategory(News news, List<News> excludeNews, int count) {
+        // 이미 선택된 뉴스들의 ID 목록
+        List<Long> excludeNewsIds = excludeNews.stream()
+                .map(News::getNewsId)
+                .collect(Collectors.toList());
+        excludeNewsIds.add(news.getNewsId()); // 현재 뉴스도 제외
+
+        try {
+            // 최근 3일간의 같은 카테고리 뉴스 조회
+            LocalDateTime threeDaysAgo = LocalDateTime.now().minusDays(3);
+            LocalDateTime now = LocalDateTime.now();
+            
+            List<News> recentCategoryNews = newsRepository.findByPublishedAtBetweenAndCategoryNameAndNewsIdNotIn(
+                    threeDaysAgo, now, news.getCategoryName(), excludeNewsIds);
+
+            if (recentCategoryNews.size() >= count) {
+                Collections.shuffle(recentCategoryNews);
+                return recentCategoryNews.subList(0, count);
+            } else {
+                return recentCategoryNews;
+            }
+        } catch (Exception e) {
+            // 날짜 파싱 실패 시 빈 리스트 반환
+            log.warn("최근 뉴스 조회 중 오류 발생: {}", e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+}
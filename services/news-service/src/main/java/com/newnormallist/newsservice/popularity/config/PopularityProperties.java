@@ -0,0 +1,63 @@
+package com.newnormallist.newsservice.popularity.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/*
+    인기 기사 순위(조회/스크랩/최신성 시간 감쇠 점수, 카테고리별/전체 상위 N 순위표) 설정을 YAML로 바인딩.
+*/
+@Data
+@ConfigurationProperties(prefix = "popularity")
+public class PopularityProperties {
+
+    /**
+     * 메모리 순위표 사용 여부 (false면 요청마다 DB 정렬)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 점수 반감기 (시간). 이벤트의 기여도는 반감기마다 절반이 됨
+     */
+    private double halfLifeHours = 12;
+
+    /**
+     * 조회 1건 가중치
+     */
+    private double viewWeight = 1.0;
+
+    /**
+     * 스크랩 1건 가중치
+     */
+    private double scrapWeight = 5.0;
+
+    /**
+     * 발행 이벤트 가중치 (막 발행된 기사가 조회가 쌓이기 전에도 순위에 오르도록 하는 최신성 점수)
+     */
+    private double publishWeight = 20.0;
+
+    /**
+     * 집계 대상 발행 기간 (일)
+     */
+    private int windowDays = 7;
+
+    /**
+     * 카테고리별/전체 순위표 크기
+     */
+    private int topN = 200;
+
+    /**
+     * 신규 기사/스크랩 반영 및 순위표 갱신 주기 (밀리초)
+     */
+    private long refreshIntervalMs = 30000;
+
+    /**
+     * DB에서 한 번에 읽을 행 수
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 다른 인스턴스가 반영한 조회수를 받는 채널 (Redis 사용 시)
+     */
+    private String viewChannel = "news:popularity:views";
+}
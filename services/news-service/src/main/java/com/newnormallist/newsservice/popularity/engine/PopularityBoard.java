@@ -0,0 +1,307 @@
+package com.newnormallist.newsservice.popularity.engine;
+
+import com.newnormallist.newsservice.news.entity.Category;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 시간 감쇠 인기도 점수표와 카테고리별/전체 상위 N 순위표
+ *
+ * 역할:
+ * - 기사 점수 = Σ 이벤트 가중치 × 2^(-(현재 - 이벤트 시각) / 반감기)
+ *   (발행 자체를 publishWeight 이벤트로 넣어 최신성을 반영, 조회/스크랩은 발생할 때마다 더함)
+ * - 점수는 기준 시각(epoch)에 고정된 값 Σ w × 2^((이벤트 시각 - epoch) / 반감기)로 보관
+ *   → 시간이 흘러도 모든 기사에 같은 배율이 곱해질 뿐 순서는 그대로라 감쇠를 위해 다시 계산하지 않음
+ * - 순위표는 이벤트/제거가 있었던 카테고리만 다시 뽑고(materialize), 전체 순위는 카테고리 순위를 병합
+ *
+ * 동시성: 이벤트 반영과 순위표 계산은 락으로 직렬화, 읽기는 마지막으로 만든 불변 순위표를 사용
+ */
+public class PopularityBoard {
+
+    private static final Comparator<RankedNews> BY_WEIGHT_DESC =
+            Comparator.comparingDouble(RankedNews::weight).reversed()
+                    .thenComparing(Comparator.comparingLong(RankedNews::newsId).reversed());
+
+    // 기준 시각에서 이만큼 반감기가 지나면 다시 고정 (2^512 안에서 유지)
+    private static final double REANCHOR_HALF_LIVES = 512;
+
+    private final double halfLifeMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Item> items = new HashMap<>();
+    private final Set<Category> dirty = EnumSet.noneOf(Category.class);
+    private final Map<Category, List<RankedNews>> byCategory = new EnumMap<>(Category.class);
+
+    private long epochMillis;
+    private volatile Ranking ranking = new Ranking(Map.of(), List.of(), 0L);
+
+    public PopularityBoard(double halfLifeHours, long epochMillis) {
+        this.halfLifeMillis = Math.max(1.0, halfLifeHours * 3_600_000.0);
+        this.epochMillis = epochMillis;
+    }
+
+    /**
+     * 기사 등록 (발행 이벤트 포함)
+     *
+     * @return 등록 여부 (이미 있는 기사면 false)
+     */
+    public boolean register(long newsId, Category category, long publishedMillis, double publishWeight) {
+        lock.lock();
+        try {
+            if (category == null || items.containsKey(newsId)) {
+                return false;
+            }
+            Item item = new Item(category, publishedMillis);
+            item.weight = anchored(publishWeight, publishedMillis);
+            items.put(newsId, item);
+            dirty.add(category);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 이미 등록된 기사의 카테고리/발행 시각 갱신 (기사 수정, 누적 점수는 유지)
+     *
+     * @return 갱신 여부 (등록되지 않은 기사이거나 바뀐 값이 없으면 false)
+     */
+    public boolean update(long newsId, Category category, long publishedMillis) {
+        lock.lock();
+        try {
+            Item item = items.get(newsId);
+            if (item == null || category == null
+                    || (item.category == category && item.publishedMillis == publishedMillis)) {
+                return false;
+            }
+            dirty.add(item.category);
+            item.category = category;
+            item.publishedMillis = publishedMillis;
+            dirty.add(category);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 기사 제거 (삭제되었거나 집계 기간 밖으로 수정된 기사)
+     *
+     * @return 제거 여부
+     */
+    public boolean remove(long newsId) {
+        lock.lock();
+        try {
+            Item item = items.remove(newsId);
+            if (item == null) {
+                return false;
+            }
+            dirty.add(item.category);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean contains(long newsId) {
+        lock.lock();
+        try {
+            return items.containsKey(newsId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 등록된 기사 news_id 복사본 (삭제 확인용)
+     */
+    public List<Long> newsIds() {
+        lock.lock();
+        try {
+            return new ArrayList<>(items.keySet());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 조회/스크랩 이벤트 반영
+     *
+     * @return 반영 여부 (집계 대상이 아닌 기사면 false)
+     */
+    public boolean addEvent(long newsId, double weight, long eventMillis) {
+        lock.lock();
+        try {
+            Item item = items.get(newsId);
+            if (item == null) {
+                return false;
+            }
+            item.weight += anchored(weight, eventMillis);
+            dirty.add(item.category);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 발행 시각이 epochMillis보다 이전인 기사 제거
+     *
+     * @return 제거한 기사 수
+     */
+    public int evictPublishedBefore(long publishedMillis) {
+        lock.lock();
+        try {
+            int removed = 0;
+            Iterator<Item> iterator = items.values().iterator();
+            while (iterator.hasNext()) {
+                Item item = iterator.next();
+                if (item.publishedMillis < publishedMillis) {
+                    iterator.remove();
+                    dirty.add(item.category);
+                    removed++;
+                }
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 바뀐 카테고리의 상위 topN을 다시 뽑아 순위표 교체
+     *
+     * @return 다시 뽑은 카테고리 수
+     */
+    public int materialize(int topN, long nowMillis) {
+        lock.lock();
+        try {
+            if ((nowMillis - epochMillis) / halfLifeMillis > REANCHOR_HALF_LIVES) {
+                reanchor(nowMillis);
+            }
+            if (dirty.isEmpty() && ranking.materializedAt() != 0L) {
+                return 0;
+            }
+            Map<Category, PriorityQueue<RankedNews>> heaps = new EnumMap<>(Category.class);
+            for (Map.Entry<Long, Item> entry : items.entrySet()) {
+                Item item = entry.getValue();
+                if (!dirty.contains(item.category)) {
+                    continue;
+                }
+                PriorityQueue<RankedNews> heap = heaps.computeIfAbsent(item.category,
+                        category -> new PriorityQueue<>(topN + 1, BY_WEIGHT_DESC.reversed()));
+                heap.offer(new RankedNews(entry.getKey(), item.weight));
+                if (heap.size() > topN) {
+                    heap.poll();
+                }
+            }
+            int recomputed = dirty.size();
+            for (Category category : dirty) {
+                PriorityQueue<RankedNews> heap = heaps.get(category);
+                if (heap == null) {
+                    byCategory.remove(category);
+                    continue;
+                }
+                List<RankedNews> top = new ArrayList<>(heap);
+                top.sort(BY_WEIGHT_DESC);
+                byCategory.put(category, List.copyOf(top));
+            }
+            dirty.clear();
+
+            List<RankedNews> overall = new ArrayList<>();
+            byCategory.values().forEach(overall::addAll);
+            overall.sort(BY_WEIGHT_DESC);
+            ranking = new Ranking(Map.copyOf(byCategory),
+                    List.copyOf(overall.subList(0, Math.min(topN, overall.size()))), nowMillis);
+            return recomputed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 마지막으로 만든 순위표 (category가 null이면 전체)
+     */
+    public List<RankedNews> top(Category category) {
+        Ranking current = ranking;
+        return category == null ? current.overall() : current.byCategory().getOrDefault(category, List.of());
+    }
+
+    public long materializedAt() {
+        return ranking.materializedAt();
+    }
+
+    /**
+     * 고정 가중치를 nowMillis 시점 점수로 환산
+     */
+    public double decayedScore(double weight, long nowMillis) {
+        long epoch;
+        lock.lock();
+        try {
+            epoch = epochMillis;
+        } finally {
+            lock.unlock();
+        }
+        return weight * Math.pow(2.0, -(nowMillis - epoch) / halfLifeMillis);
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return items.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Ranking current = ranking;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("articles", size());
+        stats.put("overall", current.overall().size());
+        Map<String, Integer> categories = new LinkedHashMap<>();
+        current.byCategory().forEach((category, top) -> categories.put(category.name(), top.size()));
+        stats.put("categories", categories);
+        return stats;
+    }
+
+    private double anchored(double weight, long eventMillis) {
+        return weight * Math.pow(2.0, (eventMillis - epochMillis) / halfLifeMillis);
+    }
+
+    // 기준 시각을 옮기고 모든 가중치에 같은 배율을 곱함 (순서는 그대로, 순위표의 가중치도 바뀌므로 전부 다시 뽑음)
+    private void reanchor(long nowMillis) {
+        double factor = Math.pow(2.0, -(nowMillis - epochMillis) / halfLifeMillis);
+        for (Item item : items.values()) {
+            item.weight *= factor;
+            dirty.add(item.category);
+        }
+        byCategory.keySet().forEach(dirty::add);
+        epochMillis = nowMillis;
+    }
+
+    private static final class Item {
+        private Category category;
+        private long publishedMillis;
+        private double weight;
+
+        private Item(Category category, long publishedMillis) {
+            this.category = category;
+            this.publishedMillis = publishedMillis;
+        }
+    }
+
+    private record Ranking(Map<Category, List<RankedNews>> byCategory, List<RankedNews> overall,
+                           long materializedAt) {
+    }
+}
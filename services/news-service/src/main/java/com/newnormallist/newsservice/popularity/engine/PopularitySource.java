@@ -0,0 +1,11 @@
+package com.newnormallist.newsservice.popularity.engine;
+
+import com.newnormallist.newsservice.news.entity.Category;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기도 집계용 기사 행 (NewsRepository.findPopularitySources)
+ */
+public record PopularitySource(Long newsId, Category category, LocalDateTime publishedAt, Integer viewCount) {
+}
@@ -0,0 +1,9 @@
+package com.newnormallist.newsservice.popularity.engine;
+
+/**
+ * 인기 순위 항목
+ *
+ * @param weight 기준 시각(epoch)에 고정된 누적 가중치 - 같은 순위표 안에서만 비교 (PopularityBoard.decayedScore로 현재 점수 환산)
+ */
+public record RankedNews(long newsId, double weight) {
+}
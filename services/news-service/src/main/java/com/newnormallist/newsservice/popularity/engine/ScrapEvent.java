@@ -0,0 +1,9 @@
+package com.newnormallist.newsservice.popularity.engine;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기도 집계용 스크랩 행 (NewsScrapRepository.findScrapEvents)
+ */
+public record ScrapEvent(Integer scrapId, Long newsId, LocalDateTime createdAt) {
+}
@@ -0,0 +1,412 @@
+package com.newnormallist.newsservice.popularity.service;
+
+import com.newnormallist.newsservice.ingest.engine.NewsChangeCursor;
+import com.newnormallist.newsservice.ingest.service.ChangeFeedConsumer;
+import com.newnormallist.newsservice.ingest.service.NewsChangeFeed;
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import com.newnormallist.newsservice.news.repository.NewsScrapRepository;
+import com.newnormallist.newsservice.popularity.config.PopularityProperties;
+import com.newnormallist.newsservice.popularity.engine.PopularityBoard;
+import com.newnormallist.newsservice.popularity.engine.PopularitySource;
+import com.newnormallist.newsservice.popularity.engine.RankedNews;
+import com.newnormallist.newsservice.popularity.engine.ScrapEvent;
+import com.newnormallist.newsservice.view.event.ViewCountsFlushedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 기사 순위 서비스
+ *
+ * 역할:
+ * - 조회수/스크랩/최신성을 시간 감쇠 점수로 합쳐 카테고리별/전체 상위 N 순위표를 메모리에 유지 (PopularityBoard)
+ * - 인기 기사 요청은 순위표에서 news_id만 잘라 카드 조회 (NewsServiceImpl.getPopularNews)
+ *
+ * 기능:
+ * - 기동: 집계 기간 안의 기사(누적 조회수 포함)와 스크랩을 읽어 재구성
+ * - 조회: 조회수 배치가 DB에 반영될 때마다 반영분을 점수에 더하고, Redis 채널로 다른 인스턴스에도 전달
+ * - 증분: 주기적으로 변경 피드(NewsChangeFeed)로 받은 신규/수정 기사와 신규 스크랩만 반영하고,
+ *   기간이 지났거나 삭제된 기사는 제거한 뒤 바뀐 카테고리 순위표만 다시 뽑음
+ * - 관측: news.popularity.refresh{phase}, news.popularity.materialize(순위표 계산 비용),
+ *   news.popularity.lag(이벤트 발생 → 순위표 반영 지연) 타이머, news.popularity.staleness 게이지, status()
+ *
+ * 준비 전이거나 비활성화 상태면 DB 정렬로 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularityService extends ChangeFeedConsumer implements MessageListener {
+
+    private static final String CONSUMER = "popularity";
+
+    private final NewsRepository newsRepository;
+    private final NewsChangeFeed changeFeed;
+    private final NewsScrapRepository newsScrapRepository;
+    private final PopularityProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    // 마지막 순위표 계산 후 반영된 가장 이른 이벤트 시각 (지연 측정용, 없으면 Long.MAX_VALUE)
+    private final AtomicLong oldestPendingEventMillis = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong localViewEvents = new AtomicLong();
+    private final AtomicLong remoteViewEvents = new AtomicLong();
+
+    private volatile PopularityBoard board;
+    private volatile NewsChangeCursor cursor;
+    private volatile long lastScrapId;
+    private volatile LocalDateTime lastRefreshedAt;
+    private volatile long lastRefreshMs;
+    private volatile long lastRebuildMs;
+    private volatile double lastMaterializeMs;
+    private volatile int lastRecomputedCategories;
+    private volatile long lastLagMs;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("news.popularity.staleness", this, service -> service.stalenessSeconds())
+                .description("인기 기사 순위표 마지막 갱신 후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        RedisMessageListenerContainer container = listenerContainer.getIfAvailable();
+        if (container != null) {
+            container.addMessageListener(this, new ChannelTopic(properties.getViewChannel()));
+        }
+    }
+
+    /**
+     * 이 인스턴스의 조회수 배치 반영 후 점수 반영 + 다른 인스턴스로 전달
+     */
+    @EventListener
+    public void onViewsFlushed(ViewCountsFlushedEvent event) {
+        if (!properties.isEnabled() || event.deltas().isEmpty()) {
+            return;
+        }
+        localViewEvents.addAndGet(applyViews(event.deltas()));
+        if (listenerContainer.getIfAvailable() == null) {
+            return;
+        }
+        String body = instanceId + "|" + event.deltas().entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(properties.getViewChannel(), body);
+        } catch (Exception e) {
+            log.warn("⚠️ 인기도 조회수 전달 실패 (다른 인스턴스는 재구성 전까지 누락): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 반영한 조회수 수신 (자기 메시지는 이미 반영했으므로 무시)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0 || body.substring(0, separator).equals(instanceId) || !properties.isEnabled()) {
+            return;
+        }
+        Map<Long, Long> deltas = new HashMap<>();
+        try {
+            for (String pair : body.substring(separator + 1).split(",")) {
+                int colon = pair.indexOf(':');
+                if (colon > 0) {
+                    deltas.put(Long.parseLong(pair.substring(0, colon)), Long.parseLong(pair.substring(colon + 1)));
+                }
+            }
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 알 수 없는 인기도 조회수 메시지: {}", body);
+            return;
+        }
+        remoteViewEvents.addAndGet(applyViews(deltas));
+    }
+
+    @Scheduled(fixedDelayString = "${popularity.refresh-interval-ms:30000}",
+            initialDelayString = "${popularity.refresh-interval-ms:30000}")
+    public void refresh() {
+        refreshIfIdle();
+    }
+
+    @Override
+    protected boolean bootstrapEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    protected boolean refreshable() {
+        return board != null;
+    }
+
+    @Override
+    protected void applyFeed() {
+        PopularityBoard current = board;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long started = System.currentTimeMillis();
+        int articles = applyChanges(current, started);
+        int scraps = catchUpScraps(current);
+        int deleted = 0;
+        for (Long newsId : changeFeed.tombstones(cursor, current::newsIds)) {
+            if (current.remove(newsId)) {
+                deleted++;
+            }
+        }
+        int evicted = current.evictPublishedBefore(toEpochMillis(windowStart()));
+        materialize(current);
+        lastRefreshedAt = LocalDateTime.now();
+        lastRefreshMs = System.currentTimeMillis() - started;
+        sample.stop(meterRegistry.timer("news.popularity.refresh", "phase", "incremental"));
+        if (articles > 0 || scraps > 0 || deleted > 0 || evicted > 0) {
+            log.debug("인기도 순위표 갱신: 신규/수정 기사 {}개, 스크랩 {}건, 삭제 {}개, 만료 {}개, 다시 뽑은 카테고리 {}개, {}ms",
+                    articles, scraps, deleted, evicted, lastRecomputedCategories, lastRefreshMs);
+        }
+    }
+
+    /**
+     * 인기 순위 news_id (category가 null이면 전체, 준비 전이거나 비활성화 상태면 null)
+     */
+    public List<Long> topNewsIds(Category category) {
+        PopularityBoard current = board;
+        if (!properties.isEnabled() || current == null) {
+            return null;
+        }
+        return current.top(category).stream().map(RankedNews::newsId).toList();
+    }
+
+    /**
+     * DB에서 전체 재구성 (새 점수표를 만든 뒤 교체)
+     */
+    @Override
+    public Map<String, Object> rebuild() {
+        writeLock.lock();
+        try {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            long started = System.currentTimeMillis();
+            // 적재 전에 변경 피드 커서와 최대 scrap_id를 잡아두고, 적재 중 바뀐 행은 증분에서 반영 (같은 기사는 갱신)
+            NewsChangeCursor nextCursor = changeFeed.open(CONSUMER);
+            long startScrapId = newsScrapRepository.findMaxScrapId();
+            PopularityBoard rebuilt = new PopularityBoard(properties.getHalfLifeHours(), started);
+            int articles = loadArticles(rebuilt, started);
+            lastScrapId = 0L;
+            catchUpScraps(rebuilt);
+            oldestPendingEventMillis.set(Long.MAX_VALUE);
+            materialize(rebuilt);
+            board = rebuilt;
+            cursor = nextCursor;
+            lastScrapId = Math.max(lastScrapId, startScrapId);
+            lastRefreshedAt = LocalDateTime.now();
+            lastRebuildMs = System.currentTimeMillis() - started;
+            sample.stop(meterRegistry.timer("news.popularity.refresh", "phase", "rebuild"));
+            log.info("🔎 인기도 순위표 재구성 완료: 기사 {}개, {}ms", articles, lastRebuildMs);
+        } catch (Exception e) {
+            log.error("❌ 인기도 순위표 재구성 실패 - 기존 순위표(없으면 DB 정렬)로 동작: {}", e.getMessage(), e);
+        } finally {
+            writeLock.unlock();
+        }
+        return status();
+    }
+
+    public Map<String, Object> status() {
+        PopularityBoard current = board;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", properties.isEnabled());
+        status.put("ready", current != null);
+        status.put("halfLifeHours", properties.getHalfLifeHours());
+        status.put("windowDays", properties.getWindowDays());
+        NewsChangeCursor currentCursor = cursor;
+        status.put("changeFeed", currentCursor != null ? currentCursor.status() : null);
+        status.put("lastScrapId", lastScrapId);
+        status.put("lastRefreshedAt", lastRefreshedAt != null ? lastRefreshedAt.toString() : null);
+        status.put("stalenessSeconds", stalenessSeconds());
+        status.put("lastRefreshMs", lastRefreshMs);
+        status.put("lastRebuildMs", lastRebuildMs);
+        status.put("lastMaterializeMs", lastMaterializeMs);
+        status.put("lastRecomputedCategories", lastRecomputedCategories);
+        status.put("lastLagMs", lastLagMs);
+        status.put("localViewEvents", localViewEvents.get());
+        status.put("remoteViewEvents", remoteViewEvents.get());
+        if (current != null) {
+            status.put("board", current.stats());
+            long now = System.currentTimeMillis();
+            status.put("top", current.top(null).stream().limit(10)
+                    .map(ranked -> Map.of("newsId", ranked.newsId(),
+                            "score", Math.round(current.decayedScore(ranked.weight(), now) * 1000) / 1000.0))
+                    .toList());
+        }
+        return status;
+    }
+
+    private int applyViews(Map<Long, Long> deltas) {
+        PopularityBoard current = board;
+        if (current == null) {
+            // 재구성 전 조회수는 재구성 시 DB 누적 조회수로 반영됨
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        int applied = 0;
+        for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+            if (current.addEvent(delta.getKey(), properties.getViewWeight() * delta.getValue(), now)) {
+                applied++;
+            }
+        }
+        if (applied > 0) {
+            noteEvent(now);
+        }
+        return applied;
+    }
+
+    /**
+     * 집계 기간 안에 발행된 기사 전체 등록 (재구성, news_id 키셋)
+     */
+    private int loadArticles(PopularityBoard target, long nowMillis) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        LocalDateTime since = windowStart();
+        long afterNewsId = 0L;
+        int added = 0;
+        while (true) {
+            List<PopularitySource> batch = newsRepository.findPopularitySources(
+                    afterNewsId, since, PageRequest.of(0, batchSize));
+            for (PopularitySource source : batch) {
+                if (register(target, source, nowMillis)) {
+                    added++;
+                }
+                afterNewsId = Math.max(afterNewsId, source.newsId());
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * 변경 피드로 받은 기사 반영 (처음 보는 기사는 등록, 있던 기사는 카테고리/발행 시각 갱신,
+     * 삭제되었거나 집계 기간 밖이면 제거)
+     */
+    private int applyChanges(PopularityBoard target, long nowMillis) {
+        List<Long> changed = changeFeed.poll(cursor);
+        LocalDateTime since = windowStart();
+        int applied = 0;
+        for (List<Long> chunk : NewsChangeFeed.chunks(changed, properties.getBatchSize())) {
+            Map<Long, PopularitySource> sources = newsRepository.findPopularitySourcesByIdIn(chunk, since).stream()
+                    .collect(Collectors.toMap(PopularitySource::newsId, Function.identity()));
+            for (Long newsId : chunk) {
+                PopularitySource source = sources.get(newsId);
+                if (source == null) {
+                    applied += target.remove(newsId) ? 1 : 0;
+                } else if (target.contains(newsId)) {
+                    applied += target.update(newsId, source.category(), toEpochMillis(source.publishedAt())) ? 1 : 0;
+                } else {
+                    applied += register(target, source, nowMillis) ? 1 : 0;
+                }
+            }
+        }
+        return applied;
+    }
+
+    // 발행 이벤트와 DB 누적 조회수로 기사 등록
+    private boolean register(PopularityBoard target, PopularitySource source, long nowMillis) {
+        long publishedMillis = toEpochMillis(source.publishedAt());
+        if (!target.register(source.newsId(), source.category(), publishedMillis, properties.getPublishWeight())) {
+            return false;
+        }
+        noteEvent(Math.min(publishedMillis, nowMillis));
+        int views = source.viewCount() != null ? source.viewCount() : 0;
+        if (views > 0) {
+            // 개별 조회 시각은 알 수 없으므로 발행 시각과 현재의 중간에 몰아서 반영
+            target.addEvent(source.newsId(), properties.getViewWeight() * views,
+                    publishedMillis + Math.max(0L, nowMillis - publishedMillis) / 2);
+        }
+        return true;
+    }
+
+    /**
+     * 반영된 최대 scrap_id 이후 스크랩 반영 (스크랩 취소는 차감하지 않고 감쇠로 사라지게 둠)
+     */
+    private int catchUpScraps(PopularityBoard target) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        LocalDateTime since = windowStart();
+        int added = 0;
+        while (true) {
+            List<ScrapEvent> batch = newsScrapRepository.findScrapEvents(
+                    (int) lastScrapId, since, PageRequest.of(0, batchSize));
+            for (ScrapEvent scrap : batch) {
+                long createdMillis = toEpochMillis(scrap.createdAt());
+                if (target.addEvent(scrap.newsId(), properties.getScrapWeight(), createdMillis)) {
+                    added++;
+                    noteEvent(createdMillis);
+                }
+                lastScrapId = Math.max(lastScrapId, scrap.scrapId());
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return added;
+    }
+
+    private void materialize(PopularityBoard target) {
+        long started = System.nanoTime();
+        long now = System.currentTimeMillis();
+        lastRecomputedCategories = target.materialize(Math.max(1, properties.getTopN()), now);
+        long elapsed = System.nanoTime() - started;
+        lastMaterializeMs = elapsed / 1_000_000.0;
+        meterRegistry.timer("news.popularity.materialize").record(elapsed, TimeUnit.NANOSECONDS);
+
+        long oldest = oldestPendingEventMillis.getAndSet(Long.MAX_VALUE);
+        if (oldest != Long.MAX_VALUE && target == board) {
+            lastLagMs = Math.max(0L, now - oldest);
+            meterRegistry.timer("news.popularity.lag").record(lastLagMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void noteEvent(long eventMillis) {
+        // 과거 데이터 적재(재구성, 오래된 스크랩)는 지연 측정에서 제외
+        long floor = System.currentTimeMillis() - properties.getRefreshIntervalMs() * 2;
+        oldestPendingEventMillis.accumulateAndGet(Math.max(eventMillis, floor), Math::min);
+    }
+
+    private double stalenessSeconds() {
+        LocalDateTime refreshedAt = lastRefreshedAt;
+        return refreshedAt == null ? -1
+                : Duration.between(refreshedAt, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    private LocalDateTime windowStart() {
+        return LocalDateTime.now().minusDays(properties.getWindowDays());
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : Instant.now().toEpochMilli();
+    }
+}
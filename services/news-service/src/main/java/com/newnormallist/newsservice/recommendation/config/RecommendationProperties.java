@@ -24,4 +24,105 @@ public class RecommendationProperties {
     private double case2Demo, case2Pref, case2Read, case2Scrap;
     private double case3Demo, case3Pref, case3Read, case3Scrap;
     private double case4Demo, case4Pref, case4Read, case4Scrap;
+
+    private VectorRefresh vectorRefresh = new VectorRefresh(); // 조회/스크랩 이벤트 기반 벡터 재계산
+    private VectorBatch vectorBatch = new VectorBatch(); // 전체/증분 일괄 재계산 (VectorUpdateScheduler)
+    private FeedBuffer feedBuffer = new FeedBuffer(); // 카테고리별 최신 기사 카드 메모리 버퍼 (LatestNewsBuffer)
+
+    @Data
+    public static class VectorRefresh {
+
+        /**
+         * 이벤트 기반 재계산 사용 여부 (false면 피드 요청 때 stale 벡터를 바로 재계산)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 재계산 스레드 수 (동시에 재계산하는 사용자 수 상한)
+         */
+        private int threads = 2;
+
+        /**
+         * 이벤트 후 재계산까지 기다리는 시간 (밀리초). 그 사이 들어온 같은 사용자 이벤트는 한 번으로 합침
+         */
+        private long debounceMs = 2000;
+
+        /**
+         * 같은 사용자 재계산 최소 간격 (밀리초)
+         */
+        private long minIntervalMs = 60000;
+
+        /**
+         * 대기 중인 사용자 수 상한 (넘치면 요청을 버리고 피드 요청 시 stale 판정으로 다시 요청)
+         */
+        private int maxPending = 10000;
+
+        /**
+         * 피드 요청 시 재계산을 요청하는 벡터 경과 시간 (분)
+         */
+        private int staleMinutes = 10;
+    }
+
+    @Data
+    public static class VectorBatch {
+
+        /**
+         * 스케줄 실행 여부 (관리자 수동 실행은 항상 가능)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 전체 재계산 cron (활성 사용자 전부)
+         */
+        private String fullCron = "0 0 2 * * *";
+
+        /**
+         * 증분 재계산 cron (최근 조회/스크랩한 사용자만)
+         */
+        private String incrementalCron = "0 10 * * * *";
+
+        /**
+         * 한 번에 읽고 저장하는 사용자 수 (user_id 순 청크)
+         */
+        private int chunkSize = 500;
+
+        /**
+         * 청크 안에서 동시에 계산하는 사용자 수
+         */
+        private int threads = 4;
+
+        /**
+         * 첫 증분 실행(이전 완료 기록 없음)에서 활동을 찾는 기간 (시간)
+         */
+        private int incrementalLookbackHours = 2;
+
+        /**
+         * 실행 점유 시간 (분). 인스턴스가 죽어도 이 시간이 지나면 다른 인스턴스가 체크포인트부터 이어서 실행
+         */
+        private int leaseMinutes = 10;
+    }
+
+    @Data
+    public static class FeedBuffer {
+
+        /**
+         * 피드 후보를 메모리 버퍼에서 꺼낼지 여부 (false면 요청마다 DB 조회)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 카테고리별로 보관하는 최신 기사 수 (quotas, 최신순 피드 offset + size보다 커야 메모리에서 처리)
+         */
+        private int capacity = 200;
+
+        /**
+         * 신규 기사 반영 주기 (밀리초)
+         */
+        private long refreshIntervalMs = 10000;
+
+        /**
+         * DB에서 다시 채우는 주기 (밀리초). 다른 서비스에서 삭제/수정된 기사 반영
+         */
+        private long rebuildIntervalMs = 600000;
+    }
 }
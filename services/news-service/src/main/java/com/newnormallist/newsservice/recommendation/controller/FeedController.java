@@ -19,6 +19,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 // RecommendationService를 호출해 최종 피드(뉴스 리스트) DTO로 반환
 // 첫 페이지: 개인화 추천, 나머지 페이지: 전체 뉴스 최신순
+// cursor 파라미터를 넘길 때만 커서 방식: 빈 값(cursor=)이면 첫 페이지 + nextCursor, 이후 nextCursor로 키셋(published_at, news_id) 조회
+// cursor가 없으면 기존 page/size 응답 그대로 (첫 페이지에 커서 계산용 최신순 쿼리를 더하지 않음)
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/news/feed")
@@ -43,8 +45,13 @@ public class FeedController {
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "21")
-            @RequestParam(defaultValue = "21") int size) {
+            @RequestParam(defaultValue = "21") int size,
+            @Parameter(description = "이전 응답의 nextCursor (지정 시 page 대신 커서 기반 조회, 빈 값이면 첫 페이지부터)")
+            @RequestParam(required = false) String cursor) {
         Long userId = Long.parseLong(userIdStr);
+        if (cursor != null) {
+            return recommendationService.getFeedByCursor(userId, cursor, size);
+        }
         List<FeedItemDto> feedItems = recommendationService.getFeed(userId, page, size);
         return FeedResponseDto.builder()
                 .content(feedItems)
@@ -67,7 +74,12 @@ public class FeedController {
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "21")
-            @RequestParam(defaultValue = "21") int size) {
+            @RequestParam(defaultValue = "21") int size,
+            @Parameter(description = "이전 응답의 nextCursor (지정 시 page 대신 커서 기반 조회, 빈 값이면 첫 페이지부터)")
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return recommendationService.getFeedByCursor(id, cursor, size);
+        }
         List<FeedItemDto> feedItems = recommendationService.getFeed(id, page, size);
         return FeedResponseDto.builder()
                 .content(feedItems)
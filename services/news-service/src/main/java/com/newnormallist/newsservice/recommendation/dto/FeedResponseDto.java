@@ -16,4 +16,6 @@ import lombok.Setter;
 @Builder
 public class FeedResponseDto {
     private List<FeedItemDto> content;
+    // 다음 최신순 구간 커서 (cursor 파라미터로 전달, 마지막이면 null)
+    private String nextCursor;
 }
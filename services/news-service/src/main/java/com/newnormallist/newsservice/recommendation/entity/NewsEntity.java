@@ -1,5 +1,6 @@
 package com.newnormallist.newsservice.recommendation.entity;
 
+import com.newnormallist.newsservice.news.util.NewsDerivedColumns;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -9,12 +10,12 @@ import java.time.LocalDateTime;
 
 
 // 뉴스 마스터 테이블 매핑
-// 핵심 인덱스 : (category, published_at DESC) -> 카테고리별 최신 기사 추출\
+// 핵심 인덱스 : (category, published_at_datetime DESC) -> 카테고리별 최신 기사 추출
 @Entity
 @Table(name = "news", indexes = {
-    @Index(name = "idx_news_cat_pub", columnList = "category_name, published_at")
+    @Index(name = "idx_news_category_published", columnList = "category_name, published_at_datetime")
 })
-// WHERE category_name = ? ORDER BY published_at DESC 같은 쿼리에서 효율적으로 최신 기사를 뽑을 수 있음
+// WHERE category_name = ? ORDER BY published_at_datetime DESC 같은 쿼리에서 효율적으로 최신 기사를 뽑을 수 있음
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,12 +37,20 @@ public class NewsEntity {
     @Column(name = "content", nullable = false, columnDefinition = "MEDIUMTEXT")
     private String content;
 
+    // 목록 카드용 본문 앞부분 (피드 조회는 content 대신 이 컬럼만 읽음)
+    @Column(name = "snippet", length = 160)
+    private String snippet;
+
     @Column(name = "press", nullable = false, columnDefinition = "TEXT")
     private String press;
 
     @Column(name = "published_at", length = 100)
     private String publishedAt;
 
+    // published_at의 DATETIME 사본 (정렬용, 이행 기간 동안 이중 기록)
+    @Column(name = "published_at_datetime")
+    private LocalDateTime publishedAtDateTime;
+
     @Column(name = "reporter", nullable = false, columnDefinition = "TEXT")
     private String reporter;
 
@@ -69,4 +78,16 @@ public class NewsEntity {
 
     @Column(name = "oid_aid")
     private String oidAid;
+
+    // 저장/수정 시 파생 컬럼 기록 (news.entity.News와 같은 규칙: NewsDerivedColumns)
+    @PrePersist
+    @PreUpdate
+    void syncDerivedColumns() {
+        if (content != null) {
+            snippet = NewsDerivedColumns.toSnippet(content);
+        }
+        if (publishedAt != null) {
+            publishedAtDateTime = NewsDerivedColumns.toPublishedAtDateTime(publishedAt);
+        }
+    }
 }
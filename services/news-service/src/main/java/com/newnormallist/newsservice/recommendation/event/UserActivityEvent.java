@@ -0,0 +1,12 @@
+package com.newnormallist.newsservice.recommendation.event;
+
+/**
+ * 로그인 사용자의 기사 조회/스크랩 (선호 벡터 재계산 요청, PreferenceVectorRefresher)
+ *
+ * @param activity READ(중복 제외된 첫 조회) 또는 SCRAP
+ */
+public record UserActivityEvent(Long userId, Long newsId, String activity) {
+
+    public static final String READ = "read";
+    public static final String SCRAP = "scrap";
+}
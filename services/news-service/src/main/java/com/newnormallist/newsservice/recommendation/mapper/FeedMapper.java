@@ -1,27 +1,27 @@
 package com.newnormallist.newsservice.recommendation.mapper;
 
 import com.newnormallist.newsservice.recommendation.dto.FeedItemDto;
-import com.newnormallist.newsservice.recommendation.entity.NewsEntity;
+import com.newnormallist.newsservice.recommendation.model.FeedNewsCard;
 import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
 import com.newnormallist.newsservice.recommendation.entity.DedupState;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
-// News 엔티티를 FeedItemDto로 변환하는 매퍼
+// 뉴스 카드 프로젝션(FeedNewsCard)을 FeedItemDto로 변환하는 매퍼
 public class FeedMapper {
-    public static FeedItemDto toDto(NewsEntity newsEntity) {
+    public static FeedItemDto toDto(FeedNewsCard news) {
         // publishedAt을 LocalDateTime으로 변환
         LocalDateTime publishedAt = null;
-        if (newsEntity.getPublishedAt() != null && !newsEntity.getPublishedAt().isEmpty()) {
+        if (news.publishedAt() != null && !news.publishedAt().isEmpty()) {
             try {
-                if (newsEntity.getPublishedAt().contains("T")) {
+                if (news.publishedAt().contains("T")) {
                     // ISO 8601 형식: 2025-08-20T09:35:11
-                    publishedAt = LocalDateTime.parse(newsEntity.getPublishedAt(), 
+                    publishedAt = LocalDateTime.parse(news.publishedAt(), 
                         DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"));
                 } else {
                     // 일반 형식: 2025-08-20 09:35:11
-                    publishedAt = LocalDateTime.parse(newsEntity.getPublishedAt(), 
+                    publishedAt = LocalDateTime.parse(news.publishedAt(), 
                         DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
                 }
             } catch (Exception e) {
@@ -31,24 +31,24 @@ public class FeedMapper {
         }
 
         return FeedItemDto.builder()
-            .newsId(newsEntity.getNewsId())
-            .title(newsEntity.getTitle())
+            .newsId(news.newsId())
+            .title(news.title())
             .content(null) // 본문은 제외
-            .press(newsEntity.getPress())
-            .link(newsEntity.getLink())
-            .summary(null) // summary 필드는 현재 NewsEntity에 없음
-            .trusted(newsEntity.getTrusted() ? 1 : 0) // Boolean -> Integer 변환
+            .press(news.press())
+            .link(news.link())
+            .summary(news.snippet()) // 저장 시 계산된 본문 앞부분
+            .trusted(Boolean.TRUE.equals(news.trusted()) ? 1 : 0) // Boolean -> Integer 변환
             .publishedAt(publishedAt)
-            .createdAt(newsEntity.getCreatedAt())
-            .reporterName(newsEntity.getReporter())
-            .categoryName(newsEntity.getCategoryName())
-            .categoryDescription(getCategoryDescription(newsEntity.getCategoryName()))
-            .dedupState(newsEntity.getDedupState())
-            .dedupStateDescription(getDedupStateDescription(newsEntity.getDedupState()))
-            .imageUrl(newsEntity.getImageUrl())
-            .oidAid(newsEntity.getOidAid())
+            .createdAt(news.createdAt())
+            .reporterName(news.reporter())
+            .categoryName(news.categoryName())
+            .categoryDescription(getCategoryDescription(news.categoryName()))
+            .dedupState(news.dedupState())
+            .dedupStateDescription(getDedupStateDescription(news.dedupState()))
+            .imageUrl(news.imageUrl())
+            .oidAid(news.oidAid())
             .status(null) // status 필드는 현재 NewsEntity에 없음
-            .updatedAt(newsEntity.getUpdatedAt())
+            .updatedAt(news.updatedAt())
             .build();
     }
     
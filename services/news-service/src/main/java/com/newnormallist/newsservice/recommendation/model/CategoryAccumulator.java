@@ -0,0 +1,17 @@
+package com.newnormallist.newsservice.recommendation.model;
+
+import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
+
+import java.time.LocalDateTime;
+
+// 사용자 카테고리별 조회/스크랩 감쇠 누적 점수 (user_category_score 한 행)
+// score는 updatedAt 시점 값, 이후 경과 시간만큼 반감기로 감쇠해서 읽음. lastEventAt은 마지막 조회/스크랩 시각 (없으면 null)
+public record CategoryAccumulator(
+        Long userId,
+        String activity,
+        RecommendationCategory category,
+        double score,
+        LocalDateTime updatedAt,
+        LocalDateTime lastEventAt
+) {
+}
@@ -0,0 +1,25 @@
+package com.newnormallist.newsservice.recommendation.model;
+
+import com.newnormallist.newsservice.recommendation.entity.DedupState;
+import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
+
+import java.time.LocalDateTime;
+
+// 피드 카드 조회용 프로젝션 (본문 content 대신 저장 시 계산된 snippet만 읽음)
+public record FeedNewsCard(
+        Long newsId,
+        String title,
+        String snippet,
+        String press,
+        String link,
+        Boolean trusted,
+        String publishedAt,
+        LocalDateTime publishedAtDateTime,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        String reporter,
+        RecommendationCategory categoryName,
+        DedupState dedupState,
+        String imageUrl,
+        String oidAid) {
+}
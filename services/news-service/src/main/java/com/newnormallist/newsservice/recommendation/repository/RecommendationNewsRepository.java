@@ -5,32 +5,63 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Page;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Collection;
 
 import com.newnormallist.newsservice.recommendation.entity.NewsEntity;
 import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
+import com.newnormallist.newsservice.recommendation.model.FeedNewsCard;
 
 
 // findLatestIdsByCategory(cat, limit) : 카테고리 최신 뉴스 ID 가져오기.
 // findByIdIn(ids) : 메타 정보 일괄 조회.
 // findCategoryById(id) : 조회 로그 저장 시 newsId → category 팝업용.
+// findLatest / findLatestAfter / findUndatedBefore : 커서 기반 최신순 피드 (published_at_datetime, news_id 키셋).
+// findCardsByIdIn / findLatest* 는 본문 없이 카드 컬럼만 읽는 FeedNewsCard 프로젝션.
+// findLatestCardsByCategory / findCardsByIdIn : 카테고리별 최신 기사 메모리 버퍼(LatestNewsBuffer) 재구성/변경 반영.
 public interface RecommendationNewsRepository extends JpaRepository<NewsEntity, Long> {
 
-    @Query("SELECT n.newsId FROM NewsEntity n WHERE n.categoryName = :cat ORDER BY " +
-           "CASE WHEN n.publishedAt LIKE '%T%' THEN STR_TO_DATE(n.publishedAt, '%Y-%m-%dT%H:%i:%s') " +
-           "ELSE STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') END DESC")
+    String CARD_SELECT = "SELECT new com.newnormallist.newsservice.recommendation.model.FeedNewsCard(" +
+            "n.newsId, n.title, n.snippet, n.press, n.link, n.trusted, n.publishedAt, n.publishedAtDateTime, " +
+            "n.createdAt, n.updatedAt, n.reporter, n.categoryName, n.dedupState, n.imageUrl, n.oidAid) " +
+            "FROM NewsEntity n ";
+
+    @Query("SELECT n.newsId FROM NewsEntity n WHERE n.categoryName = :cat ORDER BY n.publishedAtDateTime DESC")
     List<Long> findLatestIdsByCategory(@Param("cat") RecommendationCategory category, Pageable pageable);
 
     @Query("SELECT n FROM NewsEntity n WHERE n.newsId IN :ids")
     List<NewsEntity> findByIdIn(@Param("ids") Collection<Long> ids);
 
+    @Query(CARD_SELECT + "WHERE n.newsId IN :ids")
+    List<FeedNewsCard> findCardsByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT n.categoryName FROM NewsEntity n WHERE n.newsId = :id")
     RecommendationCategory findCategoryById(@Param("id") Long id);
     
-    // published_at 기준 최신순 정렬 (전체 뉴스 피드용)
-    @Query("SELECT n FROM NewsEntity n ORDER BY " +
-           "CASE WHEN n.publishedAt LIKE '%T%' THEN STR_TO_DATE(n.publishedAt, '%Y-%m-%dT%H:%i:%s') " +
-           "ELSE STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') END DESC")
+    // published_at_datetime 기준 최신순 정렬 (전체 뉴스 피드용)
+    @Query("SELECT n FROM NewsEntity n ORDER BY n.publishedAtDateTime DESC")
     Page<NewsEntity> findAllByOrderByPublishedAtDesc(Pageable pageable);
+
+    // 최신순 피드 구간 (COUNT 쿼리 없이, 커서 첫 구간 및 page 방식 공용)
+    @Query(CARD_SELECT + "ORDER BY n.publishedAtDateTime DESC, n.newsId DESC")
+    List<FeedNewsCard> findLatest(Pageable pageable);
+
+    // 커서 다음 기사 (발행일 없는 기사는 최신순에서 맨 뒤이므로 항상 포함)
+    @Query(CARD_SELECT + "WHERE n.publishedAtDateTime < :publishedAt " +
+           "OR (n.publishedAtDateTime = :publishedAt AND n.newsId < :newsId) " +
+           "OR n.publishedAtDateTime IS NULL " +
+           "ORDER BY n.publishedAtDateTime DESC, n.newsId DESC")
+    List<FeedNewsCard> findLatestAfter(@Param("publishedAt") LocalDateTime publishedAt,
+                                       @Param("newsId") Long newsId,
+                                       Pageable pageable);
+
+    // 발행일 없는 구간의 커서 다음 기사
+    @Query(CARD_SELECT + "WHERE n.publishedAtDateTime IS NULL AND n.newsId < :newsId " +
+           "ORDER BY n.newsId DESC")
+    List<FeedNewsCard> findUndatedBefore(@Param("newsId") Long newsId, Pageable pageable);
+
+    // 카테고리 최신 카드 (메모리 버퍼 재구성, 최신순 피드와 같은 정렬)
+    @Query(CARD_SELECT + "WHERE n.categoryName = :cat ORDER BY n.publishedAtDateTime DESC, n.newsId DESC")
+    List<FeedNewsCard> findLatestCardsByCategory(@Param("cat") RecommendationCategory category, Pageable pageable);
 }
@@ -0,0 +1,140 @@
+package com.newnormallist.newsservice.recommendation.repository;
+
+import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
+import com.newnormallist.newsservice.recommendation.event.UserActivityEvent;
+import com.newnormallist.newsservice.recommendation.model.CategoryAccumulator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// user_category_score: 사용자 x 활동(read/scrap) x 카테고리 감쇠 누적 점수 (R(c)/S(c)를 이력 전체 대신 18행으로 계산)
+@Repository
+@RequiredArgsConstructor
+public class UserCategoryScoreRepository {
+
+    private static final double MICROS_PER_DAY = 86_400_000_000.0;
+
+    // 기존 점수를 이벤트 시각까지 감쇠한 뒤 +1 (SET은 왼쪽부터 적용되므로 score가 이전 updated_at 기준으로 계산됨)
+    private static final String INCREMENT_SQL = "UPDATE user_category_score "
+            + "SET score = score * POW(0.5, GREATEST(0, TIMESTAMPDIFF(MICROSECOND, updated_at, ?)) / ?) + 1, "
+            + "updated_at = GREATEST(updated_at, ?), last_event_at = ? "
+            + "WHERE user_id = ? AND activity = ? AND category = ?";
+    private static final String UPSERT_SQL = "INSERT INTO user_category_score "
+            + "(user_id, activity, category, score, updated_at, last_event_at) VALUES (?, ?, ?, ?, ?, ?) AS new "
+            + "ON DUPLICATE KEY UPDATE score = new.score, updated_at = new.updated_at, last_event_at = new.last_event_at";
+    private static final String SELECT_SQL = "SELECT user_id, activity, category, score, updated_at, last_event_at "
+            + "FROM user_category_score WHERE user_id = ?";
+    private static final String NEWS_CATEGORY_SQL = "SELECT category_name FROM news WHERE news_id = ?";
+
+    // 기간 내 조회/스크랩을 카테고리별 감쇠 가중합으로 집계 (now 기준)
+    private static final String AGGREGATE_READS_SQL = "SELECT h.user_id, h.category_name AS category, "
+            + "SUM(POW(0.5, GREATEST(0, TIMESTAMPDIFF(MICROSECOND, h.created_at, :now)) / :halfLife)) AS score, "
+            + "MAX(h.created_at) AS last_event_at "
+            + "FROM user_read_history h "
+            + "WHERE h.user_id IN (:userIds) AND h.created_at >= :since AND h.category_name IS NOT NULL "
+            + "GROUP BY h.user_id, h.category_name";
+    private static final String AGGREGATE_SCRAPS_SQL = "SELECT s.user_id, n.category_name AS category, "
+            + "SUM(POW(0.5, GREATEST(0, TIMESTAMPDIFF(MICROSECOND, s.created_at, :now)) / :halfLife)) AS score, "
+            + "MAX(s.created_at) AS last_event_at "
+            + "FROM news_scrap s JOIN news n ON n.news_id = s.news_id "
+            + "WHERE s.user_id IN (:userIds) AND s.created_at >= :since "
+            + "GROUP BY s.user_id, n.category_name";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 이벤트 반영 (누적 행이 없으면 0 - 호출 쪽에서 이력 집계로 재구성)
+     */
+    public int increment(Long userId, String activity, RecommendationCategory category,
+                         LocalDateTime at, double halfLifeDays) {
+        Timestamp timestamp = Timestamp.valueOf(at);
+        return jdbcTemplate.update(INCREMENT_SQL, timestamp, halfLifeDays * MICROS_PER_DAY, timestamp, timestamp,
+                userId, activity, category.name());
+    }
+
+    public List<CategoryAccumulator> findByUserId(Long userId) {
+        return jdbcTemplate.query(SELECT_SQL, rowMapper(null, null), userId);
+    }
+
+    public void upsertAll(List<CategoryAccumulator> accumulators) {
+        if (accumulators.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, accumulators, accumulators.size(), (ps, accumulator) -> {
+            ps.setLong(1, accumulator.userId());
+            ps.setString(2, accumulator.activity());
+            ps.setString(3, accumulator.category().name());
+            ps.setDouble(4, accumulator.score());
+            ps.setTimestamp(5, Timestamp.valueOf(accumulator.updatedAt()));
+            ps.setTimestamp(6, accumulator.lastEventAt() != null ? Timestamp.valueOf(accumulator.lastEventAt()) : null);
+        });
+    }
+
+    // 조회 이력 집계 (updatedAt = now)
+    public List<CategoryAccumulator> aggregateReads(Collection<Long> userIds, LocalDateTime since,
+                                                    LocalDateTime now, double halfLifeDays) {
+        return aggregate(AGGREGATE_READS_SQL, UserActivityEvent.READ, userIds, since, now, halfLifeDays);
+    }
+
+    // 스크랩 이력 집계 (updatedAt = now)
+    public List<CategoryAccumulator> aggregateScraps(Collection<Long> userIds, LocalDateTime since,
+                                                     LocalDateTime now, double halfLifeDays) {
+        return aggregate(AGGREGATE_SCRAPS_SQL, UserActivityEvent.SCRAP, userIds, since, now, halfLifeDays);
+    }
+
+    public Optional<RecommendationCategory> findNewsCategory(Long newsId) {
+        return jdbcTemplate.queryForList(NEWS_CATEGORY_SQL, String.class, newsId).stream()
+                .findFirst()
+                .flatMap(UserCategoryScoreRepository::toCategory);
+    }
+
+    private List<CategoryAccumulator> aggregate(String sql, String activity, Collection<Long> userIds,
+                                                LocalDateTime since, LocalDateTime now, double halfLifeDays) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", userIds)
+                .addValue("since", Timestamp.valueOf(since))
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("halfLife", halfLifeDays * MICROS_PER_DAY);
+        return namedParameterJdbcTemplate.query(sql, params, rowMapper(activity, now)).stream()
+                .filter(accumulator -> accumulator.category() != null)
+                .toList();
+    }
+
+    // activity/updatedAt이 null이면 행의 컬럼 값 사용
+    private RowMapper<CategoryAccumulator> rowMapper(String activity, LocalDateTime updatedAt) {
+        return (rs, rowNum) -> {
+            Timestamp lastEventAt = rs.getTimestamp("last_event_at");
+            return new CategoryAccumulator(
+                    rs.getLong("user_id"),
+                    activity != null ? activity : rs.getString("activity"),
+                    toCategory(rs.getString("category")).orElse(null),
+                    rs.getDouble("score"),
+                    updatedAt != null ? updatedAt : rs.getTimestamp("updated_at").toLocalDateTime(),
+                    lastEventAt != null ? lastEventAt.toLocalDateTime() : null);
+        };
+    }
+
+    private static Optional<RecommendationCategory> toCategory(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(RecommendationCategory.valueOf(name));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.newnormallist.newsservice.recommendation.repository;
+
+import com.newnormallist.newsservice.recommendation.entity.UserPrefVector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// user_pref_vector 일괄 upsert (JDBC 배치 한 번, 기존 행은 값만 갱신하므로 저장 중에도 피드 조회가 빈 벡터를 보지 않음)
+@Repository
+@RequiredArgsConstructor
+public class UserPrefVectorBulkRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO user_pref_vector (user_id, category, score, w_demo, w_pref, w_read, w_scrap, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, NOW(6), NOW(6)) AS new "
+                    + "ON DUPLICATE KEY UPDATE score = new.score, w_demo = new.w_demo, w_pref = new.w_pref, "
+                    + "w_read = new.w_read, w_scrap = new.w_scrap, updated_at = new.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertAll(List<UserPrefVector> vectors) {
+        if (vectors.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, vectors, vectors.size(), (ps, vector) -> {
+            ps.setLong(1, vector.getUserId());
+            ps.setString(2, vector.getCategory().name());
+            ps.setDouble(3, vector.getScore());
+            ps.setDouble(4, vector.getWDemo());
+            ps.setDouble(5, vector.getWPref());
+            ps.setDouble(6, vector.getWRead());
+            ps.setDouble(7, vector.getWScrap());
+        });
+    }
+}
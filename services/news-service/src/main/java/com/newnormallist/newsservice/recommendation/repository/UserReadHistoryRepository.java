@@ -5,10 +5,17 @@ import java.util.List;
 
 import com.newnormallist.newsservice.recommendation.entity.UserReadHistory;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 // 최근 7일 조회 로그 조회 -> R(c) 계산에 사용
 public interface UserReadHistoryRepository extends JpaRepository<UserReadHistory, Long> {
 
     @Query("SELECT urh FROM UserReadHistory urh WHERE urh.userEntity.id = :userId")
     List<UserReadHistory> findByUserId(Long userId);
+
+    // 마지막 벡터 갱신 이후 조회 수 (stale 판단, 이력 전체를 읽지 않음)
+    @Query("SELECT COUNT(urh) FROM UserReadHistory urh WHERE urh.userEntity.id = :userId AND urh.createdAt > :since")
+    long countByUserIdSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
 }
\ No newline at end of file
@@ -1,8 +1,30 @@
 package com.newnormallist.newsservice.recommendation.repository;
 
 import com.newnormallist.newsservice.recommendation.entity.UserEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 // 유저 메타 조회 (AgeBucket 계산은 서비스/유틸에서 처리 가능)
-public interface UserRepository extends JpaRepository<UserEntity, Long> { }
+public interface UserRepository extends JpaRepository<UserEntity, Long> {
+
+    // 벡터 일괄 재계산 (전체): afterId 다음 활성 사용자 ID (PK 순 keyset)
+    @Query("SELECT u.id FROM UserEntity u WHERE u.status = com.newnormallist.newsservice.recommendation.entity.UserStatus.ACTIVE "
+            + "AND u.id > :afterId ORDER BY u.id")
+    List<Long> findActiveIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 
+    // 벡터 일괄 재계산 (증분): since 이후 조회/스크랩한 활성 사용자 ID (user_id 순 keyset)
+    @Query(value = "SELECT a.user_id FROM ("
+            + "SELECT h.user_id FROM user_read_history h WHERE h.created_at >= :since AND h.user_id > :afterId "
+            + "UNION "
+            + "SELECT s.user_id FROM news_scrap s WHERE s.created_at >= :since AND s.user_id > :afterId"
+            + ") a JOIN user u ON u.id = a.user_id AND u.user_status = 'ACTIVE' "
+            + "ORDER BY a.user_id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findActiveIdsWithActivitySince(@Param("since") LocalDateTime since, @Param("afterId") Long afterId,
+                                              @Param("limit") int limit);
+}
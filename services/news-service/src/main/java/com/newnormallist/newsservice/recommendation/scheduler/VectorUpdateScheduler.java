@@ -1,72 +1,41 @@
-// package com.newnormallist.newsservice.recommendation.scheduler;
+package com.newnormallist.newsservice.recommendation.scheduler;
 
-// import org.springframework.scheduling.annotation.Scheduled;
-// import org.springframework.stereotype.Component;
-// import lombok.RequiredArgsConstructor;
-// import lombok.extern.slf4j.Slf4j;
+import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
+import com.newnormallist.newsservice.recommendation.service.PreferenceVectorBatchJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
 
-// import com.newnormallist.newsservice.recommendation.service.VectorBatchService;
-// import com.newnormallist.newsservice.recommendation.repository.UserRepository;
-// import com.newnormallist.newsservice.recommendation.entity.User;
+// 사용자 벡터 주기적 일괄 재계산 스케줄러 (청크/병렬/체크포인트는 PreferenceVectorBatchJob)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VectorUpdateScheduler {
 
-// import java.util.List;
+    private final PreferenceVectorBatchJob preferenceVectorBatchJob;
+    private final RecommendationProperties properties;
 
-// // 사용자 벡터 주기적 업데이트 스케줄러
-// @Component
-// @RequiredArgsConstructor
-// @Slf4j
-// public class VectorUpdateScheduler {
+    // 매일 새벽 2시에 모든 활성 사용자의 벡터 재계산 (조회/스크랩 감쇠 반영)
+    @Scheduled(cron = "${reco.vector-batch.full-cron:0 0 2 * * *}")
+    public void updateAllUserVectors() {
+        run(PreferenceVectorBatchJob.FULL);
+    }
 
-//     private final VectorBatchService vectorBatchService;
-//     private final UserRepository userRepository;
+    // 매시간 직전 실행 이후 조회/스크랩한 사용자만 재계산
+    @Scheduled(cron = "${reco.vector-batch.incremental-cron:0 10 * * * *}")
+    public void updateActiveUserVectors() {
+        run(PreferenceVectorBatchJob.INCREMENTAL);
+    }
 
-//     // 매일 새벽 2시에 모든 활성 사용자의 벡터 업데이트
-//     @Scheduled(cron = "0 0 2 * * ?")
-//     public void updateAllUserVectors() {
-//         log.info("Starting daily vector update for all active users");
-        
-//         try {
-//             List<User> activeUsers = userRepository.findAll(); // TODO: ACTIVE 상태 필터링 추가
-            
-//             int updatedCount = 0;
-//             for (User user : activeUsers) {
-//                 try {
-//                     vectorBatchService.upsert(user.getId());
-//                     updatedCount++;
-//                 } catch (Exception e) {
-//                     log.error("Failed to update vector for user {}: {}", user.getId(), e.getMessage());
-//                 }
-//             }
-            
-//             log.info("Daily vector update completed. Updated {} users out of {}", updatedCount, activeUsers.size());
-            
-//         } catch (Exception e) {
-//             log.error("Daily vector update failed: {}", e.getMessage(), e);
-//         }
-//     }
-
-//     // 매시간 정각에 오래된 벡터 업데이트 (10분 이상 경과)
-//     @Scheduled(cron = "0 0 * * * ?")
-//     public void updateStaleVectors() {
-//         log.info("Starting hourly stale vector update");
-        
-//         try {
-//             List<User> activeUsers = userRepository.findAll(); // TODO: ACTIVE 상태 필터링 추가
-            
-//             int updatedCount = 0;
-//             for (User user : activeUsers) {
-//                 try {
-//                     vectorBatchService.upsert(user.getId());
-//                     updatedCount++;
-//                 } catch (Exception e) {
-//                     log.error("Failed to update stale vector for user {}: {}", user.getId(), e.getMessage());
-//                 }
-//             }
-            
-//             log.info("Hourly stale vector update completed. Updated {} users out of {}", updatedCount, activeUsers.size());
-            
-//         } catch (Exception e) {
-//             log.error("Hourly stale vector update failed: {}", e.getMessage(), e);
-//         }
-//     }
-// }
+    private void run(String mode) {
+        if (!properties.getVectorBatch().isEnabled()) {
+            return;
+        }
+        try {
+            preferenceVectorBatchJob.run(mode);
+        } catch (Exception e) {
+            log.error("❌ 선호 벡터 일괄 재계산 실패 ({}): {}", mode, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.newnormallist.newsservice.recommendation.service;
+
+import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
+import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
+import com.newnormallist.newsservice.recommendation.event.UserActivityEvent;
+import com.newnormallist.newsservice.recommendation.model.CategoryAccumulator;
+import com.newnormallist.newsservice.recommendation.repository.UserCategoryScoreRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자 카테고리별 조회/스크랩 감쇠 누적 점수
+ *
+ * 역할:
+ * - R(c)/S(c) 계산에 쓰는 카테고리별 감쇠 가중합을 user_category_score(사용자 x 활동 x 카테고리 18행)에 유지
+ *   (벡터 계산마다 조회/스크랩 이력 전체를 읽지 않음)
+ * - 점수와 마지막 갱신 시각만 저장하고 감쇠는 읽거나 더할 때 경과 시간만큼 적용 (반감기: reco.read/scrap-half-life-days)
+ *
+ * 기능:
+ * - 이벤트: 조회/스크랩(UserActivityEvent)마다 해당 카테고리 점수를 감쇠 후 +1
+ * - 재구성: 이력 테이블을 SQL로 집계해 덮어씀 (누적 행이 없는 사용자는 첫 계산 때, 일괄 재계산 청크마다)
+ *   → user-service가 저장한 조회 기록, 스크랩 삭제처럼 이벤트로 들어오지 않는 변경을 맞춤
+ * - 기간: 마지막 활동이 조회 7일 / 스크랩 30일보다 오래된 카테고리는 0
+ *
+ * 관측: reco.category.score.events{result}, reco.category.score.rebuild 타이머
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryScoreAccumulator {
+
+    public static final int READ_WINDOW_DAYS = 7;
+    public static final int SCRAP_WINDOW_DAYS = 30;
+
+    private static final List<String> ACTIVITIES = List.of(UserActivityEvent.READ, UserActivityEvent.SCRAP);
+
+    private final UserCategoryScoreRepository userCategoryScoreRepository;
+    private final RecommendationProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 감쇠 적용된 카테고리별 조회/스크랩 점수 (정규화 전)
+     */
+    public record DecayedScores(Map<RecommendationCategory, Double> read, Map<RecommendationCategory, Double> scrap) {
+    }
+
+    // 스크랩 저장 트랜잭션 커밋 후 반영 (트랜잭션 밖에서 발행되면 바로)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(UserActivityEvent event) {
+        if (event.userId() == null || event.newsId() == null || !ACTIVITIES.contains(event.activity())) {
+            return;
+        }
+        try {
+            Optional<RecommendationCategory> category = userCategoryScoreRepository.findNewsCategory(event.newsId());
+            if (category.isEmpty()) {
+                events("skipped");
+                return;
+            }
+            int updated = userCategoryScoreRepository.increment(event.userId(), event.activity(), category.get(),
+                    LocalDateTime.now(), halfLifeDays(event.activity()));
+            if (updated == 0) {
+                // 누적 행이 없는 사용자 - 이력 집계로 만듦
+                rebuild(List.of(event.userId()));
+                events("rebuilt");
+                return;
+            }
+            events("updated");
+        } catch (Exception e) {
+            events("failed");
+            log.warn("⚠️ 사용자 {} 카테고리 누적 점수 반영 실패 (다음 재구성 때 맞춰짐): {}", event.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 벡터 계산용 점수 (누적 행이 없으면 이력 집계로 만든 뒤 사용)
+     */
+    public DecayedScores scores(Long userId) {
+        List<CategoryAccumulator> accumulators = userCategoryScoreRepository.findByUserId(userId);
+        if (accumulators.isEmpty()) {
+            accumulators = rebuild(List.of(userId));
+        }
+        return decay(accumulators, LocalDateTime.now());
+    }
+
+    /**
+     * 이력 테이블 SQL 집계로 누적 점수 덮어쓰기 (사용자마다 18행, 활동 없는 카테고리는 0)
+     *
+     * @return 저장한 행
+     */
+    public List<CategoryAccumulator> rebuild(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        LocalDateTime now = LocalDateTime.now();
+        List<CategoryAccumulator> rows = fill(userIds, aggregate(userIds, now), now);
+        transactionTemplate.executeWithoutResult(status -> userCategoryScoreRepository.upsertAll(rows));
+        sample.stop(meterRegistry.timer("reco.category.score.rebuild"));
+        return rows;
+    }
+
+    /**
+     * 저장된 누적 점수와 이력 집계 비교 (관리자용, 저장하지 않음)
+     */
+    public Map<String, Object> compare(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        DecayedScores accumulated = decay(userCategoryScoreRepository.findByUserId(userId), now);
+        DecayedScores aggregated = decay(aggregate(List.of(userId), now), now);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("userId", userId);
+        result.put("accumulated", accumulated);
+        result.put("aggregated", aggregated);
+        result.put("maxReadDiff", maxDiff(accumulated.read(), aggregated.read()));
+        result.put("maxScrapDiff", maxDiff(accumulated.scrap(), aggregated.scrap()));
+        return result;
+    }
+
+    private List<CategoryAccumulator> aggregate(Collection<Long> userIds, LocalDateTime now) {
+        List<CategoryAccumulator> aggregated = new ArrayList<>();
+        aggregated.addAll(userCategoryScoreRepository.aggregateReads(userIds, now.minusDays(READ_WINDOW_DAYS), now,
+                properties.getReadHalfLifeDays()));
+        aggregated.addAll(userCategoryScoreRepository.aggregateScraps(userIds, now.minusDays(SCRAP_WINDOW_DAYS), now,
+                properties.getScrapHalfLifeDays()));
+        return aggregated;
+    }
+
+    // 집계에 없는 (사용자, 활동, 카테고리)는 0점 행으로 채움 (행이 있으면 이후 이벤트는 UPDATE만)
+    private List<CategoryAccumulator> fill(Collection<Long> userIds, List<CategoryAccumulator> aggregated,
+                                           LocalDateTime now) {
+        Map<String, CategoryAccumulator> byKey = new HashMap<>();
+        aggregated.forEach(row -> byKey.put(key(row.userId(), row.activity(), row.category()), row));
+        List<CategoryAccumulator> rows = new ArrayList<>();
+        for (Long userId : userIds) {
+            for (String activity : ACTIVITIES) {
+                for (RecommendationCategory category : RecommendationCategory.values()) {
+                    CategoryAccumulator row = byKey.get(key(userId, activity, category));
+                    rows.add(row != null ? row : new CategoryAccumulator(userId, activity, category, 0.0, now, null));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private DecayedScores decay(List<CategoryAccumulator> accumulators, LocalDateTime now) {
+        Map<RecommendationCategory, Double> read = new EnumMap<>(RecommendationCategory.class);
+        Map<RecommendationCategory, Double> scrap = new EnumMap<>(RecommendationCategory.class);
+        for (CategoryAccumulator accumulator : accumulators) {
+            boolean isRead = UserActivityEvent.READ.equals(accumulator.activity());
+            int windowDays = isRead ? READ_WINDOW_DAYS : SCRAP_WINDOW_DAYS;
+            if (accumulator.lastEventAt() == null || accumulator.lastEventAt().isBefore(now.minusDays(windowDays))
+                    || accumulator.score() <= 0) {
+                continue;
+            }
+            double elapsedDays = Math.max(0L, Duration.between(accumulator.updatedAt(), now).toMillis()) / 86_400_000.0;
+            double score = accumulator.score() * Math.pow(0.5, elapsedDays / halfLifeDays(accumulator.activity()));
+            (isRead ? read : scrap).put(accumulator.category(), score);
+        }
+        return new DecayedScores(read, scrap);
+    }
+
+    private double maxDiff(Map<RecommendationCategory, Double> left, Map<RecommendationCategory, Double> right) {
+        double max = 0.0;
+        for (RecommendationCategory category : RecommendationCategory.values()) {
+            max = Math.max(max, Math.abs(left.getOrDefault(category, 0.0) - right.getOrDefault(category, 0.0)));
+        }
+        return max;
+    }
+
+    private double halfLifeDays(String activity) {
+        return UserActivityEvent.READ.equals(activity) ? properties.getReadHalfLifeDays() : properties.getScrapHalfLifeDays();
+    }
+
+    private void events(String result) {
+        meterRegistry.counter("reco.category.score.events", "result", result).increment();
+    }
+
+    private static String key(Long userId, String activity, RecommendationCategory category) {
+        return userId + ":" + activity + ":" + category;
+    }
+}
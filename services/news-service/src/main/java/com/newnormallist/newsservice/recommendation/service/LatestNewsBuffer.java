@@ -0,0 +1,267 @@
+package com.newnormallist.newsservice.recommendation.service;
+
+import com.newnormallist.newsservice.ingest.engine.NewsChangeCursor;
+import com.newnormallist.newsservice.ingest.service.ChangeFeedConsumer;
+import com.newnormallist.newsservice.ingest.service.NewsChangeFeed;
+import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
+import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
+import com.newnormallist.newsservice.recommendation.model.FeedNewsCard;
+import com.newnormallist.newsservice.recommendation.repository.RecommendationNewsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 카테고리별 최신 기사 카드 메모리 버퍼
+ *
+ * 역할:
+ * - 카테고리마다 최신 capacity개 기사 카드(FeedNewsCard)를 최신순으로 메모리에 유지
+ * - 개인화 피드 카테고리별 quota, 최신순 피드 앞부분(offset + size ≤ capacity)을 DB 조회 없이 채움
+ *
+ * 기능:
+ * - 기동: 기동 완료 후 작업 실행기에서 카테고리별 최신 기사로 채움 (ChangeFeedConsumer, 준비 전에는 DB 조회)
+ * - 수집: refresh-interval-ms마다 변경 피드(NewsChangeFeed)로 받은 신규/수정 기사를 다시 읽어 해당 카테고리에 끼워 넣고
+ *   capacity 밖은 버림 (카테고리가 바뀐 기사는 이전 카테고리에서 빼고, 삭제된 기사는 삭제 확인 주기에 뺌)
+ * - 재구성: rebuild-interval-ms마다 DB에서 다시 채움 (다른 서비스가 지우거나 고친 기사 반영)
+ * - 조회는 잠금 없이 카테고리별 불변 목록을 읽음 (쓰기는 반영 주기마다 새 목록으로 교체)
+ *
+ * 관측: reco.feed.buffer{result=hit|fallback}, reco.feed.buffer.refresh{phase} 타이머, status()
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LatestNewsBuffer extends ChangeFeedConsumer {
+
+    // 최신순 피드와 같은 정렬: 발행일 내림차순(발행일 없으면 맨 뒤), 같으면 news_id 내림차순
+    private static final Comparator<FeedNewsCard> NEWEST_FIRST = Comparator
+            .comparing(FeedNewsCard::publishedAtDateTime, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(FeedNewsCard::newsId)
+            .reversed();
+
+    private static final String CONSUMER = "feed-buffer";
+
+    private final RecommendationNewsRepository newsRepository;
+    private final NewsChangeFeed changeFeed;
+    private final RecommendationProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 카테고리별 최신순 불변 목록 (null이면 준비 전)
+    private volatile Map<RecommendationCategory, List<FeedNewsCard>> buffers;
+    private volatile NewsChangeCursor cursor;
+    private volatile LocalDateTime lastRefreshedAt;
+    private volatile LocalDateTime lastRebuiltAt;
+    private volatile long lastRebuildMs;
+
+    @Scheduled(fixedDelayString = "${reco.feed-buffer.refresh-interval-ms:10000}",
+            initialDelayString = "${reco.feed-buffer.refresh-interval-ms:10000}")
+    public void refresh() {
+        refreshIfIdle();
+    }
+
+    @Override
+    protected boolean bootstrapEnabled() {
+        return properties.getFeedBuffer().isEnabled();
+    }
+
+    // 준비 전이어도 반영 주기에 DB에서 다시 채움
+    @Override
+    protected boolean refreshable() {
+        return properties.getFeedBuffer().isEnabled();
+    }
+
+    @Override
+    protected void applyFeed() {
+        RecommendationProperties.FeedBuffer config = properties.getFeedBuffer();
+        // 기동 때 채우지 못했거나 재구성 주기가 지났으면 DB에서 다시 채움
+        if (buffers == null || lastRebuiltAt == null
+                || lastRebuiltAt.plus(Duration.ofMillis(config.getRebuildIntervalMs())).isBefore(LocalDateTime.now())) {
+            load();
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<RecommendationCategory, List<FeedNewsCard>> next = new EnumMap<>(buffers);
+        List<Long> changed = changeFeed.poll(cursor);
+        for (List<Long> chunk : NewsChangeFeed.chunks(changed, capacity())) {
+            // 바뀐 기사는 모든 카테고리에서 빼고 다시 읽은 카드로 끼워 넣음 (조회되지 않으면 삭제된 기사)
+            Set<Long> ids = Set.copyOf(chunk);
+            Map<RecommendationCategory, List<FeedNewsCard>> byCategory = new EnumMap<>(RecommendationCategory.class);
+            for (FeedNewsCard card : newsRepository.findCardsByIdIn(chunk)) {
+                if (card.categoryName() != null) {
+                    byCategory.computeIfAbsent(card.categoryName(), category -> new ArrayList<>()).add(card);
+                }
+            }
+            next.replaceAll((category, cards) -> merge(without(cards, ids),
+                    byCategory.getOrDefault(category, List.of())));
+            byCategory.forEach((category, cards) -> next.computeIfAbsent(category, key -> merge(List.of(), cards)));
+        }
+        Set<Long> deleted = changeFeed.tombstones(cursor, () -> next.values().stream()
+                .flatMap(List::stream)
+                .map(FeedNewsCard::newsId)
+                .toList());
+        if (!deleted.isEmpty()) {
+            next.replaceAll((category, cards) -> without(cards, deleted));
+        }
+        if (!changed.isEmpty() || !deleted.isEmpty()) {
+            // 가득 찼던 카테고리에서 기사가 빠지면 capacity 밖 기사를 알 수 없으므로 다음 주기에 다시 채움
+            int capacity = capacity();
+            boolean shrunk = buffers.entrySet().stream().anyMatch(entry -> entry.getValue().size() >= capacity
+                    && next.getOrDefault(entry.getKey(), List.of()).size() < capacity);
+            buffers = next;
+            if (shrunk) {
+                lastRebuiltAt = null;
+            }
+        }
+        lastRefreshedAt = LocalDateTime.now();
+        sample.stop(meterRegistry.timer("reco.feed.buffer.refresh", "phase", "incremental"));
+    }
+
+    /**
+     * DB에서 카테고리별 최신 기사로 다시 채움 (새 목록을 만든 뒤 교체)
+     */
+    @Override
+    public Map<String, Object> rebuild() {
+        writeLock.lock();
+        try {
+            load();
+        } finally {
+            writeLock.unlock();
+        }
+        return status();
+    }
+
+    private void load() {
+        try {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            long started = System.currentTimeMillis();
+            // 채우는 동안 바뀐 기사는 다음 반영 주기에 다시 받도록 커서를 먼저 엶 (같은 기사는 merge에서 교체)
+            NewsChangeCursor nextCursor = changeFeed.open(CONSUMER);
+            Map<RecommendationCategory, List<FeedNewsCard>> next = new EnumMap<>(RecommendationCategory.class);
+            for (RecommendationCategory category : RecommendationCategory.values()) {
+                next.put(category, List.copyOf(
+                        newsRepository.findLatestCardsByCategory(category, PageRequest.of(0, capacity()))));
+            }
+            buffers = next;
+            cursor = nextCursor;
+            lastRebuiltAt = LocalDateTime.now();
+            lastRefreshedAt = lastRebuiltAt;
+            lastRebuildMs = System.currentTimeMillis() - started;
+            sample.stop(meterRegistry.timer("reco.feed.buffer.refresh", "phase", "rebuild"));
+            log.info("🔎 피드 최신 기사 버퍼 재구성 완료: 카테고리당 최대 {}개, {}ms", capacity(), lastRebuildMs);
+        } catch (Exception e) {
+            log.error("❌ 피드 최신 기사 버퍼 재구성 실패 - 기존 버퍼(없으면 DB 조회)로 동작: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 카테고리 최신 기사 limit개
+     *
+     * @return 버퍼 준비 전/비활성화이거나 limit이 capacity보다 크면 empty (DB 조회)
+     */
+    public Optional<List<FeedNewsCard>> latest(RecommendationCategory category, int limit) {
+        Map<RecommendationCategory, List<FeedNewsCard>> current = usable(limit);
+        if (current == null) {
+            return Optional.empty();
+        }
+        List<FeedNewsCard> cards = current.getOrDefault(category, List.of());
+        return Optional.of(cards.subList(0, Math.min(limit, cards.size())));
+    }
+
+    /**
+     * 전체 최신순 offset번째부터 limit개 (카테고리별 목록 병합)
+     *
+     * @return 버퍼 준비 전/비활성화이거나 offset + limit이 capacity보다 크면 empty (DB 조회)
+     */
+    public Optional<List<FeedNewsCard>> latest(long offset, int limit) {
+        long end = Math.max(0, offset) + Math.max(0, limit);
+        Map<RecommendationCategory, List<FeedNewsCard>> current = end > Integer.MAX_VALUE ? null : usable((int) end);
+        if (current == null) {
+            return Optional.empty();
+        }
+        // 카테고리 목록마다 앞에서부터 가장 최신 카드를 하나씩 꺼냄 (전체 상위 end개는 각 카테고리 상위 end개 안에 있음)
+        List<List<FeedNewsCard>> lists = new ArrayList<>(current.values());
+        int[] positions = new int[lists.size()];
+        List<FeedNewsCard> result = new ArrayList<>(Math.max(0, limit));
+        for (int rank = 0; rank < end; rank++) {
+            int best = -1;
+            for (int i = 0; i < lists.size(); i++) {
+                if (positions[i] < lists.get(i).size() && (best < 0
+                        || NEWEST_FIRST.compare(lists.get(i).get(positions[i]), lists.get(best).get(positions[best])) < 0)) {
+                    best = i;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            FeedNewsCard card = lists.get(best).get(positions[best]++);
+            if (rank >= offset) {
+                result.add(card);
+            }
+        }
+        return Optional.of(result);
+    }
+
+    public Map<String, Object> status() {
+        Map<RecommendationCategory, List<FeedNewsCard>> current = buffers;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", properties.getFeedBuffer().isEnabled());
+        status.put("ready", current != null);
+        status.put("capacity", capacity());
+        NewsChangeCursor currentCursor = cursor;
+        status.put("changeFeed", currentCursor != null ? currentCursor.status() : null);
+        status.put("lastRefreshedAt", lastRefreshedAt != null ? lastRefreshedAt.toString() : null);
+        status.put("lastRebuiltAt", lastRebuiltAt != null ? lastRebuiltAt.toString() : null);
+        status.put("lastRebuildMs", lastRebuildMs);
+        status.put("hits", (long) meterRegistry.counter("reco.feed.buffer", "result", "hit").count());
+        status.put("fallbacks", (long) meterRegistry.counter("reco.feed.buffer", "result", "fallback").count());
+        if (current != null) {
+            Map<String, Integer> sizes = new LinkedHashMap<>();
+            current.forEach((category, cards) -> sizes.put(category.name(), cards.size()));
+            status.put("categories", sizes);
+        }
+        return status;
+    }
+
+    private Map<RecommendationCategory, List<FeedNewsCard>> usable(int required) {
+        Map<RecommendationCategory, List<FeedNewsCard>> current = buffers;
+        boolean hit = properties.getFeedBuffer().isEnabled() && current != null && required <= capacity();
+        meterRegistry.counter("reco.feed.buffer", "result", hit ? "hit" : "fallback").increment();
+        return hit ? current : null;
+    }
+
+    // 기존 목록에 신규 카드를 끼워 넣고 최신 capacity개만 남김 (같은 news_id는 신규 카드로 교체)
+    private List<FeedNewsCard> merge(List<FeedNewsCard> current, List<FeedNewsCard> added) {
+        Map<Long, FeedNewsCard> byId = new LinkedHashMap<>();
+        current.forEach(card -> byId.put(card.newsId(), card));
+        added.forEach(card -> byId.put(card.newsId(), card));
+        return byId.values().stream()
+                .sorted(NEWEST_FIRST)
+                .limit(capacity())
+                .toList();
+    }
+
+    private List<FeedNewsCard> without(List<FeedNewsCard> cards, Set<Long> ids) {
+        if (cards.stream().noneMatch(card -> ids.contains(card.newsId()))) {
+            return cards;
+        }
+        return cards.stream().filter(card -> !ids.contains(card.newsId())).toList();
+    }
+
+    private int capacity() {
+        return Math.max(1, properties.getFeedBuffer().getCapacity());
+    }
+}
@@ -0,0 +1,296 @@
+package com.newnormallist.newsservice.recommendation.service;
+
+import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
+import com.newnormallist.newsservice.recommendation.entity.UserEntity;
+import com.newnormallist.newsservice.recommendation.entity.UserPrefVector;
+import com.newnormallist.newsservice.recommendation.repository.UserPrefVectorBulkRepository;
+import com.newnormallist.newsservice.recommendation.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 선호 벡터 일괄 재계산 작업
+ *
+ * 역할:
+ * - 사용자를 user_id 순 청크(keyset, OFFSET 없음)로 읽어 청크 안에서 threads개씩 병렬 계산 후 청크 단위 일괄 upsert
+ * - 전체(full): 활성 사용자 전부 (매일, 감쇠된 조회/스크랩 반영)
+ * - 증분(incremental): 직전 완료 실행 시작 이후 조회/스크랩한 사용자만
+ *   (user-service가 저장한 조회 기록처럼 이벤트로 들어오지 않는 활동 반영)
+ *
+ * 기능:
+ * - 청크마다 카테고리 누적 점수(CategoryScoreAccumulator)를 이력 집계로 먼저 재구성
+ * - 체크포인트: 청크 저장마다 마지막 user_id를 user_pref_vector_batch에 기록하고, 완료되지 않은 실행은 다음 실행이 그 뒤부터 이어서 처리
+ * - 점유: 같은 모드는 한 인스턴스만 실행 (owner + lease_until, 청크마다 연장). 점유를 잃으면 중단
+ * - 계산 실패한 사용자는 건너뛰고 기존 벡터 유지
+ *
+ * 관측: reco.vector.batch{mode} (실행 시간), reco.vector.batch.chunk{mode}, reco.vector.batch.users{mode,result},
+ * status() (처리 사용자 수, 초당 사용자 수)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PreferenceVectorBatchJob {
+
+    public static final String FULL = "full";
+    public static final String INCREMENTAL = "incremental";
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO user_pref_vector_batch (mode, last_user_id, started_at, updated_at) "
+            + "VALUES (?, 0, NOW(6), NOW(6))";
+    private static final String CLAIM_SQL = "UPDATE user_pref_vector_batch SET owner = ?, lease_until = DATE_ADD(NOW(6), INTERVAL ? MINUTE) "
+            + "WHERE mode = ? AND (owner IS NULL OR owner = ? OR lease_until < NOW(6))";
+    private static final String SELECT_SQL = "SELECT last_user_id, activity_since, started_at, completed_at "
+            + "FROM user_pref_vector_batch WHERE mode = ?";
+    private static final String START_SQL = "UPDATE user_pref_vector_batch SET last_user_id = 0, activity_since = ?, "
+            + "started_at = NOW(6), updated_at = NOW(6), completed_at = NULL WHERE mode = ? AND owner = ?";
+    private static final String CHECKPOINT_SQL = "UPDATE user_pref_vector_batch SET last_user_id = ?, updated_at = NOW(6), "
+            + "lease_until = DATE_ADD(NOW(6), INTERVAL ? MINUTE) WHERE mode = ? AND owner = ?";
+    private static final String COMPLETE_SQL = "UPDATE user_pref_vector_batch SET completed_at = NOW(6), updated_at = NOW(6) "
+            + "WHERE mode = ? AND owner = ?";
+    private static final String RELEASE_SQL = "UPDATE user_pref_vector_batch SET owner = NULL, lease_until = NULL "
+            + "WHERE mode = ? AND owner = ?";
+
+    private final UserRepository userRepository;
+    private final VectorBuilder vectorBuilder;
+    private final CategoryScoreAccumulator categoryScoreAccumulator;
+    private final UserPrefVectorBulkRepository userPrefVectorBulkRepository;
+    private final RecommendationProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, Map<String, Object>> lastRuns = new ConcurrentHashMap<>();
+    private TransactionTemplate readOnlyTransactionTemplate;
+    private volatile String runningMode;
+
+    @PostConstruct
+    void init() {
+        // 계산 중 지연 로딩(스크랩 → 기사 카테고리)이 세션 밖에서 실패하지 않도록 사용자마다 읽기 전용 트랜잭션
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 일괄 재계산 실행 (이 인스턴스에서 실행 중이거나 다른 인스턴스가 점유 중이면 건너뜀)
+     *
+     * @param mode full | incremental
+     * @throws IllegalArgumentException 알 수 없는 모드
+     */
+    public Map<String, Object> run(String mode) {
+        String normalized = normalize(mode);
+        if (!runLock.tryLock()) {
+            return Map.of("skipped", "이 인스턴스에서 실행 중: " + runningMode);
+        }
+        try {
+            runningMode = normalized;
+            return execute(normalized);
+        } finally {
+            runningMode = null;
+            runLock.unlock();
+        }
+    }
+
+    public Map<String, Object> status() {
+        RecommendationProperties.VectorBatch config = properties.getVectorBatch();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", config.isEnabled());
+        status.put("fullCron", config.getFullCron());
+        status.put("incrementalCron", config.getIncrementalCron());
+        status.put("chunkSize", config.getChunkSize());
+        status.put("threads", config.getThreads());
+        status.put("running", runningMode);
+        for (String mode : List.of(FULL, INCREMENTAL)) {
+            Map<String, Object> modeStatus = new LinkedHashMap<>();
+            try {
+                Checkpoint checkpoint = readCheckpoint(mode);
+                modeStatus.put("lastUserId", checkpoint.lastUserId());
+                modeStatus.put("startedAt", toString(checkpoint.startedAt()));
+                modeStatus.put("completedAt", toString(checkpoint.completedAt()));
+            } catch (DataAccessException e) {
+                // 첫 실행 전이거나 체크포인트 테이블 미생성 (ddl_UserPrefVector.sql)
+                modeStatus.put("checkpoint", null);
+            }
+            modeStatus.put("lastRun", lastRuns.get(mode));
+            status.put(mode, modeStatus);
+        }
+        return status;
+    }
+
+    private Map<String, Object> execute(String mode) {
+        RecommendationProperties.VectorBatch config = properties.getVectorBatch();
+        int leaseMinutes = Math.max(1, config.getLeaseMinutes());
+        jdbcTemplate.update(INSERT_SQL, mode);
+        if (jdbcTemplate.update(CLAIM_SQL, instanceId, leaseMinutes, mode, instanceId) == 0) {
+            return Map.of("skipped", "다른 인스턴스가 실행 중: " + mode);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long started = System.nanoTime();
+        int chunkSize = Math.max(1, config.getChunkSize());
+        int updated = 0;
+        int failed = 0;
+        int chunks = 0;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", mode);
+        ExecutorService pool = newPool(Math.max(1, config.getThreads()));
+        try {
+            Checkpoint checkpoint = readCheckpoint(mode);
+            long afterId;
+            LocalDateTime since;
+            if (checkpoint.completedAt() == null && checkpoint.lastUserId() > 0) {
+                // 끝나지 않은 실행 이어서
+                afterId = checkpoint.lastUserId();
+                since = checkpoint.activitySince();
+                result.put("resumedAfterUserId", afterId);
+            } else {
+                afterId = 0L;
+                since = INCREMENTAL.equals(mode) ? activitySince(checkpoint, config) : null;
+                jdbcTemplate.update(START_SQL, since != null ? Timestamp.valueOf(since) : null, mode, instanceId);
+            }
+            result.put("activitySince", toString(since));
+
+            while (true) {
+                List<Long> ids = FULL.equals(mode)
+                        ? userRepository.findActiveIdsAfter(afterId, PageRequest.of(0, chunkSize))
+                        : userRepository.findActiveIdsWithActivitySince(since, afterId, chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                Timer.Sample chunkSample = Timer.start(meterRegistry);
+                int chunkUpdated = processChunk(ids, pool);
+                chunkSample.stop(meterRegistry.timer("reco.vector.batch.chunk", "mode", mode));
+                updated += chunkUpdated;
+                failed += ids.size() - chunkUpdated;
+                chunks++;
+                afterId = ids.get(ids.size() - 1);
+                if (jdbcTemplate.update(CHECKPOINT_SQL, afterId, leaseMinutes, mode, instanceId) == 0) {
+                    throw new IllegalStateException("실행 점유를 잃음 (lease-minutes보다 청크 처리가 오래 걸림)");
+                }
+                if (ids.size() < chunkSize) {
+                    break;
+                }
+            }
+            jdbcTemplate.update(COMPLETE_SQL, mode, instanceId);
+            result.put("completed", true);
+        } catch (Exception e) {
+            result.put("completed", false);
+            result.put("error", e.getMessage());
+            log.error("❌ 선호 벡터 일괄 재계산 중단 ({}) - 다음 실행이 체크포인트부터 이어서 처리: {}", mode, e.getMessage(), e);
+        } finally {
+            pool.shutdownNow();
+            jdbcTemplate.update(RELEASE_SQL, mode, instanceId);
+        }
+
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        sample.stop(meterRegistry.timer("reco.vector.batch", "mode", mode));
+        meterRegistry.counter("reco.vector.batch.users", "mode", mode, "result", "updated").increment(updated);
+        meterRegistry.counter("reco.vector.batch.users", "mode", mode, "result", "failed").increment(failed);
+        result.put("usersUpdated", updated);
+        result.put("usersFailed", failed);
+        result.put("chunks", chunks);
+        result.put("elapsedMs", Math.round(elapsedSeconds * 1000));
+        result.put("usersPerSec", elapsedSeconds > 0 ? Math.round((updated + failed) / elapsedSeconds * 10) / 10.0 : 0.0);
+        result.put("finishedAt", LocalDateTime.now().toString());
+        lastRuns.put(mode, result);
+        log.info("🔎 선호 벡터 일괄 재계산 ({}): 사용자 {}명 갱신, {}명 실패, {}ms ({} users/sec)",
+                mode, updated, failed, result.get("elapsedMs"), result.get("usersPerSec"));
+        return result;
+    }
+
+    /**
+     * 청크 사용자 벡터를 병렬 계산한 뒤 한 트랜잭션으로 일괄 저장
+     *
+     * @return 저장한 사용자 수
+     */
+    private int processChunk(List<Long> ids, ExecutorService pool) throws InterruptedException {
+        // 카테고리 누적 점수를 이력 집계로 맞춘 뒤 계산 (이벤트로 들어오지 않은 조회 기록, 스크랩 삭제 반영)
+        categoryScoreAccumulator.rebuild(ids);
+        List<Future<List<UserPrefVector>>> futures = new ArrayList<>();
+        for (UserEntity user : userRepository.findAllById(ids)) {
+            futures.add(pool.submit(() -> readOnlyTransactionTemplate.execute(
+                    status -> vectorBuilder.recomputeForUser(user))));
+        }
+        List<UserPrefVector> vectors = new ArrayList<>();
+        int computed = 0;
+        for (Future<List<UserPrefVector>> future : futures) {
+            try {
+                vectors.addAll(future.get());
+                computed++;
+            } catch (ExecutionException e) {
+                log.warn("⚠️ 선호 벡터 일괄 재계산 중 사용자 계산 실패: {}", e.getCause().getMessage());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> userPrefVectorBulkRepository.upsertAll(vectors));
+        return computed;
+    }
+
+    // 직전 완료 실행의 시작 시각부터 (그 실행 중에 생긴 활동도 다시 포함), 기록이 없으면 lookback 시간
+    private LocalDateTime activitySince(Checkpoint checkpoint, RecommendationProperties.VectorBatch config) {
+        if (checkpoint.completedAt() != null && checkpoint.startedAt() != null) {
+            return checkpoint.startedAt();
+        }
+        return LocalDateTime.now().minusHours(Math.max(1, config.getIncrementalLookbackHours()));
+    }
+
+    private Checkpoint readCheckpoint(String mode) {
+        return jdbcTemplate.queryForObject(SELECT_SQL, (rs, rowNum) -> new Checkpoint(
+                rs.getLong("last_user_id"),
+                toLocalDateTime(rs.getTimestamp("activity_since")),
+                toLocalDateTime(rs.getTimestamp("started_at")),
+                toLocalDateTime(rs.getTimestamp("completed_at"))), mode);
+    }
+
+    private ExecutorService newPool(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "pref-vector-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private String normalize(String mode) {
+        String normalized = mode == null ? "" : mode.trim().toLowerCase(Locale.ROOT);
+        if (!FULL.equals(normalized) && !INCREMENTAL.equals(normalized)) {
+            throw new IllegalArgumentException("지원하지 않는 모드: " + mode + " (full | incremental)");
+        }
+        return normalized;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static String toString(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+
+    private record Checkpoint(long lastUserId, LocalDateTime activitySince, LocalDateTime startedAt,
+                              LocalDateTime completedAt) {
+    }
+}
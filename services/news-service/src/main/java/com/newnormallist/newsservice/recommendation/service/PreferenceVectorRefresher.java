@@ -0,0 +1,207 @@
+package com.newnormallist.newsservice.recommendation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
+import com.newnormallist.newsservice.recommendation.event.UserActivityEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 선호 벡터 백그라운드 재계산
+ *
+ * 역할:
+ * - 조회/스크랩 이벤트(UserActivityEvent)와 피드 요청 시 stale 판정으로 재계산을 요청받아 별도 스레드에서 실행
+ *   (피드 요청 스레드는 마지막으로 저장된 벡터만 읽음)
+ * - 사용자별로 합침: 대기/실행 중인 사용자의 요청은 새 작업을 만들지 않고, 실행 중에 들어온 요청은 끝난 뒤 한 번 더 실행
+ * - 속도 제한: 이벤트 후 debounce-ms 기다렸다 실행, 같은 사용자는 min-interval-ms 안에 다시 계산하지 않음,
+ *   동시 실행은 threads개, 대기 사용자는 max-pending명까지
+ *
+ * 관측: reco.vector.refresh.lag (첫 요청 → 벡터 저장), reco.vector.recompute (계산 시간),
+ * reco.vector.refresh.requests{result}, reco.vector.refresh.pending
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PreferenceVectorRefresher {
+
+    private final VectorBatchService vectorBatchService;
+    private final RecommendationProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+    private ScheduledThreadPoolExecutor executor;
+    private Cache<Long, Long> lastComputedAt;
+    private Counter scheduled;
+    private Counter coalesced;
+    private Counter dropped;
+    private Counter failed;
+
+    @PostConstruct
+    void init() {
+        RecommendationProperties.VectorRefresh config = properties.getVectorRefresh();
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ScheduledThreadPoolExecutor(Math.max(1, config.getThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "pref-vector-refresh-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        lastComputedAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(Math.max(1L, config.getMinIntervalMs())))
+                .build();
+        scheduled = requests("scheduled");
+        coalesced = requests("coalesced");
+        dropped = requests("dropped");
+        failed = meterRegistry.counter("reco.vector.refresh.failures");
+        Gauge.builder("reco.vector.refresh.pending", pending, Map::size)
+                .description("재계산 대기/실행 중인 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 스크랩 저장 트랜잭션 커밋 후 요청 (트랜잭션 밖에서 발행되면 바로)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(UserActivityEvent event) {
+        request(event.userId());
+    }
+
+    /**
+     * 사용자 벡터 재계산 요청 (이미 대기 중이면 합침)
+     */
+    public void request(Long userId) {
+        RecommendationProperties.VectorRefresh config = properties.getVectorRefresh();
+        if (!config.isEnabled() || userId == null) {
+            return;
+        }
+        Pending created = new Pending(System.nanoTime());
+        Pending existing;
+        while ((existing = pending.putIfAbsent(userId, created)) != null) {
+            if (existing.markDirty()) {
+                coalesced.increment();
+                return;
+            }
+            // 방금 끝난 작업 - 지우고 새로 등록
+            pending.remove(userId, existing);
+        }
+        if (pending.size() > Math.max(1, config.getMaxPending())) {
+            pending.remove(userId, created);
+            dropped.increment();
+            return;
+        }
+        scheduled.increment();
+        executor.schedule(() -> run(userId, created), delayMillis(userId, config), TimeUnit.MILLISECONDS);
+    }
+
+    public Map<String, Object> status() {
+        RecommendationProperties.VectorRefresh config = properties.getVectorRefresh();
+        Timer lag = meterRegistry.timer("reco.vector.refresh.lag");
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", config.isEnabled());
+        status.put("pending", pending.size());
+        status.put("scheduled", (long) scheduled.count());
+        status.put("coalesced", (long) coalesced.count());
+        status.put("dropped", (long) dropped.count());
+        status.put("failures", (long) failed.count());
+        status.put("refreshed", lag.count());
+        status.put("meanLagMs", lag.mean(TimeUnit.MILLISECONDS));
+        status.put("maxLagMs", lag.max(TimeUnit.MILLISECONDS));
+        return status;
+    }
+
+    private void run(Long userId, Pending task) {
+        task.startRun();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (vectorBatchService.recompute(userId)) {
+                meterRegistry.timer("reco.vector.refresh.lag")
+                        .record(System.nanoTime() - task.requestedAtNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("⚠️ 사용자 {} 선호 벡터 재계산 실패: {}", userId, e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("reco.vector.recompute"));
+            lastComputedAt.put(userId, System.currentTimeMillis());
+            long dirtySince = task.finish();
+            pending.remove(userId, task);
+            // 실행 중에 들어온 요청은 최소 간격 후 한 번 더 (그 요청 시각부터 지연 측정)
+            if (dirtySince != 0L) {
+                requeue(userId, dirtySince);
+            }
+        }
+    }
+
+    private void requeue(Long userId, long requestedAtNanos) {
+        Pending created = new Pending(requestedAtNanos);
+        if (pending.putIfAbsent(userId, created) == null) {
+            executor.schedule(() -> run(userId, created),
+                    delayMillis(userId, properties.getVectorRefresh()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // debounce 후, 같은 사용자를 최근에 계산했으면 최소 간격이 지날 때까지
+    private long delayMillis(Long userId, RecommendationProperties.VectorRefresh config) {
+        long delay = Math.max(0L, config.getDebounceMs());
+        Long last = lastComputedAt.getIfPresent(userId);
+        if (last != null) {
+            delay = Math.max(delay, last + config.getMinIntervalMs() - System.currentTimeMillis());
+        }
+        return delay;
+    }
+
+    private Counter requests(String result) {
+        return meterRegistry.counter("reco.vector.refresh.requests", "result", result);
+    }
+
+    private static final class Pending {
+        private final long requestedAtNanos;
+        private boolean running;
+        private boolean finished;
+        private long dirtySinceNanos;
+
+        private Pending(long requestedAtNanos) {
+            this.requestedAtNanos = requestedAtNanos;
+        }
+
+        // 실행 전 요청은 이번 실행에 반영되므로 실행 중에 들어온 요청만 기록 (끝난 작업이면 false)
+        private synchronized boolean markDirty() {
+            if (finished) {
+                return false;
+            }
+            if (running && dirtySinceNanos == 0L) {
+                dirtySinceNanos = System.nanoTime();
+            }
+            return true;
+        }
+
+        private synchronized void startRun() {
+            running = true;
+        }
+
+        private synchronized long finish() {
+            finished = true;
+            return dirtySinceNanos;
+        }
+    }
+}
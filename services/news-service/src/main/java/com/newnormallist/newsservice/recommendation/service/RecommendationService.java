@@ -2,12 +2,15 @@ package com.newnormallist.newsservice.recommendation.service;
 
 import java.util.List;
 import com.newnormallist.newsservice.recommendation.dto.FeedItemDto;
+import com.newnormallist.newsservice.recommendation.dto.FeedResponseDto;
 
 // 피드 조립 서비스 인터페이스.
 // 첫 페이지: 개인화 추천 (상위 3개 카테고리에서 7/5/3개씩)
 // 나머지 페이지: 전체 뉴스 최신순 (published_at 기준)
+// 커서 방식 (cursor 파라미터를 넘긴 요청만): 빈 커서 = 개인화 추천 + 최신순 첫 구간 뒤를 가리키는 nextCursor, 이후 커서 다음 최신순
 
 public interface RecommendationService {
     List<FeedItemDto> getFeed(Long userId);
     List<FeedItemDto> getFeed(Long userId, int page, int size);
+    FeedResponseDto getFeedByCursor(Long userId, String cursor, int size);
 }
@@ -12,4 +12,6 @@ package com.newnormallist.newsservice.recommendation.service;
 */
 public interface VectorBatchService {
     void upsert(Long userId); // stale 판단/일괄 갱신은 구현에서
+
+    boolean recompute(Long userId); // stale 판단 없이 바로 재계산 (이벤트 기반 재계산, 사용자가 없으면 false)
 }
\ No newline at end of file
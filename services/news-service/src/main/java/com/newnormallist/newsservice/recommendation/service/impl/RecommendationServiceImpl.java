@@ -2,33 +2,42 @@ package com.newnormallist.newsservice.recommendation.service.impl;
 
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
+import com.newnormallist.newsservice.recommendation.service.LatestNewsBuffer;
+import com.newnormallist.newsservice.recommendation.service.PreferenceVectorRefresher;
 import com.newnormallist.newsservice.recommendation.service.RecommendationService;
 import com.newnormallist.newsservice.recommendation.service.VectorBatchService;
 import com.newnormallist.newsservice.recommendation.entity.*;
+import com.newnormallist.newsservice.news.dto.NewsCursor;
 import com.newnormallist.newsservice.recommendation.dto.FeedItemDto;
+import com.newnormallist.newsservice.recommendation.dto.FeedResponseDto;
 import com.newnormallist.newsservice.recommendation.repository.*;
 import com.newnormallist.newsservice.recommendation.mapper.FeedMapper;
+import com.newnormallist.newsservice.recommendation.model.FeedNewsCard;
 import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Page;
 
 // 피드 조립 서비스 구현체.
 // UserPrefVectorRepository.findTop3ByUserId(userId)로 top3 카테고리 확보
-// 각 카테고리에서 최신 7/5/3 ID 수집
-// findByIds로 뉴스 메타 일괄 조회
+// 각 카테고리에서 최신 7/5/3개 (LatestNewsBuffer 메모리 버퍼, 준비 전이면 ID 수집 후 findByIds로 메타 일괄 조회)
 // DTO로 매핑해 반환
 @Service
 @RequiredArgsConstructor
 public class RecommendationServiceImpl implements RecommendationService {
 
     private final VectorBatchService vectorBatchService;
+    private final PreferenceVectorRefresher preferenceVectorRefresher;
+    private final LatestNewsBuffer latestNewsBuffer;
     private final UserPrefVectorRepository userPrefVectorRepository;
     private final RecommendationNewsRepository newsRepository;
     private final RecommendationProperties properties;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public List<FeedItemDto> getFeed(Long id) {
@@ -47,59 +56,126 @@ public class RecommendationServiceImpl implements RecommendationService {
         return getLatestNewsFeed(page, size);
     }
     
+    @Override
+    public FeedResponseDto getFeedByCursor(Long id, String cursor, int size) {
+        NewsCursor after = NewsCursor.decode(cursor);
+        int limit = Math.max(1, Math.min(size, 100));
+
+        // 빈 커서(cursor=): 개인화 추천, 다음 커서는 최신순 첫 구간(size개) 뒤 (page=1과 같은 위치)
+        if (after == null) {
+            List<FeedNewsCard> skipped = findLatest(0, limit + 1);
+            String nextCursor = skipped.size() > limit ? cursorOf(skipped.get(limit - 1)) : null;
+            return FeedResponseDto.builder()
+                .content(getPersonalizedFeed(id))
+                .nextCursor(nextCursor)
+                .build();
+        }
+
+        List<FeedNewsCard> rows = findLatestAfter(after, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<FeedNewsCard> page = hasNext ? rows.subList(0, limit) : rows;
+        return FeedResponseDto.builder()
+            .content(interleaveByCategory(page))
+            .nextCursor(hasNext ? cursorOf(page.get(page.size() - 1)) : null)
+            .build();
+    }
+
+    // 최신순 앞부분은 메모리 버퍼에서 (버퍼 범위를 넘거나 준비 전이면 DB)
+    private List<FeedNewsCard> findLatest(int page, int size) {
+        // page * size를 int로 곱하면 넘쳐서 음수/앞쪽 위치가 되므로 long으로 계산
+        long offset = (long) page * size;
+        if (offset > Integer.MAX_VALUE) {
+            // DB 조회 offset(int) 한계 밖 - 그만큼 기사가 없으므로 빈 페이지
+            return List.of();
+        }
+        return latestNewsBuffer.latest(offset, size)
+            .orElseGet(() -> newsRepository.findLatest(PageRequest.of(page, size)));
+    }
+
+    private List<FeedNewsCard> findLatestAfter(NewsCursor after, int limit) {
+        if (after.publishedAt() == null) {
+            return newsRepository.findUndatedBefore(after.newsId(), PageRequest.of(0, limit));
+        }
+        return newsRepository.findLatestAfter(after.publishedAt(), after.newsId(), PageRequest.of(0, limit));
+    }
+
+    // 커서는 카테고리 섞기 전 최신순 마지막 기사 기준
+    private String cursorOf(FeedNewsCard news) {
+        return new NewsCursor(news.publishedAtDateTime(), news.newsId()).encode();
+    }
+
     private List<FeedItemDto> getPersonalizedFeed(Long id) {
-        // 1. 사용자 벡터 업데이트 (필요시)
-        vectorBatchService.upsert(id);
-        
-        // 2. 상위 3개 카테고리 조회
-        List<UserPrefVector> top3Vectors = userPrefVectorRepository
-            .findTopByUserIdOrderByScoreDesc(id, PageRequest.of(0, 3));
+        // 1. 상위 3개 카테고리 조회 (마지막으로 저장된 벡터)
+        List<UserPrefVector> top3Vectors = findTop3Vectors(id);
         
         if (top3Vectors.isEmpty()) {
             return Collections.emptyList();
         }
         
-        // 3. 각 카테고리별 최신 뉴스 ID 수집
-        List<Long> newsIds = new ArrayList<>();
+        // 3. 각 카테고리별 최신 뉴스 (메모리 버퍼, 준비 전이면 DB)
+        List<FeedNewsCard> newsList = new ArrayList<>();
         List<Integer> quotas = properties.getQuotas();
         
         for (int i = 0; i < top3Vectors.size() && i < quotas.size(); i++) {
             RecommendationCategory category = top3Vectors.get(i).getCategory();
             int quota = quotas.get(i);
-            
-            List<Long> categoryNewsIds = newsRepository.findLatestIdsByCategory(
-                category, PageRequest.of(0, quota)
-            );
-            newsIds.addAll(categoryNewsIds);
+            newsList.addAll(latestNewsBuffer.latest(category, quota)
+                .orElseGet(() -> findLatestByCategory(category, quota)));
         }
         
+        return newsList.stream()
+            .map(FeedMapper::toDto)
+            .collect(Collectors.toList());
+    }
+
+    private List<FeedNewsCard> findLatestByCategory(RecommendationCategory category, int quota) {
+        List<Long> newsIds = newsRepository.findLatestIdsByCategory(category, PageRequest.of(0, quota));
         if (newsIds.isEmpty()) {
             return Collections.emptyList();
         }
         
-        // 4. 뉴스 메타 정보 일괄 조회
-        List<NewsEntity> newsList = newsRepository.findByIdIn(newsIds);
-        
-        // 5. ID 순서대로 정렬 (원래 요청 순서 유지)
-        Map<Long, NewsEntity> newsMap = newsList.stream()
-            .collect(Collectors.toMap(NewsEntity::getNewsId, news -> news));
+        // 뉴스 메타 정보 일괄 조회 (본문 제외 카드 컬럼만), ID 순서대로 정렬
+        Map<Long, FeedNewsCard> newsMap = newsRepository.findCardsByIdIn(newsIds).stream()
+            .collect(Collectors.toMap(FeedNewsCard::newsId, news -> news));
         
-        List<FeedItemDto> feedItems = newsIds.stream()
-            .map(newsId -> newsMap.get(newsId))
+        return newsIds.stream()
+            .map(newsMap::get)
             .filter(Objects::nonNull)
-            .map(FeedMapper::toDto)
             .collect(Collectors.toList());
-        
-        return feedItems;
     }
     
+    // 벡터가 없으면(첫 요청) 바로 계산, 있으면 저장된 벡터를 쓰고 오래됐으면 백그라운드 재계산 요청
+    private List<UserPrefVector> findTop3Vectors(Long id) {
+        RecommendationProperties.VectorRefresh refresh = properties.getVectorRefresh();
+        if (!refresh.isEnabled()) {
+            vectorBatchService.upsert(id);
+            return userPrefVectorRepository.findTopByUserIdOrderByScoreDesc(id, PageRequest.of(0, 3));
+        }
+        List<UserPrefVector> vectors = userPrefVectorRepository.findTopByUserIdOrderByScoreDesc(id, PageRequest.of(0, 3));
+        if (vectors.isEmpty()) {
+            vectorBatchService.upsert(id);
+            return userPrefVectorRepository.findTopByUserIdOrderByScoreDesc(id, PageRequest.of(0, 3));
+        }
+        LocalDateTime updatedAt = vectors.get(0).getUpdatedAt();
+        if (updatedAt != null) {
+            Duration age = Duration.between(updatedAt, LocalDateTime.now());
+            meterRegistry.timer("reco.vector.age").record(age);
+            if (age.toMinutes() >= refresh.getStaleMinutes()) {
+                preferenceVectorRefresher.request(id);
+            }
+        }
+        return vectors;
+    }
+
     private List<FeedItemDto> getLatestNewsFeed(int page, int size) {
         // 1. 전체 뉴스를 최신순으로 조회 (published_at DESC)
-        Page<NewsEntity> newsPage = newsRepository.findAllByOrderByPublishedAtDesc(PageRequest.of(page, size));
-        
+        return interleaveByCategory(findLatest(page, size));
+    }
+
+    private List<FeedItemDto> interleaveByCategory(List<FeedNewsCard> newsList) {
         // 2. 카테고리별로 그룹화
-        Map<RecommendationCategory, List<NewsEntity>> categoryGroups = newsPage.getContent().stream()
-            .collect(Collectors.groupingBy(NewsEntity::getCategoryName));
+        Map<RecommendationCategory, List<FeedNewsCard>> categoryGroups = newsList.stream()
+            .collect(Collectors.groupingBy(FeedNewsCard::categoryName));
         
         // 3. 카테고리를 랜덤하게 섞기
         List<RecommendationCategory> shuffledCategories = new ArrayList<>(categoryGroups.keySet());
@@ -114,7 +190,7 @@ public class RecommendationServiceImpl implements RecommendationService {
         
         for (int i = 0; i < maxSize; i++) {
             for (RecommendationCategory category : shuffledCategories) {
-                List<NewsEntity> categoryNews = categoryGroups.get(category);
+                List<FeedNewsCard> categoryNews = categoryGroups.get(category);
                 if (i < categoryNews.size()) {
                     result.add(FeedMapper.toDto(categoryNews.get(i)));
                 }
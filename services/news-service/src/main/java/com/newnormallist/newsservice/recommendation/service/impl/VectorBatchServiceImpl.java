@@ -1,6 +1,7 @@
 package com.newnormallist.newsservice.recommendation.service.impl;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import com.newnormallist.newsservice.recommendation.service.VectorBatchService;
 import com.newnormallist.newsservice.recommendation.service.VectorBuilder;
@@ -25,6 +26,7 @@ public class VectorBatchServiceImpl implements VectorBatchService {
 
     private final VectorBuilder vectorBuilder;
     private final UserPrefVectorRepository userPrefVectorRepository;
+    private final UserPrefVectorBulkRepository userPrefVectorBulkRepository;
     private final UserRepository userRepository;
     private final UserReadHistoryRepository userReadHistoryRepository;
     
@@ -32,6 +34,7 @@ public class VectorBatchServiceImpl implements VectorBatchService {
     private static final int READ_THRESHOLD_FOR_UPDATE = 5; // 조회 5회 이상시 업데이트
 
     @Override
+    @Transactional
     public void upsert(Long userId) {
         
         // 1. 사용자 존재 확인
@@ -50,14 +53,24 @@ public class VectorBatchServiceImpl implements VectorBatchService {
             return; // stale하지 않으면 업데이트하지 않음
         }
         
-        // 4. 새로운 벡터 계산
-        List<UserPrefVector> newVectors = vectorBuilder.recomputeForUser(userEntity);
-        
-        // 5. 기존 벡터 삭제 후 새로운 벡터 저장
-        if (!currentVectors.isEmpty()) {
-            userPrefVectorRepository.deleteAll(currentVectors);
+        // 4. 새로운 벡터 계산 후 저장
+        replace(userEntity);
+    }
+
+    @Override
+    @Transactional
+    public boolean recompute(Long userId) {
+        Optional<UserEntity> userOpt = userRepository.findById(userId);
+        if (userOpt.isEmpty()) {
+            return false;
         }
-        userPrefVectorRepository.saveAll(newVectors);
+        replace(userOpt.get());
+        return true;
+    }
+
+    // 일괄 upsert: 기존 행은 값만 갱신 (삭제 후 저장 사이에 피드 조회가 빈 벡터를 보지 않음)
+    private void replace(UserEntity userEntity) {
+        userPrefVectorBulkRepository.upsertAll(vectorBuilder.recomputeForUser(userEntity));
     }
     
     private boolean isStale(List<UserPrefVector> currentVectors, Long userId) {
@@ -78,11 +91,7 @@ public class VectorBatchServiceImpl implements VectorBatchService {
         }
         
         // 마지막 업데이트 이후 조회 기록 확인
-        LocalDateTime readCountSince = lastUpdate;
-        long readCount = userReadHistoryRepository.findByUserId(userId)
-            .stream()
-            .filter(history -> history.getCreatedAt().isAfter(readCountSince))
-            .count();
+        long readCount = userReadHistoryRepository.countByUserIdSince(userId, lastUpdate);
         
         // 조회 5회 이상시 stale
         return readCount >= READ_THRESHOLD_FOR_UPDATE;
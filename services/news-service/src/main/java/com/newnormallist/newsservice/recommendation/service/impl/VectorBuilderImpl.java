@@ -2,28 +2,25 @@ package com.newnormallist.newsservice.recommendation.service.impl;
 
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
+import com.newnormallist.newsservice.recommendation.service.CategoryScoreAccumulator;
 import com.newnormallist.newsservice.recommendation.service.VectorBuilder;
 import com.newnormallist.newsservice.recommendation.service.DemoBaseProvider;
 import com.newnormallist.newsservice.recommendation.service.WeightSelector;
 import com.newnormallist.newsservice.recommendation.entity.*;
-import com.newnormallist.newsservice.recommendation.repository.*;
 import com.newnormallist.newsservice.recommendation.util.PrefVectorHelper;
 import com.newnormallist.newsservice.recommendation.util.MathUtils;
-import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /* 사용자 벡터 계산기 구현체.
 
     한 유저에 대해:
     D(c): DemoBaseProvider에서 (연령/성별별) 베이스 분포 수집
     P(c): UserCategoryRepository → 선택된 카테고리 균등분포(1/k)
-    R(c): UserReadHistoryRepository → 최근 7일 감쇠 가중합으로 비율화
-    S(c): NewsScrapRepository → 최근 30일 감쇠 가중합으로 비율화
+    R(c): CategoryScoreAccumulator → 최근 7일 조회 감쇠 가중합(카테고리별 누적)으로 비율화
+    S(c): CategoryScoreAccumulator → 최근 30일 스크랩 감쇠 가중합(카테고리별 누적)으로 비율화
     WeightSelector.choose(readCount, scrapCount)로 케이스별 가중치 선택
     최종식 Score(c)=Norm(wD·D + wP·P + wR·R + wS·S)로 9개 값 계산
     UserPrefVector 9행으로 만들어 반환 
@@ -36,10 +33,8 @@ public class VectorBuilderImpl implements VectorBuilder {
 
     private final DemoBaseProvider demoBaseProvider;
     private final WeightSelector weightSelector;
-    private final RecommendationProperties properties;
     
-    private final UserReadHistoryRepository userReadHistoryRepository;
-    private final NewsScraperRepository newsScrapRepository;
+    private final CategoryScoreAccumulator categoryScoreAccumulator;
     private final PrefVectorHelper prefVectorHelper;
 
     @Override
@@ -54,11 +49,10 @@ public class VectorBuilderImpl implements VectorBuilder {
         // 3. P(c) - 사용자 선호 카테고리 분포
         Map<RecommendationCategory, Double> P = prefVectorHelper.buildP(userEntity.getId());
         
-        // 4. R(c) - 최근 7일 조회 기록
-        Map<RecommendationCategory, Double> R = buildReadVector(userEntity.getId());
-        
-        // 5. S(c) - 최근 30일 스크랩 기록
-        Map<RecommendationCategory, Double> S = buildScrapVector(userEntity.getId());
+        // 4-5. R(c)/S(c) - 최근 7일 조회, 30일 스크랩 (카테고리별 감쇠 누적 점수, 이력 전체를 읽지 않음)
+        CategoryScoreAccumulator.DecayedScores activity = categoryScoreAccumulator.scores(userEntity.getId());
+        Map<RecommendationCategory, Double> R = toRatio(activity.read());
+        Map<RecommendationCategory, Double> S = toRatio(activity.scrap());
         
         // 6. 가중치 선택
         int readCount = (int) R.values().stream().mapToDouble(Double::doubleValue).sum();
@@ -104,122 +98,10 @@ public class VectorBuilderImpl implements VectorBuilder {
         return AgeBucket.AGE_60s_PLUS;
     }
     
-    private Map<RecommendationCategory, Double> buildReadVector(Long userId) {
-        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-        
-        List<UserReadHistory> readHistories = userReadHistoryRepository.findByUserId(userId)
-            .stream()
-            .filter(history -> history.getCreatedAt().isAfter(sevenDaysAgo))
-            .collect(Collectors.toList());
-        
-        Map<RecommendationCategory, Double> categoryWeights = new HashMap<>();
-        double totalWeight = 0.0;
-        
-        for (UserReadHistory history : readHistories) {
-            long daysDiff = java.time.Duration.between(history.getCreatedAt(), LocalDateTime.now()).toDays();
-            double weight = MathUtils.dayWeight(daysDiff, properties.getReadHalfLifeDays());
-            
-            categoryWeights.merge(history.getCategoryName(), weight, Double::sum);
-            totalWeight += weight;
-        }
-        
-        // 정규화
-        final double finalTotalWeight = totalWeight;
-        if (finalTotalWeight > 0) {
-            categoryWeights.replaceAll((k, v) -> v / finalTotalWeight);
-        }
-        
-        return categoryWeights;
-    }
-    
-    private Map<RecommendationCategory, Double> buildScrapVector(Long userId) {
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        
-        try {
-            // 먼저 JPA 방식 시도
-            List<NewsScraper> scraps = newsScrapRepository.findRecentScrapsByUserId(userId, thirtyDaysAgo);
-            return calculateScrapWeights(scraps);
-        } catch (Exception e) {
-            try {
-                // 날짜 파싱 오류 시 Native Query 사용
-                String sinceStr = thirtyDaysAgo.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-                List<Object[]> scrapData = newsScrapRepository.findRecentScrapsByUserIdNative(userId, sinceStr);
-                return calculateScrapWeightsFromNative(scrapData);
-            } catch (Exception e2) {
-                // 스크랩 저장소가 없거나 모든 방법이 실패한 경우 빈 맵 반환
-                log.debug("사용자 {}의 스크랩 데이터가 없습니다. 빈 스크랩 벡터를 사용합니다.", userId);
-                return new HashMap<>();
-            }
-        }
-    }
-    
-    private Map<RecommendationCategory, Double> calculateScrapWeights(List<NewsScraper> scraps) {
-        Map<RecommendationCategory, Double> categoryWeights = new HashMap<>();
-        double totalWeight = 0.0;
-        
-        for (NewsScraper scrap : scraps) {
-            long daysDiff = java.time.Duration.between(scrap.getCreatedAt(), LocalDateTime.now()).toDays();
-            double weight = MathUtils.dayWeight(daysDiff, properties.getScrapHalfLifeDays());
-            
-            categoryWeights.merge(scrap.getNewsEntity().getCategoryName(), weight, Double::sum);
-            totalWeight += weight;
-        }
-        
-        // 정규화
-        final double finalTotalWeight = totalWeight;
-        if (finalTotalWeight > 0) {
-            categoryWeights.replaceAll((k, v) -> v / finalTotalWeight);
-        }
-        
-        return categoryWeights;
-    }
-    
-    private Map<RecommendationCategory, Double> calculateScrapWeightsFromNative(List<Object[]> scrapData) {
-        Map<RecommendationCategory, Double> categoryWeights = new HashMap<>();
-        double totalWeight = 0.0;
-        
-        for (Object[] row : scrapData) {
-            try {
-                // Object[]에서 필요한 데이터 추출 (SELECT ns.created_at, n.category 순서)
-                String createdAtStr = row[0].toString(); // created_at 컬럼
-                String categoryStr = row[1].toString();  // category 컬럼
-                
-                // 여러 날짜 형식 시도
-                LocalDateTime createdAt;
-                try {
-                    // 마이크로초 형식 시도
-                    createdAt = LocalDateTime.parse(createdAtStr, 
-                        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS"));
-                } catch (Exception e1) {
-                    try {
-                        // 밀리초 형식 시도
-                        createdAt = LocalDateTime.parse(createdAtStr, 
-                            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS"));
-                    } catch (Exception e2) {
-                        // 기본 형식 시도
-                        createdAt = LocalDateTime.parse(createdAtStr, 
-                            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-                    }
-                }
-                RecommendationCategory category = RecommendationCategory.valueOf(categoryStr);
-                
-                long daysDiff = java.time.Duration.between(createdAt, LocalDateTime.now()).toDays();
-                double weight = MathUtils.dayWeight(daysDiff, properties.getScrapHalfLifeDays());
-                
-                categoryWeights.merge(category, weight, Double::sum);
-                totalWeight += weight;
-            } catch (Exception e) {
-                // 개별 레코드 파싱 실패 시 건너뛰기
-                continue;
-            }
-        }
-        
-        // 정규화
-        final double finalTotalWeight = totalWeight;
-        if (finalTotalWeight > 0) {
-            categoryWeights.replaceAll((k, v) -> v / finalTotalWeight);
-        }
-        
-        return categoryWeights;
+    // 누적 점수(감쇠 적용)를 합 1로 비율화
+    private Map<RecommendationCategory, Double> toRatio(Map<RecommendationCategory, Double> scores) {
+        Map<RecommendationCategory, Double> ratio = new EnumMap<>(scores);
+        MathUtils.normalize(ratio);
+        return ratio;
     }
 }
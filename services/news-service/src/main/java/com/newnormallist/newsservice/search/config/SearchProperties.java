@@ -0,0 +1,90 @@
+package com.newnormallist.newsservice.search.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/*
+    뉴스 검색 백엔드 / 인메모리 n-gram 색인 설정을 YAML로 바인딩.
+*/
+@Data
+@ConfigurationProperties(prefix = "search")
+public class SearchProperties {
+
+    /**
+     * 기본 검색 백엔드 (like | index | fulltext). 요청의 backend 파라미터로 덮어쓸 수 있음
+     * - like: 검색어 전체를 구절로 %검색어% 일치
+     * - index/fulltext(boolean): 어절 조각마다 부분 문자열 일치 후 AND (like 결과를 모두 포함, 여러 어절이면 더 많을 수 있음)
+     */
+    private String backend = "like";
+
+    private Index index = new Index();
+
+    private FullText fulltext = new FullText();
+
+    @Data
+    public static class Index {
+
+        /**
+         * 인메모리 색인 생성 여부 (false면 backend=index 요청도 LIKE 검색으로 처리)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 스냅샷 파일 경로 (기동 시 복원, 주기적/종료 시 저장)
+         */
+        private String snapshotPath = "./data/news-search-index.snap";
+
+        /**
+         * 신규/수정 기사 반영 주기 (밀리초)
+         */
+        private long refreshIntervalMs = 60000;
+
+        /**
+         * 삭제 표시된 문서(수정/삭제된 기사의 이전 문서) 비율이 이 값을 넘으면 전체 재색인
+         */
+        private double reindexDeletedRatio = 0.2;
+
+        /**
+         * 스냅샷 저장 주기 (밀리초)
+         */
+        private long snapshotIntervalMs = 1800000;
+
+        /**
+         * DB에서 한 번에 읽어 색인할 기사 수
+         */
+        private int batchSize = 500;
+
+        /**
+         * 본문 색인 최대 글자 수 (0 이하면 전체). 메모리 사용량 상한 조절용
+         * - 제한하면 본문 뒷부분에만 있는 검색어는 색인 검색에서 빠짐 (LIKE 결과보다 적어질 수 있음)
+         */
+        private int contentMaxChars = 0;
+
+        /**
+         * 제목 필드 BM25 가중치
+         */
+        private double titleBoost = 2.0;
+
+        /**
+         * BM25 k1 (단어 빈도 포화 정도)
+         */
+        private double k1 = 1.2;
+
+        /**
+         * BM25 b (문서 길이 정규화 정도)
+         */
+        private double b = 0.75;
+    }
+
+    @Data
+    public static class FullText {
+
+        /**
+         * MATCH ... AGAINST 모드
+         * - boolean: 단어마다 +"단어" (모든 단어를 부분 문자열로 포함, LIKE 결과를 모두 포함)
+         * - natural: 자연어 모드 (ngram 중 일부만 일치해도 포함, 재현율 높음)
+         */
+        private String mode = "boolean";
+    }
+}
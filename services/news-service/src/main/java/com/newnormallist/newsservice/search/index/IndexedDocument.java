@@ -0,0 +1,11 @@
+package com.newnormallist.newsservice.search.index;
+
+/**
+ * 색인 대상 기사 (검색/필터에 필요한 필드만)
+ *
+ * @param category  카테고리 enum 이름 (null 허용)
+ * @param publishedAt 발행 시각 (epoch millis, 기간 필터/날짜 정렬용)
+ */
+public record IndexedDocument(long newsId, String title, String content,
+                              String category, String press, long publishedAt) {
+}
@@ -0,0 +1,508 @@
+package com.newnormallist.newsservice.search.index;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 뉴스 제목/본문 인메모리 역색인
+ *
+ * 역할:
+ * - 문자 bigram 단위 위치 posting (제목/본문 필드 분리)
+ * - 검색어 어절 조각마다 연속 bigram 위치를 확인해 부분 문자열 일치 판정, 조각끼리는 AND
+ *
+ * LIKE 검색(NewsSpecifications.keywordContains: 검색어 전체 %검색어%)과의 차이 - 색인 결과는 LIKE 결과를 모두 포함:
+ * - 여러 어절: LIKE는 공백까지 포함한 구절, 색인은 조각마다 제목 또는 본문 어디든 (순서/인접/같은 필드 여부 무관)
+ * - 글자/숫자가 아닌 문자는 구분자, 1글자 조각은 무시 (2글자 이상 조각이 없으면 LIKE 검색으로 처리)
+ * - NFKC + 소문자 정규화 (전각/대소문자 차이를 무시)
+ * - 3글자 이상 조각은 인접 bigram 위치 비교로 trigram 이상의 정밀도를 얻으므로 trigram posting은 따로 두지 않음
+ * - BM25 (필드별 점수 합산, 제목 가중치) 관련도 정렬
+ * - 수정/삭제: posting은 덧붙이기만 하므로 이전 문서 번호를 삭제 표시(deleted)하고 검색에서 제외,
+ *   수정된 기사는 새 문서 번호로 다시 추가. 삭제 표시된 문서의 posting은 재색인 때 사라짐
+ *   (BM25 문서 빈도에는 재색인 전까지 삭제 표시된 문서도 포함)
+ *
+ * 동시성:
+ * - 쓰기(증분 반영)는 한 스레드, 읽기(검색/스냅샷)는 여러 스레드 - 읽기/쓰기 락으로 보호
+ * - 내부 문서 번호는 추가 순서 (news_id 순서와 무관)
+ */
+public class NgramInvertedIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x4E4E5349; // "NNSI"
+    private static final int SNAPSHOT_VERSION = 3;
+
+    private static final int FIELD_TITLE = 0;
+    private static final int FIELD_CONTENT = 1;
+    private static final int FIELD_COUNT = 2;
+
+    private final int contentMaxChars;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @SuppressWarnings("unchecked")
+    private final Map<Integer, PostingList>[] postings = new Map[]{new HashMap<>(), new HashMap<>()};
+    private final long[] totalFieldLength = new long[FIELD_COUNT];
+    private final Map<String, String> stringPool = new HashMap<>();
+    private final Map<Long, Integer> docByNewsId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    private int docCount;
+    private long[] newsIds = new long[1024];
+    private long[] publishedAt = new long[1024];
+    private String[] categories = new String[1024];
+    private String[] presses = new String[1024];
+    private int[][] fieldLength = {new int[1024], new int[1024]};
+    private int deletedCount;
+    // 스냅샷에 함께 저장하는 변경 피드 워터마크 (epoch millis, 없으면 0)
+    private long changeWatermarkMillis;
+
+    public NgramInvertedIndex(int contentMaxChars) {
+        this.contentMaxChars = contentMaxChars;
+    }
+
+    /**
+     * 기사 추가 (이미 색인된 기사면 이전 문서를 삭제 표시하고 새로 추가 - 기사 수정)
+     */
+    public boolean add(IndexedDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = docByNewsId.get(document.newsId());
+            if (previous != null) {
+                markDeleted(previous);
+            }
+            int doc = docCount;
+            ensureCapacity(doc + 1);
+            newsIds[doc] = document.newsId();
+            publishedAt[doc] = document.publishedAt();
+            categories[doc] = intern(document.category());
+            presses[doc] = intern(document.press());
+            fieldLength[FIELD_TITLE][doc] = indexField(FIELD_TITLE, doc, document.title(), 0);
+            fieldLength[FIELD_CONTENT][doc] = indexField(FIELD_CONTENT, doc, document.content(), contentMaxChars);
+            docCount++;
+            docByNewsId.put(document.newsId(), doc);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기사 제거 (삭제 표시)
+     *
+     * @return 제거 여부 (색인에 없는 기사면 false)
+     */
+    public boolean remove(long newsId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByNewsId.get(newsId);
+            if (doc == null) {
+                return false;
+            }
+            markDeleted(doc);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     *
+     * @return 검색어에 2글자 이상 조각이 없으면 null (호출 측에서 LIKE 검색으로 처리)
+     */
+    public SearchHits search(String query, SearchFilter filter, SearchSort sort,
+                             double titleBoost, double k1, double b, long offset, int limit) {
+        List<String> terms = NgramTokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Integer, PostingList.Decoded>> decoded = List.of(new HashMap<>(), new HashMap<>());
+
+            // 1. 모든 조각이 제목 또는 본문에 부분 문자열로 존재하는 문서 (AND)
+            BitSet matched = null;
+            Set<Integer> queryBigrams = new LinkedHashSet<>();
+            for (String term : terms) {
+                int[] bigrams = bigramsOf(term);
+                for (int bigram : bigrams) {
+                    queryBigrams.add(bigram);
+                }
+                BitSet termDocs = new BitSet(docCount);
+                for (int field = 0; field < FIELD_COUNT; field++) {
+                    termDocs.or(matchTerm(field, bigrams, decoded.get(field)));
+                }
+                if (matched == null) {
+                    matched = termDocs;
+                    matched.andNot(deleted);
+                } else {
+                    matched.and(termDocs);
+                }
+                if (matched.isEmpty()) {
+                    return new SearchHits(0, List.of());
+                }
+            }
+
+            // 2. 필터 + 점수
+            String pressFilter = filter.press() != null && !filter.press().isBlank()
+                    ? filter.press().toLowerCase(Locale.ROOT) : null;
+            List<ScoredDoc> hits = new ArrayList<>(matched.cardinality());
+            for (int doc = matched.nextSetBit(0); doc >= 0; doc = matched.nextSetBit(doc + 1)) {
+                if (!accepts(doc, filter, pressFilter)) {
+                    continue;
+                }
+                double score = sort == SearchSort.RELEVANCE
+                        ? score(doc, queryBigrams, decoded, titleBoost, k1, b) : 0;
+                hits.add(new ScoredDoc(doc, score));
+            }
+
+            hits.sort(comparator(sort));
+            List<Long> page = new ArrayList<>(limit);
+            for (long i = offset; i < hits.size() && page.size() < limit; i++) {
+                page.add(newsIds[hits.get((int) i).doc()]);
+            }
+            return new SearchHits(hits.size(), page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 대상 문서 수 (삭제 표시 제외)
+     */
+    public int docCount() {
+        lock.readLock().lock();
+        try {
+            return docCount - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서 비율 (재색인 판단용)
+     */
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return docCount == 0 ? 0 : (double) deletedCount / docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 기사 news_id 복사본 (삭제 확인용)
+     */
+    public List<Long> newsIds() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(docByNewsId.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long changeWatermarkMillis() {
+        return changeWatermarkMillis;
+    }
+
+    /**
+     * 색인 현황 (용어 수, posting 바이트 수)
+     */
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            long postingBytes = 0;
+            for (Map<Integer, PostingList> fieldPostings : postings) {
+                for (PostingList list : fieldPostings.values()) {
+                    postingBytes += list.sizeInBytes();
+                }
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("documents", docCount - deletedCount);
+            stats.put("deletedDocuments", deletedCount);
+            stats.put("titleTerms", postings[FIELD_TITLE].size());
+            stats.put("contentTerms", postings[FIELD_CONTENT].size());
+            stats.put("postingBytes", postingBytes);
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 저장 (읽기 락 안에서 일관된 상태를 기록)
+     *
+     * @param changeWatermarkMillis 이 상태에 반영이 끝난 변경 피드 워터마크 (복원 후 여기서부터 다시 읽음)
+     */
+    public void writeTo(DataOutputStream out, long changeWatermarkMillis) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(contentMaxChars);
+            out.writeInt(docCount);
+            out.writeLong(changeWatermarkMillis);
+            long[] deletedWords = deleted.toLongArray();
+            out.writeInt(deletedWords.length);
+            for (long word : deletedWords) {
+                out.writeLong(word);
+            }
+            for (int doc = 0; doc < docCount; doc++) {
+                out.writeLong(newsIds[doc]);
+                out.writeLong(publishedAt[doc]);
+                writeNullableString(out, categories[doc]);
+                writeNullableString(out, presses[doc]);
+                out.writeInt(fieldLength[FIELD_TITLE][doc]);
+                out.writeInt(fieldLength[FIELD_CONTENT][doc]);
+            }
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                out.writeLong(totalFieldLength[field]);
+                out.writeInt(postings[field].size());
+                for (Map.Entry<Integer, PostingList> entry : postings[field].entrySet()) {
+                    out.writeInt(entry.getKey());
+                    entry.getValue().writeTo(out);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 복원
+     *
+     * @throws IOException 형식/버전이 다르거나 본문 색인 길이 설정이 바뀐 경우 (호출 측에서 전체 재색인)
+     */
+    public static NgramInvertedIndex readFrom(DataInputStream in, int contentMaxChars) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("지원하지 않는 검색 색인 스냅샷 형식");
+        }
+        if (in.readInt() != contentMaxChars) {
+            throw new IOException("본문 색인 길이 설정이 스냅샷과 다름");
+        }
+        NgramInvertedIndex index = new NgramInvertedIndex(contentMaxChars);
+        int count = in.readInt();
+        index.changeWatermarkMillis = in.readLong();
+        long[] deletedWords = new long[in.readInt()];
+        for (int i = 0; i < deletedWords.length; i++) {
+            deletedWords[i] = in.readLong();
+        }
+        index.deleted.or(BitSet.valueOf(deletedWords));
+        index.deletedCount = index.deleted.cardinality();
+        index.ensureCapacity(count);
+        for (int doc = 0; doc < count; doc++) {
+            index.newsIds[doc] = in.readLong();
+            index.publishedAt[doc] = in.readLong();
+            index.categories[doc] = index.intern(readNullableString(in));
+            index.presses[doc] = index.intern(readNullableString(in));
+            index.fieldLength[FIELD_TITLE][doc] = in.readInt();
+            index.fieldLength[FIELD_CONTENT][doc] = in.readInt();
+            if (!index.deleted.get(doc)) {
+                index.docByNewsId.put(index.newsIds[doc], doc);
+            }
+        }
+        index.docCount = count;
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            index.totalFieldLength[field] = in.readLong();
+            int terms = in.readInt();
+            for (int i = 0; i < terms; i++) {
+                int key = in.readInt();
+                index.postings[field].put(key, PostingList.readFrom(in));
+            }
+        }
+        return index;
+    }
+
+    private int indexField(int field, int doc, String text, int maxChars) {
+        Map<Integer, int[]> positionsByBigram = new HashMap<>();
+        int[] length = new int[1];
+        NgramTokenizer.forEachBigram(NgramTokenizer.normalize(text), maxChars, (bigram, position) -> {
+            // [0] = 개수, 이후 위치
+            int[] positions = positionsByBigram.computeIfAbsent(bigram, key -> new int[4]);
+            if (positions[0] + 1 == positions.length) {
+                positions = Arrays.copyOf(positions, positions.length * 2);
+                positionsByBigram.put(bigram, positions);
+            }
+            positions[++positions[0]] = position;
+            length[0]++;
+        });
+        for (Map.Entry<Integer, int[]> entry : positionsByBigram.entrySet()) {
+            int[] positions = entry.getValue();
+            postings[field].computeIfAbsent(entry.getKey(), key -> new PostingList())
+                    .append(doc, Arrays.copyOfRange(positions, 1, positions[0] + 1), positions[0]);
+        }
+        totalFieldLength[field] += length[0];
+        return length[0];
+    }
+
+    /**
+     * 조각의 bigram이 연속 위치에 모두 있는 문서 (가장 희소한 bigram을 기준으로 확인)
+     */
+    private BitSet matchTerm(int field, int[] bigrams, Map<Integer, PostingList.Decoded> cache) {
+        BitSet docs = new BitSet();
+        PostingList.Decoded[] lists = new PostingList.Decoded[bigrams.length];
+        int driver = 0;
+        for (int i = 0; i < bigrams.length; i++) {
+            lists[i] = decode(field, bigrams[i], cache);
+            if (lists[i] == null) {
+                return docs;
+            }
+            if (lists[i].docs().length < lists[driver].docs().length) {
+                driver = i;
+            }
+        }
+
+        PostingList.Decoded driverList = lists[driver];
+        int[] docIndexes = new int[bigrams.length];
+        for (int d = 0; d < driverList.docs().length; d++) {
+            int doc = driverList.docs()[d];
+            boolean inAll = true;
+            for (int i = 0; i < lists.length && inAll; i++) {
+                docIndexes[i] = i == driver ? d : lists[i].indexOf(doc);
+                inAll = docIndexes[i] >= 0;
+            }
+            if (inAll && hasPhrase(lists, docIndexes, driver)) {
+                docs.set(doc);
+            }
+        }
+        return docs;
+    }
+
+    private boolean hasPhrase(PostingList.Decoded[] lists, int[] docIndexes, int driver) {
+        PostingList.Decoded driverList = lists[driver];
+        for (int p = driverList.offsets()[docIndexes[driver]]; p < driverList.offsets()[docIndexes[driver] + 1]; p++) {
+            int start = driverList.positions()[p] - driver;
+            boolean all = true;
+            for (int i = 0; i < lists.length && all; i++) {
+                all = i == driver || lists[i].hasPosition(docIndexes[i], start + i);
+            }
+            if (all) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 삭제 표시: 필드 길이 합계에서 빼고 news_id 연결을 끊음 (posting은 남음)
+    private void markDeleted(int doc) {
+        if (deleted.get(doc)) {
+            return;
+        }
+        deleted.set(doc);
+        deletedCount++;
+        totalFieldLength[FIELD_TITLE] -= fieldLength[FIELD_TITLE][doc];
+        totalFieldLength[FIELD_CONTENT] -= fieldLength[FIELD_CONTENT][doc];
+        docByNewsId.remove(newsIds[doc], doc);
+    }
+
+    private double score(int doc, Set<Integer> queryBigrams, List<Map<Integer, PostingList.Decoded>> decoded,
+                         double titleBoost, double k1, double b) {
+        double score = 0;
+        int liveDocs = docCount - deletedCount;
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            double averageLength = liveDocs > 0 ? Math.max(1.0, (double) totalFieldLength[field] / liveDocs) : 1.0;
+            double lengthNorm = k1 * (1 - b + b * fieldLength[field][doc] / averageLength);
+            double fieldScore = 0;
+            for (int bigram : queryBigrams) {
+                PostingList.Decoded list = decode(field, bigram, decoded.get(field));
+                if (list == null) {
+                    continue;
+                }
+                int docIndex = list.indexOf(doc);
+                if (docIndex < 0) {
+                    continue;
+                }
+                int tf = list.termFrequency(docIndex);
+                int df = list.docs().length;
+                double idf = Math.log(1 + Math.max(0, liveDocs - df + 0.5) / (df + 0.5));
+                fieldScore += idf * tf * (k1 + 1) / (tf + lengthNorm);
+            }
+            score += field == FIELD_TITLE ? titleBoost * fieldScore : fieldScore;
+        }
+        return score;
+    }
+
+    private PostingList.Decoded decode(int field, int bigram, Map<Integer, PostingList.Decoded> cache) {
+        if (cache.containsKey(bigram)) {
+            return cache.get(bigram);
+        }
+        PostingList list = postings[field].get(bigram);
+        PostingList.Decoded result = list != null ? list.decode() : null;
+        cache.put(bigram, result);
+        return result;
+    }
+
+    private boolean accepts(int doc, SearchFilter filter, String pressFilter) {
+        if (filter.category() != null && !filter.category().equals(categories[doc])) {
+            return false;
+        }
+        if (pressFilter != null && (presses[doc] == null || !presses[doc].toLowerCase(Locale.ROOT).contains(pressFilter))) {
+            return false;
+        }
+        if (filter.from() != null && publishedAt[doc] < filter.from()) {
+            return false;
+        }
+        return filter.to() == null || publishedAt[doc] <= filter.to();
+    }
+
+    private Comparator<ScoredDoc> comparator(SearchSort sort) {
+        Comparator<ScoredDoc> newestFirst = (x, y) -> Long.compare(newsIds[y.doc()], newsIds[x.doc()]);
+        return switch (sort) {
+            case RELEVANCE -> Comparator.comparingDouble(ScoredDoc::score).reversed().thenComparing(newestFirst);
+            case DATE_DESC -> Comparator.<ScoredDoc>comparingLong(h -> publishedAt[h.doc()]).reversed().thenComparing(newestFirst);
+            case DATE_ASC -> Comparator.<ScoredDoc>comparingLong(h -> publishedAt[h.doc()]).thenComparing(newestFirst);
+        };
+    }
+
+    private static int[] bigramsOf(String term) {
+        int[] bigrams = new int[term.length() - 1];
+        for (int i = 0; i + 1 < term.length(); i++) {
+            bigrams[i] = NgramTokenizer.bigram(term.charAt(i), term.charAt(i + 1));
+        }
+        return bigrams;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= newsIds.length) {
+            return;
+        }
+        int size = Math.max(capacity, newsIds.length * 2);
+        newsIds = Arrays.copyOf(newsIds, size);
+        publishedAt = Arrays.copyOf(publishedAt, size);
+        categories = Arrays.copyOf(categories, size);
+        presses = Arrays.copyOf(presses, size);
+        fieldLength[FIELD_TITLE] = Arrays.copyOf(fieldLength[FIELD_TITLE], size);
+        fieldLength[FIELD_CONTENT] = Arrays.copyOf(fieldLength[FIELD_CONTENT], size);
+    }
+
+    private String intern(String value) {
+        return value == null ? null : stringPool.computeIfAbsent(value, v -> v);
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private record ScoredDoc(int doc, double score) {
+    }
+}
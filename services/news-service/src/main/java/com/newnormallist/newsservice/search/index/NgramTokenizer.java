@@ -0,0 +1,77 @@
+package com.newnormallist.newsservice.search.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 문자 n-gram 토크나이저
+ *
+ * - 정규화: NFKC + 소문자
+ * - 글자/숫자 연속 구간(어절 조각)마다 문자 bigram을 만들고, 정규화 텍스트 기준 시작 위치를 함께 방출
+ * - bigram은 두 UTF-16 문자를 int 하나로 묶은 키 (c1 << 16 | c2)
+ *
+ * 형태소 분석 없이도 어절 조각 단위 한국어 부분 문자열 검색을 위치 정보로 재현할 수 있음
+ * (여러 어절 검색어의 LIKE 구절 일치와의 차이는 NgramInvertedIndex 참고)
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    @FunctionalInterface
+    public interface BigramConsumer {
+        void accept(int bigram, int position);
+    }
+
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 텍스트의 bigram을 위치 순서대로 방출 (구간 경계를 넘는 bigram은 만들지 않음)
+     */
+    public static void forEachBigram(String normalized, int maxChars, BigramConsumer consumer) {
+        int length = maxChars > 0 ? Math.min(maxChars, normalized.length()) : normalized.length();
+        for (int i = 0; i + 1 < length; i++) {
+            char first = normalized.charAt(i);
+            char second = normalized.charAt(i + 1);
+            if (isTokenChar(first) && isTokenChar(second)) {
+                consumer.accept(bigram(first, second), i);
+            }
+        }
+    }
+
+    /**
+     * 검색어를 어절 조각으로 분리 (2글자 미만 조각은 bigram이 없어 제외)
+     */
+    public static List<String> queryTerms(String query) {
+        String normalized = normalize(query);
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean token = i < normalized.length() && isTokenChar(normalized.charAt(i));
+            if (token && start < 0) {
+                start = i;
+            } else if (!token && start >= 0) {
+                if (i - start >= 2 && !terms.contains(normalized.substring(start, i))) {
+                    terms.add(normalized.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    public static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+}
@@ -0,0 +1,129 @@
+package com.newnormallist.newsservice.search.index;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 위치 정보 포함 posting 목록 (append-only, varint 압축)
+ *
+ * 문서마다 [문서 번호 차이, 출현 횟수, 위치 차이...] 를 varint로 기록.
+ * 문서 번호는 항상 증가하는 순서로만 추가됨 (색인은 news_id 오름차순으로 증분 반영)
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int lastDoc = -1;
+    private int docFreq;
+
+    void append(int doc, int[] positions, int count) {
+        writeVarInt(doc - lastDoc);
+        writeVarInt(count);
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            writeVarInt(positions[i] - previous);
+            previous = positions[i];
+        }
+        lastDoc = doc;
+        docFreq++;
+    }
+
+    int docFreq() {
+        return docFreq;
+    }
+
+    int sizeInBytes() {
+        return data.length;
+    }
+
+    Decoded decode() {
+        int[] docs = new int[docFreq];
+        int[] offsets = new int[docFreq + 1];
+        int[] positions = new int[Math.max(8, length)];
+        int cursor = 0;
+        int positionCount = 0;
+        int doc = -1;
+        for (int d = 0; d < docFreq; d++) {
+            long value = readVarInt(cursor);
+            cursor = (int) (value >>> 32);
+            doc += (int) value;
+            value = readVarInt(cursor);
+            cursor = (int) (value >>> 32);
+            int count = (int) value;
+            docs[d] = doc;
+            offsets[d] = positionCount;
+            int position = 0;
+            for (int i = 0; i < count; i++) {
+                value = readVarInt(cursor);
+                cursor = (int) (value >>> 32);
+                position += (int) value;
+                positions[positionCount++] = position;
+            }
+        }
+        offsets[docFreq] = positionCount;
+        return new Decoded(docs, offsets, positions);
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(docFreq);
+        out.writeInt(lastDoc);
+        out.writeInt(length);
+        out.write(data, 0, length);
+    }
+
+    static PostingList readFrom(DataInputStream in) throws IOException {
+        PostingList list = new PostingList();
+        list.docFreq = in.readInt();
+        list.lastDoc = in.readInt();
+        list.length = in.readInt();
+        list.data = new byte[Math.max(8, list.length)];
+        in.readFully(list.data, 0, list.length);
+        return list;
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(length + 5, data.length + (data.length >> 1)));
+        }
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * varint 하나를 읽어 (다음 커서 << 32 | 값) 으로 반환
+     */
+    private long readVarInt(int cursor) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[cursor++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return ((long) cursor << 32) | (value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 검색 시점에 풀어 놓은 posting (문서 번호 오름차순, 문서별 위치 오름차순)
+     */
+    record Decoded(int[] docs, int[] offsets, int[] positions) {
+
+        int indexOf(int doc) {
+            return Arrays.binarySearch(docs, doc);
+        }
+
+        int termFrequency(int docIndex) {
+            return offsets[docIndex + 1] - offsets[docIndex];
+        }
+
+        boolean hasPosition(int docIndex, int position) {
+            return Arrays.binarySearch(positions, offsets[docIndex], offsets[docIndex + 1], position) >= 0;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.newnormallist.newsservice.search.index;
+
+/**
+ * 뉴스 검색 백엔드
+ *
+ * - LIKE: NewsRepository.searchByKeyword (LIKE %keyword%, 전체 스캔)
+ * - INDEX: 인메모리 n-gram 역색인 (BM25 관련도 순)
+ * - FULLTEXT: MySQL FULLTEXT(ngram) 색인 MATCH ... AGAINST (관련도 순, MySQL 외 DB에서는 LIKE)
+ */
+public enum SearchBackend {
+    LIKE,
+    INDEX,
+    FULLTEXT;
+
+    /**
+     * 문자열을 백엔드로 변환 (비었거나 알 수 없는 값이면 fallback)
+     */
+    public static SearchBackend from(String value, SearchBackend fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        for (SearchBackend backend : values()) {
+            if (backend.name().equalsIgnoreCase(value.trim())) {
+                return backend;
+            }
+        }
+        return fallback;
+    }
+}
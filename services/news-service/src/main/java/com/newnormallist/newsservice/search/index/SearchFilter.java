@@ -0,0 +1,14 @@
+package com.newnormallist.newsservice.search.index;
+
+/**
+ * 색인 검색 필터 (기존 searchNewsWithFilters 필터와 같은 의미)
+ *
+ * @param category 카테고리 enum 이름 (null이면 전체)
+ * @param press    언론사 부분 일치, 대소문자 무시 (null이면 전체)
+ * @param from     발행 시각 하한 epoch millis (null이면 제한 없음)
+ * @param to       발행 시각 상한 epoch millis (null이면 제한 없음)
+ */
+public record SearchFilter(String category, String press, Long from, Long to) {
+
+    public static final SearchFilter NONE = new SearchFilter(null, null, null, null);
+}
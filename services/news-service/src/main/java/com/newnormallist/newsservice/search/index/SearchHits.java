@@ -0,0 +1,12 @@
+package com.newnormallist.newsservice.search.index;
+
+import java.util.List;
+
+/**
+ * 색인 검색 결과 한 페이지
+ *
+ * @param total   필터 적용 후 전체 일치 건수 (색인 기준 - 그 사이 삭제된 기사는 호출 측에서 빼고 색인에서도 제거)
+ * @param newsIds 요청한 페이지의 news_id (정렬 순서 유지)
+ */
+public record SearchHits(long total, List<Long> newsIds) {
+}
@@ -0,0 +1,10 @@
+package com.newnormallist.newsservice.search.index;
+
+/**
+ * 색인 검색 결과 정렬 (동점은 최신 기사 우선)
+ */
+public enum SearchSort {
+    RELEVANCE,
+    DATE_DESC,
+    DATE_ASC
+}
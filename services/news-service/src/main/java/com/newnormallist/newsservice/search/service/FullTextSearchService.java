@@ -0,0 +1,134 @@
+package com.newnormallist.newsservice.search.service;
+
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import com.newnormallist.newsservice.search.config.SearchProperties;
+import com.newnormallist.newsservice.search.index.NgramTokenizer;
+import com.newnormallist.newsservice.search.index.SearchFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL FULLTEXT(ngram) 검색 서비스
+ *
+ * 역할:
+ * - news.title, news.content FULLTEXT 색인(ddl_News.sql)으로 MATCH ... AGAINST 검색, 관련도순 news_id 페이징
+ *   (기사 카드는 호출 측에서 news_id로 조회)
+ *
+ * 기능:
+ * - 불리언 모드: 검색어 조각마다 +"조각" → 모든 조각을 부분 문자열로 포함하는 기사만
+ *   (한 어절이면 LIKE와 같은 결과, 여러 어절이면 구절 일치인 LIKE보다 넓음)
+ * - 자연어 모드: ngram 일부만 일치해도 포함 (재현율 우선)
+ * - 지원 여부 확인: MySQL이 아니거나(H2 테스트 등) FULLTEXT 색인이 없으면 null을 반환해 LIKE 검색으로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FullTextSearchService {
+
+    private final NewsRepository newsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchProperties searchProperties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Boolean supported;
+
+    /**
+     * FULLTEXT 검색 가능 여부 (최초 호출 시 DB 종류와 색인 존재를 확인해 캐시, 확인 실패는 캐시하지 않음)
+     */
+    public boolean isSupported() {
+        Boolean result = supported;
+        if (result == null) {
+            result = detect();
+            if (result == null) {
+                return false;
+            }
+            supported = result;
+        }
+        return result;
+    }
+
+    /**
+     * 설정된 모드(search.fulltext.mode)로 검색
+     */
+    public Page<Long> search(String query, SearchFilter filter, Pageable pageable) {
+        boolean booleanMode = !"natural".equalsIgnoreCase(searchProperties.getFulltext().getMode());
+        return search(query, filter, booleanMode, pageable);
+    }
+
+    /**
+     * FULLTEXT 검색
+     *
+     * @return 지원하지 않는 DB이거나 검색어에 2글자 이상 조각이 없으면 null (ngram_token_size=2)
+     */
+    public Page<Long> search(String query, SearchFilter filter, boolean booleanMode, Pageable pageable) {
+        List<String> terms = NgramTokenizer.queryTerms(query);
+        if (terms.isEmpty() || !isSupported()) {
+            return null;
+        }
+
+        // 관련도 정렬은 쿼리에 고정되어 있으므로 Pageable 정렬은 사용하지 않음
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        boolean dateFiltered = filter.from() != null || filter.to() != null;
+        LocalDateTime from = filter.from() != null ? toLocalDateTime(filter.from()) : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime to = filter.to() != null ? toLocalDateTime(filter.to()) : LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Page<Long> result = booleanMode
+                ? newsRepository.searchIdsByFullTextBoolean(toBooleanQuery(terms),
+                        filter.category(), filter.press(), dateFiltered, from, to, page)
+                : newsRepository.searchIdsByFullTextNatural(String.join(" ", terms),
+                        filter.category(), filter.press(), dateFiltered, from, to, page);
+        sample.stop(meterRegistry.timer("news.search.duration",
+                "backend", booleanMode ? "fulltext_boolean" : "fulltext_natural"));
+        return result;
+    }
+
+    private String toBooleanQuery(List<String> terms) {
+        // 조각은 글자/숫자만 포함하므로 불리언 연산자 이스케이프가 필요 없음
+        return terms.stream()
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+    }
+
+    private Boolean detect() {
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (product == null || !product.toLowerCase(Locale.ROOT).contains("mysql")) {
+                log.info("🔎 FULLTEXT 검색 미지원 DB({}) - LIKE 검색으로 처리", product);
+                return false;
+            }
+            Integer indexes = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'news' AND INDEX_TYPE = 'FULLTEXT'",
+                    Integer.class);
+            if (indexes == null || indexes == 0) {
+                log.warn("⚠️ news 테이블에 FULLTEXT 색인이 없음 (ddl_News.sql 적용 필요) - LIKE 검색으로 처리");
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("⚠️ FULLTEXT 지원 여부 확인 실패 - 이번 요청은 LIKE 검색으로 처리: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,355 @@
+package com.newnormallist.newsservice.search.service;
+
+import com.newnormallist.newsservice.ingest.engine.NewsChangeCursor;
+import com.newnormallist.newsservice.ingest.service.ChangeFeedConsumer;
+import com.newnormallist.newsservice.ingest.service.NewsChangeFeed;
+import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import com.newnormallist.newsservice.search.config.SearchProperties;
+import com.newnormallist.newsservice.search.index.IndexedDocument;
+import com.newnormallist.newsservice.search.index.NgramInvertedIndex;
+import com.newnormallist.newsservice.search.index.SearchFilter;
+import com.newnormallist.newsservice.search.index.SearchHits;
+import com.newnormallist.newsservice.search.index.SearchSort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 뉴스 검색 색인 서비스
+ *
+ * 역할:
+ * - 인메모리 n-gram 역색인(NgramInvertedIndex)의 생성/증분 반영/스냅샷 관리
+ * - LIKE 전체 스캔 대신 색인으로 검색 (NewsServiceImpl에서 backend=index일 때 사용)
+ *
+ * 기능:
+ * - 기동: 스냅샷 복원 후 스냅샷에 저장한 변경 피드 워터마크부터 이어 읽어 반영 (스냅샷이 없거나 깨졌으면 전체 색인)
+ * - 증분: 주기적으로 변경 피드(NewsChangeFeed)로 받은 신규/수정 기사를 다시 색인하고,
+ *   삭제된 기사는 삭제 확인 주기에 제거 (색인에서는 삭제 표시)
+ * - 삭제 표시 비율이 reindex-deleted-ratio를 넘으면 전체 재색인
+ * - 스냅샷: 주기적 + 종료 시 gzip 파일로 저장 (임시 파일에 쓴 뒤 교체)
+ *
+ * 색인이 준비되기 전에는 isReady()가 false이며 검색은 LIKE 경로로 처리됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsSearchIndexService extends ChangeFeedConsumer {
+
+    private static final String CONSUMER = "search-index";
+
+    private final NewsRepository newsRepository;
+    private final NewsChangeFeed changeFeed;
+    private final SearchProperties searchProperties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile NgramInvertedIndex index;
+    private volatile NewsChangeCursor cursor;
+    private volatile LocalDateTime lastRefreshedAt;
+    private volatile LocalDateTime lastSnapshotAt;
+
+    @Scheduled(fixedDelayString = "${search.index.refresh-interval-ms:60000}",
+            initialDelayString = "${search.index.refresh-interval-ms:60000}")
+    public void refresh() {
+        refreshIfIdle();
+    }
+
+    @Override
+    protected boolean bootstrapEnabled() {
+        return searchProperties.getIndex().isEnabled();
+    }
+
+    /**
+     * 기동 시 스냅샷 복원 후 이어 읽기 (스냅샷이 없으면 전체 재색인)
+     */
+    @Override
+    protected void bootstrapLoad() {
+        restoreAndCatchUp();
+    }
+
+    @Override
+    protected boolean refreshable() {
+        return index != null;
+    }
+
+    @Override
+    protected void applyFeed() {
+        NgramInvertedIndex current = index;
+        int applied = applyChanges(current);
+        int deleted = 0;
+        for (Long newsId : changeFeed.tombstones(cursor, current::newsIds)) {
+            if (current.remove(newsId)) {
+                deleted++;
+            }
+        }
+        if (applied > 0 || deleted > 0) {
+            log.info("🔎 검색 색인 증분 반영: 신규/수정 {}개, 삭제 {}개 (총 {}개)", applied, deleted, current.docCount());
+        }
+        double reindexRatio = searchProperties.getIndex().getReindexDeletedRatio();
+        if (reindexRatio > 0 && current.deletedRatio() > reindexRatio) {
+            log.info("🔎 검색 색인 삭제 표시 비율 {} 초과 - 전체 재색인", reindexRatio);
+            reindex();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.snapshot-interval-ms:1800000}",
+            initialDelayString = "${search.index.snapshot-interval-ms:1800000}")
+    public void scheduledSnapshot() {
+        if (index != null) {
+            writeSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        if (index != null) {
+            writeSnapshot();
+        }
+    }
+
+    public boolean isReady() {
+        return searchProperties.getIndex().isEnabled() && index != null;
+    }
+
+    /**
+     * 색인 검색
+     *
+     * @return 색인 미준비 또는 검색어에 2글자 이상 조각이 없으면 null (LIKE 검색으로 처리)
+     */
+    public SearchHits search(String query, SearchFilter filter, SearchSort sort, long offset, int limit) {
+        NgramInvertedIndex current = index;
+        if (current == null || query == null) {
+            return null;
+        }
+        SearchProperties.Index config = searchProperties.getIndex();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        SearchHits hits = current.search(query, filter, sort,
+                config.getTitleBoost(), config.getK1(), config.getB(), offset, limit);
+        sample.stop(meterRegistry.timer("news.search.duration", "backend", "index"));
+        return hits;
+    }
+
+    /**
+     * 카드 조회에서 없는 것으로 확인된 기사 제거 (삭제 확인 주기 전에 검색 결과/건수에서 빠지도록)
+     */
+    public void removeDeleted(Collection<Long> newsIds) {
+        NgramInvertedIndex current = index;
+        if (current == null || newsIds.isEmpty()) {
+            return;
+        }
+        int removed = 0;
+        for (Long newsId : newsIds) {
+            if (current.remove(newsId)) {
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("🔎 검색 결과에서 삭제된 기사 {}개 확인 - 색인에서 제거", removed);
+        }
+    }
+
+    /**
+     * 전체 재색인 (새 색인을 만든 뒤 교체, 그동안 기존 색인으로 검색)
+     */
+    @Override
+    public Map<String, Object> rebuild() {
+        writeLock.lock();
+        try {
+            reindex();
+        } finally {
+            writeLock.unlock();
+        }
+        writeSnapshot();
+        return status();
+    }
+
+    // 쓰기 락 안에서 호출 - 커서를 먼저 열어 색인 중 바뀐 기사는 다음 반영 때 다시 색인
+    private void reindex() {
+        long started = System.currentTimeMillis();
+        NewsChangeCursor nextCursor = changeFeed.open(CONSUMER);
+        NgramInvertedIndex rebuilt = new NgramInvertedIndex(searchProperties.getIndex().getContentMaxChars());
+        loadAll(rebuilt);
+        index = rebuilt;
+        cursor = nextCursor;
+        log.info("🔎 검색 색인 전체 재색인 완료: {}개, {}ms", rebuilt.docCount(), System.currentTimeMillis() - started);
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", searchProperties.getIndex().isEnabled());
+        status.put("defaultBackend", searchProperties.getBackend());
+        status.put("ready", isReady());
+        NgramInvertedIndex current = index;
+        if (current != null) {
+            status.putAll(current.stats());
+        }
+        NewsChangeCursor currentCursor = cursor;
+        status.put("changeFeed", currentCursor != null ? currentCursor.status() : null);
+        status.put("lastRefreshedAt", lastRefreshedAt != null ? lastRefreshedAt.toString() : null);
+        status.put("lastSnapshotAt", lastSnapshotAt != null ? lastSnapshotAt.toString() : null);
+        status.put("snapshotPath", searchProperties.getIndex().getSnapshotPath());
+        return status;
+    }
+
+    private void restoreAndCatchUp() {
+        writeLock.lock();
+        try {
+            long started = System.currentTimeMillis();
+            NgramInvertedIndex restored = readSnapshot();
+            if (restored == null) {
+                reindex();
+            } else {
+                // 스냅샷 워터마크부터 이어 읽음 (lookback 겹침 구간은 다시 색인해도 결과 같음)
+                cursor = changeFeed.openAt(CONSUMER, LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(restored.changeWatermarkMillis()), ZoneId.systemDefault()));
+                int applied = 0;
+                for (int changes = applyChanges(restored); changes > 0; changes = applyChanges(restored)) {
+                    applied += changes;
+                }
+                index = restored;
+                log.info("🔎 검색 색인 준비 완료: 스냅샷 복원, 이후 변경 {}개 반영, 총 {}개, {}ms",
+                        applied, restored.docCount(), System.currentTimeMillis() - started);
+            }
+        } catch (Exception e) {
+            log.error("❌ 검색 색인 준비 실패 - LIKE 검색으로 동작: {}", e.getMessage(), e);
+            return;
+        } finally {
+            writeLock.unlock();
+        }
+        writeSnapshot();
+    }
+
+    /**
+     * 전체 기사를 news_id 순서로 배치 단위 색인 (재색인)
+     */
+    private int loadAll(NgramInvertedIndex target) {
+        int batchSize = Math.max(1, searchProperties.getIndex().getBatchSize());
+        long afterNewsId = 0L;
+        int added = 0;
+        while (true) {
+            List<News> batch = newsRepository.findByNewsIdGreaterThanOrderByNewsIdAsc(
+                    afterNewsId, PageRequest.of(0, batchSize));
+            for (News news : batch) {
+                if (target.add(toDocument(news))) {
+                    added++;
+                }
+                afterNewsId = news.getNewsId();
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        lastRefreshedAt = LocalDateTime.now();
+        return added;
+    }
+
+    /**
+     * 변경 피드로 받은 기사를 다시 색인 (DB에 없으면 제거)
+     *
+     * @return 받은 변경 수
+     */
+    private int applyChanges(NgramInvertedIndex target) {
+        List<Long> changed = changeFeed.poll(cursor);
+        for (List<Long> chunk : NewsChangeFeed.chunks(changed, searchProperties.getIndex().getBatchSize())) {
+            Map<Long, News> found = newsRepository.findAllById(chunk).stream()
+                    .collect(Collectors.toMap(News::getNewsId, Function.identity()));
+            for (Long newsId : chunk) {
+                News news = found.get(newsId);
+                if (news == null) {
+                    target.remove(newsId);
+                } else {
+                    target.add(toDocument(news));
+                }
+            }
+        }
+        lastRefreshedAt = LocalDateTime.now();
+        return changed.size();
+    }
+
+    private IndexedDocument toDocument(News news) {
+        // 발행일이 없으면 저장 시각으로 대신함
+        LocalDateTime publishedAt = news.getPublishedAtDateTime() != null
+                ? news.getPublishedAtDateTime() : news.getCreatedAt();
+        long publishedAtMillis = publishedAt != null
+                ? publishedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+        return new IndexedDocument(
+                news.getNewsId(),
+                news.getTitle(),
+                news.getContent(),
+                news.getCategoryName() != null ? news.getCategoryName().name() : null,
+                news.getPress(),
+                publishedAtMillis);
+    }
+
+    private NgramInvertedIndex readSnapshot() {
+        Path path = Paths.get(searchProperties.getIndex().getSnapshotPath());
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(path))))) {
+            return NgramInvertedIndex.readFrom(in, searchProperties.getIndex().getContentMaxChars());
+        } catch (IOException e) {
+            log.warn("⚠️ 검색 색인 스냅샷 복원 실패, 전체 색인으로 진행: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private synchronized void writeSnapshot() {
+        NgramInvertedIndex current;
+        long watermarkMillis;
+        // 반영은 쓰기 락 안에서만 하므로 락 안에서 읽은 워터마크까지는 색인에 반영되어 있음
+        // (이후 색인이 더 앞서가도 복원 시 다시 읽을 뿐)
+        writeLock.lock();
+        try {
+            current = index;
+            NewsChangeCursor currentCursor = cursor;
+            if (current == null || currentCursor == null) {
+                return;
+            }
+            watermarkMillis = currentCursor.watermark().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        } finally {
+            writeLock.unlock();
+        }
+        Path path = Paths.get(searchProperties.getIndex().getSnapshotPath()).toAbsolutePath();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(path.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                current.writeTo(out, watermarkMillis);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            lastSnapshotAt = LocalDateTime.now();
+            log.info("🔎 검색 색인 스냅샷 저장: {} ({}개)", path, current.docCount());
+        } catch (IOException e) {
+            log.warn("⚠️ 검색 색인 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+}
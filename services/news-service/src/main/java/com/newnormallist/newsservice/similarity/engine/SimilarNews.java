@@ -0,0 +1,9 @@
+package com.newnormallist.newsservice.similarity.engine;
+
+/**
+ * 유사 기사 검색 결과 항목
+ *
+ * @param similarity TF-IDF 벡터 코사인 유사도 (0~1)
+ */
+public record SimilarNews(long newsId, double similarity) {
+}
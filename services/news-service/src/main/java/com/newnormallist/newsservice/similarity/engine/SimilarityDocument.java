@@ -0,0 +1,7 @@
+package com.newnormallist.newsservice.similarity.engine;
+
+/**
+ * 유사 기사 색인에 넣는 기사 (본문은 앞부분만)
+ */
+public record SimilarityDocument(long newsId, long publishedMillis, String title, String content) {
+}
@@ -0,0 +1,463 @@
+package com.newnormallist.newsservice.similarity.engine;
+
+import com.newnormallist.newsservice.search.index.NgramTokenizer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 기사 TF-IDF 벡터 근사 최근접 이웃 색인
+ *
+ * 역할:
+ * - 기사 벡터: 제목(가중치 2)/본문 앞부분의 문자 bigram(NgramTokenizer) TF-IDF, 가중치 상위 maxTerms개만 남겨 L2 정규화
+ *   (형태소 분석 없이 한국어 어간/조사 변화를 bigram 겹침으로 흡수)
+ * - 무작위 투영 LSH: 테이블마다 bits개의 무작위 초평면(항별 ±1, 해시로 계산해 행렬을 두지 않음) 부호로 서명을 만들고
+ *   같은 서명(multiProbe면 1비트 다른 서명까지) 버킷의 기사만 후보로 코사인 유사도를 계산
+ * - bruteForce: 전체 기사와 비교 (재현율 측정 기준)
+ *
+ * 조회 비용: 후보 비율은 대략 tables x (bits + 1) / 2^bits 버킷 몫으로 정해져 기사 수에 비례해 늘어남 (서브리니어가 아님).
+ * 합성 기사 3만 건, 32테이블 x 12비트 multi-probe 측정: 후보 9.9%, recall@4 1.000, 전체 비교 대비 시간 11.3%
+ * (10비트는 후보 29.7%로 전체 비교의 1/3 수준). 기사 수가 크게 늘면 bits를 올려 후보 비율을 낮춤
+ *
+ * IDF: 문서 빈도는 색인한 적 있는 모든 기사 기준 누적값 (제거/수정 전 기사는 빼지 않음, 재구성 시 초기화).
+ * 기사 벡터는 추가 시점의 IDF로 고정 - 재구성은 전체 문서 빈도를 먼저 센 뒤 벡터를 만듦 (addAll)
+ *
+ * 동시성: 쓰기(증분 반영)는 한 스레드, 읽기(유사 기사 조회)는 여러 스레드 - 읽기/쓰기 락으로 보호
+ */
+public class SimilarityIndex {
+
+    private static final double TITLE_WEIGHT = 2.0;
+    private static final Comparator<SimilarNews> BY_SIMILARITY =
+            Comparator.comparingDouble(SimilarNews::similarity)
+                    .thenComparing(Comparator.comparingLong(SimilarNews::newsId).reversed());
+
+    private final int maxTerms;
+    private final int tables;
+    private final int bits;
+    private final boolean multiProbe;
+    private final int maxArticles;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, Integer> documentFrequency = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ArrayDeque<Entry> insertionOrder = new ArrayDeque<>();
+    private final List<Map<Integer, List<Entry>>> buckets = new ArrayList<>();
+    private long documents;
+
+    public SimilarityIndex(int maxTerms, int tables, int bits, boolean multiProbe, int maxArticles) {
+        this.maxTerms = Math.max(1, maxTerms);
+        this.tables = Math.max(1, tables);
+        this.bits = Math.max(1, Math.min(bits, 30));
+        this.multiProbe = multiProbe;
+        this.maxArticles = Math.max(1, maxArticles);
+        for (int table = 0; table < this.tables; table++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 기사 추가 (이미 색인된 기사면 빼고 다시 넣음 - 기사 수정)
+     */
+    public boolean add(SimilarityDocument document) {
+        lock.writeLock().lock();
+        try {
+            Entry existing = entries.get(document.newsId());
+            if (existing != null) {
+                unlink(existing);
+                insertionOrder.remove(existing);
+            }
+            Map<Integer, Double> counts = termCounts(document);
+            countDocument(counts);
+            insert(document, counts);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 여러 기사 추가 (문서 빈도를 먼저 모두 센 뒤 벡터를 만들어 먼저 들어간 기사도 같은 IDF를 사용)
+     *
+     * @return 추가한 기사 수
+     */
+    public int addAll(List<SimilarityDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            List<SimilarityDocument> pending = new ArrayList<>();
+            List<Map<Integer, Double>> pendingCounts = new ArrayList<>();
+            for (SimilarityDocument document : documents) {
+                if (entries.containsKey(document.newsId())) {
+                    continue;
+                }
+                Map<Integer, Double> counts = termCounts(document);
+                countDocument(counts);
+                pending.add(document);
+                pendingCounts.add(counts);
+            }
+            for (int i = 0; i < pending.size(); i++) {
+                insert(pending.get(i), pendingCounts.get(i));
+            }
+            return pending.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기사 제거 (삭제되었거나 집계 기간 밖으로 수정된 기사)
+     *
+     * @return 제거 여부
+     */
+    public boolean remove(long newsId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(newsId);
+            if (entry == null) {
+                return false;
+            }
+            unlink(entry);
+            insertionOrder.remove(entry);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 발행 시각이 publishedMillis보다 이전인 기사 제거
+     *
+     * @return 제거한 기사 수
+     */
+    public int evictPublishedBefore(long publishedMillis) {
+        lock.writeLock().lock();
+        try {
+            int removed = 0;
+            int remaining = insertionOrder.size();
+            for (int i = 0; i < remaining; i++) {
+                Entry entry = insertionOrder.pollFirst();
+                if (entry.publishedMillis < publishedMillis) {
+                    unlink(entry);
+                    removed++;
+                } else {
+                    insertionOrder.addLast(entry);
+                }
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 기사와 유사한 기사 상위 k개 (LSH 후보만 비교, 기사 자신 제외)
+     *
+     * @return 유사 기사 (색인에 없는 기사면 null)
+     */
+    public List<SimilarNews> nearest(long newsId, int k) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(newsId);
+            return entry == null ? null : rank(candidates(entry.signatures), entry, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인에 없는 기사와 유사한 기사 상위 k개 (현재 IDF로 벡터를 만들어 조회, 색인은 바꾸지 않음)
+     */
+    public List<SimilarNews> nearest(SimilarityDocument document, int k) {
+        lock.readLock().lock();
+        try {
+            Entry probe = vectorize(document, termCounts(document));
+            return rank(candidates(probe.signatures), probe, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 기사와 비교한 정확한 상위 k개 (재현율 측정용)
+     *
+     * @return 유사 기사 (색인에 없는 기사면 null)
+     */
+    public List<SimilarNews> bruteForce(long newsId, int k) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(newsId);
+            return entry == null ? null : rank(entries.values(), entry, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * LSH 후보 수 (기사 자신 포함, 색인에 없는 기사면 -1)
+     */
+    public int candidateCount(long newsId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(newsId);
+            return entry == null ? -1 : candidates(entry.signatures).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long newsId) {
+        lock.readLock().lock();
+        try {
+            return entries.containsKey(newsId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 기사 중 무작위 count개 (벤치마크 표본)
+     */
+    public List<Long> sampleNewsIds(int count, Random random) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>(entries.keySet());
+            Collections.shuffle(ids, random);
+            return List.copyOf(ids.subList(0, Math.min(count, ids.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 기사 news_id 복사본 (삭제 확인용)
+     */
+    public List<Long> newsIds() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(entries.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            long bucketCount = 0;
+            int largestBucket = 0;
+            for (Map<Integer, List<Entry>> table : buckets) {
+                bucketCount += table.size();
+                for (List<Entry> bucket : table.values()) {
+                    largestBucket = Math.max(largestBucket, bucket.size());
+                }
+            }
+            long storedTerms = 0;
+            for (Entry entry : entries.values()) {
+                storedTerms += entry.terms.length;
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("articles", entries.size());
+            stats.put("vocabulary", documentFrequency.size());
+            stats.put("documentsCounted", documents);
+            stats.put("avgTermsPerArticle", entries.isEmpty() ? 0 : (double) storedTerms / entries.size());
+            stats.put("hashTables", tables);
+            stats.put("hashBits", bits);
+            stats.put("multiProbe", multiProbe);
+            stats.put("avgBucketSize", bucketCount == 0 ? 0 : (double) entries.size() * tables / bucketCount);
+            stats.put("largestBucket", largestBucket);
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Integer, Double> termCounts(SimilarityDocument document) {
+        Map<Integer, Double> counts = new HashMap<>();
+        NgramTokenizer.forEachBigram(NgramTokenizer.normalize(document.title()), 0,
+                (bigram, position) -> counts.merge(bigram, TITLE_WEIGHT, Double::sum));
+        NgramTokenizer.forEachBigram(NgramTokenizer.normalize(document.content()), 0,
+                (bigram, position) -> counts.merge(bigram, 1.0, Double::sum));
+        return counts;
+    }
+
+    private void countDocument(Map<Integer, Double> counts) {
+        for (Integer term : counts.keySet()) {
+            documentFrequency.merge(term, 1, Integer::sum);
+        }
+        documents++;
+    }
+
+    private void insert(SimilarityDocument document, Map<Integer, Double> counts) {
+        Entry entry = vectorize(document, counts);
+        if (entry.terms.length == 0) {
+            return;
+        }
+        entries.put(entry.newsId, entry);
+        insertionOrder.addLast(entry);
+        for (int table = 0; table < tables; table++) {
+            buckets.get(table).computeIfAbsent(entry.signatures[table], signature -> new ArrayList<>(2)).add(entry);
+        }
+        while (entries.size() > maxArticles) {
+            unlink(insertionOrder.pollFirst());
+        }
+    }
+
+    private void unlink(Entry entry) {
+        entries.remove(entry.newsId);
+        for (int table = 0; table < tables; table++) {
+            Map<Integer, List<Entry>> tableBuckets = buckets.get(table);
+            List<Entry> bucket = tableBuckets.get(entry.signatures[table]);
+            if (bucket != null) {
+                bucket.remove(entry);
+                if (bucket.isEmpty()) {
+                    tableBuckets.remove(entry.signatures[table]);
+                }
+            }
+        }
+    }
+
+    /**
+     * TF-IDF 가중치 상위 maxTerms개 → L2 정규화 → 항 번호 오름차순 희소 벡터 + 테이블별 서명
+     */
+    private Entry vectorize(SimilarityDocument document, Map<Integer, Double> counts) {
+        PriorityQueue<double[]> heap = new PriorityQueue<>(maxTerms + 1, Comparator.comparingDouble(term -> term[1]));
+        for (Map.Entry<Integer, Double> count : counts.entrySet()) {
+            int df = documentFrequency.getOrDefault(count.getKey(), 0);
+            double idf = Math.log((documents + 1.0) / (df + 1.0)) + 1.0;
+            heap.offer(new double[]{count.getKey(), (1.0 + Math.log(count.getValue())) * idf});
+            if (heap.size() > maxTerms) {
+                heap.poll();
+            }
+        }
+        double[][] top = heap.toArray(new double[0][]);
+        Arrays.sort(top, Comparator.comparingDouble(term -> term[0]));
+        double norm = 0;
+        for (double[] term : top) {
+            norm += term[1] * term[1];
+        }
+        norm = Math.sqrt(norm);
+        int[] terms = new int[top.length];
+        float[] weights = new float[top.length];
+        for (int i = 0; i < top.length; i++) {
+            terms[i] = (int) top[i][0];
+            weights[i] = (float) (top[i][1] / norm);
+        }
+        return new Entry(document.newsId(), document.publishedMillis(), terms, weights, signatures(terms, weights));
+    }
+
+    private int[] signatures(int[] terms, float[] weights) {
+        int[] signatures = new int[tables];
+        for (int table = 0; table < tables; table++) {
+            int signature = 0;
+            for (int bit = 0; bit < bits; bit++) {
+                double projection = 0;
+                int plane = table * bits + bit;
+                for (int i = 0; i < terms.length; i++) {
+                    projection += hyperplaneSign(terms[i], plane) * weights[i];
+                }
+                if (projection >= 0) {
+                    signature |= 1 << bit;
+                }
+            }
+            signatures[table] = signature;
+        }
+        return signatures;
+    }
+
+    // 초평면 plane의 항 term 성분 (±1) - 시드 고정 해시라 재기동/인스턴스 간에도 같은 초평면
+    private static int hyperplaneSign(int term, int plane) {
+        long z = ((long) term << 32 | (plane & 0xFFFFFFFFL)) + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (z & 1L) == 0 ? 1 : -1;
+    }
+
+    private Set<Entry> candidates(int[] signatures) {
+        Set<Entry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int table = 0; table < tables; table++) {
+            Map<Integer, List<Entry>> tableBuckets = buckets.get(table);
+            addBucket(candidates, tableBuckets.get(signatures[table]));
+            if (multiProbe) {
+                for (int bit = 0; bit < bits; bit++) {
+                    addBucket(candidates, tableBuckets.get(signatures[table] ^ (1 << bit)));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static void addBucket(Set<Entry> candidates, List<Entry> bucket) {
+        if (bucket != null) {
+            candidates.addAll(bucket);
+        }
+    }
+
+    private List<SimilarNews> rank(Iterable<Entry> candidates, Entry query, int k) {
+        PriorityQueue<SimilarNews> heap = new PriorityQueue<>(k + 1, BY_SIMILARITY);
+        for (Entry candidate : candidates) {
+            if (candidate.newsId == query.newsId) {
+                continue;
+            }
+            heap.offer(new SimilarNews(candidate.newsId, dot(query, candidate)));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        List<SimilarNews> ranked = new ArrayList<>(heap);
+        ranked.sort(BY_SIMILARITY.reversed());
+        return ranked;
+    }
+
+    private static double dot(Entry a, Entry b) {
+        double sum = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.terms.length && j < b.terms.length) {
+            if (a.terms[i] == b.terms[j]) {
+                sum += a.weights[i++] * b.weights[j++];
+            } else if (a.terms[i] < b.terms[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return sum;
+    }
+
+    private static final class Entry {
+        private final long newsId;
+        private final long publishedMillis;
+        private final int[] terms;
+        private final float[] weights;
+        private final int[] signatures;
+
+        private Entry(long newsId, long publishedMillis, int[] terms, float[] weights, int[] signatures) {
+            this.newsId = newsId;
+            this.publishedMillis = publishedMillis;
+            this.terms = terms;
+            this.weights = weights;
+            this.signatures = signatures;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.newnormallist.newsservice.similarity.service;
+
+import com.newnormallist.newsservice.ingest.engine.NewsChangeCursor;
+import com.newnormallist.newsservice.ingest.service.ChangeFeedConsumer;
+import com.newnormallist.newsservice.ingest.service.NewsChangeFeed;
+import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import com.newnormallist.newsservice.similarity.config.SimilarityProperties;
+import com.newnormallist.newsservice.similarity.engine.SimilarNews;
+import com.newnormallist.newsservice.similarity.engine.SimilarityDocument;
+import com.newnormallist.newsservice.similarity.engine.SimilarityIndex;
+import com.newnormallist.newsservice.trending.engine.KeywordSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 내용 기반 유사 기사 색인 서비스
+ *
+ * 역할:
+ * - 최근 windowDays일 기사의 TF-IDF 벡터 근사 최근접 이웃 색인(SimilarityIndex)을 메모리에 유지
+ * - 연관뉴스 계산(RelatedNewsResolver)에서 대표/연관 쌍이 모자랄 때 무작위 같은 카테고리 기사 대신 내용이 비슷한 기사로 채움
+ *
+ * 기능:
+ * - 기동: 집계 기간 기사를 읽어 재구성 (문서 빈도를 먼저 센 뒤 벡터 생성)
+ * - 증분: 주기적으로 변경 피드(NewsChangeFeed)로 받은 신규/수정 기사만 다시 벡터화해 넣고,
+ *   기간이 지났거나 삭제된 기사는 제거
+ *
+ * 준비 전이거나 비활성화 상태면 빈 목록을 돌려주고 연관뉴스는 기존 대체 규칙으로 채움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SimilarArticleService extends ChangeFeedConsumer {
+
+    private static final String CONSUMER = "similarity";
+
+    private final NewsRepository newsRepository;
+    private final NewsChangeFeed changeFeed;
+    private final SimilarityProperties similarityProperties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile SimilarityIndex index;
+    private volatile NewsChangeCursor cursor;
+    private volatile LocalDateTime lastRefreshedAt;
+    private volatile int lastRefreshArticles;
+    private volatile long lastRebuildMs;
+
+    @Scheduled(fixedDelayString = "${similarity.refresh-interval-ms:60000}",
+            initialDelayString = "${similarity.refresh-interval-ms:60000}")
+    public void refresh() {
+        refreshIfIdle();
+    }
+
+    @Override
+    protected boolean bootstrapEnabled() {
+        return similarityProperties.isEnabled();
+    }
+
+    @Override
+    protected boolean refreshable() {
+        return index != null;
+    }
+
+    @Override
+    protected void applyFeed() {
+        SimilarityIndex current = index;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int added = applyChanges(current);
+        int deleted = 0;
+        for (Long newsId : changeFeed.tombstones(cursor, current::newsIds)) {
+            if (current.remove(newsId)) {
+                deleted++;
+            }
+        }
+        int evicted = current.evictPublishedBefore(toEpochMillis(windowStart()));
+        lastRefreshedAt = LocalDateTime.now();
+        lastRefreshArticles = added;
+        sample.stop(meterRegistry.timer("news.similarity.refresh", "phase", "incremental"));
+        if (added > 0 || deleted > 0 || evicted > 0) {
+            log.info("🔎 유사 기사 색인 반영: 신규/수정 {}개, 삭제 {}개, 만료 {}개 (총 {}개)",
+                    added, deleted, evicted, current.size());
+        }
+    }
+
+    public boolean isReady() {
+        return similarityProperties.isEnabled() && index != null;
+    }
+
+    /**
+     * 기사와 내용이 비슷한 기사 news_id (유사도 내림차순, 최대 k개, minSimilarity 미만 제외)
+     *
+     * @return 색인 미준비/비활성화면 빈 목록
+     */
+    public List<Long> similarNewsIds(News news, int k) {
+        SimilarityIndex current = index;
+        if (!similarityProperties.isEnabled() || current == null || news == null) {
+            return List.of();
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<SimilarNews> similar = current.nearest(news.getNewsId(), k);
+        if (similar == null) {
+            // 아직 색인되지 않은 신규 기사는 현재 IDF로 벡터를 만들어 조회
+            similar = current.nearest(new SimilarityDocument(news.getNewsId(), 0L, news.getTitle(),
+                    head(news.getContent())), k);
+        }
+        sample.stop(meterRegistry.timer("news.similarity.query"));
+        double minSimilarity = similarityProperties.getMinSimilarity();
+        return similar.stream()
+                .filter(item -> item.similarity() >= minSimilarity)
+                .map(SimilarNews::newsId)
+                .toList();
+    }
+
+    /**
+     * DB에서 전체 재구성 (새 색인을 만든 뒤 교체)
+     */
+    @Override
+    public Map<String, Object> rebuild() {
+        writeLock.lock();
+        try {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            long started = System.currentTimeMillis();
+            SimilarityIndex rebuilt = new SimilarityIndex(similarityProperties.getMaxTermsPerArticle(),
+                    similarityProperties.getHashTables(), similarityProperties.getHashBits(),
+                    similarityProperties.isMultiProbe(), similarityProperties.getMaxArticles());
+            // 적재 전에 커서를 열어 적재 중 바뀐 기사는 다음 반영 때 다시 받음 (같은 기사는 다시 넣음)
+            NewsChangeCursor nextCursor = changeFeed.open(CONSUMER);
+            long afterNewsId = 0L;
+            List<SimilarityDocument> documents = new ArrayList<>();
+            for (List<KeywordSource> batch = nextBatch(afterNewsId); !batch.isEmpty(); batch = nextBatch(afterNewsId)) {
+                for (KeywordSource source : batch) {
+                    documents.add(toDocument(source));
+                    afterNewsId = Math.max(afterNewsId, source.newsId());
+                }
+                if (batch.size() < batchSize()) {
+                    break;
+                }
+            }
+            int loaded = rebuilt.addAll(documents);
+            index = rebuilt;
+            cursor = nextCursor;
+            lastRefreshedAt = LocalDateTime.now();
+            lastRefreshArticles = loaded;
+            lastRebuildMs = System.currentTimeMillis() - started;
+            sample.stop(meterRegistry.timer("news.similarity.refresh", "phase", "rebuild"));
+            log.info("🔎 유사 기사 색인 재구성 완료: 기사 {}개, {}ms", rebuilt.size(), lastRebuildMs);
+        } catch (Exception e) {
+            log.error("❌ 유사 기사 색인 재구성 실패 - 기존 색인(없으면 연관뉴스 대체 규칙)으로 동작: {}", e.getMessage(), e);
+        } finally {
+            writeLock.unlock();
+        }
+        return status();
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", similarityProperties.isEnabled());
+        status.put("ready", isReady());
+        status.put("windowDays", similarityProperties.getWindowDays());
+        status.put("minSimilarity", similarityProperties.getMinSimilarity());
+        NewsChangeCursor currentCursor = cursor;
+        status.put("changeFeed", currentCursor != null ? currentCursor.status() : null);
+        status.put("lastRefreshedAt", lastRefreshedAt != null ? lastRefreshedAt.toString() : null);
+        status.put("lastRefreshArticles", lastRefreshArticles);
+        status.put("lastRebuildMs", lastRebuildMs);
+        SimilarityIndex current = index;
+        if (current != null) {
+            status.putAll(current.stats());
+        }
+        return status;
+    }
+
+    /**
+     * 변경 피드로 받은 기사를 다시 벡터화해 넣음 (삭제되었거나 집계 기간 밖이면 제거)
+     */
+    private int applyChanges(SimilarityIndex target) {
+        List<Long> changed = changeFeed.poll(cursor);
+        int applied = 0;
+        for (List<Long> chunk : NewsChangeFeed.chunks(changed, batchSize())) {
+            Map<Long, KeywordSource> sources = newsRepository.findKeywordSourcesByIdIn(chunk, windowStart(),
+                            Math.max(1, similarityProperties.getContentChars())).stream()
+                    .collect(Collectors.toMap(KeywordSource::newsId, Function.identity()));
+            for (Long newsId : chunk) {
+                KeywordSource source = sources.get(newsId);
+                if (source == null ? target.remove(newsId) : target.add(toDocument(source))) {
+                    applied++;
+                }
+            }
+        }
+        return applied;
+    }
+
+    private List<KeywordSource> nextBatch(long afterNewsId) {
+        return newsRepository.findKeywordSources(afterNewsId, windowStart(),
+                Math.max(1, similarityProperties.getContentChars()), PageRequest.of(0, batchSize()));
+    }
+
+    private SimilarityDocument toDocument(KeywordSource source) {
+        return new SimilarityDocument(source.newsId(), toEpochMillis(source.publishedAt()),
+                source.title(), source.contentHead());
+    }
+
+    private String head(String content) {
+        int contentChars = Math.max(1, similarityProperties.getContentChars());
+        return content == null || content.length() <= contentChars ? content : content.substring(0, contentChars);
+    }
+
+    private int batchSize() {
+        return Math.max(1, similarityProperties.getBatchSize());
+    }
+
+    private LocalDateTime windowStart() {
+        return LocalDateTime.now().minusDays(similarityProperties.getWindowDays());
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
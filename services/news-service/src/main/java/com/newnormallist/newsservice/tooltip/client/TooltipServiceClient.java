@@ -2,7 +2,9 @@ package com.newnormallist.newsservice.tooltip.client;
 
 import com.newnormallist.newsservice.tooltip.dto.ProcessContentRequest;
 import com.newnormallist.newsservice.tooltip.dto.ProcessContentResponse;
+import com.newnormallist.newsservice.tooltip.dto.VocabularyVersionResponse;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
@@ -15,4 +17,7 @@ public interface TooltipServiceClient {
     
     @PostMapping("/api/news/analysis/process")
     ProcessContentResponse processContent(@RequestBody ProcessContentRequest request);
+
+    @GetMapping("/api/news/analysis/vocabulary/version")
+    VocabularyVersionResponse getVocabularyVersion();
 }
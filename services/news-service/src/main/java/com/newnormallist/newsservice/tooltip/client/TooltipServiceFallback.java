@@ -2,6 +2,7 @@ package com.newnormallist.newsservice.tooltip.client;
 
 import com.newnormallist.newsservice.tooltip.dto.ProcessContentRequest;
 import com.newnormallist.newsservice.tooltip.dto.ProcessContentResponse;
+import com.newnormallist.newsservice.tooltip.dto.VocabularyVersionResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -14,6 +15,12 @@ public class TooltipServiceFallback implements TooltipServiceClient {
         log.warn("⚠️ 툴팁 서비스 호출 실패! 뉴스 ID: {}, 원본 텍스트로 폴백합니다.", request.newsId());
         
         // 툴팁 서비스 장애 시 원본 텍스트 그대로 반환
-        return new ProcessContentResponse(request.originalContent());
+        return new ProcessContentResponse(request.originalContent(), null);
+    }
+
+    @Override
+    public VocabularyVersionResponse getVocabularyVersion() {
+        log.warn("⚠️ 툴팁 서비스 어려운 단어 버전 조회 실패!");
+        return null;
     }
 }
@@ -0,0 +1,53 @@
+package com.newnormallist.newsservice.tooltip.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/*
+    툴팁 마크업 사전 계산(수집 시/첫 조회 시 백그라운드 마크업, 어려운 단어 목록 변경 시 재마크업) 설정을 YAML로 바인딩.
+*/
+@Data
+@ConfigurationProperties(prefix = "tooltip-markup")
+public class TooltipMarkupProperties {
+
+    /**
+     * 백그라운드 마크업 사용 여부 (false면 새 마크업을 만들지 않고 저장된 마크업만 사용)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 변경 피드(신규/수정 기사) 반영 및 마크업 주기 (밀리초)
+     */
+    private long ingestIntervalMs = 30000;
+
+    /**
+     * 어려운 단어 목록 버전 확인 및 재마크업 주기 (밀리초)
+     */
+    private long versionCheckIntervalMs = 300000;
+
+    /**
+     * DB에서 한 번에 읽을 기사 ID 수
+     */
+    private int batchSize = 50;
+
+    /**
+     * 한 주기에 마크업할 최대 기사 수 (툴팁 서비스 부하 상한)
+     */
+    private int maxPerRun = 200;
+
+    /**
+     * 변경 피드로 받은 마크업 대기 기사 수 상한 (넘으면 오래된 것부터 버리고 첫 조회 때 마크업)
+     */
+    private int pendingCapacity = 5000;
+
+    /**
+     * 첫 조회 시 마크업 요청 대기열 크기 (가득 차면 다음 주기 처리로 미룸)
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * 같은 기사 마크업 실패 허용 횟수 (넘으면 재기동 전까지 건너뜀)
+     */
+    private int maxFailures = 3;
+}
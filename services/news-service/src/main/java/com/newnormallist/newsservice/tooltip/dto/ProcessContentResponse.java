@@ -1,6 +1,8 @@
 package com.newnormallist.newsservice.tooltip.dto;
 
+// vocabularyVersion: 마크업에 사용한 어려운 단어 목록 버전 (툴팁 서비스가 분석에 실패해 원본을 돌려주면 null)
 public record ProcessContentResponse(
-    String processedContent
+    String processedContent,
+    String vocabularyVersion
 ) {
 }
@@ -0,0 +1,7 @@
+package com.newnormallist.newsservice.tooltip.dto;
+
+public record VocabularyVersionResponse(
+    String version,
+    int terms
+) {
+}
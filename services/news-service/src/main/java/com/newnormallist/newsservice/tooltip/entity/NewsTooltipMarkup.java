@@ -0,0 +1,39 @@
+package com.newnormallist.newsservice.tooltip.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 기사별 툴팁 마크업 본문 (기사 상세 조회는 툴팁 서비스 대신 이 테이블을 읽음)
+// vocabulary_version: 마크업에 사용한 어려운 단어 목록 버전 - 목록이 바뀌면 백그라운드에서 다시 마크업
+@Entity
+@Table(name = "news_tooltip_markup", indexes = {
+    @Index(name = "idx_tooltip_markup_version", columnList = "vocabulary_version, news_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsTooltipMarkup {
+
+    @Id
+    @Column(name = "news_id")
+    private Long newsId;
+
+    @Column(name = "processed_content", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String processedContent;
+
+    @Column(name = "vocabulary_version", nullable = false, length = 64)
+    private String vocabularyVersion;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,41 @@
+package com.newnormallist.newsservice.tooltip.repository;
+
+import com.newnormallist.newsservice.tooltip.entity.NewsTooltipMarkup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+// deleteOutdated : 기사 수정(news.updated_at) 이전에 만든 마크업 삭제 (변경 피드로 받은 news_id 범위만)
+// findUnmarkedNewsIds : 받은 news_id 중 마크업이 없는 기사 (삭제된 기사는 제외)
+// findAllNewsIds : 저장된 마크업의 news_id (삭제된 기사 마크업 정리용)
+// findStaleNewsIds : 현재 어려운 단어 목록 버전과 다른 마크업 (최신 기사 우선)
+public interface NewsTooltipMarkupRepository extends JpaRepository<NewsTooltipMarkup, Long> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE m FROM news_tooltip_markup m JOIN news n ON n.news_id = m.news_id " +
+                   "WHERE m.news_id IN (:newsIds) AND m.updated_at < n.updated_at",
+           nativeQuery = true)
+    int deleteOutdated(@Param("newsIds") Collection<Long> newsIds);
+
+    @Query("SELECT n.newsId FROM News n WHERE n.newsId IN :newsIds " +
+           "AND NOT EXISTS (SELECT 1 FROM NewsTooltipMarkup m WHERE m.newsId = n.newsId)")
+    List<Long> findUnmarkedNewsIds(@Param("newsIds") Collection<Long> newsIds);
+
+    @Query("SELECT m.newsId FROM NewsTooltipMarkup m")
+    List<Long> findAllNewsIds();
+
+    @Query("SELECT m.newsId FROM NewsTooltipMarkup m WHERE m.vocabularyVersion <> :version " +
+           "AND m.newsId < :beforeNewsId ORDER BY m.newsId DESC")
+    List<Long> findStaleNewsIds(@Param("version") String version,
+                                @Param("beforeNewsId") Long beforeNewsId,
+                                Pageable pageable);
+
+    long countByVocabularyVersionNot(String version);
+}
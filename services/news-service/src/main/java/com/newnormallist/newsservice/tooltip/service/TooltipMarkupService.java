@@ -0,0 +1,365 @@
+package com.newnormallist.newsservice.tooltip.service;
+
+import com.newnormallist.newsservice.cache.service.NewsDetailCacheService;
+import com.newnormallist.newsservice.ingest.engine.NewsChangeCursor;
+import com.newnormallist.newsservice.ingest.service.NewsChangeFeed;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import com.newnormallist.newsservice.tooltip.client.TooltipServiceClient;
+import com.newnormallist.newsservice.tooltip.config.TooltipMarkupProperties;
+import com.newnormallist.newsservice.tooltip.dto.ProcessContentRequest;
+import com.newnormallist.newsservice.tooltip.dto.ProcessContentResponse;
+import com.newnormallist.newsservice.tooltip.dto.VocabularyVersionResponse;
+import com.newnormallist.newsservice.tooltip.entity.NewsTooltipMarkup;
+import com.newnormallist.newsservice.tooltip.repository.NewsTooltipMarkupRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * 툴팁 마크업 사전 계산 서비스
+ *
+ * 역할:
+ * - 기사 본문의 툴팁 마크업을 한 번만 만들어 어려운 단어 목록 버전과 함께 저장 (news_tooltip_markup)
+ * - 기사 상세 조회는 저장된 마크업만 읽고 툴팁 서비스(KOMORAN 분석)를 기다리지 않음
+ *
+ * 기능:
+ * - 수집: 주기적으로 변경 피드(NewsChangeFeed)로 받은 신규/수정 기사를 처리 대기 목록에 넣고 maxPerRun개씩 마크업
+ *   (기사 수정 이전에 만든 마크업은 바로 지워 이전 본문을 응답하지 않음, 삭제된 기사 마크업은 삭제 확인 주기에 지움)
+ * - 첫 조회: 마크업 없는 기사가 조회되면 대기열에 넣어 백그라운드에서 처리 (조회는 원본 본문으로 응답, 과거 기사도 이 경로로 채움)
+ * - 재마크업: 어려운 단어 목록 버전이 바뀌면 이전 버전 마크업을 최신 기사부터 다시 처리
+ * - 마크업 저장/삭제 후 기사 상세 캐시 삭제
+ *
+ * 툴팁 서비스 장애 시 해당 주기를 중단하고 다음 주기에 다시 시도
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TooltipMarkupService {
+
+    private static final String CONSUMER = "tooltip-markup";
+
+    private final TooltipServiceClient tooltipServiceClient;
+    private final NewsTooltipMarkupRepository markupRepository;
+    private final NewsRepository newsRepository;
+    private final NewsChangeFeed changeFeed;
+    private final NewsDetailCacheService newsDetailCacheService;
+    private final TooltipMarkupProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 처리 중이거나 대기 중인 기사 (주기 처리와 첫 조회 요청이 같은 기사를 동시에 처리하지 않도록)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Integer> failures = new ConcurrentHashMap<>();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final ReentrantLock ingestLock = new ReentrantLock();
+    // 변경 피드로 받았지만 아직 마크업하지 않은 기사 (받은 순서, ingestLock 안에서만 사용)
+    private final Set<Long> pending = new LinkedHashSet<>();
+    private final AtomicLong droppedPending = new AtomicLong();
+
+    private ThreadPoolExecutor executor;
+    // 변경 피드 위치 (null이면 첫 주기에 현재 시점부터 시작)
+    private volatile NewsChangeCursor cursor;
+    private volatile int pendingSize;
+    private volatile String currentVersion;
+    private volatile LocalDateTime lastIngestRunAt;
+    private volatile int lastIngestProcessed;
+    private volatile LocalDateTime lastReprocessRunAt;
+    private volatile int lastReprocessProcessed;
+
+    @PostConstruct
+    void init() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "tooltip-markup");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 저장된 마크업 본문 (없으면 null)
+     */
+    public String findProcessedContent(Long newsId) {
+        return markupRepository.findById(newsId)
+                .map(NewsTooltipMarkup::getProcessedContent)
+                .orElse(null);
+    }
+
+    /**
+     * 첫 조회 시 마크업 요청 (대기열이 가득 차면 다음 수집 주기에서 처리)
+     */
+    public void requestMarkup(Long newsId) {
+        if (!properties.isEnabled() || isGivenUp(newsId) || !inFlight.add(newsId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    markup(newsId);
+                } catch (Exception e) {
+                    log.warn("⚠️ 뉴스 ID {} 툴팁 마크업 실패: {}", newsId, e.getMessage());
+                } finally {
+                    inFlight.remove(newsId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(newsId);
+        }
+    }
+
+    /**
+     * 변경 피드로 받은 신규/수정 기사 마크업 (수정 전 마크업 삭제, 삭제된 기사 마크업 정리)
+     */
+    @Scheduled(fixedDelayString = "${tooltip-markup.ingest-interval-ms:30000}",
+            initialDelayString = "${tooltip-markup.ingest-interval-ms:30000}")
+    public void processChanges() {
+        if (!properties.isEnabled() || !ingestLock.tryLock()) {
+            return;
+        }
+        try {
+            if (cursor == null) {
+                // 과거 기사는 첫 조회 때 마크업
+                cursor = changeFeed.open(CONSUMER);
+            }
+            List<Long> changed = changeFeed.poll(cursor);
+            for (List<Long> chunk : NewsChangeFeed.chunks(changed, Math.max(1, properties.getBatchSize()))) {
+                // 다른 인스턴스가 수정 이후에 이미 만든 마크업은 남김 (지운 기사만 상세 캐시 삭제)
+                if (markupRepository.deleteOutdated(chunk) > 0) {
+                    chunk.forEach(newsDetailCacheService::evict);
+                }
+                enqueue(markupRepository.findUnmarkedNewsIds(chunk));
+            }
+            Set<Long> deleted = changeFeed.tombstones(cursor, markupRepository::findAllNewsIds);
+            if (!deleted.isEmpty()) {
+                markupRepository.deleteAllByIdInBatch(deleted);
+                pending.removeAll(deleted);
+            }
+            lastIngestProcessed = drainPending();
+            lastIngestRunAt = LocalDateTime.now();
+            if (lastIngestProcessed > 0) {
+                log.info("🔎 툴팁 마크업 사전 계산: {}개 (대기 {}개)", lastIngestProcessed, pending.size());
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 툴팁 마크업 변경 반영 실패: {}", e.getMessage());
+        } finally {
+            pendingSize = pending.size();
+            ingestLock.unlock();
+        }
+    }
+
+    /**
+     * 어려운 단어 목록 버전 확인 후 이전 버전 마크업 재처리
+     */
+    @Scheduled(fixedDelayString = "${tooltip-markup.version-check-interval-ms:300000}",
+            initialDelayString = "${tooltip-markup.version-check-interval-ms:300000}")
+    public void reprocessStale() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        String version = fetchVocabularyVersion();
+        if (version == null) {
+            return;
+        }
+        lastReprocessProcessed = runBatches(
+                (beforeNewsId, pageable) -> markupRepository.findStaleNewsIds(version, beforeNewsId, pageable), version);
+        lastReprocessRunAt = LocalDateTime.now();
+        if (lastReprocessProcessed > 0) {
+            log.info("🔎 어려운 단어 목록 변경으로 툴팁 재마크업: {}개 (버전 {})", lastReprocessProcessed, version);
+        }
+    }
+
+    public Map<String, Object> status() {
+        String version = currentVersion;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", properties.isEnabled());
+        status.put("vocabularyVersion", version);
+        status.put("markedArticles", markupRepository.count());
+        status.put("staleArticles", version != null ? markupRepository.countByVocabularyVersionNot(version) : null);
+        status.put("queued", executor.getQueue().size());
+        status.put("pending", pendingSize);
+        status.put("droppedPending", droppedPending.get());
+        NewsChangeCursor currentCursor = cursor;
+        status.put("changeFeed", currentCursor != null ? currentCursor.status() : null);
+        status.put("processed", processed.get());
+        status.put("failed", failed.get());
+        status.put("givenUp", failures.values().stream().filter(count -> count >= properties.getMaxFailures()).count());
+        status.put("lastIngestRunAt", lastIngestRunAt != null ? lastIngestRunAt.toString() : null);
+        status.put("lastIngestProcessed", lastIngestProcessed);
+        status.put("lastReprocessRunAt", lastReprocessRunAt != null ? lastReprocessRunAt.toString() : null);
+        status.put("lastReprocessProcessed", lastReprocessProcessed);
+        return status;
+    }
+
+    /**
+     * 처리 대기 목록에 추가 (pendingCapacity를 넘으면 오래된 것부터 버림 - 첫 조회 때 마크업)
+     */
+    private void enqueue(List<Long> newsIds) {
+        pending.addAll(newsIds);
+        int overflow = pending.size() - Math.max(1, properties.getPendingCapacity());
+        Iterator<Long> iterator = pending.iterator();
+        for (int i = 0; i < overflow; i++) {
+            iterator.next();
+            iterator.remove();
+        }
+        if (overflow > 0) {
+            droppedPending.addAndGet(overflow);
+        }
+    }
+
+    /**
+     * 처리 대기 목록을 받은 순서대로 maxPerRun개까지 마크업 (툴팁 서비스 장애 시 남은 기사는 다음 주기에 처리)
+     */
+    private int drainPending() {
+        int done = 0;
+        try {
+            Iterator<Long> iterator = pending.iterator();
+            while (done < properties.getMaxPerRun() && iterator.hasNext()) {
+                Long newsId = iterator.next();
+                if (isGivenUp(newsId)) {
+                    iterator.remove();
+                    continue;
+                }
+                if (!inFlight.add(newsId)) {
+                    // 첫 조회 요청으로 처리 중
+                    iterator.remove();
+                    continue;
+                }
+                try {
+                    markup(newsId);
+                } finally {
+                    inFlight.remove(newsId);
+                }
+                iterator.remove();
+                done++;
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 툴팁 서비스 호출 실패로 마크업 주기 중단 ({}개 처리): {}", done, e.getMessage());
+        }
+        return done;
+    }
+
+    /**
+     * 최신 기사부터 배치 단위로 ID를 읽어 마크업 (maxPerRun개까지, 툴팁 서비스 장애 시 중단)
+     */
+    private int runBatches(BiFunction<Long, PageRequest, List<Long>> nextIds, String expectedVersion) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long beforeNewsId = Long.MAX_VALUE;
+        int done = 0;
+        try {
+            while (done < properties.getMaxPerRun()) {
+                List<Long> ids = nextIds.apply(beforeNewsId, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                for (Long newsId : ids) {
+                    beforeNewsId = newsId;
+                    if (done >= properties.getMaxPerRun()) {
+                        break;
+                    }
+                    if (isGivenUp(newsId) || !inFlight.add(newsId)) {
+                        continue;
+                    }
+                    try {
+                        String version = markup(newsId);
+                        if (expectedVersion != null && version != null && !expectedVersion.equals(version)) {
+                            // 처리 중 단어 목록이 다시 바뀜 - 다음 주기에 새 버전 기준으로 이어서 처리
+                            return done;
+                        }
+                    } finally {
+                        inFlight.remove(newsId);
+                    }
+                    done++;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 툴팁 서비스 호출 실패로 마크업 주기 중단 ({}개 처리): {}", done, e.getMessage());
+        }
+        return done;
+    }
+
+    /**
+     * 기사 하나 마크업 후 저장
+     *
+     * @return 마크업에 사용한 어려운 단어 목록 버전 (기사가 없거나 분석 실패 시 null)
+     * @throws RuntimeException 툴팁 서비스 호출 실패
+     */
+    private String markup(Long newsId) {
+        Optional<String> content = newsRepository.findContentById(newsId);
+        if (content.isEmpty()) {
+            return null;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ProcessContentResponse response;
+        try {
+            response = tooltipServiceClient.processContent(new ProcessContentRequest(newsId, content.get()));
+        } catch (RuntimeException e) {
+            sample.stop(meterRegistry.timer("news.tooltip.markup", "result", "unavailable"));
+            failed.incrementAndGet();
+            throw e;
+        }
+        if (response == null || response.vocabularyVersion() == null || response.processedContent() == null) {
+            // 툴팁 서비스가 분석에 실패해 원본을 돌려줌 - 실패 횟수만 기록하고 다음 기사로
+            sample.stop(meterRegistry.timer("news.tooltip.markup", "result", "failed"));
+            failed.incrementAndGet();
+            failures.merge(newsId, 1, Integer::sum);
+            return null;
+        }
+        markupRepository.save(NewsTooltipMarkup.builder()
+                .newsId(newsId)
+                .processedContent(response.processedContent())
+                .vocabularyVersion(response.vocabularyVersion())
+                .build());
+        sample.stop(meterRegistry.timer("news.tooltip.markup", "result", "success"));
+        processed.incrementAndGet();
+        failures.remove(newsId);
+        currentVersion = response.vocabularyVersion();
+        newsDetailCacheService.evict(newsId);
+        return response.vocabularyVersion();
+    }
+
+    private String fetchVocabularyVersion() {
+        try {
+            VocabularyVersionResponse response = tooltipServiceClient.getVocabularyVersion();
+            if (response != null && response.version() != null) {
+                currentVersion = response.version();
+                return response.version();
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 어려운 단어 목록 버전 조회 실패: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private boolean isGivenUp(Long newsId) {
+        return failures.getOrDefault(newsId, 0) >= properties.getMaxFailures();
+    }
+}
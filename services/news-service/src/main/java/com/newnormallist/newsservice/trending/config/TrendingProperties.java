@@ -0,0 +1,72 @@
+package com.newnormallist.newsservice.trending.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/*
+    트렌딩 키워드 집계(시간 버킷 슬라이딩 윈도우, 카테고리별 키워드 빈도표) 설정을 YAML로 바인딩.
+*/
+@Data
+@ConfigurationProperties(prefix = "trending")
+public class TrendingProperties {
+
+    /**
+     * 인메모리 집계 사용 여부 (false면 요청마다 DB에서 기사 제목을 읽어 집계)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 시간 버킷 크기 (분). 조회 윈도우의 시작 시각은 이 단위로 내림
+     */
+    private int bucketMinutes = 10;
+
+    /**
+     * 보관하는 최대 윈도우 (시간). 더 긴 윈도우 요청은 DB 집계로 처리
+     */
+    private int maxWindowHours = 168;
+
+    /**
+     * 신규 기사 반영 주기 (밀리초)
+     */
+    private long refreshIntervalMs = 60000;
+
+    /**
+     * DB에서 한 번에 읽을 기사 수
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 카테고리별 키워드 빈도표 설정
+     */
+    private CategoryKeywords category = new CategoryKeywords();
+
+    @Data
+    public static class CategoryKeywords {
+
+        /**
+         * 빈도표 사용 여부 (false면 요청마다 카테고리 최신 기사를 읽어 집계)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 카테고리별로 집계하는 최신 기사 수
+         */
+        private int articlesPerCategory = 500;
+
+        /**
+         * 집계 대상 발행 기간 (일)
+         */
+        private int windowDays = 30;
+
+        /**
+         * 키워드를 추출할 본문 앞부분 글자 수
+         */
+        private int contentChars = 1000;
+
+        /**
+         * 신규 기사 반영 주기 (밀리초). 빈도표가 DB보다 늦을 수 있는 최대 시간
+         */
+        private long refreshIntervalMs = 60000;
+    }
+}
@@ -0,0 +1,196 @@
+package com.newnormallist.newsservice.trending.engine;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 최신 기사 N개의 키워드 빈도표 (카테고리 하나)
+ *
+ * 역할:
+ * - 발행일 최신 capacity개 기사의 키워드를 기사 단위로 보관하고, 합계 빈도를 증분 유지
+ * - 새 기사가 들어오면 가장 오래된 기사를 빼고 그 키워드 빈도를 차감 (재집계 없음)
+ * - 윈도우 밖(evictBefore)으로 밀려난 기사도 같은 방식으로 차감
+ * - 이미 있는 기사가 다시 들어오면(수정) 이전 키워드를 빼고 다시 반영, 삭제/카테고리 변경은 remove로 차감
+ *   (빠진 자리는 다음 재구성 전까지 더 오래된 기사로 채우지 않음)
+ *
+ * 조회 비용: 데이터 버전별 상위 CACHED_TOP개를 캐시하므로 반영 사이의 조회는 리스트 자르기만 수행
+ *
+ * 동시성: 쓰기는 한 스레드, 읽기는 여러 스레드 - 읽기/쓰기 락으로 보호
+ */
+public class KeywordFrequencyTable {
+
+    private static final int CACHED_TOP = 100;
+
+    private final int capacity;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<ArticleKey, String[]> articles = new TreeMap<>();
+    private final Map<Long, ArticleKey> keys = new HashMap<>();
+    private final Map<String, Integer> counts = new HashMap<>();
+
+    private long occurrences;
+    private volatile long version;
+    private volatile CachedTop cached;
+
+    public KeywordFrequencyTable(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * 기사 키워드 반영 (이미 반영된 기사면 이전 키워드를 빼고 다시 반영)
+     *
+     * @return 반영 여부 (가득 찬 상태에서 가장 오래된 기사보다 오래되면 false)
+     */
+    public boolean add(long newsId, long publishedMillis, List<String> terms) {
+        ArticleKey key = new ArticleKey(publishedMillis, newsId);
+        lock.writeLock().lock();
+        try {
+            ArticleKey previous = keys.get(newsId);
+            if (previous != null) {
+                remove(Map.entry(previous, articles.remove(previous)));
+                version++;
+            }
+            if (articles.size() >= capacity && key.compareTo(articles.firstKey()) < 0) {
+                return false;
+            }
+            String[] stored = terms.toArray(String[]::new);
+            articles.put(key, stored);
+            keys.put(newsId, key);
+            for (String term : stored) {
+                counts.merge(term, 1, Integer::sum);
+            }
+            occurrences += stored.length;
+            while (articles.size() > capacity) {
+                remove(articles.pollFirstEntry());
+            }
+            version++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기사 키워드 차감 (삭제되었거나 다른 카테고리로 옮겨간 기사)
+     *
+     * @return 반영된 기사였으면 true
+     */
+    public boolean remove(long newsId) {
+        lock.writeLock().lock();
+        try {
+            ArticleKey key = keys.get(newsId);
+            if (key == null) {
+                return false;
+            }
+            remove(Map.entry(key, articles.remove(key)));
+            version++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 반영된 기사 news_id (삭제 확인용 복사본)
+     */
+    public List<Long> newsIds() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(keys.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 발행 시각이 epochMillis보다 이전인 기사 제거
+     *
+     * @return 제거한 기사 수
+     */
+    public int evictBefore(long epochMillis) {
+        lock.writeLock().lock();
+        try {
+            int removed = 0;
+            while (!articles.isEmpty() && articles.firstKey().publishedMillis() < epochMillis) {
+                remove(articles.pollFirstEntry());
+                removed++;
+            }
+            if (removed > 0) {
+                version++;
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 limit개 키워드 (빈도 내림차순, 같으면 단어순)
+     */
+    public List<TermCount> top(int limit) {
+        CachedTop current = cached;
+        if (current != null && current.version() == version && (limit <= current.terms().size() || current.complete())) {
+            return slice(current.terms(), limit);
+        }
+        lock.readLock().lock();
+        try {
+            int k = Math.max(limit, CACHED_TOP);
+            current = new CachedTop(version, TopTerms.select(counts, k), counts.size() <= k);
+        } finally {
+            lock.readLock().unlock();
+        }
+        cached = current;
+        return slice(current.terms(), limit);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return articles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("articles", articles.size());
+            stats.put("keywords", counts.size());
+            stats.put("occurrences", occurrences);
+            stats.put("oldestPublishedAt", articles.isEmpty() ? null : articles.firstKey().publishedMillis());
+            stats.put("newestPublishedAt", articles.isEmpty() ? null : articles.lastKey().publishedMillis());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void remove(Map.Entry<ArticleKey, String[]> entry) {
+        keys.remove(entry.getKey().newsId());
+        for (String term : entry.getValue()) {
+            counts.computeIfPresent(term, (k, count) -> count > 1 ? count - 1 : null);
+        }
+        occurrences -= entry.getValue().length;
+    }
+
+    private List<TermCount> slice(List<TermCount> terms, int limit) {
+        return terms.size() <= limit ? terms : terms.subList(0, limit);
+    }
+
+    // 발행 시각 오름차순, 같으면 news_id 오름차순 (firstKey가 가장 오래된 기사)
+    private record ArticleKey(long publishedMillis, long newsId) implements Comparable<ArticleKey> {
+        @Override
+        public int compareTo(ArticleKey other) {
+            int byTime = Long.compare(publishedMillis, other.publishedMillis);
+            return byTime != 0 ? byTime : Long.compare(newsId, other.newsId);
+        }
+    }
+
+    private record CachedTop(long version, List<TermCount> terms, boolean complete) {
+    }
+}
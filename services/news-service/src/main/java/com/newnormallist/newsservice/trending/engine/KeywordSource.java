@@ -0,0 +1,12 @@
+package com.newnormallist.newsservice.trending.engine;
+
+import com.newnormallist.newsservice.news.entity.Category;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리별 키워드 집계용 기사 행 (본문은 앞부분만, NewsRepository.findKeywordSources*)
+ */
+public record KeywordSource(Long newsId, String title, String contentHead, Category category,
+                            LocalDateTime publishedAt) {
+}
@@ -0,0 +1,7 @@
+package com.newnormallist.newsservice.trending.engine;
+
+/**
+ * 윈도우 내 단어 출현 횟수
+ */
+public record TermCount(String term, long count) {
+}
@@ -0,0 +1,207 @@
+package com.newnormallist.newsservice.trending.engine;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 시간 버킷 단어 빈도 (슬라이딩 윈도우)
+ *
+ * 역할:
+ * - 기사마다 한 번 토큰화한 단어를 발행 시각 버킷(bucketMillis 단위)에 누적 (정확한 빈도, 근사 없음)
+ * - 기사별 반영분을 기억해 같은 기사가 다시 들어오면(수정) 이전 반영분을 빼고 다시 더함, 삭제된 기사는 remove로 차감
+ * - 윈도우 조회: 시작 버킷 이후 버킷을 합산해 상위 단어 선택
+ * - 오래된 버킷은 evictBefore로 제거
+ *
+ * 조회 비용:
+ * - (시작 버킷, 데이터 버전)별 상위 CACHED_TOP개 결과를 캐시하므로 같은 윈도우의 반복 조회는 맵 조회 한 번
+ * - 새 기사 반영/버킷 경계 이동 후 첫 조회만 버킷 합산 (윈도우 내 버킷 수 x 버킷당 단어 수)
+ *
+ * 동시성: 쓰기(반영/제거)는 한 스레드, 읽기는 여러 스레드 - 읽기/쓰기 락으로 보호
+ */
+public class TermWindowCounter {
+
+    private static final int CACHED_TOP = 100;
+    private static final int MAX_CACHED_WINDOWS = 256;
+
+    private final long bucketMillis;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<Long, Map<String, Integer>> buckets = new TreeMap<>();
+    // 기사별 반영분 (수정/삭제 시 차감)
+    private final Map<Long, Contribution> articles = new HashMap<>();
+    private final Map<Long, CachedTop> cache = new ConcurrentHashMap<>();
+
+    private long occurrences;
+    private volatile long version;
+
+    public TermWindowCounter(long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+    }
+
+    /**
+     * 기사 단어 반영 (이미 반영된 기사면 이전 반영분을 빼고 다시 반영)
+     */
+    public void add(long newsId, long epochMillis, List<String> terms) {
+        long bucket = Math.floorDiv(epochMillis, bucketMillis);
+        lock.writeLock().lock();
+        try {
+            subtract(articles.remove(newsId));
+            if (!terms.isEmpty()) {
+                String[] stored = terms.toArray(String[]::new);
+                Map<String, Integer> counts = buckets.computeIfAbsent(bucket, key -> new HashMap<>());
+                for (String term : stored) {
+                    counts.merge(term, 1, Integer::sum);
+                }
+                occurrences += stored.length;
+                articles.put(newsId, new Contribution(bucket, stored));
+            }
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기사 반영분 차감 (삭제되었거나 집계 대상에서 빠진 기사)
+     *
+     * @return 반영된 기사였으면 true
+     */
+    public boolean remove(long newsId) {
+        lock.writeLock().lock();
+        try {
+            Contribution contribution = articles.remove(newsId);
+            if (contribution == null) {
+                return false;
+            }
+            subtract(contribution);
+            version++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 반영된 기사 news_id (삭제 확인용 복사본)
+     */
+    public List<Long> newsIds() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(articles.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * epochMillis가 속한 버킷보다 오래된 버킷 제거
+     *
+     * @return 제거한 버킷 수
+     */
+    public int evictBefore(long epochMillis) {
+        long bucket = Math.floorDiv(epochMillis, bucketMillis);
+        lock.writeLock().lock();
+        try {
+            NavigableMap<Long, Map<String, Integer>> expired = buckets.headMap(bucket, false);
+            int removed = expired.size();
+            for (Map<String, Integer> counts : expired.values()) {
+                for (int count : counts.values()) {
+                    occurrences -= count;
+                }
+            }
+            expired.clear();
+            articles.values().removeIf(contribution -> contribution.bucket() < bucket);
+            if (removed > 0) {
+                version++;
+            }
+            cache.clear();
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * fromMillis가 속한 버킷부터 현재까지 상위 limit개 단어 (빈도 내림차순, 같으면 단어순)
+     */
+    public List<TermCount> top(long fromMillis, int limit) {
+        long startBucket = Math.floorDiv(fromMillis, bucketMillis);
+        CachedTop cached = cache.get(startBucket);
+        if (cached != null && cached.version() == version && (limit <= cached.terms().size() || cached.complete())) {
+            return slice(cached.terms(), limit);
+        }
+
+        CachedTop computed;
+        lock.readLock().lock();
+        try {
+            Map<String, Long> merged = new HashMap<>();
+            for (Map<String, Integer> counts : buckets.tailMap(startBucket, true).values()) {
+                for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                    merged.merge(entry.getKey(), (long) entry.getValue(), Long::sum);
+                }
+            }
+            int k = Math.max(limit, CACHED_TOP);
+            computed = new CachedTop(version, TopTerms.select(merged, k), merged.size() <= k);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (cache.size() >= MAX_CACHED_WINDOWS) {
+            cache.clear();
+        }
+        cache.put(startBucket, computed);
+        return slice(computed.terms(), limit);
+    }
+
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            long cells = 0;
+            for (Map<String, Integer> counts : buckets.values()) {
+                cells += counts.size();
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("bucketMinutes", bucketMillis / 60_000);
+            stats.put("articles", articles.size());
+            stats.put("buckets", buckets.size());
+            stats.put("oldestBucketStart", buckets.isEmpty() ? null : buckets.firstKey() * bucketMillis);
+            stats.put("newestBucketStart", buckets.isEmpty() ? null : buckets.lastKey() * bucketMillis);
+            stats.put("termCells", cells);
+            stats.put("occurrences", occurrences);
+            stats.put("cachedWindows", cache.size());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void subtract(Contribution contribution) {
+        if (contribution == null) {
+            return;
+        }
+        Map<String, Integer> counts = buckets.get(contribution.bucket());
+        if (counts != null) {
+            for (String term : contribution.terms()) {
+                counts.computeIfPresent(term, (key, count) -> count > 1 ? count - 1 : null);
+            }
+            if (counts.isEmpty()) {
+                buckets.remove(contribution.bucket());
+            }
+        }
+        occurrences -= contribution.terms().length;
+    }
+
+    private List<TermCount> slice(List<TermCount> terms, int limit) {
+        return terms.size() <= limit ? terms : terms.subList(0, limit);
+    }
+
+    private record Contribution(long bucket, String[] terms) {
+    }
+
+    private record CachedTop(long version, List<TermCount> terms, boolean complete) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.newnormallist.newsservice.trending.engine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 빈도 맵에서 상위 k개 단어 선택 (빈도 내림차순, 같으면 단어순)
+ * 전체 정렬 대신 크기 k 최소 힙으로 상위 k개만 유지
+ */
+final class TopTerms {
+
+    private static final Comparator<Map.Entry<String, ? extends Number>> BY_COUNT_DESC =
+            Comparator.<Map.Entry<String, ? extends Number>>comparingLong(entry -> entry.getValue().longValue())
+                    .reversed()
+                    .thenComparing(Map.Entry::getKey);
+
+    private TopTerms() {
+    }
+
+    static List<TermCount> select(Map<String, ? extends Number> counts, int k) {
+        PriorityQueue<Map.Entry<String, ? extends Number>> heap = new PriorityQueue<>(k + 1, BY_COUNT_DESC.reversed());
+        for (Map.Entry<String, ? extends Number> entry : counts.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        List<Map.Entry<String, ? extends Number>> entries = new ArrayList<>(heap);
+        entries.sort(BY_COUNT_DESC);
+        List<TermCount> terms = new ArrayList<>(entries.size());
+        for (Map.Entry<String, ? extends Number> entry : entries) {
+            terms.add(new TermCount(entry.getKey(), entry.getValue().longValue()));
+        }
+        return List.copyOf(terms);
+    }
+}
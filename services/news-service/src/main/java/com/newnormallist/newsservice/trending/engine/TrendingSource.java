@@ -0,0 +1,11 @@
+package com.newnormallist.newsservice.trending.engine;
+
+import com.newnormallist.newsservice.news.entity.Category;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트렌딩 집계용 기사 행 (본문 없이 집계에 필요한 컬럼만, NewsRepository.findTrendingSources)
+ */
+public record TrendingSource(Long newsId, String title, Category category, LocalDateTime publishedAt) {
+}
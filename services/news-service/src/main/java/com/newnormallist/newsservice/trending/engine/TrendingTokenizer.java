@@ -0,0 +1,65 @@
+package com.newnormallist.newsservice.trending.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 트렌딩 키워드용 토크나이저
+ * - titleTerms: 한글/영문/숫자 외 문자를 공백으로 바꾼 뒤 어절 단위로 나누고, 1글자와 불용어는 제외
+ * - keywordTerms: 카테고리별 키워드용 (제목 + 본문 앞부분), 어절에서 한글/영문/숫자 외 문자를 지우고 1글자와 불용어는 제외
+ */
+public final class TrendingTokenizer {
+
+    // 너무 일반적인 단어는 제외 (필요에 따라 계속 확장)
+    private static final Set<String> STOPWORDS = Set.of(
+            "속보","영상","단독","인터뷰","기자","사진","종합","오늘","내일",
+            "정부","대통령","국회","한국","대한민국","뉴스","기사","외신",
+            "관련","이번","지난","현재","최대","최소","전망","분석","현장"
+    );
+
+    // 카테고리별 키워드 불용어 (기존 NewsServiceImpl 목록 그대로)
+    private static final Set<String> KEYWORD_STOPWORDS = Set.of(
+            "속보","영상","단독","인터뷰","기자","사진","종합","오늘","내일",
+            "정부","대통령","국회","한국","대한민국","뉴스","기사","외신",
+            "관련","이번","지난","현재","최대","최소","현장","및","또는","그리고",
+            "있다","없다","하다","되다","이다"
+    );
+
+    private TrendingTokenizer() {
+    }
+
+    public static List<String> titleTerms(String title) {
+        if (title == null || title.isBlank()) {
+            return List.of();
+        }
+        String cleaned = title
+                .replaceAll("[^가-힣0-9A-Za-z\\s]", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+        if (cleaned.isEmpty()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : cleaned.split(" ")) {
+            if (token.length() >= 2 && !STOPWORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    public static List<String> keywordTerms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String word : text.trim().split("\\s+")) {
+            String cleaned = word.replaceAll("[^가-힣0-9A-Za-z]", "");
+            if (cleaned.length() >= 2 && !KEYWORD_STOPWORDS.contains(cleaned)) {
+                terms.add(cleaned);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,269 @@
+package com.newnormallist.newsservice.trending.service;
+
+import com.newnormallist.newsservice.ingest.engine.NewsChangeCursor;
+import com.newnormallist.newsservice.ingest.service.ChangeFeedConsumer;
+import com.newnormallist.newsservice.ingest.service.NewsChangeFeed;
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import com.newnormallist.newsservice.trending.config.TrendingProperties;
+import com.newnormallist.newsservice.trending.engine.KeywordFrequencyTable;
+import com.newnormallist.newsservice.trending.engine.KeywordSource;
+import com.newnormallist.newsservice.trending.engine.TermCount;
+import com.newnormallist.newsservice.trending.engine.TrendingTokenizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리별 트렌딩 키워드 빈도표 서비스
+ *
+ * 역할:
+ * - 카테고리마다 최신 기사(articlesPerCategory개, windowDays일 이내)의 제목 + 본문 앞부분 키워드 빈도를 메모리에 유지
+ * - 요청마다 기사 500개를 읽어 토큰화하던 집계를 빈도표 조회로 대체 (NewsServiceImpl.getTrendingKeywordsByCategory)
+ *
+ * 기능:
+ * - 기동: 카테고리별 최신 기사를 읽어 재구성 (ChangeFeedConsumer)
+ * - 증분: 주기적으로 변경 피드(NewsChangeFeed)로 받은 신규/수정 기사를 토큰화해 해당 카테고리 빈도표에 다시 반영하고,
+ *   밀려난 기사/삭제된 기사/다른 카테고리로 옮겨간 기사는 차감
+ * - 관측: 마지막 반영 시각/경과 시간(staleness), 반영 소요 시간/기사 수를 status()와 메트릭으로 노출
+ *   (news.trending.category.refresh 타이머, news.trending.category.staleness 게이지)
+ *
+ * 준비 전이거나 비활성화 상태면 요청 시 DB에서 카테고리 최신 기사를 읽어 집계
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryKeywordService extends ChangeFeedConsumer {
+
+    private static final String CONSUMER = "category-keywords";
+
+    private final NewsRepository newsRepository;
+    private final NewsChangeFeed changeFeed;
+    private final TrendingProperties trendingProperties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Map<Category, KeywordFrequencyTable> tables;
+    private volatile NewsChangeCursor cursor;
+    private volatile LocalDateTime lastRefreshedAt;
+    private volatile long lastRefreshMs;
+    private volatile int lastRefreshArticles;
+    private volatile long lastRebuildMs;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("news.trending.category.staleness", this, service -> service.stalenessSeconds())
+                .description("카테고리별 키워드 빈도표 마지막 반영 후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${trending.category.refresh-interval-ms:60000}",
+            initialDelayString = "${trending.category.refresh-interval-ms:60000}")
+    public void refresh() {
+        refreshIfIdle();
+    }
+
+    @Override
+    protected boolean bootstrapEnabled() {
+        return trendingProperties.getCategory().isEnabled();
+    }
+
+    @Override
+    protected boolean refreshable() {
+        return tables != null;
+    }
+
+    @Override
+    protected void applyFeed() {
+        Map<Category, KeywordFrequencyTable> current = tables;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long started = System.currentTimeMillis();
+        int added = applyChanges(current);
+        int deleted = 0;
+        for (Long newsId : changeFeed.tombstones(cursor, () -> trackedIds(current))) {
+            deleted += removeEverywhere(current, newsId);
+        }
+        long windowStart = toEpochMillis(windowStart());
+        int evicted = 0;
+        for (KeywordFrequencyTable table : current.values()) {
+            evicted += table.evictBefore(windowStart);
+        }
+        lastRefreshMs = System.currentTimeMillis() - started;
+        lastRefreshArticles = added;
+        sample.stop(meterRegistry.timer("news.trending.category.refresh", "phase", "incremental"));
+        if (added > 0 || deleted > 0 || evicted > 0) {
+            log.info("🔎 카테고리 키워드 빈도표 반영: 신규/수정 {}개, 삭제 {}개, 만료 {}개, {}ms",
+                    added, deleted, evicted, lastRefreshMs);
+        }
+    }
+
+    /**
+     * 카테고리 상위 limit개 키워드 (준비 전이면 DB에서 바로 집계)
+     */
+    public List<TermCount> top(Category category, int limit) {
+        Map<Category, KeywordFrequencyTable> current = tables;
+        if (current != null) {
+            return current.get(category).top(limit);
+        }
+        KeywordFrequencyTable table = newTable();
+        loadLatest(category, table);
+        return table.top(limit);
+    }
+
+    /**
+     * DB에서 전체 재구성 (새 빈도표를 만든 뒤 교체)
+     */
+    @Override
+    public Map<String, Object> rebuild() {
+        writeLock.lock();
+        try {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            long started = System.currentTimeMillis();
+            // 적재 전에 커서를 열어 적재 중 바뀐 기사는 다음 반영 때 다시 받음 (같은 기사는 덮어씀)
+            NewsChangeCursor next = changeFeed.open(CONSUMER);
+            Map<Category, KeywordFrequencyTable> rebuilt = new EnumMap<>(Category.class);
+            int loaded = 0;
+            for (Category category : Category.values()) {
+                KeywordFrequencyTable table = newTable();
+                loaded += loadLatest(category, table);
+                rebuilt.put(category, table);
+            }
+            tables = rebuilt;
+            cursor = next;
+            lastRefreshedAt = LocalDateTime.now();
+            lastRebuildMs = System.currentTimeMillis() - started;
+            lastRefreshArticles = loaded;
+            sample.stop(meterRegistry.timer("news.trending.category.refresh", "phase", "rebuild"));
+            log.info("🔎 카테고리 키워드 빈도표 재구성 완료: 기사 {}개, {}ms", loaded, lastRebuildMs);
+        } catch (Exception e) {
+            log.error("❌ 카테고리 키워드 빈도표 재구성 실패 - 기존 빈도표(없으면 요청 시 집계)로 동작: {}", e.getMessage(), e);
+        } finally {
+            writeLock.unlock();
+        }
+        return status();
+    }
+
+    public Map<String, Object> status() {
+        TrendingProperties.CategoryKeywords config = trendingProperties.getCategory();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", config.isEnabled());
+        status.put("ready", tables != null);
+        status.put("articlesPerCategory", config.getArticlesPerCategory());
+        status.put("windowDays", config.getWindowDays());
+        NewsChangeCursor currentCursor = cursor;
+        status.put("changeFeed", currentCursor != null ? currentCursor.status() : null);
+        status.put("lastRefreshedAt", lastRefreshedAt != null ? lastRefreshedAt.toString() : null);
+        status.put("stalenessSeconds", stalenessSeconds());
+        status.put("stalenessBoundMs", config.getRefreshIntervalMs());
+        status.put("lastRefreshMs", lastRefreshMs);
+        status.put("lastRefreshArticles", lastRefreshArticles);
+        status.put("lastRebuildMs", lastRebuildMs);
+        Map<Category, KeywordFrequencyTable> current = tables;
+        if (current != null) {
+            Map<String, Object> categories = new LinkedHashMap<>();
+            current.forEach((category, table) -> categories.put(category.name(), table.stats()));
+            status.put("categories", categories);
+        }
+        return status;
+    }
+
+    /**
+     * 변경 피드로 받은 기사를 다시 읽어 해당 카테고리 빈도표에 반영
+     * (다른 카테고리 빈도표에 있던 기사는 빼고, 삭제되었거나 집계 기간 밖이면 모든 빈도표에서 차감)
+     */
+    private int applyChanges(Map<Category, KeywordFrequencyTable> target) {
+        List<Long> changed = changeFeed.poll(cursor);
+        int contentChars = trendingProperties.getCategory().getContentChars();
+        LocalDateTime since = windowStart();
+        int added = 0;
+        for (List<Long> chunk : NewsChangeFeed.chunks(changed, trendingProperties.getBatchSize())) {
+            Map<Long, KeywordSource> sources = newsRepository.findKeywordSourcesByIdIn(chunk, since, contentChars)
+                    .stream()
+                    .collect(Collectors.toMap(KeywordSource::newsId, Function.identity()));
+            for (Long newsId : chunk) {
+                KeywordSource source = sources.get(newsId);
+                target.forEach((category, table) -> {
+                    if (source == null || category != source.category()) {
+                        table.remove(newsId);
+                    }
+                });
+                KeywordFrequencyTable table = source != null ? target.get(source.category()) : null;
+                if (table != null && add(table, source)) {
+                    added++;
+                }
+            }
+        }
+        lastRefreshedAt = LocalDateTime.now();
+        return added;
+    }
+
+    private int removeEverywhere(Map<Category, KeywordFrequencyTable> target, Long newsId) {
+        int removed = 0;
+        for (KeywordFrequencyTable table : target.values()) {
+            if (table.remove(newsId)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private List<Long> trackedIds(Map<Category, KeywordFrequencyTable> target) {
+        List<Long> ids = new ArrayList<>();
+        target.values().forEach(table -> ids.addAll(table.newsIds()));
+        return ids;
+    }
+
+    private int loadLatest(Category category, KeywordFrequencyTable table) {
+        TrendingProperties.CategoryKeywords config = trendingProperties.getCategory();
+        List<KeywordSource> latest = newsRepository.findKeywordSourcesByCategory(category, windowStart(),
+                config.getContentChars(), PageRequest.of(0, Math.max(1, config.getArticlesPerCategory())));
+        int loaded = 0;
+        for (KeywordSource source : latest) {
+            if (add(table, source)) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    private boolean add(KeywordFrequencyTable table, KeywordSource source) {
+        List<String> terms = new ArrayList<>(TrendingTokenizer.keywordTerms(source.title()));
+        terms.addAll(TrendingTokenizer.keywordTerms(source.contentHead()));
+        return table.add(source.newsId(), toEpochMillis(source.publishedAt()), terms);
+    }
+
+    private KeywordFrequencyTable newTable() {
+        return new KeywordFrequencyTable(trendingProperties.getCategory().getArticlesPerCategory());
+    }
+
+    private double stalenessSeconds() {
+        LocalDateTime refreshedAt = lastRefreshedAt;
+        return refreshedAt == null ? -1
+                : Duration.between(refreshedAt, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    private LocalDateTime windowStart() {
+        return LocalDateTime.now().minusDays(trendingProperties.getCategory().getWindowDays());
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,196 @@
+package com.newnormallist.newsservice.trending.service;
+
+import com.newnormallist.newsservice.ingest.engine.NewsChangeCursor;
+import com.newnormallist.newsservice.ingest.service.ChangeFeedConsumer;
+import com.newnormallist.newsservice.ingest.service.NewsChangeFeed;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import com.newnormallist.newsservice.trending.config.TrendingProperties;
+import com.newnormallist.newsservice.trending.engine.TermCount;
+import com.newnormallist.newsservice.trending.engine.TermWindowCounter;
+import com.newnormallist.newsservice.trending.engine.TrendingSource;
+import com.newnormallist.newsservice.trending.engine.TrendingTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 트렌딩 키워드 집계 서비스
+ *
+ * 역할:
+ * - 기사 제목을 한 번만 토큰화해 발행 시각 버킷별 단어 빈도(TermWindowCounter)에 누적
+ * - 요청마다 기사 전체를 읽어 재토큰화하던 집계를 메모리 조회로 대체 (TrendingService에서 사용)
+ *
+ * 기능:
+ * - 기동: 최대 윈도우(maxWindowHours) 안의 기사를 DB에서 읽어 재구성 (ChangeFeedConsumer)
+ * - 증분: 주기적으로 변경 피드(NewsChangeFeed)로 받은 신규/수정 기사를 다시 반영하고 삭제된 기사는 차감,
+ *   윈도우를 벗어난 버킷 제거
+ *
+ * 준비 전이거나 최대 윈도우보다 긴 요청은 null을 반환해 DB 집계로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingTermService extends ChangeFeedConsumer {
+
+    private static final String CONSUMER = "trending";
+
+    private final NewsRepository newsRepository;
+    private final NewsChangeFeed changeFeed;
+    private final TrendingProperties trendingProperties;
+
+    private volatile TermWindowCounter counter;
+    private volatile NewsChangeCursor cursor;
+    private volatile LocalDateTime lastRefreshedAt;
+
+    @Scheduled(fixedDelayString = "${trending.refresh-interval-ms:60000}",
+            initialDelayString = "${trending.refresh-interval-ms:60000}")
+    public void refresh() {
+        refreshIfIdle();
+    }
+
+    @Override
+    protected boolean bootstrapEnabled() {
+        return trendingProperties.isEnabled();
+    }
+
+    @Override
+    protected boolean refreshable() {
+        return counter != null;
+    }
+
+    @Override
+    protected void applyFeed() {
+        TermWindowCounter current = counter;
+        int changed = applyChanges(current);
+        int deleted = 0;
+        for (Long newsId : changeFeed.tombstones(cursor, current::newsIds)) {
+            if (current.remove(newsId)) {
+                deleted++;
+            }
+        }
+        int evicted = current.evictBefore(windowStartMillis(trendingProperties.getMaxWindowHours()));
+        if (changed > 0 || deleted > 0 || evicted > 0) {
+            log.info("🔎 트렌딩 집계 반영: 신규/수정 {}개, 삭제 {}개, 만료 버킷 {}개", changed, deleted, evicted);
+        }
+    }
+
+    /**
+     * 최근 hours 시간 상위 limit개 단어
+     *
+     * @return 준비 전이거나 hours가 보관 윈도우보다 길면 null (DB 집계로 처리)
+     */
+    public List<TermCount> top(int hours, int limit) {
+        TermWindowCounter current = counter;
+        if (current == null || hours > trendingProperties.getMaxWindowHours()) {
+            return null;
+        }
+        return current.top(windowStartMillis(hours), limit);
+    }
+
+    /**
+     * DB에서 전체 재구성 (새 집계를 만든 뒤 교체)
+     */
+    @Override
+    public Map<String, Object> rebuild() {
+        writeLock.lock();
+        try {
+            long started = System.currentTimeMillis();
+            // 적재 전에 커서를 열어 적재 중 바뀐 기사는 다음 반영 때 다시 받음 (같은 기사는 덮어씀)
+            NewsChangeCursor next = changeFeed.open(CONSUMER);
+            TermWindowCounter rebuilt = new TermWindowCounter(trendingProperties.getBucketMinutes() * 60_000L);
+            int added = load(rebuilt);
+            counter = rebuilt;
+            cursor = next;
+            lastRefreshedAt = LocalDateTime.now();
+            log.info("🔎 트렌딩 집계 재구성 완료: 기사 {}개, {}ms", added, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            // 기존 집계는 그대로 두고 이어서 증분 반영
+            log.error("❌ 트렌딩 집계 재구성 실패 - 기존 집계(없으면 DB 집계)로 동작: {}", e.getMessage(), e);
+        } finally {
+            writeLock.unlock();
+        }
+        return status();
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", trendingProperties.isEnabled());
+        status.put("ready", counter != null);
+        status.put("maxWindowHours", trendingProperties.getMaxWindowHours());
+        NewsChangeCursor currentCursor = cursor;
+        status.put("changeFeed", currentCursor != null ? currentCursor.status() : null);
+        status.put("lastRefreshedAt", lastRefreshedAt != null ? lastRefreshedAt.toString() : null);
+        TermWindowCounter current = counter;
+        if (current != null) {
+            status.putAll(current.stats());
+        }
+        return status;
+    }
+
+    /**
+     * 보관 윈도우 안에 발행된 기사 전체를 news_id 순 배치로 적재
+     */
+    private int load(TermWindowCounter target) {
+        int batchSize = Math.max(1, trendingProperties.getBatchSize());
+        LocalDateTime since = LocalDateTime.now().minusHours(trendingProperties.getMaxWindowHours());
+        long afterNewsId = 0L;
+        int added = 0;
+        while (true) {
+            List<TrendingSource> batch = newsRepository.findTrendingSources(
+                    afterNewsId, since, PageRequest.of(0, batchSize));
+            for (TrendingSource source : batch) {
+                add(target, source);
+                afterNewsId = Math.max(afterNewsId, source.newsId());
+                added++;
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * 변경 피드로 받은 기사를 다시 읽어 반영 (삭제되었거나 윈도우 밖이면 차감)
+     */
+    private int applyChanges(TermWindowCounter target) {
+        List<Long> changed = changeFeed.poll(cursor);
+        LocalDateTime since = LocalDateTime.now().minusHours(trendingProperties.getMaxWindowHours());
+        for (List<Long> chunk : NewsChangeFeed.chunks(changed, trendingProperties.getBatchSize())) {
+            Map<Long, TrendingSource> sources = newsRepository.findTrendingSourcesByIdIn(chunk, since).stream()
+                    .collect(Collectors.toMap(TrendingSource::newsId, Function.identity()));
+            for (Long newsId : chunk) {
+                TrendingSource source = sources.get(newsId);
+                if (source != null) {
+                    add(target, source);
+                } else {
+                    target.remove(newsId);
+                }
+            }
+        }
+        lastRefreshedAt = LocalDateTime.now();
+        return changed.size();
+    }
+
+    private void add(TermWindowCounter target, TrendingSource source) {
+        target.add(source.newsId(), toEpochMillis(source.publishedAt()), TrendingTokenizer.titleTerms(source.title()));
+    }
+
+    private long windowStartMillis(int hours) {
+        return System.currentTimeMillis() - hours * 3_600_000L;
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
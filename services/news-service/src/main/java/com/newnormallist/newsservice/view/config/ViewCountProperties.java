@@ -0,0 +1,55 @@
+package com.newnormallist.newsservice.view.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/*
+    조회수 집계(인스턴스 내 카운터 누적 후 주기적 일괄 반영, 사용자별 중복 조회 제외) 설정을 YAML로 바인딩.
+*/
+@Data
+@ConfigurationProperties(prefix = "view-count")
+public class ViewCountProperties {
+
+    /**
+     * 조회수 집계 사용 여부 (false면 조회 요청을 무시)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 누적된 조회수를 DB에 반영하는 주기 (밀리초)
+     */
+    private long flushIntervalMs = 5000;
+
+    /**
+     * 한 번의 JDBC 배치로 보낼 최대 UPDATE 수
+     */
+    private int flushBatchSize = 500;
+
+    /**
+     * 같은 사용자(비로그인은 IP + User-Agent)의 같은 기사 재조회를 제외하는 기간 (분)
+     */
+    private long dedupWindowMinutes = 30;
+
+    /**
+     * 인스턴스 내 중복 조회 기록 최대 수 (Redis 장애 시에도 이 범위에서 중복 제외)
+     */
+    private long localDedupMaxSize = 200000;
+
+    /**
+     * 중복 조회 기록을 Redis에 둘지 여부 (인스턴스 간 공유, 재기동 후에도 유지)
+     */
+    private boolean redisDedupEnabled = true;
+
+    private String dedupKeyPrefix = "news:view:seen:";
+
+    /**
+     * DB에 반영된 조회수를 인스턴스 내에 보관할 최대 기사 수 (캐시된 상세 응답의 조회수 보정용)
+     */
+    private long persistedCacheSize = 50000;
+
+    /**
+     * 반영 완료 기록(news_view_flush) 보관 시간 (시간) - 재시도된 배치의 중복 반영 방지용
+     */
+    private long flushLedgerRetentionHours = 24;
+}
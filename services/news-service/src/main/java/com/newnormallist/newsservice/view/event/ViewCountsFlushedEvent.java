@@ -0,0 +1,11 @@
+package com.newnormallist.newsservice.view.event;
+
+import java.util.Map;
+
+/**
+ * 이 인스턴스의 조회수 배치가 DB에 반영됨 (ViewCountService.flush)
+ *
+ * @param deltas 기사별 반영된 조회수
+ */
+public record ViewCountsFlushedEvent(Map<Long, Long> deltas) {
+}
@@ -0,0 +1,362 @@
+package com.newnormallist.newsservice.view.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.newnormallist.newsservice.view.config.ViewCountProperties;
+import com.newnormallist.newsservice.view.event.ViewCountsFlushedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 기사 조회수 집계 서비스
+ *
+ * 역할:
+ * - 조회마다 UPDATE하지 않고 기사별 카운터(LongAdder)에 누적한 뒤 주기적으로 한 트랜잭션의 JDBC 배치로 반영
+ *   (인기 기사에 조회가 몰려도 행 잠금 경합 없이 누적)
+ * - 같은 사용자(비로그인은 IP + User-Agent)의 같은 기사 재조회는 dedup-window 동안 한 번만 집계
+ *
+ * 기능:
+ * - 중복 제외: 인스턴스 내 기록 → Redis SET NX(인스턴스 간 공유, 재기동 후에도 유지) 순으로 확인
+ * - 반영: news_id 순으로 UPDATE하고 배치 ID를 news_view_flush에 같이 기록
+ *   (커밋 결과를 모르는 실패는 같은 배치 ID로 재시도하고, 이미 기록된 배치는 건너뛰어 두 번 더하지 않음)
+ * - 종료 시 남은 조회수 반영
+ * - 응답 조회수: DB 값 + 아직 반영 안 된 이 인스턴스의 조회수 (currentCount)
+ * - 반영 후 ViewCountsFlushedEvent 발행 (인기도 순위 등 조회수 기반 집계가 DB를 다시 읽지 않도록)
+ *
+ * 관측: news.view.recorded{result}, news.view.flush{result} 타이머, news.view.pending 게이지, status()
+ *
+ * 비정상 종료 시 마지막 주기의 미반영 조회수는 잃을 수 있음 (적게 세는 쪽으로만 어긋남)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private static final String UPDATE_SQL = "UPDATE news SET view_count = view_count + ? WHERE news_id = ?";
+    private static final String LEDGER_SQL = "INSERT IGNORE INTO news_view_flush (batch_id, flushed_at) VALUES (?, NOW())";
+
+    private final ViewCountProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    // 기사별 미반영 조회수
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong batchSequence = new AtomicLong();
+    private final AtomicLong flushedViews = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private final AtomicLong dedupErrors = new AtomicLong();
+
+    private Cache<String, Boolean> seen;
+    // 마지막 반영 후 DB의 조회수 (캐시된 상세 응답에 담긴 값보다 최신)
+    private Cache<Long, Integer> persistedCounts;
+    private Counter countedViews;
+    private Counter duplicateViews;
+
+    // 반영 중이거나 실패해 재시도를 기다리는 배치
+    private volatile FlushBatch unflushedBatch;
+    private volatile LocalDateTime lastFlushedAt;
+    private volatile long lastFlushMs;
+    private volatile int lastFlushArticles;
+    private volatile LocalDateTime lastLedgerCleanupAt = LocalDateTime.now();
+
+    @PostConstruct
+    void init() {
+        seen = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalDedupMaxSize())
+                .expireAfterWrite(Duration.ofMinutes(properties.getDedupWindowMinutes()))
+                .build();
+        persistedCounts = Caffeine.newBuilder()
+                .maximumSize(properties.getPersistedCacheSize())
+                .build();
+        countedViews = meterRegistry.counter("news.view.recorded", "result", "counted");
+        duplicateViews = meterRegistry.counter("news.view.recorded", "result", "duplicate");
+        Gauge.builder("news.view.pending", this, service -> service.pendingViews())
+                .description("DB에 아직 반영되지 않은 조회수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영 (재시도 배치가 있으면 먼저 반영한 뒤 나머지)
+     */
+    @PreDestroy
+    void shutdown() {
+        flushLock.lock();
+        try {
+            flushPending();
+            if (unflushedBatch == null && pendingViews() > 0) {
+                flushPending();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 조회 한 건 기록
+     *
+     * @param viewerKey 사용자 식별 키 (viewerKey(...)로 생성)
+     * @return 집계되면 true, 중복 조회로 제외되면 false
+     */
+    public boolean record(Long newsId, String viewerKey) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        if (!firstView(newsId, viewerKey)) {
+            duplicateViews.increment();
+            return false;
+        }
+        pending.computeIfAbsent(newsId, id -> new LongAdder()).increment();
+        countedViews.increment();
+        return true;
+    }
+
+    /**
+     * 응답에 내려줄 조회수
+     *
+     * @param storedCount 응답을 만들 때 읽은 DB 값 (캐시된 응답이면 오래된 값일 수 있음)
+     */
+    public int currentCount(Long newsId, Integer storedCount) {
+        long count = storedCount != null ? storedCount : 0;
+        Integer persisted = persistedCounts.getIfPresent(newsId);
+        if (persisted != null) {
+            count = Math.max(count, persisted);
+        }
+        LongAdder adder = pending.get(newsId);
+        if (adder != null) {
+            count += adder.sum();
+        }
+        FlushBatch batch = unflushedBatch;
+        if (batch != null) {
+            count += batch.deltas().getOrDefault(newsId, 0L);
+        }
+        return (int) Math.min(Integer.MAX_VALUE, count);
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:5000}",
+            initialDelayString = "${view-count.flush-interval-ms:5000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushPending();
+            cleanupLedgerIfDue();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public Map<String, Object> status() {
+        FlushBatch batch = unflushedBatch;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", properties.isEnabled());
+        status.put("instanceId", instanceId);
+        status.put("pendingArticles", pending.size());
+        status.put("pendingViews", pendingViews());
+        status.put("unflushedBatch", batch != null ? batch.id() : null);
+        status.put("countedViews", (long) countedViews.count());
+        status.put("duplicateViews", (long) duplicateViews.count());
+        status.put("flushedViews", flushedViews.get());
+        status.put("flushFailures", flushFailures.get());
+        status.put("dedupErrors", dedupErrors.get());
+        status.put("lastFlushedAt", lastFlushedAt != null ? lastFlushedAt.toString() : null);
+        status.put("lastFlushMs", lastFlushMs);
+        status.put("lastFlushArticles", lastFlushArticles);
+        return status;
+    }
+
+    /**
+     * 중복 제외용 사용자 키 (로그인 사용자는 ID, 비로그인은 IP + User-Agent 해시)
+     */
+    public static String viewerKey(String userId, String remoteAddress, String userAgent) {
+        if (userId != null && !"anonymousUser".equals(userId)) {
+            return "u:" + userId;
+        }
+        String agent = userAgent != null ? userAgent : "";
+        return "a:" + remoteAddress + ":" + Integer.toHexString(agent.hashCode());
+    }
+
+    private boolean firstView(Long newsId, String viewerKey) {
+        String key = newsId + ":" + viewerKey;
+        if (seen.asMap().putIfAbsent(key, Boolean.TRUE) != null) {
+            return false;
+        }
+        if (!properties.isRedisDedupEnabled()) {
+            return true;
+        }
+        try {
+            Boolean first = redisTemplate.opsForValue().setIfAbsent(properties.getDedupKeyPrefix() + key, "1",
+                    Duration.ofMinutes(properties.getDedupWindowMinutes()));
+            return !Boolean.FALSE.equals(first);
+        } catch (Exception e) {
+            // Redis 장애 시 인스턴스 내 기록으로만 중복 제외
+            dedupErrors.incrementAndGet();
+            log.debug("조회수 중복 확인 Redis 실패, 인스턴스 내 기록만 사용: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void flushPending() {
+        FlushBatch batch = unflushedBatch;
+        if (batch == null) {
+            Map<Long, Long> deltas = drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            batch = new FlushBatch(instanceId + "-" + batchSequence.incrementAndGet(), deltas);
+            unflushedBatch = batch;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long started = System.currentTimeMillis();
+        boolean applied;
+        try {
+            applied = write(batch);
+        } catch (Exception e) {
+            flushFailures.incrementAndGet();
+            sample.stop(meterRegistry.timer("news.view.flush", "result", "error"));
+            log.warn("⚠️ 조회수 반영 실패, 다음 주기에 같은 배치로 재시도: batch={}, 기사 {}개, {}",
+                    batch.id(), batch.deltas().size(), e.getMessage());
+            return;
+        }
+        refreshPersistedCounts(batch);
+        unflushedBatch = null;
+
+        long views = batch.deltas().values().stream().mapToLong(Long::longValue).sum();
+        if (applied) {
+            flushedViews.addAndGet(views);
+            publishFlushed(batch);
+        } else {
+            log.info("🔎 이미 반영된 조회수 배치 건너뜀: {}", batch.id());
+        }
+        lastFlushedAt = LocalDateTime.now();
+        lastFlushMs = System.currentTimeMillis() - started;
+        lastFlushArticles = batch.deltas().size();
+        sample.stop(meterRegistry.timer("news.view.flush", "result", applied ? "success" : "duplicate"));
+        log.debug("조회수 반영: 기사 {}개, 조회 {}건, {}ms", lastFlushArticles, views, lastFlushMs);
+    }
+
+    /**
+     * 미반영 조회수를 읽은 만큼만 차감해 꺼냄 (차감 중 들어온 조회는 카운터에 남음)
+     */
+    private Map<Long, Long> drain() {
+        // news_id 순으로 UPDATE (여러 인스턴스가 동시에 반영해도 행 잠금 순서가 같도록)
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long count = adder.sum();
+            if (count > 0) {
+                adder.add(-count);
+                deltas.put(entry.getKey(), count);
+            } else if (pending.remove(entry.getKey(), adder)) {
+                // 한 주기 동안 조회가 없던 기사는 제거, 제거 직전에 들어온 조회는 새 카운터로 옮김
+                long residual = adder.sum();
+                if (residual > 0) {
+                    pending.computeIfAbsent(entry.getKey(), id -> new LongAdder()).add(residual);
+                }
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 배치 반영 (배치 ID가 이미 기록돼 있으면 반영하지 않고 false)
+     */
+    private boolean write(FlushBatch batch) {
+        Boolean applied = transactionTemplate.execute(status -> {
+            if (jdbcTemplate.update(LEDGER_SQL, batch.id()) == 0) {
+                return false;
+            }
+            jdbcTemplate.batchUpdate(UPDATE_SQL, new ArrayList<>(batch.deltas().entrySet()),
+                    Math.max(1, properties.getFlushBatchSize()),
+                    (ps, delta) -> {
+                        ps.setLong(1, delta.getValue());
+                        ps.setLong(2, delta.getKey());
+                    });
+            return true;
+        });
+        return Boolean.TRUE.equals(applied);
+    }
+
+    private void publishFlushed(FlushBatch batch) {
+        try {
+            eventPublisher.publishEvent(new ViewCountsFlushedEvent(batch.deltas()));
+        } catch (Exception e) {
+            log.warn("⚠️ 조회수 반영 이벤트 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void refreshPersistedCounts(FlushBatch batch) {
+        List<Long> ids = new ArrayList<>(batch.deltas().keySet());
+        int chunk = Math.max(1, properties.getFlushBatchSize());
+        try {
+            for (int from = 0; from < ids.size(); from += chunk) {
+                namedParameterJdbcTemplate.query("SELECT news_id, view_count FROM news WHERE news_id IN (:ids)",
+                        Map.of("ids", ids.subList(from, Math.min(ids.size(), from + chunk))),
+                        rs -> {
+                            persistedCounts.put(rs.getLong(1), rs.getInt(2));
+                        });
+            }
+        } catch (Exception e) {
+            persistedCounts.invalidateAll(ids);
+            log.warn("⚠️ 반영 후 조회수 재조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private void cleanupLedgerIfDue() {
+        if (lastLedgerCleanupAt.isAfter(LocalDateTime.now().minusHours(1))) {
+            return;
+        }
+        lastLedgerCleanupAt = LocalDateTime.now();
+        try {
+            int deleted = jdbcTemplate.update("DELETE FROM news_view_flush WHERE flushed_at < NOW() - INTERVAL ? HOUR",
+                    properties.getFlushLedgerRetentionHours());
+            log.debug("조회수 반영 기록 정리: {}건", deleted);
+        } catch (Exception e) {
+            log.warn("⚠️ 조회수 반영 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private long pendingViews() {
+        long views = 0;
+        for (LongAdder adder : pending.values()) {
+            views += adder.sum();
+        }
+        return views;
+    }
+
+    private record FlushBatch(String id, Map<Long, Long> deltas) {
+    }
+}
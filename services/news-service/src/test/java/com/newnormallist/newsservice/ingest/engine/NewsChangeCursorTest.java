@@ -0,0 +1,97 @@
+package com.newnormallist.newsservice.ingest.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경 피드 커서(NewsChangeCursor) 검증
+ *
+ * - 워터마크 - lookback 겹침 구간을 다시 읽어도 이미 받은 (news_id, updated_at)은 다시 돌려주지 않음
+ * - 겹침 구간 안에 늦게 커밋된 행과 더 늦게 수정된 같은 기사는 돌려줌
+ * - trim은 겹침 구간 밖으로 나간 기록만 지움
+ */
+class NewsChangeCursorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 1, 12, 0);
+    private static final Duration LOOKBACK = Duration.ofMinutes(5);
+
+    private NewsChangeCursor cursor;
+
+    @BeforeEach
+    void setUp() {
+        cursor = new NewsChangeCursor("test", START, LOOKBACK);
+    }
+
+    @Test
+    void acceptReturnsNewChangesAndAdvancesWatermark() {
+        List<Long> fresh = cursor.accept(rows(change(1L, 1), change(2L, 2)));
+
+        assertThat(fresh).containsExactly(1L, 2L);
+        assertThat(cursor.watermark()).isEqualTo(START.plusMinutes(2));
+        assertThat(cursor.readFrom()).isEqualTo(START.plusMinutes(2).minus(LOOKBACK));
+    }
+
+    @Test
+    void rereadInsideOverlapSkipsSeenChanges() {
+        cursor.accept(rows(change(1L, 1), change(2L, 2)));
+        cursor.trim();
+
+        // 다음 poll은 readFrom(워터마크 - 5분)부터 같은 행을 다시 읽음
+        assertThat(cursor.accept(rows(change(1L, 1), change(2L, 2)))).isEmpty();
+        assertThat(cursor.status().get("duplicatesSkipped")).isEqualTo(2L);
+        assertThat(cursor.status().get("delivered")).isEqualTo(2L);
+        assertThat(cursor.watermark()).isEqualTo(START.plusMinutes(2));
+    }
+
+    @Test
+    void lateCommittedRowInsideOverlapIsDelivered() {
+        cursor.accept(rows(change(2L, 4)));
+        cursor.trim();
+
+        // 워터마크보다 이른 updated_at으로 늦게 커밋된 행 - 겹침 구간 안이면 받음, 워터마크는 뒤로 가지 않음
+        assertThat(cursor.accept(rows(change(1L, 1), change(2L, 4)))).containsExactly(1L);
+        assertThat(cursor.watermark()).isEqualTo(START.plusMinutes(4));
+    }
+
+    @Test
+    void laterUpdateOfSameArticleIsDeliveredAgain() {
+        cursor.accept(rows(change(1L, 1)));
+
+        assertThat(cursor.accept(rows(change(1L, 1), change(1L, 3)))).containsExactly(1L);
+        assertThat(cursor.watermark()).isEqualTo(START.plusMinutes(3));
+    }
+
+    @Test
+    void trimForgetsOnlyRowsOutsideOverlap() {
+        cursor.accept(rows(change(1L, 1), change(2L, 5)));
+        cursor.trim();
+        assertThat(cursor.status().get("overlapTracked")).isEqualTo(2);
+
+        // 워터마크가 12:10이 되면 겹침 구간은 12:05부터 - 12:01 기록은 지우고 12:05 기록은 남김
+        cursor.accept(rows(change(3L, 10)));
+        cursor.trim();
+        assertThat(cursor.status().get("overlapTracked")).isEqualTo(2);
+        assertThat(cursor.accept(rows(change(2L, 5), change(3L, 10)))).isEmpty();
+    }
+
+    @Test
+    void rowsWithoutUpdatedAtAreIgnored() {
+        assertThat(cursor.accept(rows(new NewsChange(1L, null)))).isEmpty();
+        assertThat(cursor.watermark()).isEqualTo(START);
+    }
+
+    private NewsChange change(Long newsId, int minutesAfterStart) {
+        return new NewsChange(newsId, START.plusMinutes(minutesAfterStart));
+    }
+
+    private List<NewsChange> rows(NewsChange... changes) {
+        return Arrays.asList(changes);
+    }
+}
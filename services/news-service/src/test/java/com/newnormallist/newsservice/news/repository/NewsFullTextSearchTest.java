@@ -0,0 +1,130 @@
+package com.newnormallist.newsservice.news.repository;
+
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.entity.DedupState;
+import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.support.MySqlRepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FULLTEXT(ngram) 네이티브 검색 쿼리 검증 (searchIdsByFullTextBoolean / searchIdsByFullTextNatural)
+ *
+ * - 불리언 모드: 모든 조각을 포함하는 기사만, 관련도 같으면 news_id 내림차순
+ * - 공통 필터(카테고리, 언론사 부분 일치, 발행일 기간)와 COUNT 쿼리
+ * - 자연어 모드: 일부 조각만 일치해도 포함
+ */
+class NewsFullTextSearchTest extends MySqlRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0);
+    private static final LocalDateTime MIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private News chipYonhap;
+    private News chipChosun;
+    private News chipEquipment;
+    private News export;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        ensureFullTextIndex(jdbcTemplate);
+        chipYonhap = save("반도체 수출 증가", "메모리 반도체 가격 회복", Category.ECONOMY, "연합뉴스", BASE);
+        chipChosun = save("반도체 수출 증가", "메모리 반도체 가격 회복", Category.ECONOMY, "조선일보", BASE.minusDays(1));
+        chipEquipment = save("반도체 장비 투자", "장비 업계 전망", Category.IT_SCIENCE, "ZDNet", BASE.minusDays(2));
+        save("부동산 정책 발표", "정부가 대책을 내놨다", Category.ECONOMY, "연합뉴스", BASE.minusDays(3));
+        export = save("자동차 수출 둔화", "완성차 선적 감소", Category.ECONOMY, "한국경제", BASE.minusDays(4));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DELETE FROM news");
+    }
+
+    @Test
+    void booleanModeOrdersByRelevanceThenNewsId() {
+        Page<Long> page = newsRepository.searchIdsByFullTextBoolean("+\"반도체\"", null, null, false, MIN, MAX,
+                PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        // 같은 본문 두 기사는 관련도가 같아 news_id 내림차순, 한 번만 나오는 기사가 마지막
+        assertThat(page.getContent())
+                .containsExactly(chipChosun.getNewsId(), chipYonhap.getNewsId(), chipEquipment.getNewsId());
+    }
+
+    @Test
+    void booleanModeRequiresEveryTerm() {
+        Page<Long> page = newsRepository.searchIdsByFullTextBoolean("+\"반도체\" +\"수출\"", null, null, false, MIN, MAX,
+                PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).containsExactlyInAnyOrder(chipYonhap.getNewsId(), chipChosun.getNewsId());
+    }
+
+    @Test
+    void filtersApplyToRowsAndCount() {
+        assertThat(newsRepository.searchIdsByFullTextBoolean("+\"반도체\"", "IT_SCIENCE", null, false, MIN, MAX,
+                PageRequest.of(0, 10)).getContent())
+                .containsExactly(chipEquipment.getNewsId());
+
+        Page<Long> byPress = newsRepository.searchIdsByFullTextBoolean("+\"반도체\"", null, "연합", false, MIN, MAX,
+                PageRequest.of(0, 10));
+        assertThat(byPress.getContent()).containsExactly(chipYonhap.getNewsId());
+        assertThat(byPress.getTotalElements()).isEqualTo(1);
+
+        Page<Long> byDate = newsRepository.searchIdsByFullTextBoolean("+\"반도체\"", null, null, true,
+                BASE.minusDays(1).minusHours(1), BASE, PageRequest.of(0, 10));
+        assertThat(byDate.getContent()).containsExactlyInAnyOrder(chipYonhap.getNewsId(), chipChosun.getNewsId());
+    }
+
+    @Test
+    void pagingKeepsTotalAcrossPages() {
+        Page<Long> second = newsRepository.searchIdsByFullTextBoolean("+\"반도체\"", null, null, false, MIN, MAX,
+                PageRequest.of(1, 1));
+
+        assertThat(second.getTotalElements()).isEqualTo(3);
+        assertThat(second.getContent()).containsExactly(chipYonhap.getNewsId());
+    }
+
+    @Test
+    void naturalModeMatchesAnyTerm() {
+        Page<Long> page = newsRepository.searchIdsByFullTextNatural("반도체 수출", null, null, false, MIN, MAX,
+                PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).containsExactlyInAnyOrder(chipYonhap.getNewsId(), chipChosun.getNewsId(),
+                chipEquipment.getNewsId(), export.getNewsId());
+        assertThat(page.getContent().subList(0, 2))
+                .containsExactly(chipChosun.getNewsId(), chipYonhap.getNewsId());
+    }
+
+    private News save(String title, String content, Category category, String press, LocalDateTime publishedAt) {
+        return newsRepository.save(News.builder()
+                .title(title)
+                .content(content)
+                .categoryName(category)
+                .press(press)
+                .reporter("기자")
+                .dedupState(DedupState.KEPT)
+                .trusted(true)
+                .link("https://news.example.com/" + title.hashCode() + "/" + press.hashCode())
+                .oidAid("001-" + title.hashCode() + "-" + press.hashCode())
+                .publishedAtDateTime(publishedAt)
+                .build());
+    }
+}
@@ -0,0 +1,147 @@
+package com.newnormallist.newsservice.news.repository;
+
+import com.newnormallist.newsservice.news.dto.NewsCursor;
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.entity.DedupState;
+import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.recommendation.repository.RecommendationNewsRepository;
+import com.newnormallist.newsservice.support.MySqlRepositoryTest;
+import com.newnormallist.newsservice.support.SqlCaptureInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발행일 정렬/기간/커서 쿼리의 실행 계획 검증
+ *
+ * 리포지토리 메서드를 실제로 호출해 Hibernate가 만든 SQL을 기록하고, 같은 바인딩 값으로 EXPLAIN 해서
+ * - published_at_datetime 인덱스(idx_news_category_published / idx_news_published)를 타는지
+ * - filesort 없이 인덱스 순서로 정렬하는지 확인
+ * 쿼리가 다시 문자열 발행일(STR_TO_DATE) 정렬로 바뀌거나 엔티티의 @Index가 빠지면 실패
+ */
+class NewsQueryPlanTest extends MySqlRepositoryTest {
+
+    private static final String CATEGORY_INDEX = "idx_news_category_published";
+    private static final String PUBLISHED_INDEX = "idx_news_published";
+    private static final List<Category> CATEGORIES = List.of(Category.POLITICS, Category.ECONOMY, Category.SOCIETY);
+    private static final int ROWS = 3000;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private RecommendationNewsRepository recommendationNewsRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        now = LocalDateTime.now().withNano(0);
+        // 60일에 걸친 기사 (옵티마이저가 빈 테이블처럼 전체 스캔을 고르지 않도록 충분한 행 수)
+        List<News> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(News.builder()
+                    .title("기사 " + i)
+                    .categoryName(CATEGORIES.get(i % CATEGORIES.size()))
+                    .content("본문 " + i)
+                    .press("언론사" + (i % 7))
+                    .reporter("기자")
+                    .dedupState(DedupState.KEPT)
+                    .trusted(true)
+                    .link("https://news.example.com/" + i)
+                    .oidAid("001-" + i)
+                    .publishedAtDateTime(now.minusMinutes(i * 29L))
+                    .build());
+        }
+        newsRepository.saveAll(rows);
+        jdbcTemplate.execute("ANALYZE TABLE news");
+        SqlCaptureInspector.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DELETE FROM news");
+    }
+
+    @Test
+    void categoryLatestUsesCategoryIndex() {
+        newsRepository.findCardsByCategory(Category.POLITICS, PageRequest.of(0, 20));
+
+        assertPlan(SqlCaptureInspector.firstSelect(), CATEGORY_INDEX, "POLITICS", 20);
+    }
+
+    @Test
+    void latestUsesPublishedIndex() {
+        newsRepository.findLatestCards(PageRequest.of(0, 20));
+
+        assertPlan(SqlCaptureInspector.firstSelect(), PUBLISHED_INDEX, 20);
+    }
+
+    @Test
+    void dateRangeUsesPublishedIndex() {
+        LocalDateTime from = now.minusDays(1);
+        newsRepository.findCardsByPublishedAtBetween(from, now);
+
+        assertPlan(SqlCaptureInspector.firstSelect(), PUBLISHED_INDEX, from, now);
+    }
+
+    @Test
+    void categoryDateRangeUsesCategoryIndex() {
+        LocalDateTime from = now.minusDays(1);
+        newsRepository.findByPublishedAtBetweenAndCategoryNameAndNewsIdNotIn(from, now, Category.POLITICS, List.of(0L));
+
+        assertPlan(SqlCaptureInspector.firstSelect(), CATEGORY_INDEX, from, now, "POLITICS", 0L);
+    }
+
+    @Test
+    void categoryKeysetUsesCategoryIndex() {
+        LocalDateTime cursorAt = now.minusDays(3);
+        Specification<News> spec = Specification.allOf(
+                NewsSpecifications.categoryEquals(Category.POLITICS),
+                NewsSpecifications.after(new NewsCursor(cursorAt, 1_000_000L)));
+        newsRepository.findCards(spec, Sort.by(Sort.Direction.DESC, "publishedAtDateTime", "newsId"), 21);
+
+        assertPlan(SqlCaptureInspector.firstSelect(), CATEGORY_INDEX, "POLITICS", cursorAt, cursorAt, 1_000_000L, 21);
+    }
+
+    @Test
+    void latestKeysetUsesPublishedIndex() {
+        LocalDateTime cursorAt = now.minusDays(3);
+        recommendationNewsRepository.findLatestAfter(cursorAt, 1_000_000L, PageRequest.of(0, 22));
+
+        assertPlan(SqlCaptureInspector.firstSelect(), PUBLISHED_INDEX, cursorAt, cursorAt, 1_000_000L, 22);
+    }
+
+    /**
+     * 기록된 SQL을 호출 때와 같은 순서의 바인딩 값으로 EXPLAIN
+     */
+    private void assertPlan(String sql, String expectedIndex, Object... args) {
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as("바인딩 개수: %s", sql)
+                .isEqualTo(args.length);
+
+        Map<String, Object> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args).get(0);
+        String extra = plan.get("Extra") != null ? plan.get("Extra").toString() : "";
+
+        assertThat(plan.get("key")).as("사용 인덱스: %s / %s", sql, plan).isEqualTo(expectedIndex);
+        assertThat(extra).as("정렬 방식: %s / %s", sql, plan).doesNotContain("Using filesort");
+    }
+}
@@ -0,0 +1,172 @@
+package com.newnormallist.newsservice.news.repository;
+
+import com.newnormallist.newsservice.news.dto.NewsCard;
+import com.newnormallist.newsservice.news.dto.NewsCursor;
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.entity.DedupState;
+import com.newnormallist.newsservice.news.entity.News;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 조건 조합(NewsSpecifications) 검증 - H2 테스트 프로필 (application-test.yml 데이터소스 사용)
+ *
+ * - 빈 조건은 제외되고 나머지는 AND로 결합
+ * - LIKE 특수문자(%, _, \)는 검색어 문자 그대로 비교
+ * - 키셋 조건은 (published_at_datetime DESC, news_id DESC) 순서에서 커서 다음 기사만
+ */
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class NewsSpecificationsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0);
+    private static final Sort LATEST = Sort.by(Sort.Direction.DESC, "publishedAtDateTime", "newsId");
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    private News discount;
+    private News price;
+    private News snake;
+    private News plain;
+    private News path;
+    private News undated;
+
+    @BeforeEach
+    void seed() {
+        discount = save("연말 100% 환급 행사", "본문", Category.ECONOMY, "Yonhap_News", BASE);
+        price = save("배추 1000원 인상", "본문", Category.ECONOMY, "연합뉴스", BASE.minusDays(1));
+        snake = save("변수명 user_id 규칙", "본문", Category.IT_SCIENCE, "ZDNet", BASE.minusDays(2));
+        plain = save("변수명 userXid 규칙", "본문에 100 퍼센트", Category.IT_SCIENCE, "YonhapXNews", BASE.minusDays(3));
+        path = save("경로 C:\\temp 정리", "본문", Category.LIFE, "ZDNet", BASE.minusDays(4));
+        undated = save("발행일 없는 기사", "본문", Category.LIFE, "연합뉴스", null);
+    }
+
+    @Test
+    void emptyConditionsMatchEverything() {
+        List<News> all = newsRepository.findAll(NewsSpecifications.searchFilters(null, null, "", null, null));
+
+        assertThat(all).hasSize(6);
+        assertThat(NewsSpecifications.keywordContains("")).isNull();
+        assertThat(NewsSpecifications.pressContains(null)).isNull();
+        assertThat(NewsSpecifications.after(null)).isNull();
+    }
+
+    @Test
+    void percentInKeywordIsLiteral() {
+        assertThat(ids(NewsSpecifications.keywordContains("100%"))).containsExactly(discount.getNewsId());
+    }
+
+    @Test
+    void underscoreInKeywordIsLiteral() {
+        assertThat(ids(NewsSpecifications.keywordContains("user_id"))).containsExactly(snake.getNewsId());
+    }
+
+    @Test
+    void backslashInKeywordIsLiteral() {
+        assertThat(ids(NewsSpecifications.keywordContains("C:\\temp"))).containsExactly(path.getNewsId());
+        assertThat(ids(NewsSpecifications.keywordContains("\\%"))).isEmpty();
+    }
+
+    @Test
+    void keywordMatchesTitleOrContent() {
+        assertThat(ids(NewsSpecifications.keywordContains("100")))
+                .containsExactlyInAnyOrder(discount.getNewsId(), price.getNewsId(), plain.getNewsId());
+    }
+
+    @Test
+    void pressIsCaseInsensitiveAndEscaped() {
+        assertThat(ids(NewsSpecifications.pressContains("yonhap_")))
+                .containsExactly(discount.getNewsId());
+        assertThat(ids(NewsSpecifications.pressContains("YONHAP")))
+                .containsExactlyInAnyOrder(discount.getNewsId(), plain.getNewsId());
+    }
+
+    @Test
+    void filtersCombineWithAnd() {
+        assertThat(ids(NewsSpecifications.searchFilters("변수명", Category.IT_SCIENCE, "zdnet", null, null)))
+                .containsExactly(snake.getNewsId());
+        assertThat(ids(NewsSpecifications.searchFilters("100", Category.ECONOMY, null, null, null)))
+                .containsExactlyInAnyOrder(discount.getNewsId(), price.getNewsId());
+        assertThat(ids(NewsSpecifications.searchFilters("100", Category.LIFE, null, null, null))).isEmpty();
+    }
+
+    @Test
+    void dateRangeIsInclusiveAndExcludesUndated() {
+        List<Long> ids = ids(NewsSpecifications.searchFilters(null, null, null, BASE.minusDays(3), BASE.minusDays(1)));
+
+        assertThat(ids).containsExactlyInAnyOrder(price.getNewsId(), snake.getNewsId(), plain.getNewsId());
+        assertThat(ids(NewsSpecifications.publishedFrom(BASE))).containsExactly(discount.getNewsId());
+        assertThat(ids(NewsSpecifications.publishedTo(BASE.minusDays(4)))).containsExactly(path.getNewsId());
+    }
+
+    @Test
+    void cardPagesApplyFiltersSortAndCount() {
+        Page<NewsCard> page = newsRepository.findCards(
+                NewsSpecifications.searchFilters(null, Category.IT_SCIENCE, null, null, null),
+                PageRequest.of(0, 1, LATEST));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(NewsCard::newsId).containsExactly(snake.getNewsId());
+    }
+
+    @Test
+    void keysetWalksLatestOrderWithoutGapsOrDuplicates() {
+        List<Long> walked = new ArrayList<>();
+        NewsCursor cursor = null;
+        do {
+            List<NewsCard> rows = newsRepository.findCards(NewsSpecifications.after(cursor), LATEST, 2);
+            rows.forEach(card -> walked.add(card.newsId()));
+            NewsCard last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+            cursor = rows.size() < 2 ? null : new NewsCursor(last.publishedAtDateTime(), last.newsId());
+        } while (cursor != null);
+
+        assertThat(walked).containsExactly(discount.getNewsId(), price.getNewsId(), snake.getNewsId(),
+                plain.getNewsId(), path.getNewsId(), undated.getNewsId());
+    }
+
+    @Test
+    void keysetCombinesWithFilters() {
+        Specification<News> spec = Specification.allOf(
+                NewsSpecifications.searchFilters(null, Category.LIFE, null, null, null),
+                NewsSpecifications.after(new NewsCursor(path.getPublishedAtDateTime(), path.getNewsId())));
+
+        assertThat(newsRepository.findCards(spec, LATEST, 10))
+                .extracting(NewsCard::newsId)
+                .containsExactly(undated.getNewsId());
+    }
+
+    private List<Long> ids(Specification<News> spec) {
+        return newsRepository.findAll(spec).stream().map(News::getNewsId).toList();
+    }
+
+    private News save(String title, String content, Category category, String press, LocalDateTime publishedAt) {
+        return newsRepository.save(News.builder()
+                .title(title)
+                .content(content)
+                .categoryName(category)
+                .press(press)
+                .reporter("기자")
+                .dedupState(DedupState.KEPT)
+                .trusted(true)
+                .link("https://news.example.com/" + title.hashCode())
+                .oidAid("001-" + title.hashCode())
+                .publishedAtDateTime(publishedAt)
+                .build());
+    }
+}
@@ -0,0 +1,225 @@
+package com.newnormallist.newsservice.search;
+
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import com.newnormallist.newsservice.news.repository.NewsSpecifications;
+import com.newnormallist.newsservice.search.index.IndexedDocument;
+import com.newnormallist.newsservice.search.index.NgramInvertedIndex;
+import com.newnormallist.newsservice.search.index.NgramTokenizer;
+import com.newnormallist.newsservice.search.index.SearchFilter;
+import com.newnormallist.newsservice.search.index.SearchHits;
+import com.newnormallist.newsservice.search.index.SearchSort;
+import com.newnormallist.newsservice.support.MySqlRepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 백엔드 지연 시간 비교 (요청 경로 밖에서 실행하는 측정용 테스트)
+ *
+ * 실행: ./gradlew benchmark --tests '*SearchBackendBenchmark' -PbenchmarkRows=1000000 -PbenchmarkIterations=20
+ * - 일반 test 태스크에서는 제외 (@Tag("benchmark")), Docker 필요
+ * - MySQL 컨테이너에 합성 기사 N건(기본 10만)을 적재하고 ddl_News.sql과 같은 FULLTEXT(ngram) 색인 추가
+ * - 같은 검색어로 LIKE / FULLTEXT(불리언, 자연어) / 인메모리 색인, 필터 조합(Specification 카드 조회) 측정
+ *
+ * 측정: 검색어마다 1회 예열 후 반복 실행, 첫 페이지(20건) 기준 p50/p95/최대(ms)를 표준 출력으로 기록
+ */
+@Tag("benchmark")
+class SearchBackendBenchmark extends MySqlRepositoryTest {
+
+    private static final List<String> QUERIES = List.of("경제", "대통령", "반도체 수출", "부동산 정책", "인공지능");
+    private static final List<String> WORDS = List.of(
+            "경제", "대통령", "반도체", "수출", "부동산", "정책", "인공지능", "금리", "물가", "환율",
+            "국회", "선거", "기업", "투자", "주가", "고용", "교육", "의료", "날씨", "태풍",
+            "야구", "축구", "공연", "전시", "여행", "스마트폰", "배터리", "자동차", "조선", "항공");
+    private static final List<String> PRESSES = List.of("연합뉴스", "조선일보", "한국경제", "ZDNet", "매일경제", "KBS", "MBC");
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+    private static final Sort LATEST = Sort.by(Sort.Direction.DESC, "publishedAtDateTime", "newsId");
+    private static final LocalDateTime MIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final int BATCH = 1000;
+
+    private final int rows = Integer.getInteger("benchmark.rows", 100_000);
+    private final int iterations = Math.max(1, Integer.getInteger("benchmark.iterations", 20));
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DELETE FROM news");
+    }
+
+    @Test
+    void compareSearchBackends() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        NgramInvertedIndex index = new NgramInvertedIndex(0);
+        long loadStarted = System.nanoTime();
+        load(now, index);
+        ensureFullTextIndex(jdbcTemplate);
+        jdbcTemplate.execute("ANALYZE TABLE news");
+        System.out.printf("⏱️ 합성 기사 %d건 적재 + FULLTEXT 색인: %.1fs%n", rows, (System.nanoTime() - loadStarted) / 1e9);
+
+        Map<String, Map<String, Object>> backends = new LinkedHashMap<>();
+        backends.put("like", measure(QUERIES,
+                query -> newsRepository.searchByKeyword(query, FIRST_PAGE).getTotalElements()));
+        backends.put("fulltext_boolean", measure(QUERIES,
+                query -> newsRepository.searchIdsByFullTextBoolean(toBooleanQuery(query), null, null, false, MIN, MAX,
+                        FIRST_PAGE).getTotalElements()));
+        backends.put("fulltext_natural", measure(QUERIES,
+                query -> newsRepository.searchIdsByFullTextNatural(String.join(" ", NgramTokenizer.queryTerms(query)),
+                        null, null, false, MIN, MAX, FIRST_PAGE).getTotalElements()));
+        backends.put("index", measure(QUERIES, query -> {
+            SearchHits hits = index.search(query, SearchFilter.NONE, SearchSort.RELEVANCE, 2.0, 1.2, 0.75, 0,
+                    FIRST_PAGE.getPageSize());
+            return hits != null ? hits.total() : -1;
+        }));
+
+        // 필터 조합 (LIKE 경로: 필터/정렬/페이징 모두 SQL)
+        LocalDateTime weekAgo = now.minusDays(7);
+        Map<String, FilterCase> cases = new LinkedHashMap<>();
+        cases.put("keywordOnly", new FilterCase(null, null, null, null));
+        cases.put("category", new FilterCase(Category.ECONOMY, null, null, null));
+        cases.put("press", new FilterCase(null, "연합", null, null));
+        cases.put("lastWeek", new FilterCase(null, null, weekAgo, now));
+        cases.put("categoryLastWeek", new FilterCase(Category.ECONOMY, null, weekAgo, now));
+        cases.put("allFilters", new FilterCase(Category.ECONOMY, "연합", weekAgo, now));
+        for (Map.Entry<String, FilterCase> entry : cases.entrySet()) {
+            FilterCase c = entry.getValue();
+            backends.put("filters." + entry.getKey(), measure(List.of(QUERIES.get(0)),
+                    query -> newsRepository.findCards(
+                            NewsSpecifications.searchFilters(query, c.category(), c.press(), c.from(), c.to()),
+                            PageRequest.of(0, FIRST_PAGE.getPageSize(), LATEST)).getTotalElements()));
+        }
+
+        System.out.printf("🔎 검색 벤치마크 (rows=%d, iterations=%d)%n", rows, iterations);
+        backends.forEach((backend, result) -> System.out.printf("%-28s %s%n", backend, result));
+
+        // 불리언 FULLTEXT와 인메모리 색인은 같은 규칙(모든 조각 포함)이므로 건수가 같아야 함
+        assertThat(hitsOf(backends.get("fulltext_boolean"))).isEqualTo(hitsOf(backends.get("index")));
+    }
+
+    /**
+     * news_id를 직접 지정해 적재하고 같은 문서를 인메모리 색인에도 추가
+     */
+    private void load(LocalDateTime now, NgramInvertedIndex index) {
+        Random random = new Random(42);
+        String sql = "INSERT INTO news (news_id, title, category_name, content, press, reporter, dedup_state, " +
+                "trusted, oid_aid, link, status, published_at_datetime) VALUES (?, ?, ?, ?, ?, ?, ?, 1, ?, ?, 'PUBLISHED', ?)";
+        List<Object[]> batch = new ArrayList<>(BATCH);
+        for (int i = 1; i <= rows; i++) {
+            String title = sentence(random, 4 + random.nextInt(4));
+            String content = sentence(random, 40 + random.nextInt(60));
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)].name();
+            String press = PRESSES.get(random.nextInt(PRESSES.size()));
+            LocalDateTime publishedAt = now.minusMinutes(random.nextInt(60 * 24 * 90));
+            batch.add(new Object[]{i, title, category, content, press, "기자", "KEPT", "bench-" + i,
+                    "https://news.example.com/bench/" + i, Timestamp.valueOf(publishedAt)});
+            index.add(new IndexedDocument(i, title, content, category, press,
+                    publishedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+            if (batch.size() == BATCH || i == rows) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return sb.toString();
+    }
+
+    private String toBooleanQuery(String query) {
+        return NgramTokenizer.queryTerms(query).stream()
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+    }
+
+    private Map<String, Object> measure(List<String> queries, ToLongFunction<String> search) {
+        Map<String, Object> perQuery = new LinkedHashMap<>();
+        List<Long> all = new ArrayList<>();
+        for (String query : queries) {
+            long total = search.applyAsLong(query); // 예열
+            long[] samples = new long[iterations];
+            for (int i = 0; i < iterations; i++) {
+                long started = System.nanoTime();
+                search.applyAsLong(query);
+                samples[i] = System.nanoTime() - started;
+                all.add(samples[i]);
+            }
+            Map<String, Object> stats = summarize(samples);
+            stats.put("hits", total);
+            perQuery.put(query, stats);
+        }
+        Map<String, Object> measured = new LinkedHashMap<>();
+        measured.put("overall", summarize(all.stream().mapToLong(Long::longValue).toArray()));
+        measured.put("perQuery", perQuery);
+        return measured;
+    }
+
+    private Map<String, Object> summarize(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("p50Ms", toMillis(percentile(sorted, 0.50)));
+        stats.put("p95Ms", toMillis(percentile(sorted, 0.95)));
+        stats.put("maxMs", toMillis(sorted.length > 0 ? sorted[sorted.length - 1] : 0));
+        return stats;
+    }
+
+    private long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> hitsOf(Map<String, Object> measured) {
+        Map<String, Object> perQuery = (Map<String, Object>) measured.get("perQuery");
+        return perQuery.values().stream()
+                .map(stats -> ((Map<String, Object>) stats).get("hits"))
+                .toList();
+    }
+
+    private record FilterCase(Category category, String press, LocalDateTime from, LocalDateTime to) {
+    }
+}
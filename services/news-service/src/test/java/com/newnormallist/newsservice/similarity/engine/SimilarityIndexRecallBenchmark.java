@@ -0,0 +1,155 @@
+package com.newnormallist.newsservice.similarity.engine;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유사 기사 색인(LSH) 재현율/지연 시간 측정 - 합성 기사 집합 (요청 경로 밖에서 실행하는 측정용 테스트)
+ *
+ * 실행: ./gradlew benchmark --tests '*SimilarityIndexRecallBenchmark' -PbenchmarkArticles=30000
+ * - 일반 test 태스크에서는 제외 (@Tag("benchmark"))
+ * - 같은 사건을 여러 언론사가 쓴 묶음(기사 10개)을 흉내: 사건별 핵심 단어(절반은 같은 분야 사건과 공유)
+ *   + 기사별 단어 선택/누락 + 공통 어휘 잡음 (본문 중 사건 단어 비율: -PbenchmarkStoryShare, 기본 0.3)
+ * - 색인 설정은 similarity 기본값 (본문 600자, bigram 96개, 32테이블 x 12비트, multi-probe)
+ *   테이블/비트 수 비교: -PbenchmarkTables=32 -PbenchmarkBits=14
+ * - 표본 기사마다 LSH 상위 k개와 전체 비교(bruteForce) 상위 k개를 비교해 recall@k, 후보 비율, 지연 시간 출력
+ */
+@Tag("benchmark")
+class SimilarityIndexRecallBenchmark {
+
+    private static final int K = 4;
+    private static final int CONTENT_CHARS = 600;
+    private static final int MAX_TERMS = 96;
+    private static final int STORY_SIZE = 10;
+    private static final int STORY_WORDS = 24;
+    private static final int TOPICS = 40;
+    private static final int TOPIC_WORDS = 80;
+    private static final int COMMON_WORDS = 3000;
+    private static final double STORY_SHARE = Double.parseDouble(System.getProperty("benchmark.storyShare", "0.3"));
+
+    private final int articles = Integer.getInteger("benchmark.articles", 30_000);
+    private final int samples = Integer.getInteger("benchmark.samples", 500);
+    private final int tables = Integer.getInteger("benchmark.tables", 32);
+    private final int bits = Integer.getInteger("benchmark.bits", 12);
+
+    @Test
+    void lshRecallAgainstBruteForce() {
+        Random random = new Random(7);
+        List<String> common = words(random, COMMON_WORDS);
+        List<List<String>> topics = new ArrayList<>(TOPICS);
+        for (int t = 0; t < TOPICS; t++) {
+            topics.add(words(random, TOPIC_WORDS));
+        }
+        SimilarityIndex index = new SimilarityIndex(MAX_TERMS, tables, bits, true, articles);
+        index.addAll(corpus(random, topics, common));
+
+        List<Long> sampleIds = index.sampleNewsIds(samples, new Random(samples * 31L + K));
+        long[] lshNanos = new long[sampleIds.size()];
+        long[] bruteNanos = new long[sampleIds.size()];
+        double recallSum = 0;
+        long candidateSum = 0;
+        for (int i = 0; i < sampleIds.size(); i++) {
+            long newsId = sampleIds.get(i);
+            // 측정 순서에 따른 캐시 효과를 줄이기 위해 전체 비교를 먼저 실행
+            long started = System.nanoTime();
+            List<SimilarNews> exact = index.bruteForce(newsId, K);
+            bruteNanos[i] = System.nanoTime() - started;
+            started = System.nanoTime();
+            List<SimilarNews> approximate = index.nearest(newsId, K);
+            lshNanos[i] = System.nanoTime() - started;
+
+            Set<Long> found = new HashSet<>();
+            approximate.forEach(item -> found.add(item.newsId()));
+            long hit = exact.stream().filter(item -> found.contains(item.newsId())).count();
+            recallSum += exact.isEmpty() ? 1.0 : (double) hit / exact.size();
+            candidateSum += Math.max(0, index.candidateCount(newsId) - 1);
+        }
+
+        double recall = recallSum / sampleIds.size();
+        double candidateRatio = (double) candidateSum / sampleIds.size() / (index.size() - 1);
+        double timeRatio = (double) sum(lshNanos) / sum(bruteNanos);
+        System.out.printf("🔎 유사 기사 색인 벤치마크 (articles=%d, samples=%d, %dx%d multi-probe)%n",
+                index.size(), sampleIds.size(), tables, bits);
+        System.out.printf("recall@%d=%.3f, 후보 비율=%.1f%%, LSH/전체 비교 시간=%.1f%%%n",
+                K, recall, candidateRatio * 100, timeRatio * 100);
+        System.out.printf("lsh p50/p95=%.2f/%.2fms, bruteForce p50/p95=%.2f/%.2fms%n",
+                percentileMs(lshNanos, 0.50), percentileMs(lshNanos, 0.95),
+                percentileMs(bruteNanos, 0.50), percentileMs(bruteNanos, 0.95));
+
+        // 기본 설정이 LSH를 쓰는 의미가 있는지만 확인 (정확한 수치는 출력으로 비교)
+        assertThat(recall).isGreaterThan(0.8);
+        assertThat(timeRatio).isLessThan(1.0);
+    }
+
+    /**
+     * 사건 묶음별 기사 (제목: 핵심 단어 4개, 본문: 핵심 단어 일부 + 공통 어휘)
+     */
+    private List<SimilarityDocument> corpus(Random random, List<List<String>> topics, List<String> common) {
+        List<SimilarityDocument> documents = new ArrayList<>(articles);
+        long publishedMillis = 1_790_000_000_000L;
+        List<String> story = List.of();
+        for (int i = 0; i < articles; i++) {
+            if (i % STORY_SIZE == 0) {
+                List<String> topic = topics.get(random.nextInt(topics.size()));
+                List<String> next = new ArrayList<>(words(random, STORY_WORDS / 2));
+                for (int w = 0; w < STORY_WORDS / 2; w++) {
+                    next.add(topic.get(random.nextInt(topic.size())));
+                }
+                story = next;
+            }
+            StringBuilder title = new StringBuilder();
+            for (int w = 0; w < 4; w++) {
+                title.append(story.get(random.nextInt(8))).append(' ');
+            }
+            StringBuilder content = new StringBuilder();
+            while (content.length() < CONTENT_CHARS) {
+                double roll = random.nextDouble();
+                if (roll < STORY_SHARE) {
+                    content.append(story.get(random.nextInt(story.size())));
+                } else if (roll < STORY_SHARE + 0.05) {
+                    continue;
+                } else {
+                    content.append(common.get(random.nextInt(common.size())));
+                }
+                content.append(' ');
+            }
+            documents.add(new SimilarityDocument(i + 1, publishedMillis + i * 1000L,
+                    title.toString().trim(), content.substring(0, CONTENT_CHARS)));
+        }
+        return documents;
+    }
+
+    // 2~4음절 무작위 한글 단어
+    private List<String> words(Random random, int count) {
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = 2 + random.nextInt(3);
+            StringBuilder word = new StringBuilder(length);
+            for (int c = 0; c < length; c++) {
+                word.append((char) (0xAC00 + random.nextInt(11172)));
+            }
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    private long sum(long[] nanos) {
+        return Arrays.stream(nanos).sum();
+    }
+
+    private double percentileMs(long[] nanos, double p) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.newnormallist.newsservice.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * MySQL 전용 쿼리(FULLTEXT MATCH, 실행 계획) 리포지토리 테스트 기반
+ *
+ * - MySQL 8 컨테이너에 엔티티 스키마 생성 (Docker가 없으면 테스트 전체를 건너뜀)
+ * - 테스트 트랜잭션을 쓰지 않음: InnoDB FULLTEXT 색인은 커밋된 행만 보므로 데이터는 커밋 후 @AfterEach에서 정리
+ * - 실행된 SQL은 SqlCaptureInspector에 기록
+ * - FULLTEXT 색인은 엔티티 스키마에 없으므로 ensureFullTextIndex로 ddl_News.sql과 같은 색인을 추가
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.newnormallist.newsservice.support.SqlCaptureInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MySqlRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36");
+
+    /**
+     * ddl_News.sql의 ft_news_title_content(ngram) 색인이 없으면 추가
+     */
+    protected static void ensureFullTextIndex(JdbcTemplate jdbcTemplate) {
+        Integer indexes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'news' AND INDEX_NAME = 'ft_news_title_content'",
+                Integer.class);
+        if (indexes == null || indexes == 0) {
+            jdbcTemplate.execute("ALTER TABLE news ADD FULLTEXT INDEX ft_news_title_content (title, content) WITH PARSER ngram");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.newnormallist.newsservice.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate가 생성해 실행하는 SQL 기록 (테스트 전용)
+ *
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * 마지막 clear() 이후 처음 실행된 SELECT (페이지 조회의 COUNT 쿼리보다 본 쿼리가 먼저 실행됨)
+     */
+    public static String firstSelect() {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("실행된 SELECT 없음: " + STATEMENTS));
+    }
+}
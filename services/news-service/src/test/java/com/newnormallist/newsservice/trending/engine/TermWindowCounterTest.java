@@ -0,0 +1,111 @@
+package com.newnormallist.newsservice.trending.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시간 버킷 단어 빈도(TermWindowCounter) 검증
+ *
+ * - 같은 기사를 다시 반영하면 이전 반영분을 빼고 다시 더함 (수정된 기사)
+ * - remove/evictBefore 후 occurrences와 기사별 반영분이 어긋나지 않음 (만료된 기사를 다시 차감하지 않음)
+ * - top은 윈도우 시작 버킷 이후만 합산하고 반영 후 캐시된 결과를 다시 쓰지 않음
+ */
+class TermWindowCounterTest {
+
+    private static final long BUCKET = 60_000L;
+
+    private TermWindowCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new TermWindowCounter(BUCKET);
+    }
+
+    @Test
+    void addCountsTermsAcrossArticles() {
+        counter.add(1L, 0, List.of("반도체", "수출"));
+        counter.add(2L, 10_000, List.of("반도체", "금리"));
+
+        assertThat(counter.top(0, 10)).containsExactly(
+                new TermCount("반도체", 2), new TermCount("금리", 1), new TermCount("수출", 1));
+        assertThat(counter.stats().get("occurrences")).isEqualTo(4L);
+        assertThat(counter.newsIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void reAddReplacesPreviousContribution() {
+        counter.add(1L, 0, List.of("반도체", "수출"));
+        counter.top(0, 10);
+
+        // 제목 수정 + 발행 시각이 다른 버킷으로 바뀐 기사
+        counter.add(1L, 2 * BUCKET, List.of("수출", "환율"));
+
+        assertThat(counter.top(0, 10)).containsExactly(new TermCount("수출", 1), new TermCount("환율", 1));
+        assertThat(counter.top(2 * BUCKET, 10)).containsExactly(new TermCount("수출", 1), new TermCount("환율", 1));
+        assertThat(counter.stats().get("occurrences")).isEqualTo(2L);
+        assertThat(counter.stats().get("buckets")).isEqualTo(1);
+        assertThat(counter.stats().get("articles")).isEqualTo(1);
+    }
+
+    @Test
+    void reAddWithoutTermsDropsArticle() {
+        counter.add(1L, 0, List.of("반도체"));
+        counter.add(1L, 0, List.of());
+
+        assertThat(counter.top(0, 10)).isEmpty();
+        assertThat(counter.newsIds()).isEmpty();
+        assertThat(counter.stats().get("occurrences")).isEqualTo(0L);
+    }
+
+    @Test
+    void removeSubtractsOnce() {
+        counter.add(1L, 0, List.of("반도체", "반도체", "수출"));
+        counter.add(2L, 0, List.of("반도체"));
+
+        assertThat(counter.remove(1L)).isTrue();
+        assertThat(counter.remove(1L)).isFalse();
+
+        assertThat(counter.top(0, 10)).containsExactly(new TermCount("반도체", 1));
+        assertThat(counter.stats().get("occurrences")).isEqualTo(1L);
+        assertThat(counter.newsIds()).containsExactly(2L);
+    }
+
+    @Test
+    void evictBeforeDropsOldBucketsAndTheirArticles() {
+        counter.add(1L, 0, List.of("반도체", "수출"));
+        counter.add(2L, BUCKET, List.of("금리"));
+        counter.add(3L, 3 * BUCKET, List.of("금리", "환율"));
+
+        assertThat(counter.evictBefore(2 * BUCKET + 1)).isEqualTo(2);
+
+        assertThat(counter.newsIds()).containsExactly(3L);
+        assertThat(counter.stats().get("occurrences")).isEqualTo(2L);
+        assertThat(counter.top(0, 10)).containsExactly(new TermCount("금리", 1), new TermCount("환율", 1));
+
+        // 만료된 기사의 삭제/재반영은 이미 빠진 반영분을 다시 차감하지 않음
+        assertThat(counter.remove(1L)).isFalse();
+        counter.add(2L, 3 * BUCKET, List.of("금리"));
+        assertThat(counter.top(0, 10)).containsExactly(new TermCount("금리", 2), new TermCount("환율", 1));
+        assertThat(counter.stats().get("occurrences")).isEqualTo(3L);
+        assertThat(counter.evictBefore(0)).isEqualTo(0);
+    }
+
+    @Test
+    void topUsesWindowStartAndLimit() {
+        counter.add(1L, 0, List.of("수출", "수출", "수출"));
+        counter.add(2L, 5 * BUCKET, List.of("금리", "금리", "환율", "반도체"));
+        counter.add(3L, 5 * BUCKET + 1, List.of("반도체"));
+
+        // 같은 빈도는 단어순
+        assertThat(counter.top(5 * BUCKET, 2)).containsExactly(new TermCount("금리", 2), new TermCount("반도체", 2));
+        assertThat(counter.top(0, 1)).containsExactly(new TermCount("수출", 3));
+
+        // 캐시된 윈도우도 반영 후에는 다시 계산
+        counter.add(4L, 5 * BUCKET, List.of("환율", "환율"));
+        assertThat(counter.top(5 * BUCKET, 1)).containsExactly(new TermCount("환율", 3));
+    }
+}
@@ -0,0 +1,188 @@
+package com.newnormallist.newsservice.view.service;
+
+import com.newnormallist.newsservice.support.MySqlRepositoryTest;
+import com.newnormallist.newsservice.view.config.ViewCountProperties;
+import com.newnormallist.newsservice.view.event.ViewCountsFlushedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수 일괄 반영 재시도 검증 (news_view_flush 반영 기록) - MySQL 컨테이너
+ *
+ * - 커밋은 됐지만 응답을 받지 못한 배치를 같은 배치 ID로 재시도해도 조회수는 한 번만 더해짐
+ * - 롤백된 배치는 재시도 때 반영되고, 그 사이 들어온 조회는 다음 배치로 반영
+ * - 반영은 news_id 순, 종료 시 재시도 배치와 남은 조회수를 모두 반영
+ */
+class ViewCountServiceFlushTest extends MySqlRepositoryTest {
+
+    private static final String NEWS_SQL = "INSERT INTO news (news_id, title, category_name, content, press, reporter, " +
+            "dedup_state, trusted, oid_aid, link, status) VALUES (?, '제목', 'ECONOMY', '본문', '연합뉴스', '기자', 'KEPT', 1, ?, ?, 'PUBLISHED')";
+    private static final long FIRST = 101L;
+    private static final long SECOND = 102L;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate jdbcTemplate;
+    private FlakyTransactionTemplate transactionTemplate;
+    private final List<ViewCountsFlushedEvent> events = new ArrayList<>();
+    private ViewCountService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS news_view_flush (batch_id VARCHAR(64) NOT NULL PRIMARY KEY, " +
+                "flushed_at DATETIME NOT NULL, INDEX idx_news_view_flush_flushed_at (flushed_at))");
+        for (long newsId : List.of(FIRST, SECOND)) {
+            jdbcTemplate.update(NEWS_SQL, newsId, "view-" + newsId, "https://news.example.com/view/" + newsId);
+        }
+
+        ViewCountProperties properties = new ViewCountProperties();
+        properties.setRedisDedupEnabled(false);
+        transactionTemplate = new FlakyTransactionTemplate(transactionManager);
+        service = new ViewCountService(properties, jdbcTemplate, new NamedParameterJdbcTemplate(dataSource),
+                transactionTemplate, null, event -> events.add((ViewCountsFlushedEvent) event), new SimpleMeterRegistry());
+        service.init();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DELETE FROM news_view_flush");
+        jdbcTemplate.execute("DELETE FROM news");
+    }
+
+    @Test
+    void lostCommitAcknowledgementIsAppliedOnce() {
+        view(SECOND, 2);
+        view(FIRST, 3);
+        transactionTemplate.failAfterCommit = true;
+
+        service.flush();
+
+        // 커밋은 됐지만 서비스는 실패로 보고 같은 배치를 들고 있음 (응답 조회수는 DB 값 + 배치)
+        assertThat(viewCount(FIRST)).isEqualTo(3);
+        assertThat(service.status().get("unflushedBatch")).isEqualTo(transactionTemplate.lastBatchId);
+        assertThat(service.currentCount(FIRST, 0)).isEqualTo(3);
+
+        service.flush();
+
+        assertThat(viewCount(FIRST)).isEqualTo(3);
+        assertThat(viewCount(SECOND)).isEqualTo(2);
+        assertThat(ledgerRows()).isEqualTo(1);
+        assertThat(service.status().get("unflushedBatch")).isNull();
+        assertThat(service.currentCount(FIRST, 3)).isEqualTo(3);
+    }
+
+    @Test
+    void rolledBackBatchIsRetriedBeforeNewViews() {
+        view(SECOND, 1);
+        view(FIRST, 2);
+        transactionTemplate.failBeforeCommit = true;
+
+        service.flush();
+        assertThat(viewCount(FIRST)).isEqualTo(0);
+        String retriedBatch = transactionTemplate.lastBatchId;
+
+        // 재시도 전에 들어온 조회는 재시도 배치에 섞이지 않고 다음 배치로 반영
+        view(FIRST, 1, "late");
+        service.flush();
+        assertThat(service.status().get("unflushedBatch")).isNull();
+        assertThat(transactionTemplate.lastBatchId).isEqualTo(retriedBatch);
+        assertThat(viewCount(FIRST)).isEqualTo(2);
+        assertThat(viewCount(SECOND)).isEqualTo(1);
+
+        service.flush();
+        assertThat(viewCount(FIRST)).isEqualTo(3);
+        assertThat(ledgerRows()).isEqualTo(2);
+
+        // 반영(행 잠금)은 news_id 순
+        assertThat(new ArrayList<>(events.get(0).deltas().keySet())).containsExactly(FIRST, SECOND);
+        assertThat(events.get(1).deltas()).isEqualTo(Map.of(FIRST, 1L));
+    }
+
+    @Test
+    void shutdownFlushesRetryBatchAndRemainingViews() {
+        view(FIRST, 2);
+        transactionTemplate.failBeforeCommit = true;
+        service.flush();
+        view(FIRST, 1, "late");
+        view(SECOND, 1, "late");
+
+        service.shutdown();
+
+        assertThat(viewCount(FIRST)).isEqualTo(3);
+        assertThat(viewCount(SECOND)).isEqualTo(1);
+        assertThat(service.status().get("pendingViews")).isEqualTo(0L);
+    }
+
+    private void view(long newsId, int viewers) {
+        view(newsId, viewers, "viewer");
+    }
+
+    private void view(long newsId, int viewers, String prefix) {
+        for (int i = 0; i < viewers; i++) {
+            service.record(newsId, ViewCountService.viewerKey(prefix + "-" + i, null, null));
+        }
+    }
+
+    private Integer viewCount(long newsId) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM news WHERE news_id = ?", Integer.class, newsId);
+    }
+
+    private Integer ledgerRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_view_flush", Integer.class);
+    }
+
+    /**
+     * 한 번만 실패하는 트랜잭션 (커밋 전 실패 = 롤백, 커밋 후 실패 = 응답 유실)
+     */
+    private class FlakyTransactionTemplate extends TransactionTemplate {
+
+        private boolean failBeforeCommit;
+        private boolean failAfterCommit;
+        private String lastBatchId;
+
+        FlakyTransactionTemplate(PlatformTransactionManager transactionManager) {
+            super(transactionManager);
+        }
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            boolean rollback = failBeforeCommit;
+            failBeforeCommit = false;
+            T result = super.execute(status -> {
+                T applied = action.doInTransaction(status);
+                lastBatchId = jdbcTemplate.queryForObject(
+                        "SELECT batch_id FROM news_view_flush ORDER BY flushed_at DESC, batch_id DESC LIMIT 1", String.class);
+                if (rollback) {
+                    throw new TransientDataAccessResourceException("커밋 전 연결 끊김");
+                }
+                return applied;
+            });
+            if (failAfterCommit) {
+                failAfterCommit = false;
+                throw new TransientDataAccessResourceException("커밋 응답 유실");
+            }
+            return result;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.newnormallist.tooltipservice.dto.ProcessContentRequest;
 import com.newnormallist.tooltipservice.dto.ProcessContentResponse;
 import com.newnormallist.tooltipservice.dto.TermDefinitionResponseDto;
 import com.newnormallist.tooltipservice.dto.TermDetailResponseDto;
+import com.newnormallist.tooltipservice.dto.VocabularyVersionResponse;
 import com.newnormallist.tooltipservice.service.NewsAnalysisService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -43,7 +44,7 @@ public class AnalysisController {
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("뉴스 ID {} 분석 중 에러 발생. 원본 내용을 반환합니다.", request.newsId(), e);
-            ProcessContentResponse fallbackResponse = new ProcessContentResponse(request.originalContent());
+            ProcessContentResponse fallbackResponse = new ProcessContentResponse(request.originalContent(), null);
             return ResponseEntity.ok(fallbackResponse);
         }
     }
@@ -68,6 +69,16 @@ public class AnalysisController {
         }
     }
 
+    /**
+     * 어려운 단어 목록 버전 조회 API (news-service 재마크업 판단용)
+     */
+    @GetMapping("/vocabulary/version")
+    @Operation(summary = "어려운 단어 목록 버전 조회",
+               description = "현재 마크업에 사용하는 어려운 단어 목록의 버전을 반환합니다. 목록이 바뀌면 버전이 바뀝니다.")
+    public ResponseEntity<VocabularyVersionResponse> getVocabularyVersion() {
+        return ResponseEntity.ok(newsAnalysisService.getVocabularyVersion());
+    }
+
     /**
      * 어려운 단어 캐시 갱신 API (관리자용)
      */
@@ -1,5 +1,6 @@
 package com.newnormallist.tooltipservice.dto;
 
 // 응답 본문을 위한 DTO (record 타입)
-public record ProcessContentResponse(String processedContent) {
+// vocabularyVersion: 마크업에 사용한 어려운 단어 목록 버전 (분석 실패로 원본을 돌려줄 때는 null)
+public record ProcessContentResponse(String processedContent, String vocabularyVersion) {
 }
@@ -0,0 +1,5 @@
+package com.newnormallist.tooltipservice.dto;
+
+// 어려운 단어 목록 버전 응답 (목록이 바뀌면 버전이 바뀜, news-service가 재마크업 여부 판단에 사용)
+public record VocabularyVersionResponse(String version, int terms) {
+}
@@ -4,13 +4,16 @@ import com.newnormallist.tooltipservice.dto.ProcessContentRequest;
 import com.newnormallist.tooltipservice.dto.ProcessContentResponse;
 import com.newnormallist.tooltipservice.dto.TermDetailResponseDto;
 import com.newnormallist.tooltipservice.dto.TermDefinitionResponseDto;
+import com.newnormallist.tooltipservice.dto.VocabularyVersionResponse;
 import com.newnormallist.tooltipservice.entity.VocabularyTerm;
 import com.newnormallist.tooltipservice.repository.VocabularyTermRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +28,10 @@ public class NewsAnalysisService {
     private final VocabularyTermRepository vocabularyTermRepository;
     private final NlpService nlpService;
     private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+
+    // news-service 기사 상세 캐시 무효화 채널 ("*" = 전체)
+    private static final String NEWS_DETAIL_INVALIDATION_CHANNEL = "news:detail:invalidate";
 
     // Redis 캐시로 변경됨 - 메모리 캐시 제거
 
@@ -41,7 +48,20 @@ public class NewsAnalysisService {
         
         String analyzedContent = getAnalyzedContent(request.newsId(), request.originalContent(), difficultWords);
 
-        return new ProcessContentResponse(analyzedContent);
+        return new ProcessContentResponse(analyzedContent, vocabularyVersion(difficultWords));
+    }
+
+    /**
+     * 현재 어려운 단어 목록 버전 (news-service가 저장한 마크업의 버전과 비교)
+     */
+    public VocabularyVersionResponse getVocabularyVersion() {
+        Set<String> difficultWords = getDifficultWordsFromCache();
+        return new VocabularyVersionResponse(vocabularyVersion(difficultWords), difficultWords.size());
+    }
+
+    // 단어 수 + 집합 해시 (String.hashCode는 JVM과 무관하게 같으므로 인스턴스 간 동일)
+    private String vocabularyVersion(Set<String> difficultWords) {
+        return difficultWords.size() + "-" + Integer.toHexString(difficultWords.hashCode());
     }
 
     /**
@@ -109,10 +129,19 @@ public class NewsAnalysisService {
     /**
      * 어려운 단어 캐시를 강제로 갱신합니다. (관리자용)
      * DB에 새로운 어려운 단어가 추가되었을 때 호출
+     * 기사별 마크업 결과도 함께 지우고, news-service 기사 상세 캐시에 전체 무효화를 알립니다.
      */
-    @CacheEvict(value = "difficultWords", key = "'all'")
+    @Caching(evict = {
+            @CacheEvict(value = "difficultWords", key = "'all'"),
+            @CacheEvict(value = "processedContent", allEntries = true)
+    })
     public void refreshDifficultWordsCache() {
         log.info("어려운 단어 캐시를 강제로 갱신합니다.");
         // 캐시 삭제만 하고, 다음 요청에서 자동으로 새로 로드됨
+        try {
+            redisTemplate.convertAndSend(NEWS_DETAIL_INVALIDATION_CHANNEL, "*");
+        } catch (Exception e) {
+            log.warn("⚠️ 기사 상세 캐시 무효화 알림 실패: {}", e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}